@@ -14,28 +14,20 @@ internal class ReplayRouteLocationConverter(
     private var speed: Int,
     private var delay: Int
 ) {
-    private val distance: Double
     private var currentLeg: Int = 0
     private var currentStep: Int = 0
     private var time: Long = 0
-
-    val isMultiLegRoute: Boolean
-        get() = route.legs()?.let { legs ->
-            legs.size > 1
-        } ?: false
+    private var routeLocations: Iterator<Location>? = null
 
     companion object {
         private const val ONE_SECOND_IN_MILLISECONDS = 1000
         private const val ONE_KM_IN_METERS = 1000.0
         private const val ONE_HOUR_IN_SECONDS = 3600
+        private const val MAX_LOCATIONS_PER_BATCH = 30
         private const val REPLAY_ROUTE =
             "com.mapbox.services.android.navigation.v5.location.replay.ReplayRouteLocationEngine"
     }
 
-    init {
-        distance = calculateDistancePerSec()
-    }
-
     fun updateSpeed(customSpeedInKmPerHour: Int) {
         this.speed = customSpeedInKmPerHour
     }
@@ -44,10 +36,36 @@ internal class ReplayRouteLocationConverter(
         this.delay = customDelayInSeconds
     }
 
+    /**
+     * Returns the next batch of mocked locations along the route, at most [MAX_LOCATIONS_PER_BATCH].
+     * Locations are computed lazily, so long steps don't have to be sliced upfront.
+     *
+     * @return next mocked locations, empty once the end of the route is reached.
+     */
     fun toLocations(): List<Location> {
-        val stepPoints = calculateStepPoints()
+        val locations = routeLocations ?: toLocationSequence().iterator().also {
+            routeLocations = it
+        }
+        val nextLocations = ArrayList<Location>(MAX_LOCATIONS_PER_BATCH)
+        while (nextLocations.size < MAX_LOCATIONS_PER_BATCH && locations.hasNext()) {
+            nextLocations.add(locations.next())
+        }
+        return nextLocations
+    }
 
-        return calculateMockLocations(stepPoints)
+    /**
+     * Lazily mocks locations for the remaining steps of the route, one step at a time.
+     *
+     * @return sequence of mocked [Location]s up to the end of the route.
+     */
+    fun toLocationSequence(): Sequence<Location> = sequence {
+        do {
+            val geometry = route.legs()?.getOrNull(currentLeg)?.steps()?.getOrNull(currentStep)?.geometry()
+            if (geometry != null) {
+                val line = LineString.fromPolyline(geometry, Constants.PRECISION_6)
+                yieldAll(mockLocations(sliceRouteSequence(line)))
+            }
+        } while (increaseIndex())
     }
 
     fun initializeTime() {
@@ -60,38 +78,82 @@ internal class ReplayRouteLocationConverter(
      * @param lineString our route geometry.
      * @return list of sliced [Point]s.
      */
-    fun sliceRoute(lineString: LineString): List<Point> {
+    fun sliceRoute(lineString: LineString): List<Point> = sliceRouteSequence(lineString).toList()
+
+    /**
+     * Lazily interpolates the route into even points along the route, walking the geometry once.
+     *
+     * Produces the same points as calling [TurfMeasurement.along] for each distance, without
+     * measuring the line from its start for every point.
+     *
+     * @param lineString our route geometry.
+     * @return sequence of sliced [Point]s.
+     */
+    fun sliceRouteSequence(lineString: LineString): Sequence<Point> {
         val distanceMeters = TurfMeasurement.length(lineString, TurfConstants.UNIT_METERS)
-        if (distanceMeters <= 0) {
-            return emptyList()
+        val distance = calculateDistancePerSec()
+        if (distanceMeters <= 0 || distance <= 0) {
+            return emptySequence()
         }
 
-        val points = ArrayList<Point>()
-        var i = 0.0
-        while (i < distanceMeters) {
-            val point = TurfMeasurement.along(lineString, i, TurfConstants.UNIT_METERS)
-            points.add(point)
-            i += distance
+        val coordinates = lineString.coordinates()
+        val lastIndex = coordinates.size - 1
+        return sequence {
+            var index = 0
+            var traveled = 0.0
+            var i = 0.0
+            while (i < distanceMeters) {
+                while (traveled < i && index < lastIndex) {
+                    traveled += TurfMeasurement.distance(
+                        coordinates[index],
+                        coordinates[index + 1],
+                        TurfConstants.UNIT_METERS
+                    )
+                    index++
+                }
+                yield(pointAlong(coordinates, index, traveled, i))
+                i += distance
+            }
         }
-        return points
     }
 
-    fun calculateMockLocations(points: List<Point>): List<Location> {
-        val pointsToCopy = ArrayList(points)
-        val mockedLocations = ArrayList<Location>()
-        for (point in points) {
-            val mockedLocation = createMockLocationFrom(point)
+    fun calculateMockLocations(points: List<Point>): List<Location> =
+        mockLocations(points.asSequence()).toList()
 
-            if (pointsToCopy.size >= 2) {
-                val bearing = TurfMeasurement.bearing(point, pointsToCopy[1])
-                mockedLocation.bearing = bearing.toFloat()
+    /**
+     * Point [distanceMeters] along the line, given the distance [traveled] up to the
+     * coordinate at [index]. Mirrors [TurfMeasurement.along].
+     */
+    private fun pointAlong(
+        coordinates: List<Point>,
+        index: Int,
+        traveled: Double,
+        distanceMeters: Double
+    ): Point {
+        if (index == coordinates.size - 1 && distanceMeters >= traveled) {
+            return coordinates[index]
+        }
+        val overshot = distanceMeters - traveled
+        if (overshot == 0.0) {
+            return coordinates[index]
+        }
+        val direction = TurfMeasurement.bearing(coordinates[index], coordinates[index - 1]) - 180
+        return TurfMeasurement.destination(coordinates[index], overshot, direction, TurfConstants.UNIT_METERS)
+    }
+
+    private fun mockLocations(points: Sequence<Point>): Sequence<Location> = sequence {
+        val iterator = points.iterator()
+        var point = if (iterator.hasNext()) iterator.next() else null
+        while (point != null) {
+            val nextPoint = if (iterator.hasNext()) iterator.next() else null
+            val mockedLocation = createMockLocationFrom(point)
+            if (nextPoint != null) {
+                mockedLocation.bearing = TurfMeasurement.bearing(point, nextPoint).toFloat()
             }
             time += (delay * ONE_SECOND_IN_MILLISECONDS).toLong()
-            mockedLocations.add(mockedLocation)
-            pointsToCopy.remove(point)
+            yield(mockedLocation)
+            point = nextPoint
         }
-
-        return mockedLocations
     }
 
     /**
@@ -103,22 +165,7 @@ internal class ReplayRouteLocationConverter(
         return speed.toDouble() * ONE_KM_IN_METERS * delay.toDouble() / ONE_HOUR_IN_SECONDS
     }
 
-    private fun calculateStepPoints(): List<Point> {
-        val stepPoints = ArrayList<Point>()
-        val line = LineString.fromPolyline(
-            route.legs()?.let { legs ->
-                legs[currentLeg]?.steps()?.let { steps ->
-                    steps[currentStep].geometry()
-                }
-            } ?: "", Constants.PRECISION_6
-        )
-        stepPoints.addAll(sliceRoute(line))
-        increaseIndex()
-
-        return stepPoints
-    }
-
-    private fun increaseIndex() {
+    private fun increaseIndex(): Boolean {
         val stepsSize: Int = route.legs()?.let { legs ->
             legs[currentLeg]?.steps()?.size
         } ?: 0
@@ -128,7 +175,10 @@ internal class ReplayRouteLocationConverter(
         } else if (currentLeg < legsSize - 1) {
             currentLeg++
             currentStep = 0
+        } else {
+            return false
         }
+        return true
     }
 
     private fun createMockLocationFrom(point: Point): Location {
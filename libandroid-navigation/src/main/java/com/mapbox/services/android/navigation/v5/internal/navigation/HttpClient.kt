@@ -5,7 +5,6 @@ import com.mapbox.navigator.HttpCode
 import com.mapbox.navigator.HttpInterface
 import com.mapbox.navigator.HttpResponse
 import com.mapbox.services.android.navigation.BuildConfig
-import java.io.ByteArrayOutputStream
 import java.io.IOException
 import okhttp3.Call
 import okhttp3.Callback
@@ -13,7 +12,6 @@ import okhttp3.OkHttpClient
 import okhttp3.Request
 import okhttp3.Response
 import okhttp3.logging.HttpLoggingInterceptor
-import okio.Okio
 import timber.log.Timber
 
 @Keep
@@ -72,20 +70,29 @@ internal class HttpClient(
             }
 
             override fun onResponse(call: Call, response: Response) {
-                val outputStream = ByteArrayOutputStream()
                 val result = if (response.isSuccessful) HttpCode.SUCCESS else HttpCode.FAILURE
-
-                response.body()?.let { body ->
-                    val sink = Okio.buffer(Okio.sink(outputStream))
-                    sink.writeAll(body.source())
-                    sink.close()
+                val bytes = try {
+                    response.use { readBody(it) }
+                } catch (e: IOException) {
+                    onFailure(call, e)
+                    return
                 }
 
-                val bytes = outputStream.toByteArray()
-                outputStream.close()
-
                 nativeResponse.run(bytes, result)
             }
         })
     }
+
+    /**
+     * Reads the body with a single copy, into an array sized from the content length when it's known.
+     */
+    private fun readBody(response: Response): ByteArray {
+        val body = response.body() ?: return ByteArray(0)
+        val contentLength = body.contentLength()
+        return when {
+            contentLength == 0L -> ByteArray(0)
+            contentLength > 0L -> body.source().readByteArray(contentLength)
+            else -> body.source().readByteArray()
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.mapbox.services.android.navigation.v5.navigation.ListenerDeliveryOptions
+import com.mapbox.services.android.navigation.v5.navigation.ListenerDeliveryStats
+import com.mapbox.services.android.navigation.v5.navigation.MainThreadExecutor
+import com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.LISTENER_DELIVERY_IMMEDIATE
+import com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.LISTENER_DELIVERY_SAMPLED
+import java.util.ArrayDeque
+import java.util.concurrent.Executor
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Queue of updates for one listener, drained on the executor of the [ListenerDeliveryOptions].
+ * Offering an update never waits for the listener.
+ *
+ * @param listener receiving the updates
+ * @param options delivery policy of the listener
+ * @param callback notifies the listener about one update
+ * @param scheduler delays the next delivery with [LISTENER_DELIVERY_SAMPLED]
+ */
+internal class ListenerDelivery<L, T>(
+    val listener: L,
+    private val options: ListenerDeliveryOptions,
+    private val callback: (L, T) -> Unit,
+    private val scheduler: ScheduledExecutorService = SAMPLING_SCHEDULER
+) {
+
+    companion object {
+        private const val IDLE_THREAD_KEEP_ALIVE_SECONDS = 30L
+
+        private val SAMPLING_SCHEDULER = ScheduledThreadPoolExecutor(1).apply {
+            setKeepAliveTime(IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS)
+            allowCoreThreadTimeOut(true)
+            removeOnCancelPolicy = true
+        }
+    }
+
+    private val executor: Executor = options.executor ?: MainThreadExecutor()
+    private val isConflated = options.policy != LISTENER_DELIVERY_IMMEDIATE
+    private val samplingIntervalNanos = (TimeUnit.SECONDS.toNanos(1) / options.samplingRate).toLong()
+    private val lock = Any()
+    private val pendingUpdates = ArrayDeque<T>()
+    private var isDraining = false
+    private var isCancelled = false
+    @Volatile
+    private var nextDeliveryNanos = 0L
+    private val deliveredCount = AtomicLong()
+    private val droppedCount = AtomicLong()
+    private val totalCallbackNanos = AtomicLong()
+    private val maxCallbackNanos = AtomicLong()
+    private val drain = Runnable { drainUpdates() }
+
+    fun offer(update: T) {
+        synchronized(lock) {
+            if (isCancelled) {
+                return
+            }
+            if (isConflated && pendingUpdates.isNotEmpty()) {
+                pendingUpdates.clear()
+                droppedCount.incrementAndGet()
+            }
+            pendingUpdates.add(update)
+            if (isDraining) {
+                return
+            }
+            isDraining = true
+        }
+        scheduleDrain()
+    }
+
+    fun cancel() {
+        synchronized(lock) {
+            isCancelled = true
+            pendingUpdates.clear()
+        }
+    }
+
+    fun stats(): ListenerDeliveryStats {
+        val queueDepth = synchronized(lock) { pendingUpdates.size }
+        val delivered = deliveredCount.get()
+        return ListenerDeliveryStats(
+            queueDepth,
+            delivered,
+            droppedCount.get(),
+            if (delivered == 0L) 0L else totalCallbackNanos.get() / delivered,
+            maxCallbackNanos.get()
+        )
+    }
+
+    private fun scheduleDrain() {
+        val delayNanos = nextDeliveryNanos - System.nanoTime()
+        if (options.policy == LISTENER_DELIVERY_SAMPLED && delayNanos > 0L) {
+            scheduler.schedule({ executor.execute(drain) }, delayNanos, TimeUnit.NANOSECONDS)
+        } else {
+            executor.execute(drain)
+        }
+    }
+
+    private fun drainUpdates() {
+        while (true) {
+            val update = synchronized(lock) {
+                if (isCancelled || pendingUpdates.isEmpty()) {
+                    isDraining = false
+                    return
+                }
+                pendingUpdates.poll()
+            }
+            val callbackStart = System.nanoTime()
+            callback(listener, update)
+            val callbackEnd = System.nanoTime()
+            record(callbackEnd - callbackStart)
+            if (options.policy == LISTENER_DELIVERY_SAMPLED) {
+                nextDeliveryNanos = callbackEnd + samplingIntervalNanos
+                synchronized(lock) {
+                    if (isCancelled || pendingUpdates.isEmpty()) {
+                        isDraining = false
+                        return
+                    }
+                }
+                scheduleDrain()
+                return
+            }
+        }
+    }
+
+    private fun record(callbackNanos: Long) {
+        deliveredCount.incrementAndGet()
+        totalCallbackNanos.addAndGet(callbackNanos)
+        var max = maxCallbackNanos.get()
+        while (callbackNanos > max && !maxCallbackNanos.compareAndSet(max, callbackNanos)) {
+            max = maxCallbackNanos.get()
+        }
+    }
+}
@@ -14,6 +14,12 @@ import com.mapbox.navigator.VoiceInstruction
 import com.mapbox.services.android.navigation.v5.navigation.DirectionsRouteType
 import java.util.Date
 
+/**
+ * Gives access to the native [Navigator].
+ *
+ * Calls are confined to a [NavigatorCommandQueue] instead of a single monitor, so location
+ * updates and status reads go ahead of pending history retrieval and electronic horizon requests.
+ */
 // TODO Put navigator internal modifier back when MapboxNavigation is converted to Kotlin
 internal class MapboxNavigator(val navigator: Navigator) {
 
@@ -24,15 +30,16 @@ internal class MapboxNavigator(val navigator: Navigator) {
     }
 
     private val routeHandler: RouteHandler = RouteHandler(this)
+    private val commandQueue = NavigatorCommandQueue()
 
     fun updateRoute(route: DirectionsRoute, routeType: DirectionsRouteType) {
         routeHandler.updateRoute(route, routeType)
     }
 
-    @Synchronized
-    fun updateLegIndex(index: Int): NavigationStatus {
-        return navigator.changeRouteLeg(INDEX_FIRST_ROUTE, index)
-    }
+    fun updateLegIndex(index: Int): NavigationStatus =
+        commandQueue.execute(NavigatorCommandType.ROUTE) {
+            navigator.changeRouteLeg(INDEX_FIRST_ROUTE, index)
+        }
 
     /**
      * Gets the history of state changing calls to the navigator this can be used to
@@ -41,10 +48,10 @@ internal class MapboxNavigator(val navigator: Navigator) {
      * @return a json representing the series of events that happened since the last time
      * history was toggled on
      */
-    @Synchronized
-    fun retrieveHistory(): String {
-        return navigator.history
-    }
+    fun retrieveHistory(): String =
+        commandQueue.execute(NavigatorCommandType.HISTORY_RETRIEVAL) {
+            navigator.history
+        }
 
     /**
      * Toggles the recording of history on or off.
@@ -53,62 +60,75 @@ internal class MapboxNavigator(val navigator: Navigator) {
      * toggling will reset all history call getHistory first before toggling
      * to retain a copy
      */
-    @Synchronized
     fun toggleHistory(isEnabled: Boolean) {
-        navigator.toggleHistory(isEnabled)
+        commandQueue.execute(NavigatorCommandType.HISTORY) {
+            navigator.toggleHistory(isEnabled)
+        }
     }
 
-    @Synchronized
     fun addHistoryEvent(eventType: String, eventJsonProperties: String) {
-        navigator.pushHistory(eventType, eventJsonProperties)
+        commandQueue.post(NavigatorCommandType.HISTORY) {
+            navigator.pushHistory(eventType, eventJsonProperties)
+        }
     }
 
-    @Synchronized
-    fun retrieveVoiceInstruction(index: Int): VoiceInstruction? {
-        return navigator.getVoiceInstruction(index)
-    }
+    fun retrieveVoiceInstruction(index: Int): VoiceInstruction? =
+        commandQueue.execute(NavigatorCommandType.INSTRUCTION) {
+            navigator.getVoiceInstruction(index)
+        }
 
-    @Synchronized
-    fun setRoute(routeJson: String, routeIndex: Int, legIndex: Int): NavigationStatus {
-        return navigator.setRoute(routeJson, routeIndex, legIndex)
-    }
+    fun setRoute(routeJson: String, routeIndex: Int, legIndex: Int): NavigationStatus =
+        commandQueue.execute(NavigatorCommandType.ROUTE) {
+            navigator.setRoute(routeJson, routeIndex, legIndex)
+        }
 
-    @Synchronized
-    fun updateAnnotations(legAnnotationJson: String, routeIndex: Int, legIndex: Int): Boolean {
-        return navigator.updateAnnotations(legAnnotationJson, routeIndex, legIndex)
-    }
+    fun updateAnnotations(legAnnotationJson: String, routeIndex: Int, legIndex: Int): Boolean =
+        commandQueue.execute(NavigatorCommandType.ROUTE) {
+            navigator.updateAnnotations(legAnnotationJson, routeIndex, legIndex)
+        }
 
-    @Synchronized
     fun retrieveStatus(date: Date, lagInMilliseconds: Long): NavigationStatus {
         // We ask for a point slightly in the future to account for lag in location services
         if (lagInMilliseconds > 0) {
             date.time = date.time + lagInMilliseconds
         }
-        return navigator.getStatus(date)
+        return commandQueue.execute(NavigatorCommandType.STATUS) {
+            navigator.getStatus(date)
+        }
     }
 
+    /**
+     * Queues the location without waiting for the navigator, later commands still see it.
+     */
     fun updateLocation(raw: Location) {
         val fixedLocation = buildFixLocationFromLocation(raw)
-        synchronized(this) {
+        commandQueue.post(NavigatorCommandType.LOCATION) {
             navigator.updateLocation(fixedLocation)
         }
     }
 
-    @Synchronized
-    fun retrieveBannerInstruction(index: Int): BannerInstruction? {
-        return navigator.getBannerInstruction(index)
-    }
+    fun retrieveBannerInstruction(index: Int): BannerInstruction? =
+        commandQueue.execute(NavigatorCommandType.INSTRUCTION) {
+            navigator.getBannerInstruction(index)
+        }
 
-    @Synchronized
     fun retrieveRouteGeometryWithBuffer(): Geometry? {
-        val routeGeometryWithBuffer = navigator.getRouteBufferGeoJson(GRID_SIZE, BUFFER_DILATION) ?: return null
+        val routeGeometryWithBuffer = commandQueue.execute(NavigatorCommandType.ROUTE) {
+            navigator.getRouteBufferGeoJson(GRID_SIZE, BUFFER_DILATION)
+        } ?: return null
         return GeometryGeoJson.fromJson(routeGeometryWithBuffer)
     }
 
-    @Synchronized
-    fun retrieveElectronicHorizon(request: String): RouterResult {
-        return navigator.getElectronicHorizon(request)
-    }
+    fun retrieveElectronicHorizon(request: String): RouterResult =
+        commandQueue.execute(NavigatorCommandType.ELECTRONIC_HORIZON) {
+            navigator.getElectronicHorizon(request)
+        }
+
+    /**
+     * Queue wait and execution times of the navigator commands, per command type.
+     */
+    fun retrieveCommandStats(): Map<NavigatorCommandType, NavigatorCommandStats> =
+        commandQueue.retrieveStats()
 
     private fun buildFixLocationFromLocation(location: Location): FixLocation {
         val time = Date()
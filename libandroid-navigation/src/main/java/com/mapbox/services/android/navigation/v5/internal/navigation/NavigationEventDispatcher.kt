@@ -7,6 +7,8 @@ import com.mapbox.services.android.navigation.v5.location.RawLocationListener
 import com.mapbox.services.android.navigation.v5.milestone.Milestone
 import com.mapbox.services.android.navigation.v5.milestone.MilestoneEventListener
 import com.mapbox.services.android.navigation.v5.navigation.EnhancedLocationListener
+import com.mapbox.services.android.navigation.v5.navigation.ListenerDeliveryOptions
+import com.mapbox.services.android.navigation.v5.navigation.ListenerDeliveryStats
 import com.mapbox.services.android.navigation.v5.navigation.NavigationEventListener
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener
 import com.mapbox.services.android.navigation.v5.route.FasterRouteListener
@@ -21,6 +23,8 @@ internal class NavigationEventDispatcher {
     private val navigationEventListeners: CopyOnWriteArrayList<NavigationEventListener>
     private val milestoneEventListeners: CopyOnWriteArrayList<MilestoneEventListener>
     private val progressChangeListeners: CopyOnWriteArrayList<ProgressChangeListener>
+    private val progressChangeDeliveries:
+        CopyOnWriteArrayList<ListenerDelivery<ProgressChangeListener, Pair<Location, RouteProgress>>>
     private val offRouteListeners: CopyOnWriteArrayList<OffRouteListener>
     private val fasterRouteListeners: CopyOnWriteArrayList<FasterRouteListener>
     private val rawLocationListeners: CopyOnWriteArrayList<RawLocationListener>
@@ -35,6 +39,7 @@ internal class NavigationEventDispatcher {
         navigationEventListeners = CopyOnWriteArrayList()
         milestoneEventListeners = CopyOnWriteArrayList()
         progressChangeListeners = CopyOnWriteArrayList()
+        progressChangeDeliveries = CopyOnWriteArrayList()
         offRouteListeners = CopyOnWriteArrayList()
         fasterRouteListeners = CopyOnWriteArrayList()
         rawLocationListeners = CopyOnWriteArrayList()
@@ -60,23 +65,51 @@ internal class NavigationEventDispatcher {
     }
 
     fun addProgressChangeListener(progressChangeListener: ProgressChangeListener) {
-        if (progressChangeListeners.contains(progressChangeListener)) {
+        if (hasProgressChangeListener(progressChangeListener)) {
             Timber.w("The specified ProgressChangeListener has already been added to the stack.")
             return
         }
         progressChangeListeners.add(progressChangeListener)
     }
 
+    fun addProgressChangeListener(
+        progressChangeListener: ProgressChangeListener,
+        deliveryOptions: ListenerDeliveryOptions
+    ) {
+        if (hasProgressChangeListener(progressChangeListener)) {
+            Timber.w("The specified ProgressChangeListener has already been added to the stack.")
+            return
+        }
+        progressChangeDeliveries.add(
+            ListenerDelivery(progressChangeListener, deliveryOptions) { listener, (location, routeProgress) ->
+                listener.onProgressChange(location, routeProgress)
+            }
+        )
+    }
+
     fun removeProgressChangeListener(progressChangeListener: ProgressChangeListener?) {
         if (progressChangeListener == null) {
             progressChangeListeners.clear()
-        } else if (!progressChangeListeners.contains(progressChangeListener)) {
+            progressChangeDeliveries.forEach { it.cancel() }
+            progressChangeDeliveries.clear()
+        } else if (!hasProgressChangeListener(progressChangeListener)) {
             Timber.w("The specified ProgressChangeListener isn't found in stack, therefore, cannot be removed.")
         } else {
             progressChangeListeners.remove(progressChangeListener)
+            progressChangeDeliveries.find { it.listener == progressChangeListener }?.let { delivery ->
+                delivery.cancel()
+                progressChangeDeliveries.remove(delivery)
+            }
         }
     }
 
+    /**
+     * @return the delivery counters of a listener added with [ListenerDeliveryOptions],
+     * null for any other listener
+     */
+    fun retrieveListenerDeliveryStats(listener: Any): ListenerDeliveryStats? =
+        progressChangeDeliveries.find { it.listener == listener }?.stats()
+
     fun addOffRouteListener(offRouteListener: OffRouteListener) {
         if (offRouteListeners.contains(offRouteListener)) {
             Timber.w("The specified OffRouteListener has already been added to the stack.")
@@ -179,6 +212,12 @@ internal class NavigationEventDispatcher {
         for (progressChangeListener in progressChangeListeners) {
             progressChangeListener.onProgressChange(location, routeProgress)
         }
+        if (progressChangeDeliveries.isNotEmpty()) {
+            val update = Pair(location, routeProgress)
+            for (delivery in progressChangeDeliveries) {
+                delivery.offer(update)
+            }
+        }
     }
 
     fun onNavigationEvent(isRunning: Boolean) {
@@ -218,6 +257,10 @@ internal class NavigationEventDispatcher {
         }
     }
 
+    private fun hasProgressChangeListener(progressChangeListener: ProgressChangeListener) =
+        progressChangeListeners.contains(progressChangeListener) ||
+            progressChangeDeliveries.any { it.listener == progressChangeListener }
+
     private fun checkForArrivalEvent(routeProgress: RouteProgress) {
         metricEventListener?.let { navigationMetricListener ->
             if (routeUtils.isArrivalEvent(routeProgress)) {
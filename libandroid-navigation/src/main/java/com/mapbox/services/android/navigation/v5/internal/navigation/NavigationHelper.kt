@@ -3,9 +3,6 @@ package com.mapbox.services.android.navigation.v5.internal.navigation
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.LegAnnotation
 import com.mapbox.api.directions.v5.models.RouteLeg
-import com.mapbox.core.constants.Constants.PRECISION_6
-import com.mapbox.geojson.Point
-import com.mapbox.geojson.utils.PolylineUtils
 import com.mapbox.services.android.navigation.v5.milestone.Milestone
 import com.mapbox.services.android.navigation.v5.routeprogress.CurrentLegAnnotation
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress
@@ -57,48 +54,6 @@ internal object NavigationHelper {
         return distanceRemaining
     }
 
-    /**
-     * Given the current [DirectionsRoute] and leg / step index,
-     * return a list of [Point] representing the current step.
-     *
-     * This method is only used on a per-step basis as [PolylineUtils.decode]
-     * can be a heavy operation based on the length of the step.
-     *
-     * Returns null if index is invalid.
-     *
-     * @param directionsRoute for list of steps
-     * @param legIndex to get current step list
-     * @param stepIndex to get current step
-     * @return list of [Point] representing the current step
-     */
-
-    @JvmStatic
-    fun decodeStepPoints(
-        directionsRoute: DirectionsRoute,
-        currentPoints: List<Point>?,
-        legIndex: Int,
-        stepIndex: Int
-    ): List<Point>? {
-        val legs = directionsRoute.legs()
-        legs?.let { legs ->
-            if (legs.isEmpty()) return currentPoints
-            val steps = legs[legIndex].steps()
-            steps?.let { steps ->
-                if (steps.isEmpty()) return currentPoints
-                val invalidStepIndex = stepIndex < 0 || stepIndex > steps.size - 1
-                if (invalidStepIndex) return currentPoints
-                val step = steps[stepIndex]
-                step?.let { step ->
-                    val stepGeometry = step.geometry()
-                    stepGeometry?.let {
-                        return PolylineUtils.decode(stepGeometry, PRECISION_6)
-                    }
-                }
-            }
-        }
-        return currentPoints
-    }
-
     /**
      * Given a list of distance annotations, find the current annotation index.  This index retrieves the
      * current annotation from any provided annotation list in [LegAnnotation].
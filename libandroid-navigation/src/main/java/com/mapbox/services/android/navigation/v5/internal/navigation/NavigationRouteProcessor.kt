@@ -1,20 +1,12 @@
 package com.mapbox.services.android.navigation.v5.internal.navigation
 
-import com.mapbox.api.directions.v5.models.BannerComponents
-import com.mapbox.api.directions.v5.models.BannerInstructions
-import com.mapbox.api.directions.v5.models.BannerText
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.LegStep
 import com.mapbox.api.directions.v5.models.RouteLeg
-import com.mapbox.api.directions.v5.models.VoiceInstructions
 import com.mapbox.geojson.Geometry
 import com.mapbox.geojson.Point
-import com.mapbox.navigator.BannerComponent
-import com.mapbox.navigator.BannerInstruction
-import com.mapbox.navigator.BannerSection
 import com.mapbox.navigator.NavigationStatus
 import com.mapbox.navigator.RouteState
-import com.mapbox.navigator.VoiceInstruction
 import com.mapbox.services.android.navigation.v5.routeprogress.CurrentLegAnnotation
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgressStateMap
@@ -35,6 +27,8 @@ internal class NavigationRouteProcessor {
     private var upcomingStepPoints: List<Point>? = null
     private var currentLegAnnotation: CurrentLegAnnotation? = null
     private var routeGeometryWithBuffer: Geometry? = null
+    private var routeStepGeometry: RouteStepGeometry? = null
+    private val instructionsCache = RouteInstructionsCache()
 
     fun buildNewRouteProgress(
         navigator: MapboxNavigator,
@@ -61,6 +55,7 @@ internal class NavigationRouteProcessor {
     private fun updateRoute(route: DirectionsRoute, navigator: MapboxNavigator) {
         if (this.route != route) {
             this.route = route
+            routeStepGeometry = RouteStepGeometry(route)
             routeGeometryWithBuffer = navigator.retrieveRouteGeometryWithBuffer()
         }
     }
@@ -75,7 +70,7 @@ internal class NavigationRouteProcessor {
 
         return ifNonNull(route) { route ->
             updateSteps(route, legIndex, stepIndex)
-            updateStepPoints(route, legIndex, stepIndex, upcomingStepIndex)
+            updateStepPoints(legIndex, stepIndex, upcomingStepIndex)
 
             val legDistanceRemaining = status.remainingLegDistance.toDouble()
             val routeDistanceRemaining = NavigationHelper.routeDistanceRemaining(
@@ -130,19 +125,13 @@ internal class NavigationRouteProcessor {
     }
 
     private fun updateStepPoints(
-        route: DirectionsRoute,
         legIndex: Int,
         stepIndex: Int,
         upcomingStepIndex: Int
     ) {
-        currentStepPoints = NavigationHelper.decodeStepPoints(
-            route, currentStepPoints,
-            legIndex, stepIndex
-        )
-        upcomingStepPoints = NavigationHelper.decodeStepPoints(
-            route, null,
-            legIndex, upcomingStepIndex
-        )
+        currentStepPoints = routeStepGeometry?.stepPoints(legIndex, stepIndex)
+            ?: currentStepPoints
+        upcomingStepPoints = routeStepGeometry?.stepPoints(legIndex, upcomingStepIndex)
     }
 
     private fun addUpcomingStepPoints(progressBuilder: RouteProgress.Builder) {
@@ -161,7 +150,9 @@ internal class NavigationRouteProcessor {
         progressBuilder: RouteProgress.Builder
     ) {
         val voiceInstruction = status.voiceInstruction
-        progressBuilder.voiceInstruction(voiceInstruction?.mapToDirectionsApi())
+        progressBuilder.voiceInstruction(
+            voiceInstruction?.let { instructionsCache.voiceInstructions(route, it) }
+        )
     }
 
     private fun addBannerInstructions(
@@ -173,55 +164,18 @@ internal class NavigationRouteProcessor {
         if (status.routeState == RouteState.INITIALIZED) {
             bannerInstruction = navigator.retrieveBannerInstruction(FIRST_BANNER_INSTRUCTION)
         }
-        currentStep?.let {
-            progressBuilder.bannerInstruction(bannerInstruction?.mapToDirectionsApi(it))
-        }
-    }
-
-    private fun BannerInstruction.mapToDirectionsApi(currentStep: LegStep): BannerInstructions {
-        return BannerInstructions.builder()
-            .distanceAlongGeometry(this.remainingStepDistance.toDouble())
-            .primary(this.primary.mapToDirectionsApi())
-            .secondary(this.secondary?.mapToDirectionsApi())
-            .sub(this.sub?.mapToDirectionsApi())
-            .view(currentStep.bannerInstructions()?.get(this.index)?.view())
-            .build()
-    }
-
-    private fun BannerSection.mapToDirectionsApi(): BannerText {
-        return BannerText.builder()
-            .components(this.components?.mapToDirectionsApi())
-            .degrees(this.degrees?.toDouble())
-            .drivingSide(this.drivingSide)
-            .modifier(this.modifier)
-            .text(this.text)
-            .type(this.type)
-            .build()
-    }
-
-    private fun MutableList<BannerComponent>.mapToDirectionsApi(): MutableList<BannerComponents>? {
-        val components = mutableListOf<BannerComponents>()
-        this.forEach {
-            components.add(
-                BannerComponents.builder()
-                    .abbreviation(it.abbr)
-                    .abbreviationPriority(it.abbrPriority)
-                    .active(it.active)
-                    .directions(it.directions)
-                    .imageBaseUrl(it.imageBaseurl)
-                    .text(it.text)
-                    .type(it.type)
-                    .build()
+        currentStep?.let { currentStep ->
+            progressBuilder.bannerInstruction(
+                bannerInstruction?.let {
+                    instructionsCache.bannerInstructions(
+                        route,
+                        it,
+                        status.legIndex,
+                        status.stepIndex,
+                        currentStep
+                    )
+                }
             )
         }
-        return components
-    }
-
-    private fun VoiceInstruction.mapToDirectionsApi(): VoiceInstructions? {
-        return VoiceInstructions.builder()
-            .announcement(this.announcement)
-            .distanceAlongGeometry(this.remainingStepDistance.toDouble())
-            .ssmlAnnouncement(this.ssmlAnnouncement)
-            .build()
     }
 }
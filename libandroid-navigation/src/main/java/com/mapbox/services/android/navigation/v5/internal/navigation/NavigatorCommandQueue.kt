@@ -0,0 +1,169 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import java.util.EnumMap
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.FutureTask
+import java.util.concurrent.PriorityBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+import timber.log.Timber
+
+/**
+ * Runs the commands sent to the navigator one at a time on its own thread.
+ *
+ * Pending commands are ordered by the priority of their [NavigatorCommandType], then by submission,
+ * so location updates and status reads don't wait behind bulk reads like history retrieval or
+ * electronic horizon requests. Commands changing the navigator state share one priority and keep
+ * their order. The time spent waiting in the queue and executing is recorded per command type.
+ */
+internal class NavigatorCommandQueue {
+
+    companion object {
+        private const val THREAD_NAME = "MapboxNavigator"
+        private const val KEEP_ALIVE_SECONDS = 30L
+    }
+
+    private val sequence = AtomicLong()
+    private val stats = EnumMap<NavigatorCommandType, CommandTypeStats>(NavigatorCommandType::class.java).apply {
+        NavigatorCommandType.values().forEach { put(it, CommandTypeStats()) }
+    }
+
+    @Volatile
+    private var workerThread: Thread? = null
+    private val executor = ThreadPoolExecutor(
+        1,
+        1,
+        KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        PriorityBlockingQueue<Runnable>()
+    ) { runnable ->
+        Thread(runnable, THREAD_NAME).apply {
+            isDaemon = true
+            workerThread = this
+        }
+    }.apply {
+        allowCoreThreadTimeOut(true)
+    }
+
+    /**
+     * Runs the command and waits for its result.
+     *
+     * Commands sent from a command run inline, they would wait for themselves otherwise.
+     */
+    fun <T> execute(type: NavigatorCommandType, command: () -> T): T {
+        if (Thread.currentThread() === workerThread) {
+            return command()
+        }
+        val task = Command(type, command)
+        executor.execute(task)
+        try {
+            return task.get()
+        } catch (exception: ExecutionException) {
+            throw exception.cause ?: exception
+        }
+    }
+
+    /**
+     * Queues the command without waiting for it, a failure is logged as nobody waits for its result.
+     */
+    fun post(type: NavigatorCommandType, command: () -> Unit) {
+        executor.execute(
+            Command(type) {
+                try {
+                    command()
+                } catch (exception: Exception) {
+                    Timber.e(exception, "Navigator %s command failed", type)
+                }
+            }
+        )
+    }
+
+    fun retrieveStats(): Map<NavigatorCommandType, NavigatorCommandStats> =
+        stats.mapValues { (_, typeStats) -> typeStats.snapshot() }
+
+    private fun <T> timed(type: NavigatorCommandType, submitNanos: Long, command: () -> T): T {
+        val startNanos = System.nanoTime()
+        try {
+            return command()
+        } finally {
+            stats.getValue(type).record(startNanos - submitNanos, System.nanoTime() - startNanos)
+        }
+    }
+
+    private inner class Command<T>(
+        private val type: NavigatorCommandType,
+        command: () -> T,
+        submitNanos: Long = System.nanoTime()
+    ) : FutureTask<T>(Callable { timed(type, submitNanos, command) }), Comparable<Command<*>> {
+
+        private val order = sequence.getAndIncrement()
+
+        override fun compareTo(other: Command<*>): Int {
+            val byPriority = type.priority.compareTo(other.type.priority)
+            return if (byPriority != 0) byPriority else order.compareTo(other.order)
+        }
+    }
+
+    private class CommandTypeStats {
+        private val count = AtomicLong()
+        private val totalWaitNanos = AtomicLong()
+        private val maxWaitNanos = AtomicLong()
+        private val totalExecutionNanos = AtomicLong()
+        private val maxExecutionNanos = AtomicLong()
+
+        fun record(waitNanos: Long, executionNanos: Long) {
+            count.incrementAndGet()
+            totalWaitNanos.addAndGet(waitNanos)
+            totalExecutionNanos.addAndGet(executionNanos)
+            updateMax(maxWaitNanos, waitNanos)
+            updateMax(maxExecutionNanos, executionNanos)
+        }
+
+        fun snapshot(): NavigatorCommandStats {
+            val commandCount = count.get()
+            return NavigatorCommandStats(
+                commandCount,
+                if (commandCount == 0L) 0L else totalWaitNanos.get() / commandCount,
+                maxWaitNanos.get(),
+                if (commandCount == 0L) 0L else totalExecutionNanos.get() / commandCount,
+                maxExecutionNanos.get()
+            )
+        }
+
+        private fun updateMax(max: AtomicLong, value: Long) {
+            var current = max.get()
+            while (value > current && !max.compareAndSet(current, value)) {
+                current = max.get()
+            }
+        }
+    }
+}
+
+/**
+ * Kinds of navigator commands, a lower [priority] runs first.
+ *
+ * Commands changing the navigator state have the highest priority, so they run in the order
+ * they were sent.
+ */
+internal enum class NavigatorCommandType(val priority: Int) {
+    LOCATION(0),
+    STATUS(0),
+    ROUTE(0),
+    HISTORY(0),
+    INSTRUCTION(1),
+    HISTORY_RETRIEVAL(2),
+    ELECTRONIC_HORIZON(2)
+}
+
+/**
+ * Times of the commands of one [NavigatorCommandType].
+ */
+internal data class NavigatorCommandStats(
+    val count: Long,
+    val averageWaitNanos: Long,
+    val maxWaitNanos: Long,
+    val averageExecutionNanos: Long,
+    val maxExecutionNanos: Long
+)
@@ -1,8 +1,16 @@
 package com.mapbox.services.android.navigation.v5.internal.navigation
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.LegAnnotation
 import com.mapbox.services.android.navigation.v5.navigation.DirectionsRouteType
 
+/**
+ * Hands routes over to the navigator.
+ *
+ * New routes are sent with the JSON the router returned when it is known, see [RouteJsonCache].
+ * Fresh routes only carry new annotations, so only the legs whose annotation changed since
+ * the last update are sent to the navigator, instead of serializing the whole route again.
+ */
 internal class RouteHandler(private val mapboxNavigator: MapboxNavigator) {
 
     companion object {
@@ -10,19 +18,30 @@ internal class RouteHandler(private val mapboxNavigator: MapboxNavigator) {
         private const val INDEX_FIRST_LEG = 0
     }
 
+    private var legAnnotations: List<LegAnnotation?> = emptyList()
+
     fun updateRoute(route: DirectionsRoute, routeType: DirectionsRouteType) {
+        val routeLegs = route.legs() ?: emptyList()
         if (routeType == DirectionsRouteType.NEW_ROUTE) {
-            val routeJson = route.toJson()
+            val routeJson = RouteJsonCache.toJson(route)
             // TODO route_index (Which route to follow) and leg_index (Which leg to follow) are hardcoded for now
             mapboxNavigator.setRoute(routeJson, INDEX_FIRST_ROUTE, INDEX_FIRST_LEG)
         } else {
-            route.legs()?.let { routeLegs ->
-                for (i in routeLegs.indices) {
-                    routeLegs[i].annotation()?.toJson()?.let { annotationJson ->
+            for (i in routeLegs.indices) {
+                val annotation = routeLegs[i].annotation()
+                if (!isSent(annotation, i)) {
+                    annotation?.toJson()?.let { annotationJson ->
                         mapboxNavigator.updateAnnotations(annotationJson, INDEX_FIRST_ROUTE, i)
                     }
                 }
             }
         }
+        legAnnotations = routeLegs.map { it.annotation() }
+    }
+
+    private fun isSent(annotation: LegAnnotation?, legIndex: Int): Boolean {
+        val sentAnnotation = legAnnotations.getOrNull(legIndex) ?: return false
+        // Legs behind the refreshed ones keep their annotation instance
+        return sentAnnotation === annotation || sentAnnotation == annotation
     }
 }
@@ -0,0 +1,80 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import java.lang.ref.ReferenceQueue
+import java.lang.ref.WeakReference
+
+/**
+ * JSON the routes were parsed from, so a route isn't serialized again on its way
+ * from the router to the navigator.
+ *
+ * Routers that have the original JSON of a route [put] it, [toJson] returns it for that
+ * exact route instance and serializes the route otherwise, without caching the result.
+ * Routes are weakly keyed by identity, an entry is dropped as soon as the cache is accessed
+ * after its route was collected. A rebuilt route (e.g. with refreshed annotations) is serialized again.
+ *
+ * The same cache is in `com.mapbox.navigation.base.route.internal`, the legacy navigation module doesn't depend on the
+ * base module. Both copies must stay identical apart from the package and visibility, each module
+ * runs the same `RouteJsonCacheTest` against its copy.
+ */
+internal object RouteJsonCache {
+
+    private const val MAX_ENTRIES = 8
+
+    private val collectedRoutes = ReferenceQueue<DirectionsRoute>()
+    private val entries = object : LinkedHashMap<RouteKey, String>() {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<RouteKey, String>): Boolean =
+            size > MAX_ENTRIES
+    }
+
+    /**
+     * Remembers the JSON the [route] was parsed from.
+     */
+    fun put(route: DirectionsRoute, json: String) {
+        synchronized(entries) {
+            purgeCollectedRoutes()
+            val key = RouteKey(route, collectedRoutes)
+            entries.remove(key)
+            entries[key] = json
+        }
+    }
+
+    /**
+     * @return the JSON the [route] was parsed from, or the [route] serialized if it isn't known
+     */
+    fun toJson(route: DirectionsRoute): String {
+        synchronized(entries) {
+            purgeCollectedRoutes()
+            entries[RouteKey(route)]?.let { return it }
+        }
+        return route.toJson()
+    }
+
+    private fun purgeCollectedRoutes() {
+        while (true) {
+            val key = collectedRoutes.poll() ?: return
+            entries.remove(key)
+        }
+    }
+
+    private class RouteKey(
+        route: DirectionsRoute,
+        queue: ReferenceQueue<DirectionsRoute>? = null
+    ) : WeakReference<DirectionsRoute>(route, queue) {
+
+        private val hashCode = System.identityHashCode(route)
+
+        override fun hashCode(): Int = hashCode
+
+        override fun equals(other: Any?): Boolean {
+            if (other === this) {
+                return true
+            }
+            if (other !is RouteKey) {
+                return false
+            }
+            val route = get()
+            return route != null && route === other.get()
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.navigator.NavigationStatus
 import com.mapbox.navigator.RouteState
 import com.mapbox.services.android.navigation.v5.milestone.Milestone
+import com.mapbox.services.android.navigation.v5.milestone.TriggerPropertyVector
 import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation
 import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigationOptions
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteDetector
@@ -22,6 +23,7 @@ internal class RouteProcessorRunnable(
     private val listener: RouteProcessorBackgroundThread.Listener
 ) : Runnable {
     private lateinit var rawLocation: Location
+    private val triggerProperties = TriggerPropertyVector()
 
     companion object {
         private const val ONE_SECOND_IN_MILLISECONDS = 1000
@@ -162,8 +164,9 @@ internal class RouteProcessorRunnable(
             previousRouteProgress = routeProgress
         }
         val milestones = ArrayList<Milestone>()
+        val properties = triggerProperties.fill(previousRouteProgress, routeProgress)
         for (milestone in mapboxNavigation.milestones) {
-            if (milestone.isOccurring(previousRouteProgress, routeProgress)) {
+            if (milestone.isOccurring(previousRouteProgress, routeProgress, properties)) {
                 milestones.add(milestone)
             }
         }
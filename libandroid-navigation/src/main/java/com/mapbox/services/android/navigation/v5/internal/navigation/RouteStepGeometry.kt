@@ -0,0 +1,148 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.core.constants.Constants.PRECISION_6
+import com.mapbox.geojson.Point
+import com.mapbox.geojson.utils.PolylineUtils
+
+/**
+ * Decoded geometry of every step in a [DirectionsRoute], built once when the route is set.
+ *
+ * The points of all steps in a leg are packed into one [DoubleArray] of `longitude, latitude`
+ * pairs, with an offset table per leg marking where each step starts. Step points are then
+ * handed out as read-only [List] slices of the packed array, so a status update no longer has
+ * to decode the step polyline again.
+ *
+ * @param route to decode the step geometries from
+ */
+internal class RouteStepGeometry(route: DirectionsRoute) {
+
+    companion object {
+        private const val COORDINATES_PER_POINT = 2
+        private const val INITIAL_LEG_CAPACITY = 256
+        private const val CACHED_SLICES = 3
+    }
+
+    private val legCoordinates: Array<DoubleArray>
+    private val legStepOffsets: Array<IntArray>
+    private val recentSlices = arrayOfNulls<StepPointsSlice>(CACHED_SLICES)
+    private var nextSlice = 0
+
+    init {
+        val legs = route.legs() ?: emptyList()
+        legCoordinates = Array(legs.size) { DoubleArray(0) }
+        legStepOffsets = Array(legs.size) { IntArray(0) }
+        legs.forEachIndexed { legIndex, leg ->
+            val steps = leg.steps() ?: emptyList()
+            val offsets = IntArray(steps.size + 1)
+            val packed = PackedCoordinates()
+            steps.forEachIndexed { stepIndex, step ->
+                offsets[stepIndex] = packed.pointCount
+                step?.geometry()?.let { geometry ->
+                    packed.decode(geometry)
+                }
+            }
+            offsets[steps.size] = packed.pointCount
+            legCoordinates[legIndex] = packed.toArray()
+            legStepOffsets[legIndex] = offsets
+        }
+    }
+
+    /**
+     * Returns the points of the step at the given leg / step index as a slice of the
+     * pre-decoded leg geometry.
+     *
+     * The same slice instance is returned for repeated requests of the current and
+     * upcoming steps, so consecutive status updates on a step do not allocate.
+     *
+     * Returns null if either index is invalid.
+     *
+     * @param legIndex of the leg holding the step
+     * @param stepIndex of the step within the leg
+     * @return list of [Point] representing the step geometry
+     */
+    @Synchronized
+    fun stepPoints(legIndex: Int, stepIndex: Int): List<Point>? {
+        if (legIndex < 0 || legIndex >= legStepOffsets.size) {
+            return null
+        }
+        val offsets = legStepOffsets[legIndex]
+        if (stepIndex < 0 || stepIndex >= offsets.size - 1) {
+            return null
+        }
+        recentSlices.forEach { slice ->
+            if (slice != null && slice.legIndex == legIndex && slice.stepIndex == stepIndex) {
+                return slice
+            }
+        }
+        val slice = StepPointsSlice(
+            legIndex,
+            stepIndex,
+            legCoordinates[legIndex],
+            offsets[stepIndex],
+            offsets[stepIndex + 1] - offsets[stepIndex]
+        )
+        recentSlices[nextSlice] = slice
+        nextSlice = (nextSlice + 1) % CACHED_SLICES
+        return slice
+    }
+
+    /**
+     * Growable packed `longitude, latitude` array that step polylines of one leg are
+     * decoded into.
+     */
+    private class PackedCoordinates {
+
+        private var coordinates = DoubleArray(INITIAL_LEG_CAPACITY)
+        var pointCount = 0
+            private set
+
+        /**
+         * Decodes a polyline with [PRECISION_6] and appends its points.
+         */
+        fun decode(encodedPath: String) {
+            PolylineUtils.decode(encodedPath, PRECISION_6).forEach { point ->
+                append(point.longitude(), point.latitude())
+            }
+        }
+
+        fun toArray(): DoubleArray = coordinates.copyOf(pointCount * COORDINATES_PER_POINT)
+
+        private fun append(longitude: Double, latitude: Double) {
+            val position = pointCount * COORDINATES_PER_POINT
+            if (position + COORDINATES_PER_POINT > coordinates.size) {
+                coordinates = coordinates.copyOf(coordinates.size * 2)
+            }
+            coordinates[position] = longitude
+            coordinates[position + 1] = latitude
+            pointCount++
+        }
+    }
+
+    /**
+     * Read-only view over the points of one step in a packed leg geometry.
+     * [Point]s are created on first access and reused afterwards.
+     */
+    private class StepPointsSlice(
+        val legIndex: Int,
+        val stepIndex: Int,
+        private val coordinates: DoubleArray,
+        private val firstPoint: Int,
+        override val size: Int
+    ) : AbstractList<Point>(), RandomAccess {
+
+        private val points = arrayOfNulls<Point>(size)
+
+        override fun get(index: Int): Point {
+            if (index < 0 || index >= size) {
+                throw IndexOutOfBoundsException("index: $index, size: $size")
+            }
+            return points[index] ?: run {
+                val position = (firstPoint + index) * COORDINATES_PER_POINT
+                Point.fromLngLat(coordinates[position], coordinates[position + 1]).also {
+                    points[index] = it
+                }
+            }
+        }
+    }
+}
@@ -74,14 +74,10 @@ class ReplayRouteLocationEngine : LocationEngine, Runnable {
     }
 
     override fun run() {
-        var nextMockedLocations = converter.toLocations()
+        val nextMockedLocations = converter.toLocations()
         if (nextMockedLocations.isEmpty()) {
-            if (converter.isMultiLegRoute) {
-                nextMockedLocations = converter.toLocations()
-            } else {
-                handler.removeCallbacks(this)
-                return
-            }
+            handler.removeCallbacks(this)
+            return
         }
         dispatcher.add(nextMockedLocations)
         mockedLocations.addAll(nextMockedLocations)
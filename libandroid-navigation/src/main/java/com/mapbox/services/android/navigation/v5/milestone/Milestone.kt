@@ -48,6 +48,23 @@ abstract class Milestone(private val builder: Builder) {
         routeProgress: RouteProgress
     ): Boolean
 
+    /**
+     * Same as [isOccurring], reading the [TriggerProperty] values from a [TriggerPropertyVector]
+     * that has been filled once for the current update and is shared by all milestones.
+     *
+     * @param previousRouteProgress last locations generated [RouteProgress] object used to
+     * determine certain [TriggerProperty]s
+     * @param routeProgress used to determine certain [TriggerProperty]s
+     * @param properties the [TriggerProperty] values of [routeProgress]
+     * @return true if the milestone trigger's valid, else false
+     * @since 0.43.0
+     */
+    open fun isOccurring(
+        previousRouteProgress: RouteProgress,
+        routeProgress: RouteProgress,
+        properties: TriggerPropertyVector
+    ): Boolean = isOccurring(previousRouteProgress, routeProgress)
+
     /**
      * Build a new [Milestone]
      *
@@ -20,10 +20,19 @@ private constructor(
     override fun isOccurring(
         previousRouteProgress: RouteProgress,
         routeProgress: RouteProgress
+    ): Boolean = isOccurring(
+        previousRouteProgress,
+        routeProgress,
+        TriggerPropertyVector().fill(previousRouteProgress, routeProgress)
+    )
+
+    override fun isOccurring(
+        previousRouteProgress: RouteProgress,
+        routeProgress: RouteProgress,
+        properties: TriggerPropertyVector
     ): Boolean =
         ifNonNull(builder.getTrigger()) { trigger ->
-            val statementObjects = TriggerProperty.getSparseArray(previousRouteProgress, routeProgress)
-            called = trigger.isOccurring(statementObjects) && !called
+            called = trigger.isOccurring(properties) && !called
             called
         } ?: false
 
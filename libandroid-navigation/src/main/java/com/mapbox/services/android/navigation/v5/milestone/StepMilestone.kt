@@ -20,6 +20,16 @@ private constructor(
     override fun isOccurring(
         previousRouteProgress: RouteProgress,
         routeProgress: RouteProgress
+    ): Boolean = isOccurring(
+        previousRouteProgress,
+        routeProgress,
+        TriggerPropertyVector().fill(previousRouteProgress, routeProgress)
+    )
+
+    override fun isOccurring(
+        previousRouteProgress: RouteProgress,
+        routeProgress: RouteProgress,
+        properties: TriggerPropertyVector
     ): Boolean {
         // Determine if the step index has changed and set called accordingly. This prevents multiple calls to
         // onMilestoneEvent per Step.
@@ -31,8 +41,7 @@ private constructor(
             return false
         }
         return ifNonNull(builder.getTrigger()) { trigger ->
-            val statementObjects = TriggerProperty.getSparseArray(previousRouteProgress, routeProgress)
-            called = trigger.isOccurring(statementObjects)
+            called = trigger.isOccurring(properties)
             called
         } ?: false
     }
@@ -24,6 +24,20 @@ object Trigger {
          * @since 0.4.0
          */
         abstract fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean
+
+        /**
+         * Validates whether the statement meets the specified trigger criteria, reading the
+         * property values from a shared [TriggerPropertyVector].
+         *
+         * The statements built by [Trigger] compare primitive values without allocating. Custom
+         * statements fall back to [isOccurring] with the boxed values of the vector.
+         *
+         * @param properties the property values of the current route progress update
+         * @return true if the statement is valid, otherwise false
+         * @since 0.43.0
+         */
+        open fun isOccurring(properties: TriggerPropertyVector): Boolean =
+            isOccurring(properties.toSparseArray())
     }
 
     /*
@@ -47,6 +61,15 @@ object Trigger {
             }
             return true
         }
+
+        override fun isOccurring(properties: TriggerPropertyVector): Boolean {
+            for (statement in statements) {
+                if (!statement.isOccurring(properties)) {
+                    return false
+                }
+            }
+            return true
+        }
     }
 
     /**
@@ -66,6 +89,15 @@ object Trigger {
             }
             return true
         }
+
+        override fun isOccurring(properties: TriggerPropertyVector): Boolean {
+            for (statement in statements) {
+                if (statement.isOccurring(properties)) {
+                    return false
+                }
+            }
+            return true
+        }
     }
 
     /**
@@ -85,12 +117,51 @@ object Trigger {
             }
             return false
         }
+
+        override fun isOccurring(properties: TriggerPropertyVector): Boolean {
+            for (statement in statements) {
+                if (statement.isOccurring(properties)) {
+                    return true
+                }
+            }
+            return false
+        }
     }
 
     /*
      * Simple statement
      */
 
+    /**
+     * Base class of the statements comparing a `RouteProgress` key property with a value.
+     *
+     * The value is converted to a primitive once, so that evaluating the statement against a
+     * [TriggerPropertyVector] doesn't box. If the property holds a pair of values, they're compared
+     * with each other and the result is negated unless the value is [TriggerProperty.TRUE].
+     */
+    private abstract class ComparisonStatement(
+        protected val key: Int,
+        value: Any
+    ) : Statement() {
+
+        private val primitiveValue = (value as? Number)?.toDouble() ?: Double.NaN
+        private val isTrue = value == TriggerProperty.TRUE
+
+        override fun isOccurring(properties: TriggerPropertyVector): Boolean {
+            if (!properties.contains(key)) {
+                return false
+            }
+            val first = properties.first(key)
+            return if (properties.isPair(key)) {
+                compare(first, properties.second(key)) == isTrue
+            } else {
+                compare(first, primitiveValue)
+            }
+        }
+
+        abstract fun compare(valueOne: Double, valueTwo: Double): Boolean
+    }
+
     /**
      * Greater than class used to determine that the `RouteProgress` key property is greater than the specified
      * value.
@@ -98,12 +169,14 @@ object Trigger {
      * @since 0.4.0
      */
     private class GreaterThanStatement(
-        private val key: Int,
+        key: Int,
         private val value: Any
-    ) : Statement() {
+    ) : ComparisonStatement(key, value) {
 
         override fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean =
             Operation.greaterThan(statementObjects.get(key), value as Number)
+
+        override fun compare(valueOne: Double, valueTwo: Double): Boolean = valueOne > valueTwo
     }
 
     /**
@@ -113,12 +186,14 @@ object Trigger {
      * @since 0.4.0
      */
     private class GreaterThanEqualStatement(
-        private val key: Int,
+        key: Int,
         private val value: Any
-    ) : Statement() {
+    ) : ComparisonStatement(key, value) {
 
         override fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean =
             Operation.greaterThanEqual(statementObjects.get(key), value as Number)
+
+        override fun compare(valueOne: Double, valueTwo: Double): Boolean = valueOne >= valueTwo
     }
 
     /**
@@ -127,12 +202,14 @@ object Trigger {
      * @since 0.4.0
      */
     private class LessThanStatement(
-        private val key: Int,
+        key: Int,
         private val value: Any
-    ) : Statement() {
+    ) : ComparisonStatement(key, value) {
 
         override fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean =
             Operation.lessThan(statementObjects.get(key), value as Number)
+
+        override fun compare(valueOne: Double, valueTwo: Double): Boolean = valueOne < valueTwo
     }
 
     /**
@@ -142,12 +219,14 @@ object Trigger {
      * @since 0.4.0
      */
     private class LessThanEqualStatement(
-        private val key: Int,
+        key: Int,
         private val value: Any
-    ) : Statement() {
+    ) : ComparisonStatement(key, value) {
 
         override fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean =
             Operation.lessThanEqual(statementObjects.get(key), value as Number)
+
+        override fun compare(valueOne: Double, valueTwo: Double): Boolean = valueOne <= valueTwo
     }
 
     /**
@@ -156,12 +235,14 @@ object Trigger {
      * @since 0.4.0
      */
     private class NotEqualStatement(
-        private val key: Int,
+        key: Int,
         private vararg val values: Any
-    ) : Statement() {
+    ) : ComparisonStatement(key, values[0]) {
 
         override fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean =
             Operation.notEqual(statementObjects.get(key), values[0] as Number)
+
+        override fun compare(valueOne: Double, valueTwo: Double): Boolean = valueOne != valueTwo
     }
 
     /**
@@ -170,12 +251,14 @@ object Trigger {
      * @since 0.4.0
      */
     private class EqualStatement(
-        private val key: Int,
+        key: Int,
         private val value: Any
-    ) : Statement() {
+    ) : ComparisonStatement(key, value) {
 
         override fun isOccurring(statementObjects: SparseArray<Array<Number>>): Boolean =
             Operation.equal(statementObjects.get(key), value as Number)
+
+        override fun compare(valueOne: Double, valueTwo: Double): Boolean = valueOne == valueTwo
     }
 
     /**
@@ -0,0 +1,156 @@
+package com.mapbox.services.android.navigation.v5.milestone
+
+import android.util.SparseArray
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress
+
+/**
+ * Reusable, primitive backed holder of the [TriggerProperty] values of one route progress update.
+ *
+ * The vector is filled once per update and then shared by all milestones, so evaluating
+ * [Trigger.Statement]s does not box or allocate per milestone. Each property holds either a
+ * single value or a pair of values, mirroring [TriggerProperty.getSparseArray].
+ *
+ * @since 0.43.0
+ */
+class TriggerPropertyVector {
+
+    companion object {
+        private const val PROPERTIES_COUNT = TriggerProperty.NEXT_STEP_DURATION_SECONDS + 1
+        private const val NO_VALUE = 0
+        private const val SINGLE_VALUE = 1
+        private const val PAIR_VALUE = 2
+    }
+
+    private val sizes = IntArray(PROPERTIES_COUNT)
+    private val firstValues = DoubleArray(PROPERTIES_COUNT)
+    private val secondValues = DoubleArray(PROPERTIES_COUNT)
+    private var previousRouteProgress: RouteProgress? = null
+    private var routeProgress: RouteProgress? = null
+    private var statementObjects: SparseArray<Array<Number>>? = null
+
+    /**
+     * Replaces the current values with the ones of the given [RouteProgress] update.
+     *
+     * @param previousRouteProgress last locations generated [RouteProgress]
+     * @param routeProgress current [RouteProgress]
+     * @return this vector
+     * @since 0.43.0
+     */
+    fun fill(
+        previousRouteProgress: RouteProgress,
+        routeProgress: RouteProgress
+    ): TriggerPropertyVector {
+        this.previousRouteProgress = previousRouteProgress
+        this.routeProgress = routeProgress
+        statementObjects = null
+        sizes.fill(NO_VALUE)
+
+        // Same order as TriggerProperty.getSparseArray, later properties overwrite shared keys.
+        val currentLegProgress = routeProgress.currentLegProgress()
+        currentLegProgress?.currentStep()?.let { currentStep ->
+            put(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, currentStep.distance())
+            put(TriggerProperty.STEP_DURATION_TOTAL_SECONDS, currentStep.duration())
+        }
+        currentLegProgress?.currentStepProgress()?.let { currentStepProgress ->
+            currentStepProgress.distanceRemaining()?.let {
+                put(TriggerProperty.STEP_DISTANCE_REMAINING_METERS, it)
+            }
+            currentStepProgress.durationRemaining()?.let {
+                put(TriggerProperty.STEP_DURATION_REMAINING_SECONDS, it)
+            }
+            currentStepProgress.distanceTraveled()?.let {
+                put(TriggerProperty.STEP_DISTANCE_TRAVELED_METERS, it)
+            }
+        }
+        currentLegProgress?.stepIndex()?.let { stepIndex ->
+            val index = stepIndex.toDouble()
+            put(TriggerProperty.STEP_INDEX, index)
+            put(TriggerProperty.NEW_STEP, index, index)
+            put(
+                TriggerProperty.LAST_STEP,
+                index,
+                (routeProgress.currentLeg()?.steps()?.let { it.size - 2 } ?: 0).toDouble()
+            )
+            put(TriggerProperty.FIRST_STEP, index, 0.0)
+            put(
+                TriggerProperty.NEXT_STEP_DURATION_SECONDS,
+                currentLegProgress.upComingStep()?.duration() ?: 0.0
+            )
+            put(
+                TriggerProperty.NEXT_STEP_DISTANCE_METERS,
+                currentLegProgress.upComingStep()?.distance() ?: 0.0
+            )
+        }
+        routeProgress.legIndex()?.let { legIndex ->
+            val index = legIndex.toDouble()
+            put(TriggerProperty.FIRST_LEG, index, 0.0)
+            routeProgress.directionsRoute()?.let { directionsRoute ->
+                put(
+                    TriggerProperty.LAST_LEG,
+                    index,
+                    (directionsRoute.legs()?.let { it.size - 1 } ?: 0).toDouble()
+                )
+            }
+        }
+        return this
+    }
+
+    /**
+     * @param key one of the constants found in [TriggerProperty]
+     * @return true if a value is available for the property
+     * @since 0.43.0
+     */
+    fun contains(key: Int): Boolean = isValidKey(key) && sizes[key] != NO_VALUE
+
+    /**
+     * @param key one of the constants found in [TriggerProperty]
+     * @return true if the property holds a pair of values to be compared with each other
+     * @since 0.43.0
+     */
+    fun isPair(key: Int): Boolean = isValidKey(key) && sizes[key] == PAIR_VALUE
+
+    /**
+     * @param key one of the constants found in [TriggerProperty]
+     * @return the first value of the property, `0` if not available
+     * @since 0.43.0
+     */
+    fun first(key: Int): Double = if (contains(key)) firstValues[key] else 0.0
+
+    /**
+     * @param key one of the constants found in [TriggerProperty]
+     * @return the second value of a pair property, `0` if not available
+     * @since 0.43.0
+     */
+    fun second(key: Int): Double = if (isPair(key)) secondValues[key] else 0.0
+
+    /**
+     * Boxed representation of the current values, as built by [TriggerProperty.getSparseArray].
+     * Only used for custom [Trigger.Statement]s, it's built at most once per [fill].
+     *
+     * @return the current values keyed by [TriggerProperty]
+     * @since 0.43.0
+     */
+    fun toSparseArray(): SparseArray<Array<Number>> =
+        statementObjects ?: run {
+            val previous = previousRouteProgress
+            val current = routeProgress
+            if (previous != null && current != null) {
+                TriggerProperty.getSparseArray(previous, current)
+            } else {
+                SparseArray()
+            }
+        }.also { statementObjects = it }
+
+    private fun put(key: Int, value: Double) {
+        sizes[key] = SINGLE_VALUE
+        firstValues[key] = value
+    }
+
+    private fun put(key: Int, first: Double, second: Double) {
+        sizes[key] = PAIR_VALUE
+        firstValues[key] = first
+        secondValues[key] = second
+    }
+
+    private fun isValidKey(key: Int): Boolean = key in 0 until PROPERTIES_COUNT
+}
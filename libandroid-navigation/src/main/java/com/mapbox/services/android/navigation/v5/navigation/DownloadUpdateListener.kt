@@ -1,11 +1,13 @@
 package com.mapbox.services.android.navigation.v5.navigation
 
-import com.mapbox.services.android.navigation.v5.utils.DownloadTask
 import java.io.File
 
 /**
- * Triggers a [TileUnpacker] to unpack the tar file into routing tiles once the FILE_EXTENSION_TAR
- * download is complete.
+ * Reports the download progress and triggers a [TileUnpacker] to unpack the tar file into
+ * routing tiles once the FILE_EXTENSION_TAR download is complete.
+ *
+ * Downloading covers the first [DOWNLOAD_PROGRESS_PERCENT] of the progress sent to the
+ * [RouteTileDownloadListener], unpacking covers the rest.
  */
 internal class DownloadUpdateListener(
     private val downloader: RouteTileDownloader,
@@ -13,25 +15,39 @@ internal class DownloadUpdateListener(
     tilePath: String,
     tileVersion: String,
     private val listener: RouteTileDownloadListener
-) : DownloadTask.DownloadListener {
+) : TileDownloader.DownloadListener {
 
     private val destinationPath: String
+    private var lastPercent = 0
 
     companion object {
-        private const val DOWNLOAD_ERROR_MESSAGE =
-            "Error occurred downloading tiles: null file found"
+        const val DOWNLOAD_PROGRESS_PERCENT = 50
     }
 
     init {
         destinationPath = buildDestinationPath(tilePath, tileVersion)
     }
 
+    override fun onProgressUpdate(downloadedBytes: Long, totalBytes: Long) {
+        if (totalBytes <= 0L) {
+            return
+        }
+        val percent = (DOWNLOAD_PROGRESS_PERCENT * downloadedBytes / totalBytes).toInt()
+        if (percent > lastPercent) {
+            lastPercent = percent
+            listener.onProgressUpdate(percent)
+        }
+    }
+
     override fun onFinishedDownloading(file: File) {
-        tileUnpacker.unpack(file, destinationPath, UnpackProgressUpdateListener(listener))
+        tileUnpacker.unpack(
+            file,
+            destinationPath,
+            UnpackProgressUpdateListener(listener, DOWNLOAD_PROGRESS_PERCENT)
+        )
     }
 
-    override fun onErrorDownloading() {
-        val error = OfflineError(DOWNLOAD_ERROR_MESSAGE)
+    override fun onErrorDownloading(error: OfflineError) {
         downloader.onError(error)
     }
 
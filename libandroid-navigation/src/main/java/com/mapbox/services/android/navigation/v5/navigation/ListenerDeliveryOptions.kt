@@ -0,0 +1,54 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+import com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.LISTENER_DELIVERY_IMMEDIATE
+import java.util.concurrent.Executor
+
+/**
+ * Defines how updates reach a listener added with these options.
+ *
+ * Each listener gets its own queue, so a slow listener only delays its own updates.
+ *
+ * @param policy one of [NavigationConstants.ListenerDeliveryPolicy]
+ * @param samplingRate maximum number of updates per second with
+ * [NavigationConstants.LISTENER_DELIVERY_SAMPLED]
+ * @param executor runs the listener callbacks, null for the main thread
+ * @since 0.43.0
+ */
+data class ListenerDeliveryOptions(
+    @NavigationConstants.ListenerDeliveryPolicy val policy: Int,
+    val samplingRate: Double,
+    val executor: Executor?
+) {
+
+    class Builder {
+        var policy = LISTENER_DELIVERY_IMMEDIATE
+        var samplingRate = DEFAULT_SAMPLING_RATE
+        var executor: Executor? = null
+
+        fun policy(@NavigationConstants.ListenerDeliveryPolicy policy: Int) =
+            apply { this.policy = policy }
+
+        /**
+         * @param updatesPerSecond maximum number of updates per second, must be positive
+         * @return this builder for chaining options together
+         */
+        fun samplingRate(updatesPerSecond: Double) =
+            apply { this.samplingRate = updatesPerSecond }
+
+        /**
+         * @param executor runs the listener callbacks, null for the main thread
+         * @return this builder for chaining options together
+         */
+        fun executor(executor: Executor?) =
+            apply { this.executor = executor }
+
+        fun build(): ListenerDeliveryOptions {
+            check(samplingRate > 0) { "Sampling rate must be positive." }
+            return ListenerDeliveryOptions(policy, samplingRate, executor)
+        }
+
+        companion object {
+            private const val DEFAULT_SAMPLING_RATE = 1.0
+        }
+    }
+}
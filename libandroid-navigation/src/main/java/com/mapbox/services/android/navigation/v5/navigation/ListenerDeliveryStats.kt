@@ -0,0 +1,19 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+/**
+ * Delivery counters of a listener added with [ListenerDeliveryOptions].
+ *
+ * @param queueDepth updates waiting to be delivered
+ * @param deliveredCount updates delivered so far
+ * @param droppedCount updates replaced by a newer one before being delivered
+ * @param averageCallbackNanos mean time spent in the listener callback
+ * @param maxCallbackNanos longest time spent in the listener callback
+ * @since 0.43.0
+ */
+data class ListenerDeliveryStats(
+    val queueDepth: Int,
+    val deliveredCount: Long,
+    val droppedCount: Long,
+    val averageCallbackNanos: Long,
+    val maxCallbackNanos: Long
+)
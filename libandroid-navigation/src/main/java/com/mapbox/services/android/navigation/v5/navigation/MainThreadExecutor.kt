@@ -0,0 +1,17 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+import android.os.Handler
+import android.os.Looper
+import java.util.concurrent.Executor
+
+/**
+ * Posts the commands to the main thread.
+ */
+internal class MainThreadExecutor : Executor {
+
+    private val handler = Handler(Looper.getMainLooper())
+
+    override fun execute(command: Runnable) {
+        handler.post(command)
+    }
+}
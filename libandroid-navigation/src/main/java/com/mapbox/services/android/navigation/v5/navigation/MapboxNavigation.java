@@ -493,6 +493,38 @@ public class MapboxNavigation implements ServiceConnection {
     navigationEventDispatcher.addProgressChangeListener(progressChangeListener);
   }
 
+  /**
+   * This adds a new progress change listener which gets its updates as defined by the
+   * {@link ListenerDeliveryOptions}. The updates are queued per listener, so a slow listener
+   * doesn't delay the navigation engine or the other listeners.
+   * <p>
+   * It is not possible to add the same listener implementation more then once and a warning will be
+   * printed in the log if attempted.
+   * </p>
+   *
+   * @param progressChangeListener an implementation of {@code ProgressChangeListener} which hasn't
+   *                               already been added
+   * @param deliveryOptions        policy and executor of the updates
+   * @see ProgressChangeListener
+   * @since 0.43.0
+   */
+  public void addProgressChangeListener(@NonNull ProgressChangeListener progressChangeListener,
+                                        @NonNull ListenerDeliveryOptions deliveryOptions) {
+    navigationEventDispatcher.addProgressChangeListener(progressChangeListener, deliveryOptions);
+  }
+
+  /**
+   * Returns the delivery counters of a listener added with {@link ListenerDeliveryOptions}.
+   *
+   * @param listener added with {@link ListenerDeliveryOptions}
+   * @return the counters, or null if the listener wasn't added with {@link ListenerDeliveryOptions}
+   * @since 0.43.0
+   */
+  @Nullable
+  public ListenerDeliveryStats retrieveListenerDeliveryStats(@NonNull Object listener) {
+    return navigationEventDispatcher.retrieveListenerDeliveryStats(listener);
+  }
+
   /**
    * This removes a specific progress change listener by passing in the instance of it or you can
    * pass in null to remove all the listeners. When {@link #onDestroy()} is called, all listeners
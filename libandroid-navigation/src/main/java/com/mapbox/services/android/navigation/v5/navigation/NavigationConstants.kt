@@ -213,6 +213,28 @@ object NavigationConstants {
     const val ROUNDING_INCREMENT_FIFTY = 50
     const val ROUNDING_INCREMENT_ONE_HUNDRED = 100
 
+    // Listener Delivery Policies
+    /**
+     * Every update is delivered to the listener, in order.
+     *
+     * @since 0.43.0
+     */
+    const val LISTENER_DELIVERY_IMMEDIATE = 0
+
+    /**
+     * Only the latest update is kept while the listener is busy, older pending updates are dropped.
+     *
+     * @since 0.43.0
+     */
+    const val LISTENER_DELIVERY_LATEST = 1
+
+    /**
+     * The latest update is delivered at most at the sampling rate, older pending updates are dropped.
+     *
+     * @since 0.43.0
+     */
+    const val LISTENER_DELIVERY_SAMPLED = 2
+
     @StringDef(
         STEP_MANEUVER_TYPE_TURN,
         STEP_MANEUVER_TYPE_NEW_NAME,
@@ -253,4 +275,11 @@ object NavigationConstants {
         ROUNDING_INCREMENT_ONE_HUNDRED
     )
     annotation class RoundingIncrement
+
+    @IntDef(
+        LISTENER_DELIVERY_IMMEDIATE,
+        LISTENER_DELIVERY_LATEST,
+        LISTENER_DELIVERY_SAMPLED
+    )
+    annotation class ListenerDeliveryPolicy
 } // Empty private constructor to prevent users creating an instance of this class.
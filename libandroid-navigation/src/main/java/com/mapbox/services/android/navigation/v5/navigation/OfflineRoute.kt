@@ -1,10 +1,11 @@
 package com.mapbox.services.android.navigation.v5.navigation
 
 import androidx.annotation.FloatRange
-import com.mapbox.api.directions.v5.models.DirectionsResponse
+import com.google.gson.JsonParser
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.core.exceptions.ServicesException
 import com.mapbox.navigator.RouterResult
+import com.mapbox.services.android.navigation.v5.internal.navigation.RouteJsonCache
 import com.mapbox.services.android.navigation.v5.utils.extensions.ifNonNull
 import okhttp3.HttpUrl
 
@@ -39,6 +40,7 @@ class OfflineRoute private constructor(
         private const val FERRY_BIAS_QUERY_PARAMETER = "ferry_bias"
         private const val ROUGH_SURFACE_BIAS_QUERY_PARAMETER = "rough_surface_bias"
         private const val WAYPOINT_TYPES_QUERY_PARAMETER = "waypoint_types"
+        private const val ROUTES = "routes"
 
         /**
          * Build a new [OfflineRoute] object with the proper offline navigation parameters already setup.
@@ -115,8 +117,14 @@ class OfflineRoute private constructor(
         return offlineUrlBuilder.build().toString()
     }
 
-    private fun obtainRouteFor(response: String): DirectionsRoute? =
-        DirectionsResponse.fromJson(response).routes().firstOrNull()
+    private fun obtainRouteFor(response: String): DirectionsRoute? {
+        val routes = JsonParser().parse(response).asJsonObject.getAsJsonArray(ROUTES) ?: return null
+        if (routes.size() == 0) {
+            return null
+        }
+        val routeJson = routes[0].toString()
+        return DirectionsRoute.fromJson(routeJson).also { RouteJsonCache.put(it, routeJson) }
+    }
 
     class Builder internal constructor(private val navigationRouteBuilder: NavigationRoute.Builder) {
         private var bicycleType: OfflineCriteria.BicycleType? = null
@@ -4,14 +4,12 @@ import android.content.Context
 import com.mapbox.api.routetiles.v1.MapboxRouteTiles
 import com.mapbox.core.exceptions.ServicesException
 import com.mapbox.geojson.BoundingBox
-import okhttp3.ResponseBody
-import retrofit2.Callback
+import okhttp3.Request
 
 /**
  * This is a wrapper class for the [MapboxRouteTiles] class. This class takes care of
- * interfacing with [MapboxRouteTiles] and receives a TAR file wrapped in a ResponseBody
- * which can be handled using a
- * [com.mapbox.services.android.navigation.v5.utils.DownloadTask].
+ * interfacing with [MapboxRouteTiles] and builds the request for a TAR file, which is
+ * downloaded by the [MapboxOfflineRouter].
  */
 class OfflineTiles private constructor(
     private val mapboxRouteTiles: MapboxRouteTiles,
@@ -20,13 +18,11 @@ class OfflineTiles private constructor(
 
     /**
      * Call when you have constructed your OfflineTiles object with your desired parameters.
-     * [Callback] must be passed into the method to handle both the response and failure.
+     * The request isn't executed, so it can be streamed and resumed by the caller.
      *
-     * @param callback for retrofit
+     * @return the request for the TAR file
      */
-    internal fun fetchRouteTiles(callback: Callback<ResponseBody>) {
-        mapboxRouteTiles.enqueueCall(callback)
-    }
+    internal fun routeTilesRequest(): Request = mapboxRouteTiles.cloneCall().request()
 
     /**
      * Returns the version of the current builder.
@@ -1,6 +1,6 @@
 package com.mapbox.services.android.navigation.v5.navigation
 
-import com.mapbox.services.android.navigation.v5.utils.DownloadTask
+import java.io.File
 
 /**
  * This class serves to contain the complicated chain of events that must happen to download
@@ -10,7 +10,8 @@ import com.mapbox.services.android.navigation.v5.utils.DownloadTask
 internal class RouteTileDownloader(
     private val offlineNavigator: OfflineNavigator,
     private val tilePath: String,
-    private val listener: RouteTileDownloadListener
+    private val listener: RouteTileDownloadListener,
+    private val tileDownloader: TileDownloader = TileDownloader()
 ) {
 
     companion object {
@@ -19,31 +20,21 @@ internal class RouteTileDownloader(
 
     fun startDownload(offlineTiles: OfflineTiles) {
         val version = offlineTiles.version()
-        val tarFetchedCallback = buildTarFetchedCallback(version)
-        offlineTiles.fetchRouteTiles(tarFetchedCallback)
+        // The file name only depends on the version, so an interrupted download can be resumed
+        val tarFile = File(tilePath, "$version.$FILE_EXTENSION_TAR")
+        tileDownloader.download(offlineTiles.routeTilesRequest(), tarFile, buildDownloadListener(version))
     }
 
     fun onError(error: OfflineError) = listener.onError(error)
 
-    private fun buildTarFetchedCallback(version: String): TarFetchedCallback {
-        val downloadTask = buildDownloadTask(tilePath, version)
-        return TarFetchedCallback(this, downloadTask)
-    }
-
-    private fun buildDownloadTask(tilePath: String, tileVersion: String): DownloadTask {
+    private fun buildDownloadListener(tileVersion: String): DownloadUpdateListener {
         val tileUnpacker = TileUnpacker(offlineNavigator)
-        val downloadListener = DownloadUpdateListener(
+        return DownloadUpdateListener(
             this,
             tileUnpacker,
             tilePath,
             tileVersion,
             listener
         )
-        return DownloadTask(
-            tilePath,
-            tileVersion,
-            FILE_EXTENSION_TAR,
-            downloadListener
-        )
     }
 }
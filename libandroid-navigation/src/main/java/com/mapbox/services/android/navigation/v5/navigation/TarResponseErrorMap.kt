@@ -1,7 +1,6 @@
 package com.mapbox.services.android.navigation.v5.navigation
 
-import okhttp3.ResponseBody
-import retrofit2.Response
+import okhttp3.Response
 
 internal class TarResponseErrorMap(private val errorCodes: HashMap<Int, String> = HashMap()) {
 
@@ -19,7 +18,7 @@ internal class TarResponseErrorMap(private val errorCodes: HashMap<Int, String>
         errorCodes[BOUNDING_BOX_ERROR_CODE] = BOUNDING_BOX_ERROR_MESSAGE
     }
 
-    fun buildErrorMessageWith(response: Response<ResponseBody>): String {
+    fun buildErrorMessageWith(response: Response): String {
         var errorMessage = errorCodes[response.code()]
         if (errorMessage == null) {
             errorMessage = "Error code ${response.code()}: ${response.message()}"
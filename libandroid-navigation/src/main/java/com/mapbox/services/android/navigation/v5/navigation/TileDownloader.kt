@@ -0,0 +1,246 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+import java.io.File
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.util.concurrent.Executor
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import okhttp3.Call
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.Response
+import okio.BufferedSource
+
+/**
+ * Downloads TAR files of routing tiles, one at a time, on a dedicated background thread.
+ *
+ * The response is streamed into a partial file next to the destination through a
+ * [java.nio.channels.FileChannel], without intermediate copies. If the connection drops, the
+ * download resumes from the end of the partial file with an HTTP Range request. This also
+ * happens when the same file is requested again later. The partial file is renamed to the
+ * destination once its size matches the content length sent by the server.
+ *
+ * @param httpClient used to execute the requests
+ * @param downloadExecutor runs the downloads, defaults to a single shared background thread
+ * @param callbackExecutor delivers the listener callbacks, defaults to the main thread
+ * @param maxRetries number of times an interrupted download is resumed before failing
+ * @param retryDelayMillis delay before the first retry, increased linearly for the next ones
+ * @param progressIntervalMillis minimum time between two progress updates
+ */
+internal class TileDownloader(
+    private val httpClient: OkHttpClient = HTTP_CLIENT,
+    private val downloadExecutor: Executor = DOWNLOAD_EXECUTOR,
+    private val callbackExecutor: Executor = MainThreadExecutor(),
+    private val maxRetries: Int = MAX_RETRIES,
+    private val retryDelayMillis: Long = RETRY_DELAY_MILLIS,
+    private val progressIntervalMillis: Long = PROGRESS_INTERVAL_MILLIS
+) {
+
+    companion object {
+        private const val MAX_RETRIES = 3
+        private const val RETRY_DELAY_MILLIS = 1000L
+        private const val PROGRESS_INTERVAL_MILLIS = 250L
+        private const val IDLE_THREAD_KEEP_ALIVE_SECONDS = 30L
+        private const val TRANSFER_CHUNK_BYTES = 256 * 1024L
+        private const val PARTIAL_FILE_EXTENSION = ".part"
+        private const val HEADER_RANGE = "Range"
+        private const val HEADER_CONTENT_RANGE = "Content-Range"
+        private const val HTTP_PARTIAL_CONTENT = 206
+        private const val HTTP_RANGE_NOT_SATISFIABLE = 416
+        private const val UNKNOWN_LENGTH = -1L
+        private const val DOWNLOAD_ERROR_MESSAGE = "Error occurred downloading tiles: %s"
+        private const val EMPTY_BODY_MESSAGE = "empty response body"
+        private const val RANGE_REJECTED_MESSAGE = "partial download rejected by the server"
+        private const val CONTENT_LENGTH_MESSAGE = "expected %d bytes, received %d"
+        private const val RENAME_MESSAGE = "unable to move the download to %s"
+        private val CONTENT_RANGE_START = Regex("bytes (\\d+)-")
+
+        private val HTTP_CLIENT = OkHttpClient()
+        private val DOWNLOAD_EXECUTOR = ThreadPoolExecutor(
+            0,
+            1,
+            IDLE_THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            LinkedBlockingQueue<Runnable>()
+        )
+    }
+
+    /**
+     * Downloads the response to the request into the destination file.
+     *
+     * @param request for the TAR file
+     * @param destination file, its parent directory must exist
+     * @param listener to be updated on progress, completion and errors
+     * @return the [DownloadTask], which can be used to cancel the download
+     */
+    fun download(request: Request, destination: File, listener: DownloadListener): DownloadTask {
+        val task = DownloadTask(request, destination, listener)
+        downloadExecutor.execute(task)
+        return task
+    }
+
+    /**
+     * Downloads one TAR file and reports its progress.
+     */
+    inner class DownloadTask internal constructor(
+        private val request: Request,
+        private val destination: File,
+        private val listener: DownloadListener
+    ) : Runnable {
+
+        private val partialFile = File(destination.path + PARTIAL_FILE_EXTENSION)
+        private val progressIntervalNanos = TimeUnit.MILLISECONDS.toNanos(progressIntervalMillis)
+        @Volatile
+        var isCancelled = false
+            private set
+        @Volatile
+        private var call: Call? = null
+
+        /**
+         * Stops the download and drops pending callbacks. The partial file is kept,
+         * so a later download of the same file resumes from where this one stopped.
+         */
+        fun cancel() {
+            isCancelled = true
+            call?.cancel()
+        }
+
+        override fun run() {
+            var retries = 0
+            while (!isCancelled) {
+                try {
+                    transfer()?.let { file ->
+                        notify { listener.onFinishedDownloading(file) }
+                    }
+                    return
+                } catch (exception: TileResponseException) {
+                    notifyError(exception.message)
+                    return
+                } catch (exception: IOException) {
+                    if (isCancelled) {
+                        return
+                    }
+                    if (retries++ >= maxRetries) {
+                        notifyError(exception.message)
+                        return
+                    }
+                }
+                try {
+                    Thread.sleep(retryDelayMillis * retries)
+                } catch (exception: InterruptedException) {
+                    return
+                }
+            }
+        }
+
+        /**
+         * @return the downloaded file, or null if cancelled
+         */
+        private fun transfer(): File? {
+            val offset = partialFile.length()
+            val requestBuilder = request.newBuilder()
+            if (offset > 0L) {
+                requestBuilder.header(HEADER_RANGE, "bytes=$offset-")
+            }
+            val call = httpClient.newCall(requestBuilder.build())
+            this.call = call
+            if (isCancelled) {
+                return null
+            }
+            call.execute().use { response ->
+                if (response.code() == HTTP_RANGE_NOT_SATISFIABLE && offset > 0L) {
+                    // The partial file doesn't match the file on the server anymore, start over
+                    partialFile.delete()
+                    throw IOException(RANGE_REJECTED_MESSAGE)
+                }
+                if (!response.isSuccessful) {
+                    throw TileResponseException(TarResponseErrorMap().buildErrorMessageWith(response))
+                }
+                val body = response.body() ?: throw IOException(EMPTY_BODY_MESSAGE)
+                val start = if (isResumed(response, offset)) offset else 0L
+                val contentLength = body.contentLength()
+                val totalBytes = if (contentLength == UNKNOWN_LENGTH) UNKNOWN_LENGTH else start + contentLength
+                val writtenBytes = write(body.source(), start, totalBytes)
+                if (isCancelled) {
+                    return null
+                }
+                if (totalBytes != UNKNOWN_LENGTH && writtenBytes != totalBytes) {
+                    throw IOException(CONTENT_LENGTH_MESSAGE.format(totalBytes, writtenBytes))
+                }
+            }
+            if (!partialFile.renameTo(destination)) {
+                destination.delete()
+                if (!partialFile.renameTo(destination)) {
+                    throw TileResponseException(RENAME_MESSAGE.format(destination.path))
+                }
+            }
+            return destination
+        }
+
+        private fun isResumed(response: Response, offset: Long): Boolean {
+            if (offset == 0L || response.code() != HTTP_PARTIAL_CONTENT) {
+                return false
+            }
+            val contentRange = response.header(HEADER_CONTENT_RANGE) ?: return false
+            return CONTENT_RANGE_START.find(contentRange)?.groupValues?.get(1)?.toLongOrNull() == offset
+        }
+
+        /**
+         * Writes the source into the partial file from the start position and
+         * returns the size of the partial file.
+         */
+        private fun write(source: BufferedSource, start: Long, totalBytes: Long): Long {
+            RandomAccessFile(partialFile, "rw").use { file ->
+                val channel = file.channel
+                channel.truncate(start)
+                var position = start
+                var lastProgressNanos = System.nanoTime()
+                while (!isCancelled) {
+                    val transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_BYTES)
+                    if (transferred <= 0L) {
+                        break
+                    }
+                    position += transferred
+                    val now = System.nanoTime()
+                    if (now - lastProgressNanos >= progressIntervalNanos) {
+                        lastProgressNanos = now
+                        notifyProgress(position, totalBytes)
+                    }
+                }
+                notifyProgress(position, totalBytes)
+                return position
+            }
+        }
+
+        private fun notifyProgress(downloadedBytes: Long, totalBytes: Long) {
+            notify { listener.onProgressUpdate(downloadedBytes, totalBytes) }
+        }
+
+        private fun notifyError(message: String?) {
+            notify { listener.onErrorDownloading(OfflineError(DOWNLOAD_ERROR_MESSAGE.format(message))) }
+        }
+
+        private fun notify(callback: () -> Unit) {
+            callbackExecutor.execute {
+                if (!isCancelled) {
+                    callback()
+                }
+            }
+        }
+    }
+
+    /**
+     * Interface which allows a listener to be updated about a [DownloadTask].
+     */
+    interface DownloadListener {
+        fun onProgressUpdate(downloadedBytes: Long, totalBytes: Long)
+
+        fun onFinishedDownloading(file: File)
+
+        fun onErrorDownloading(error: OfflineError)
+    }
+
+    private class TileResponseException(message: String) : Exception(message)
+}
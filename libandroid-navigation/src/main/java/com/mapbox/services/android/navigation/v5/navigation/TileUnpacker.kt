@@ -1,25 +1,170 @@
 package com.mapbox.services.android.navigation.v5.navigation
 
-import android.os.AsyncTask
 import java.io.File
+import java.util.concurrent.Executor
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.ScheduledThreadPoolExecutor
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 
-internal class TileUnpacker(private val offlineNavigator: OfflineNavigator) {
+/**
+ * Unpacks TAR files of routing tiles, one at a time, on a dedicated background thread.
+ *
+ * The navigator doesn't report progress while unpacking, but the TAR file is truncated as its
+ * data is unpacked. Progress is sampled from the file size at a fixed interval and only changes
+ * are passed on, so the listener gets at most one update per interval.
+ *
+ * @param offlineNavigator used to unpack the tiles
+ * @param unpackExecutor runs the unpacking, defaults to a single shared background thread
+ * @param progressExecutor samples the progress, defaults to a single shared background thread
+ * @param callbackExecutor delivers the listener callbacks, defaults to the main thread
+ */
+internal class TileUnpacker(
+    private val offlineNavigator: OfflineNavigator,
+    private val unpackExecutor: Executor = UNPACK_EXECUTOR,
+    private val progressExecutor: ScheduledExecutorService = PROGRESS_EXECUTOR,
+    private val callbackExecutor: Executor = MainThreadExecutor()
+) {
+
+    companion object {
+        private const val PROGRESS_INTERVAL_MILLIS = 250L
+        private const val IDLE_THREAD_KEEP_ALIVE_SECONDS = 30L
+        private const val FULL_PERCENTAGE = 100
+        private const val NO_PROGRESS = -1
+        private const val TAR_NOT_FOUND_MESSAGE = "Error occurred unpacking tiles: tar file not found"
+        private const val UNPACK_ERROR_MESSAGE = "Error occurred unpacking tiles: %s"
+
+        private val UNPACK_EXECUTOR = ThreadPoolExecutor(
+            0,
+            1,
+            IDLE_THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            LinkedBlockingQueue<Runnable>()
+        )
+        private val PROGRESS_EXECUTOR = ScheduledThreadPoolExecutor(1).apply {
+            setKeepAliveTime(IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS)
+            allowCoreThreadTimeOut(true)
+            removeOnCancelPolicy = true
+        }
+    }
 
     /**
      * Unpacks a TAR file at the srcPath into the destination directory.
+     * The TAR file is deleted once unpacked.
      *
      * @param src where TAR file is located
      * @param destPath to the destination directory
      * @param updateListener listener to listen for progress updates
+     * @return the [UnpackTask], which can be used to cancel the updates
      */
     fun unpack(
         src: File,
         destPath: String,
-        updateListener: UnpackUpdateTask.ProgressUpdateListener
-    ) {
-        UnpackerTask(offlineNavigator).executeOnExecutor(
-            AsyncTask.THREAD_POOL_EXECUTOR, src.absolutePath, destPath + File.separator
-        )
-        UnpackUpdateTask(updateListener).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, src)
+        updateListener: ProgressUpdateListener
+    ): UnpackTask {
+        val task = UnpackTask(src, destPath + File.separator, updateListener)
+        unpackExecutor.execute(task)
+        return task
+    }
+
+    /**
+     * Unpacks one TAR file and reports its progress.
+     */
+    inner class UnpackTask internal constructor(
+        private val tilePack: File,
+        private val destPath: String,
+        private val updateListener: ProgressUpdateListener
+    ) : Runnable {
+
+        @Volatile
+        var isCancelled = false
+            private set
+        private val lastProgress = AtomicInteger(NO_PROGRESS)
+        @Volatile
+        private var progressSampling: ScheduledFuture<*>? = null
+        // Set on the callback thread, a sample still running when unpacking ends may post progress after it
+        @Volatile
+        private var isFinished = false
+
+        /**
+         * Stops the progress updates. If the unpacking hasn't started yet, it's skipped.
+         * Once started, the navigator can't be interrupted and finishes unpacking the tiles
+         * without notifying the listener.
+         */
+        fun cancel() {
+            isCancelled = true
+            progressSampling?.cancel(false)
+        }
+
+        override fun run() {
+            if (isCancelled) {
+                return
+            }
+            // As the data is unpacked from the file, the file is truncated
+            val size = tilePack.length()
+            if (size <= 0L) {
+                notifyFinished { updateListener.onError(OfflineError(TAR_NOT_FOUND_MESSAGE)) }
+                return
+            }
+            progressSampling = progressExecutor.scheduleWithFixedDelay(
+                { updateProgress(size) },
+                0L,
+                PROGRESS_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS
+            )
+            try {
+                offlineNavigator.unpackTiles(tilePack.absolutePath, destPath)
+            } catch (exception: Exception) {
+                progressSampling?.cancel(false)
+                tilePack.delete()
+                notifyFinished { updateListener.onError(OfflineError(UNPACK_ERROR_MESSAGE.format(exception.message))) }
+                return
+            }
+            progressSampling?.cancel(false)
+            tilePack.delete()
+            publishProgress(FULL_PERCENTAGE)
+            notifyFinished { updateListener.onCompletion() }
+        }
+
+        private fun updateProgress(size: Long) {
+            val remaining = tilePack.length().coerceIn(0L, size)
+            publishProgress((FULL_PERCENTAGE * (size - remaining) / size).toInt())
+        }
+
+        private fun publishProgress(progress: Int) {
+            val previous = lastProgress.get()
+            if (progress > previous && lastProgress.compareAndSet(previous, progress)) {
+                notify { updateListener.onProgressUpdate(progress.toLong()) }
+            }
+        }
+
+        private fun notifyFinished(callback: () -> Unit) {
+            notify {
+                isFinished = true
+                callback()
+            }
+        }
+
+        private fun notify(callback: () -> Unit) {
+            callbackExecutor.execute {
+                if (!isCancelled && !isFinished) {
+                    callback()
+                }
+            }
+        }
+    }
+
+    /**
+     * Interface to allow view to receive updates about the progress of a file unpacking.
+     */
+    interface ProgressUpdateListener {
+        fun onProgressUpdate(progress: Long)
+
+        fun onCompletion()
+
+        fun onError(error: OfflineError)
     }
 }
@@ -2,15 +2,28 @@ package com.mapbox.services.android.navigation.v5.navigation
 
 /**
  * Updates any UI elements on the status of the TAR unpacking.
+ *
+ * @param startPercent progress already reported before unpacking, the unpacking
+ * progress is scaled to the remaining percentage
  */
-internal class UnpackProgressUpdateListener(private val listener: RouteTileDownloadListener) :
-    UnpackUpdateTask.ProgressUpdateListener {
+internal class UnpackProgressUpdateListener @JvmOverloads constructor(
+    private val listener: RouteTileDownloadListener,
+    private val startPercent: Int = 0
+) : TileUnpacker.ProgressUpdateListener {
+
+    companion object {
+        private const val FULL_PERCENT = 100
+    }
 
     override fun onProgressUpdate(progress: Long) {
-        listener.onProgressUpdate(progress.toInt())
+        listener.onProgressUpdate(startPercent + (progress * (FULL_PERCENT - startPercent) / FULL_PERCENT).toInt())
     }
 
     override fun onCompletion() {
         listener.onCompletion()
     }
+
+    override fun onError(error: OfflineError) {
+        listener.onError(error)
+    }
 }
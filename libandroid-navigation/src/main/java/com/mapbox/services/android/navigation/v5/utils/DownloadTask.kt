@@ -3,8 +3,7 @@ package com.mapbox.services.android.navigation.v5.utils
 import android.os.AsyncTask
 import java.io.File
 import java.io.FileOutputStream
-import java.io.InputStream
-import java.io.OutputStream
+import java.io.IOException
 import okhttp3.ResponseBody
 
 /**
@@ -28,7 +27,7 @@ constructor(
 
     companion object {
         private var uniqueId = 0
-        private const val BUFFER_SIZE = 4096
+        private const val TRANSFER_CHUNK_BYTES = 256 * 1024L
     }
 
     override fun doInBackground(vararg responseBodies: ResponseBody): File? =
@@ -53,20 +52,21 @@ constructor(
             .append(extension)
             .toString()
         val file = File(filePath)
-        val inputStream: InputStream = responseBody.byteStream()
-        val outputStream: OutputStream = FileOutputStream(file)
-        val buffer = ByteArray(BUFFER_SIZE)
-
-        inputStream.use { input ->
-            outputStream.use { fileOut ->
-                while (true) {
-                    val length = input.read(buffer)
-                    if (length <= 0)
-                        break
-                    fileOut.write(buffer, 0, length)
+        try {
+            responseBody.source().use { source ->
+                FileOutputStream(file).channel.use { channel ->
+                    var position = 0L
+                    while (true) {
+                        val transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_BYTES)
+                        if (transferred <= 0L)
+                            break
+                        position += transferred
+                    }
                 }
-                fileOut.flush()
             }
+        } catch (exception: IOException) {
+            file.delete()
+            return null
         }
         return file
     }
@@ -0,0 +1,76 @@
+package com.mapbox.services.android.navigation.v5.internal.location.replay
+
+import com.mapbox.core.constants.Constants.PRECISION_6
+import com.mapbox.geojson.LineString
+import com.mapbox.services.android.navigation.v5.BaseTest
+import com.mapbox.turf.TurfConstants
+import com.mapbox.turf.TurfMeasurement
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class ReplayRouteLocationConverterTest : BaseTest() {
+
+    companion object {
+        private const val MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json"
+        private const val SPEED = 45
+        private const val DELAY = 1
+    }
+
+    @Test
+    fun sliceRoute_matchesTurfAlong() {
+        val route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE)
+        val converter = ReplayRouteLocationConverter(route, SPEED, DELAY)
+        val line = LineString.fromPolyline(route.geometry()!!, PRECISION_6)
+        val distancePerSec = SPEED * 1000.0 * DELAY / 3600
+        val lineDistance = TurfMeasurement.length(line, TurfConstants.UNIT_METERS)
+
+        val points = converter.sliceRoute(line)
+
+        var distance = 0.0
+        points.forEach { point ->
+            val expected = TurfMeasurement.along(line, distance, TurfConstants.UNIT_METERS)
+            assertEquals(expected.longitude(), point.longitude(), DELTA)
+            assertEquals(expected.latitude(), point.latitude(), DELTA)
+            distance += distancePerSec
+        }
+        assertTrue(distance >= lineDistance)
+    }
+
+    @Test
+    fun calculateMockLocations_bearingTowardsNextPoint() {
+        val route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE)
+        val converter = ReplayRouteLocationConverter(route, SPEED, DELAY)
+        val points = converter.sliceRoute(LineString.fromPolyline(route.geometry()!!, PRECISION_6))
+
+        val locations = converter.calculateMockLocations(points)
+
+        assertEquals(points.size, locations.size)
+        for (index in 0 until points.size - 1) {
+            val expected = TurfMeasurement.bearing(points[index], points[index + 1]).toFloat()
+            assertEquals(expected, locations[index].bearing, 0f)
+        }
+        assertEquals(1000L, locations[1].time - locations[0].time)
+    }
+
+    @Test
+    fun toLocations_streamsWholeRouteInBatches() {
+        val route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE)
+        val converter = ReplayRouteLocationConverter(route, SPEED, DELAY)
+        val expected = ReplayRouteLocationConverter(route, SPEED, DELAY).toLocationSequence().count()
+
+        var total = 0
+        var batch = converter.toLocations()
+        while (batch.isNotEmpty()) {
+            assertTrue(batch.size <= 30)
+            total += batch.size
+            batch = converter.toLocations()
+        }
+
+        assertEquals(expected, total)
+        assertTrue(total > 0)
+    }
+}
@@ -0,0 +1,95 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.mapbox.services.android.navigation.v5.navigation.ListenerDeliveryOptions
+import com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.LISTENER_DELIVERY_LATEST
+import com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.LISTENER_DELIVERY_SAMPLED
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import java.util.concurrent.Executor
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class ListenerDeliveryTest {
+
+    private val delivered = mutableListOf<Int>()
+    private val queuedCommands = mutableListOf<Runnable>()
+    private val queuedExecutor = Executor { queuedCommands.add(it) }
+    private val scheduler = mockk<ScheduledExecutorService>(relaxed = true)
+
+    @Test
+    fun immediate_allUpdatesAreDeliveredInOrder() {
+        val delivery = buildDelivery(ListenerDeliveryOptions.Builder().executor(queuedExecutor))
+
+        (1..3).forEach { delivery.offer(it) }
+        runQueuedCommands()
+
+        assertEquals(listOf(1, 2, 3), delivered)
+        assertEquals(3L, delivery.stats().deliveredCount)
+        assertEquals(0, delivery.stats().queueDepth)
+    }
+
+    @Test
+    fun latest_onlyNewestPendingUpdateIsDelivered() {
+        val delivery = buildDelivery(
+            ListenerDeliveryOptions.Builder().policy(LISTENER_DELIVERY_LATEST).executor(queuedExecutor)
+        )
+
+        (1..3).forEach { delivery.offer(it) }
+        assertEquals(1, delivery.stats().queueDepth)
+        runQueuedCommands()
+
+        assertEquals(listOf(3), delivered)
+        assertEquals(2L, delivery.stats().droppedCount)
+    }
+
+    @Test
+    fun sampled_nextUpdateIsDelayedBySamplingInterval() {
+        val delay = slot<Long>()
+        every { scheduler.schedule(any<Runnable>(), capture(delay), TimeUnit.NANOSECONDS) } returns mockk()
+        val delivery = buildDelivery(
+            ListenerDeliveryOptions.Builder()
+                .policy(LISTENER_DELIVERY_SAMPLED)
+                .samplingRate(2.0)
+                .executor(Executor { it.run() })
+        )
+
+        delivery.offer(1)
+        delivery.offer(2)
+        delivery.offer(3)
+
+        assertEquals(listOf(1), delivered)
+        verify(exactly = 1) { scheduler.schedule(any<Runnable>(), any(), TimeUnit.NANOSECONDS) }
+        assertEquals(true, delay.captured in 1..TimeUnit.MILLISECONDS.toNanos(500))
+        assertEquals(1L, delivery.stats().droppedCount)
+    }
+
+    @Test
+    fun cancel_pendingUpdatesAreDropped() {
+        val delivery = buildDelivery(ListenerDeliveryOptions.Builder().executor(queuedExecutor))
+
+        delivery.offer(1)
+        delivery.cancel()
+        delivery.offer(2)
+        runQueuedCommands()
+
+        assertEquals(emptyList<Int>(), delivered)
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun build_nonPositiveSamplingRateThrows() {
+        ListenerDeliveryOptions.Builder().samplingRate(0.0).build()
+    }
+
+    private fun buildDelivery(builder: ListenerDeliveryOptions.Builder) =
+        ListenerDelivery<Unit, Int>(Unit, builder.build(), { _, update -> delivered.add(update) }, scheduler)
+
+    private fun runQueuedCommands() {
+        while (queuedCommands.isNotEmpty()) {
+            queuedCommands.removeAt(0).run()
+        }
+    }
+}
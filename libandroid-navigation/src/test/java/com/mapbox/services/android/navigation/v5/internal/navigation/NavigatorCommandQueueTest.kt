@@ -0,0 +1,119 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class NavigatorCommandQueueTest {
+
+    private val queue = NavigatorCommandQueue()
+
+    @Test
+    fun execute_returnsCommandResult() {
+        val result = queue.execute(NavigatorCommandType.STATUS) { 42 }
+
+        assertEquals(42, result)
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun execute_rethrowsCommandException() {
+        queue.execute(NavigatorCommandType.ROUTE) { throw IllegalStateException() }
+    }
+
+    @Test
+    fun execute_nestedCommandRunsInline() {
+        val result = queue.execute(NavigatorCommandType.ROUTE) {
+            queue.execute(NavigatorCommandType.STATUS) { 1 } + 1
+        }
+
+        assertEquals(2, result)
+    }
+
+    @Test
+    fun post_pendingCommandsRunByPriority() {
+        val executed = Collections.synchronizedList(mutableListOf<NavigatorCommandType>())
+        val blocker = CountDownLatch(1)
+        val done = CountDownLatch(4)
+        queue.post(NavigatorCommandType.HISTORY) { blocker.await() }
+
+        listOf(
+            NavigatorCommandType.ELECTRONIC_HORIZON,
+            NavigatorCommandType.ROUTE,
+            NavigatorCommandType.LOCATION,
+            NavigatorCommandType.STATUS
+        ).forEach { type ->
+            queue.post(type) {
+                executed.add(type)
+                done.countDown()
+            }
+        }
+        blocker.countDown()
+
+        assertTrue(done.await(1, TimeUnit.SECONDS))
+        assertEquals(
+            listOf(
+                NavigatorCommandType.ROUTE,
+                NavigatorCommandType.LOCATION,
+                NavigatorCommandType.STATUS,
+                NavigatorCommandType.ELECTRONIC_HORIZON
+            ),
+            executed
+        )
+    }
+
+    @Test
+    fun post_stateChangesKeepTheirOrder() {
+        val executed = Collections.synchronizedList(mutableListOf<NavigatorCommandType>())
+        val blocker = CountDownLatch(1)
+        val done = CountDownLatch(3)
+        queue.post(NavigatorCommandType.STATUS) { blocker.await() }
+
+        listOf(
+            NavigatorCommandType.HISTORY,
+            NavigatorCommandType.LOCATION,
+            NavigatorCommandType.HISTORY_RETRIEVAL
+        ).forEach { type ->
+            queue.post(type) {
+                executed.add(type)
+                done.countDown()
+            }
+        }
+        blocker.countDown()
+
+        assertTrue(done.await(1, TimeUnit.SECONDS))
+        assertEquals(
+            listOf(
+                NavigatorCommandType.HISTORY,
+                NavigatorCommandType.LOCATION,
+                NavigatorCommandType.HISTORY_RETRIEVAL
+            ),
+            executed
+        )
+    }
+
+    @Test
+    fun post_failedCommandDoesNotStopQueue() {
+        queue.post(NavigatorCommandType.LOCATION) { throw IllegalStateException() }
+
+        val result = queue.execute(NavigatorCommandType.STATUS) { 42 }
+
+        assertEquals(42, result)
+    }
+
+    @Test
+    fun retrieveStats_countsCommandsPerType() {
+        queue.execute(NavigatorCommandType.STATUS) { Thread.sleep(5) }
+        queue.execute(NavigatorCommandType.STATUS) { Unit }
+        queue.execute(NavigatorCommandType.HISTORY) { Unit }
+
+        val stats = queue.retrieveStats()
+
+        assertEquals(2L, stats.getValue(NavigatorCommandType.STATUS).count)
+        assertTrue(stats.getValue(NavigatorCommandType.STATUS).maxExecutionNanos >= TimeUnit.MILLISECONDS.toNanos(5))
+        assertEquals(1L, stats.getValue(NavigatorCommandType.HISTORY).count)
+        assertEquals(0L, stats.getValue(NavigatorCommandType.LOCATION).count)
+    }
+}
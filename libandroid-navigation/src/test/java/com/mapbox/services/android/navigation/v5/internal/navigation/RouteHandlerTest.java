@@ -1,15 +1,22 @@
 package com.mapbox.services.android.navigation.v5.internal.navigation;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.v5.BaseTest;
 import com.mapbox.services.android.navigation.v5.navigation.DirectionsRouteType;
 
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 public class RouteHandlerTest extends BaseTest {
@@ -25,6 +32,19 @@ public class RouteHandlerTest extends BaseTest {
     verify(mapboxNavigator).setRoute(eq(newRoute.toJson()), eq(0), eq(0));
   }
 
+  @Test
+  public void updateRoute_newSetsRouterJson() throws IOException {
+    DirectionsRoute newRoute = buildTestDirectionsRoute();
+    String routerJson = newRoute.toJson().replace(",", ", ");
+    RouteJsonCache.INSTANCE.put(newRoute, routerJson);
+    MapboxNavigator mapboxNavigator = mock(MapboxNavigator.class);
+    RouteHandler routeHandler = new RouteHandler(mapboxNavigator);
+
+    routeHandler.updateRoute(newRoute, DirectionsRouteType.NEW_ROUTE);
+
+    verify(mapboxNavigator).setRoute(eq(routerJson), eq(0), eq(0));
+  }
+
   @Test
   public void updateRoute_freshRouteUpdatesAnnotationJson() throws IOException {
     DirectionsRoute freshRoute = buildTestDirectionsRoute("directions_two_leg_route.json");
@@ -38,4 +58,23 @@ public class RouteHandlerTest extends BaseTest {
     String secondLegAnnotationJson = freshRoute.legs().get(1).annotation().toJson();
     verify(mapboxNavigator).updateAnnotations(eq(secondLegAnnotationJson), eq(0), eq(1));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void updateRoute_freshRouteUpdatesChangedLegsOnly() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute("directions_two_leg_route.json");
+    MapboxNavigator mapboxNavigator = mock(MapboxNavigator.class);
+    RouteHandler routeHandler = new RouteHandler(mapboxNavigator);
+    routeHandler.updateRoute(route, DirectionsRouteType.NEW_ROUTE);
+    List<RouteLeg> legs = new ArrayList<>(route.legs());
+    LegAnnotation secondLegAnnotation = legs.get(1).annotation().toBuilder()
+      .congestion(Collections.singletonList("heavy"))
+      .build();
+    legs.set(1, legs.get(1).toBuilder().annotation(secondLegAnnotation).build());
+    DirectionsRoute freshRoute = route.toBuilder().legs(legs).build();
+
+    routeHandler.updateRoute(freshRoute, DirectionsRouteType.FRESH_ROUTE);
+
+    verify(mapboxNavigator, never()).updateAnnotations(anyString(), eq(0), eq(0));
+    verify(mapboxNavigator).updateAnnotations(eq(secondLegAnnotation.toJson()), eq(0), eq(1));
+  }
+}
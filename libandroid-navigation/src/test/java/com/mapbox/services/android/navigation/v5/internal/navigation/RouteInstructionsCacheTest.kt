@@ -0,0 +1,131 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.LegStep
+import com.mapbox.navigator.BannerInstruction
+import com.mapbox.navigator.BannerSection
+import com.mapbox.navigator.VoiceInstruction
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotSame
+import org.junit.Assert.assertSame
+import org.junit.Test
+
+class RouteInstructionsCacheTest {
+
+    private val route: DirectionsRoute = mockk()
+    private val currentStep: LegStep = mockk {
+        every { bannerInstructions() } returns null
+    }
+
+    @Test
+    fun `same banner index and distance returns cached instance`() {
+        val cache = RouteInstructionsCache()
+
+        val first = cache.bannerInstructions(route, buildBanner(0, 100f), 0, 1, currentStep)
+        val second = cache.bannerInstructions(route, buildBanner(0, 100f), 0, 1, currentStep)
+
+        assertSame(first, second)
+    }
+
+    @Test
+    fun `same banner index refreshes only distance`() {
+        val cache = RouteInstructionsCache()
+
+        val first = cache.bannerInstructions(route, buildBanner(0, 100f), 0, 1, currentStep)
+        val second = cache.bannerInstructions(route, buildBanner(0, 80f), 0, 1, currentStep)
+
+        assertEquals(80.0, second.distanceAlongGeometry(), 0.0)
+        assertSame(first.primary(), second.primary())
+    }
+
+    @Test
+    fun `new banner index is converted again`() {
+        val cache = RouteInstructionsCache()
+
+        val first = cache.bannerInstructions(route, buildBanner(0, 100f), 0, 1, currentStep)
+        val second = cache.bannerInstructions(route, buildBanner(1, 100f), 0, 1, currentStep)
+
+        assertNotSame(first.primary(), second.primary())
+    }
+
+    @Test
+    fun `new step is converted again`() {
+        val cache = RouteInstructionsCache()
+
+        val first = cache.bannerInstructions(route, buildBanner(0, 100f), 0, 1, currentStep)
+        val second = cache.bannerInstructions(route, buildBanner(0, 100f), 0, 2, currentStep)
+
+        assertNotSame(first.primary(), second.primary())
+    }
+
+    @Test
+    fun `banners of other indices stay cached`() {
+        val cache = RouteInstructionsCache()
+
+        val first = cache.bannerInstructions(route, buildBanner(0, 100f), 0, 1, currentStep)
+        cache.bannerInstructions(route, buildBanner(1, 100f), 0, 1, currentStep)
+        val second = cache.bannerInstructions(route, buildBanner(0, 100f), 0, 1, currentStep)
+
+        assertSame(first, second)
+    }
+
+    @Test
+    fun `new route drops cached banner`() {
+        val cache = RouteInstructionsCache()
+
+        val first = cache.bannerInstructions(route, buildBanner(0, 100f), 0, 1, currentStep)
+        val second = cache.bannerInstructions(mockk(), buildBanner(0, 100f), 0, 1, currentStep)
+
+        assertNotSame(first, second)
+    }
+
+    @Test
+    fun `same voice announcement refreshes only distance`() {
+        val cache = RouteInstructionsCache()
+
+        val first = cache.voiceInstructions(route, buildVoice("Turn left", 300f))
+        val same = cache.voiceInstructions(route, buildVoice("Turn left", 300f))
+        val closer = cache.voiceInstructions(route, buildVoice("Turn left", 250f))
+
+        assertSame(first, same)
+        assertEquals(250.0, closer.distanceAlongGeometry()!!, 0.0)
+        assertEquals("Turn left", closer.announcement())
+    }
+
+    @Test
+    fun `new voice announcement is converted again`() {
+        val cache = RouteInstructionsCache()
+
+        cache.voiceInstructions(route, buildVoice("Turn left", 300f))
+        val next = cache.voiceInstructions(route, buildVoice("Turn right", 300f))
+
+        assertEquals("Turn right", next.announcement())
+    }
+
+    private fun buildBanner(index: Int, remainingStepDistance: Float): BannerInstruction {
+        val primary: BannerSection = mockk {
+            every { text } returns "Main Street"
+            every { type } returns "turn"
+            every { modifier } returns "left"
+            every { degrees } returns null
+            every { drivingSide } returns "right"
+            every { components } returns null
+        }
+        return mockk {
+            every { this@mockk.index } returns index
+            every { this@mockk.remainingStepDistance } returns remainingStepDistance
+            every { this@mockk.primary } returns primary
+            every { secondary } returns null
+            every { sub } returns null
+        }
+    }
+
+    private fun buildVoice(announcement: String, remainingStepDistance: Float): VoiceInstruction =
+        mockk {
+            every { this@mockk.announcement } returns announcement
+            every { ssmlAnnouncement } returns "<speak>$announcement</speak>"
+            every { this@mockk.remainingStepDistance } returns remainingStepDistance
+        }
+}
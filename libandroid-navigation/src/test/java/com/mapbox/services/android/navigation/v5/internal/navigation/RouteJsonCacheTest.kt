@@ -0,0 +1,59 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class RouteJsonCacheTest {
+
+    companion object {
+        private const val ORIGINAL_JSON = "{\"original\":true}"
+        private const val SERIALIZED_JSON = "{\"serialized\":true}"
+        private const val MAX_ENTRIES = 8
+    }
+
+    @Test
+    fun toJson_returnsOriginalJsonOfPutRoute() {
+        val route = buildRoute()
+
+        RouteJsonCache.put(route, ORIGINAL_JSON)
+
+        assertEquals(ORIGINAL_JSON, RouteJsonCache.toJson(route))
+        verify(exactly = 0) { route.toJson() }
+    }
+
+    @Test
+    fun toJson_serializesOtherRouteInstance() {
+        RouteJsonCache.put(buildRoute(), ORIGINAL_JSON)
+        val rebuiltRoute = buildRoute()
+
+        assertEquals(SERIALIZED_JSON, RouteJsonCache.toJson(rebuiltRoute))
+    }
+
+    @Test
+    fun toJson_doesNotCacheSerializedRoute() {
+        val route = buildRoute()
+
+        RouteJsonCache.toJson(route)
+        RouteJsonCache.toJson(route)
+
+        verify(exactly = 2) { route.toJson() }
+    }
+
+    @Test
+    fun put_dropsEldestRouteOverCapacity() {
+        val eldestRoute = buildRoute()
+        RouteJsonCache.put(eldestRoute, ORIGINAL_JSON)
+
+        repeat(MAX_ENTRIES) { RouteJsonCache.put(buildRoute(), ORIGINAL_JSON) }
+
+        assertEquals(SERIALIZED_JSON, RouteJsonCache.toJson(eldestRoute))
+    }
+
+    private fun buildRoute(): DirectionsRoute = mockk {
+        every { toJson() } returns SERIALIZED_JSON
+    }
+}
@@ -0,0 +1,64 @@
+package com.mapbox.services.android.navigation.v5.internal.navigation;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.utils.PolylineUtils;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.mapbox.core.constants.Constants.PRECISION_6;
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+
+public class RouteStepGeometryTest extends BaseTest {
+
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+
+  @Test
+  public void stepPoints_matchDecodedStepGeometry() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    RouteStepGeometry stepGeometry = new RouteStepGeometry(route);
+
+    List<RouteLeg> legs = route.legs();
+    for (int legIndex = 0; legIndex < legs.size(); legIndex++) {
+      List<LegStep> steps = legs.get(legIndex).steps();
+      for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+        List<Point> expected = PolylineUtils.decode(steps.get(stepIndex).geometry(), PRECISION_6);
+
+        List<Point> stepPoints = stepGeometry.stepPoints(legIndex, stepIndex);
+
+        assertEquals(expected, stepPoints);
+      }
+    }
+  }
+
+  @Test
+  public void stepPoints_sameSliceReturnedForRepeatedRequests() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    RouteStepGeometry stepGeometry = new RouteStepGeometry(route);
+
+    List<Point> first = stepGeometry.stepPoints(0, 1);
+    stepGeometry.stepPoints(0, 2);
+    List<Point> second = stepGeometry.stepPoints(0, 1);
+
+    assertSame(first, second);
+  }
+
+  @Test
+  public void stepPoints_invalidIndicesReturnNull() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    RouteStepGeometry stepGeometry = new RouteStepGeometry(route);
+    int stepCount = route.legs().get(0).steps().size();
+
+    assertNull(stepGeometry.stepPoints(0, stepCount));
+    assertNull(stepGeometry.stepPoints(0, -1));
+    assertNull(stepGeometry.stepPoints(route.legs().size(), 0));
+  }
+}
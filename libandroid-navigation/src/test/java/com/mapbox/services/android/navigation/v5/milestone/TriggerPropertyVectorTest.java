@@ -0,0 +1,133 @@
+package com.mapbox.services.android.navigation.v5.milestone;
+
+import android.util.SparseArray;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class TriggerPropertyVectorTest extends BaseTest {
+
+  private static final String ROUTE_FIXTURE = "directions_v5_precision_6.json";
+  private static final int[] PROPERTIES = {
+    TriggerProperty.STEP_DURATION_REMAINING_SECONDS,
+    TriggerProperty.STEP_DISTANCE_REMAINING_METERS,
+    TriggerProperty.STEP_DISTANCE_TOTAL_METERS,
+    TriggerProperty.STEP_DURATION_TOTAL_SECONDS,
+    TriggerProperty.STEP_INDEX,
+    TriggerProperty.NEW_STEP,
+    TriggerProperty.LAST_STEP,
+    TriggerProperty.NEXT_STEP_DISTANCE_METERS,
+    TriggerProperty.FIRST_STEP,
+    TriggerProperty.FIRST_LEG,
+    TriggerProperty.LAST_LEG,
+    TriggerProperty.NEXT_STEP_DURATION_SECONDS
+  };
+
+  @Test
+  public void fill_matchesSparseArrayValues() throws Exception {
+    RouteProgress routeProgress = buildTestRouteProgressForTrigger();
+    SparseArray<Number[]> expected = TriggerProperty.getSparseArray(routeProgress, routeProgress);
+
+    TriggerPropertyVector properties = new TriggerPropertyVector().fill(routeProgress, routeProgress);
+
+    for (int key : PROPERTIES) {
+      Number[] values = expected.get(key);
+      assertTrue(properties.contains(key));
+      assertEquals(values.length > 1, properties.isPair(key));
+      assertEquals(values[0].doubleValue(), properties.first(key), 0.0);
+      if (values.length > 1) {
+        assertEquals(values[1].doubleValue(), properties.second(key), 0.0);
+      }
+    }
+  }
+
+  @Test
+  public void unknownProperty_isNotContained() throws Exception {
+    RouteProgress routeProgress = buildTestRouteProgressForTrigger();
+
+    TriggerPropertyVector properties = new TriggerPropertyVector().fill(routeProgress, routeProgress);
+
+    assertFalse(properties.contains(TriggerProperty.TRUE));
+    assertFalse(Trigger.eq(TriggerProperty.TRUE, 0).isOccurring(properties));
+  }
+
+  @Test
+  public void compiledStatements_matchSparseArrayStatements() throws Exception {
+    RouteProgress routeProgress = buildTestRouteProgressForTrigger();
+    SparseArray<Number[]> statementObjects = TriggerProperty.getSparseArray(routeProgress, routeProgress);
+    TriggerPropertyVector properties = new TriggerPropertyVector().fill(routeProgress, routeProgress);
+    Trigger.Statement[] statements = {
+      Trigger.eq(TriggerProperty.STEP_INDEX, 1),
+      Trigger.neq(TriggerProperty.NEW_STEP, TriggerProperty.FALSE),
+      Trigger.gt(TriggerProperty.LAST_STEP, TriggerProperty.TRUE),
+      Trigger.lt(TriggerProperty.STEP_DISTANCE_REMAINING_METERS, 100d),
+      Trigger.gte(TriggerProperty.FIRST_STEP, TriggerProperty.FALSE),
+      Trigger.lte(TriggerProperty.NEXT_STEP_DISTANCE_METERS, 1000d),
+      Trigger.all(
+        Trigger.eq(TriggerProperty.FIRST_LEG, TriggerProperty.TRUE),
+        Trigger.none(Trigger.eq(TriggerProperty.LAST_LEG, TriggerProperty.FALSE))
+      ),
+      Trigger.any(
+        Trigger.gt(TriggerProperty.STEP_DURATION_TOTAL_SECONDS, 10d),
+        Trigger.eq(TriggerProperty.STEP_INDEX, 0)
+      )
+    };
+
+    for (Trigger.Statement statement : statements) {
+      assertEquals(statement.isOccurring(statementObjects), statement.isOccurring(properties));
+    }
+  }
+
+  @Test
+  public void customStatement_receivesSparseArrayOncePerFill() throws Exception {
+    RouteProgress routeProgress = buildTestRouteProgressForTrigger();
+    TriggerPropertyVector properties = new TriggerPropertyVector().fill(routeProgress, routeProgress);
+    RecordingStatement first = new RecordingStatement();
+    RecordingStatement second = new RecordingStatement();
+
+    Trigger.all(first, second).isOccurring(properties);
+
+    assertSame(first.statementObjects, second.statementObjects);
+    assertEquals(1, first.statementObjects.get(TriggerProperty.STEP_INDEX)[0].intValue());
+  }
+
+  private RouteProgress buildTestRouteProgressForTrigger() throws Exception {
+    Gson gson = new GsonBuilder()
+      .registerTypeAdapterFactory(DirectionsAdapterFactory.create()).create();
+    String body = loadJsonFixture(ROUTE_FIXTURE);
+    DirectionsResponse response = gson.fromJson(body, DirectionsResponse.class);
+
+    DirectionsRoute route = response.routes().get(0);
+    double distanceRemaining = route.distance();
+    double legDistanceRemaining = route.legs().get(0).distance();
+    double stepDistanceRemaining = route.legs().get(0).steps().get(0).distance();
+    return buildTestRouteProgress(route, stepDistanceRemaining,
+      legDistanceRemaining, distanceRemaining, 1, 0);
+  }
+
+  private static class RecordingStatement extends Trigger.Statement {
+
+    private SparseArray<Number[]> statementObjects;
+
+    @Override
+    public boolean isOccurring(SparseArray<Number[]> statementObjects) {
+      this.statementObjects = statementObjects;
+      return true;
+    }
+  }
+}
@@ -23,9 +23,42 @@ class DownloadUpdateListenerTest {
         val downloader = mockk<RouteTileDownloader>(relaxed = true)
         val downloadUpdateListener = buildDownloadUpdateListener(downloader)
 
-        downloadUpdateListener.onErrorDownloading()
+        val error = OfflineError("Error occurred downloading tiles")
 
-        verify { downloader.onError(any()) }
+        downloadUpdateListener.onErrorDownloading(error)
+
+        verify { downloader.onError(error) }
+    }
+
+    @Test
+    fun onProgressUpdate_downloadIsFirstHalfOfProgress() {
+        val listener = mockk<RouteTileDownloadListener>(relaxed = true)
+        val downloadUpdateListener = buildDownloadUpdateListener(listener)
+
+        downloadUpdateListener.onProgressUpdate(512L, 1024L)
+
+        verify { listener.onProgressUpdate(25) }
+    }
+
+    @Test
+    fun onProgressUpdate_unchangedPercentIsNotSent() {
+        val listener = mockk<RouteTileDownloadListener>(relaxed = true)
+        val downloadUpdateListener = buildDownloadUpdateListener(listener)
+
+        downloadUpdateListener.onProgressUpdate(512L, 1024L)
+        downloadUpdateListener.onProgressUpdate(513L, 1024L)
+
+        verify(exactly = 1) { listener.onProgressUpdate(any()) }
+    }
+
+    @Test
+    fun onProgressUpdate_unknownLengthIsIgnored() {
+        val listener = mockk<RouteTileDownloadListener>(relaxed = true)
+        val downloadUpdateListener = buildDownloadUpdateListener(listener)
+
+        downloadUpdateListener.onProgressUpdate(512L, -1L)
+
+        verify(exactly = 0) { listener.onProgressUpdate(any()) }
     }
 
     private fun buildDownloadUpdateListener(tileUnpacker: TileUnpacker): DownloadUpdateListener {
@@ -47,4 +80,14 @@ class DownloadUpdateListenerTest {
             downloader, tileUnpacker, tilePath, tileVersion, listener
         )
     }
+
+    private fun buildDownloadUpdateListener(listener: RouteTileDownloadListener): DownloadUpdateListener {
+        val downloader = mockk<RouteTileDownloader>(relaxed = true)
+        val tileUnpacker = mockk<TileUnpacker>(relaxed = true)
+        val tilePath = "some/path/"
+        val tileVersion = "some-version"
+        return DownloadUpdateListener(
+            downloader, tileUnpacker, tilePath, tileVersion, listener
+        )
+    }
 }
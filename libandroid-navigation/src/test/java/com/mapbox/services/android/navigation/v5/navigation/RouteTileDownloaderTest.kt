@@ -3,20 +3,25 @@ package com.mapbox.services.android.navigation.v5.navigation
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.verify
+import java.io.File
+import okhttp3.Request
 import org.junit.Test
 
 class RouteTileDownloaderTest {
 
     @Test
-    fun startDownload_fetchRouteTilesIsCalled() {
+    fun startDownload_routeTilesRequestIsDownloaded() {
         val tilePath = "some/path/"
         val offlineTiles = mockk<OfflineTiles>(relaxed = true)
+        val request = mockk<Request>()
         every { offlineTiles.version() } returns "some-version"
-        val downloader = RouteTileDownloader(mockk(), tilePath, mockk())
+        every { offlineTiles.routeTilesRequest() } returns request
+        val tileDownloader = mockk<TileDownloader>(relaxed = true)
+        val downloader = RouteTileDownloader(mockk(), tilePath, mockk(), tileDownloader)
 
         downloader.startDownload(offlineTiles)
 
-        verify { offlineTiles.fetchRouteTiles(any()) }
+        verify { tileDownloader.download(request, File(tilePath, "some-version.tar"), any()) }
     }
 
     @Test
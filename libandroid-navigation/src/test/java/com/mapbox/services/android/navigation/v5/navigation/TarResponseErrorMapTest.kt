@@ -3,18 +3,17 @@ package com.mapbox.services.android.navigation.v5.navigation
 import io.mockk.every
 import io.mockk.mockk
 import java.util.HashMap
-import okhttp3.ResponseBody
+import okhttp3.Response
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertTrue
 import org.junit.Test
-import retrofit2.Response
 
 class TarResponseErrorMapTest {
 
     @Test
     fun buildErrorMessage_402messageIsCreated() {
         val errorCodes = HashMap<Int, String>()
-        val response = mockk<Response<ResponseBody>>()
+        val response = mockk<Response>()
         every { response.code() } returns 402
         val errorMap = TarResponseErrorMap(errorCodes)
 
@@ -26,7 +25,7 @@ class TarResponseErrorMapTest {
     @Test
     fun buildErrorMessage_messageIsCreatedForCodeNotFound() {
         val errorCodes = HashMap<Int, String>()
-        val response = mockk<Response<ResponseBody>>()
+        val response = mockk<Response>()
         every { response.code() } returns 100
         every { response.message() } returns "Some error message"
         val errorMap = TarResponseErrorMap(errorCodes)
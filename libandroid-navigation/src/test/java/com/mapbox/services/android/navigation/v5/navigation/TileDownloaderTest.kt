@@ -0,0 +1,181 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import java.io.File
+import java.util.concurrent.Executor
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.mockwebserver.Dispatcher
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.RecordedRequest
+import okhttp3.mockwebserver.SocketPolicy
+import okio.Buffer
+import org.junit.After
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNull
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+
+class TileDownloaderTest {
+
+    companion object {
+        private const val TAR_SIZE = 64 * 1024
+        private const val HEADER_RANGE = "Range"
+    }
+
+    @get:Rule
+    val folder = TemporaryFolder()
+
+    private val mockServer = MockWebServer()
+    private val tar = ByteArray(TAR_SIZE) { it.toByte() }
+    private val listener = mockk<TileDownloader.DownloadListener>(relaxed = true)
+    private val directExecutor = Executor { it.run() }
+    private val tileDownloader = TileDownloader(
+        OkHttpClient(),
+        directExecutor,
+        directExecutor,
+        maxRetries = 2,
+        retryDelayMillis = 0L
+    )
+
+    @Before
+    fun setUp() {
+        mockServer.start()
+    }
+
+    @After
+    fun cleanUp() {
+        mockServer.shutdown()
+    }
+
+    @Test
+    fun download_fileIsWrittenAndSent() {
+        mockServer.enqueue(MockResponse().setBody(Buffer().write(tar)))
+        val destination = folder.root.resolve("tiles.tar")
+
+        tileDownloader.download(buildRequest(), destination, listener)
+
+        verify { listener.onFinishedDownloading(destination) }
+        verify { listener.onProgressUpdate(TAR_SIZE.toLong(), TAR_SIZE.toLong()) }
+        assertArrayEquals(tar, destination.readBytes())
+        assertFalse(File(destination.path + ".part").exists())
+    }
+
+    @Test
+    fun download_interruptedDownloadIsResumedWithRange() {
+        mockServer.setDispatcher(RangeDispatcher(tar, disconnectFirstResponse = true))
+        val destination = folder.root.resolve("tiles.tar")
+
+        tileDownloader.download(buildRequest(), destination, listener)
+
+        verify { listener.onFinishedDownloading(destination) }
+        assertArrayEquals(tar, destination.readBytes())
+        assertNull(mockServer.takeRequest().getHeader(HEADER_RANGE))
+        assertEquals("bytes=", mockServer.takeRequest().getHeader(HEADER_RANGE)?.take(6))
+    }
+
+    @Test
+    fun download_existingPartialFileIsResumed() {
+        mockServer.setDispatcher(RangeDispatcher(tar, disconnectFirstResponse = false))
+        val destination = folder.root.resolve("tiles.tar")
+        File(destination.path + ".part").writeBytes(tar.copyOf(TAR_SIZE / 4))
+
+        tileDownloader.download(buildRequest(), destination, listener)
+
+        verify { listener.onFinishedDownloading(destination) }
+        assertArrayEquals(tar, destination.readBytes())
+        assertEquals("bytes=${TAR_SIZE / 4}-", mockServer.takeRequest().getHeader(HEADER_RANGE))
+    }
+
+    @Test
+    fun download_ignoredRangeRestartsFromBeginning() {
+        mockServer.enqueue(MockResponse().setBody(Buffer().write(tar)))
+        val destination = folder.root.resolve("tiles.tar")
+        File(destination.path + ".part").writeBytes(ByteArray(TAR_SIZE / 4))
+
+        tileDownloader.download(buildRequest(), destination, listener)
+
+        verify { listener.onFinishedDownloading(destination) }
+        assertArrayEquals(tar, destination.readBytes())
+    }
+
+    @Test
+    fun download_unsuccessfulResponseSendsError() {
+        mockServer.enqueue(MockResponse().setResponseCode(402))
+        val error = slot<OfflineError>()
+
+        tileDownloader.download(buildRequest(), folder.root.resolve("tiles.tar"), listener)
+
+        verify { listener.onErrorDownloading(capture(error)) }
+        verify(exactly = 0) { listener.onFinishedDownloading(any()) }
+        assertEquals(1, mockServer.requestCount)
+        assertEquals(true, error.captured.message.contains("enterprise access token"))
+    }
+
+    @Test
+    fun download_retriesAreLimited() {
+        repeat(3) {
+            mockServer.enqueue(
+                MockResponse()
+                    .setBody(Buffer().write(tar))
+                    .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY)
+            )
+        }
+
+        tileDownloader.download(buildRequest(), folder.root.resolve("tiles.tar"), listener)
+
+        verify { listener.onErrorDownloading(any()) }
+        verify(exactly = 0) { listener.onFinishedDownloading(any()) }
+        assertEquals(3, mockServer.requestCount)
+    }
+
+    @Test
+    fun cancel_callbacksAreDropped() {
+        mockServer.enqueue(MockResponse().setBody(Buffer().write(tar)))
+        val queuedCommands = mutableListOf<Runnable>()
+        val downloader = TileDownloader(OkHttpClient(), directExecutor, Executor { queuedCommands.add(it) })
+        val task = downloader.download(buildRequest(), folder.root.resolve("tiles.tar"), listener)
+
+        task.cancel()
+        queuedCommands.forEach { it.run() }
+
+        verify(exactly = 0) { listener.onProgressUpdate(any(), any()) }
+        verify(exactly = 0) { listener.onFinishedDownloading(any()) }
+    }
+
+    private fun buildRequest() = Request.Builder().url(mockServer.url("/route-tiles")).build()
+
+    /**
+     * Serves the tar, honoring Range requests with 206 responses.
+     */
+    private class RangeDispatcher(
+        private val tar: ByteArray,
+        private var disconnectFirstResponse: Boolean
+    ) : Dispatcher() {
+
+        override fun dispatch(request: RecordedRequest): MockResponse {
+            val range = request.getHeader(HEADER_RANGE)
+            val response = if (range == null) {
+                MockResponse().setBody(Buffer().write(tar))
+            } else {
+                val start = range.removePrefix("bytes=").removeSuffix("-").toInt()
+                MockResponse()
+                    .setResponseCode(206)
+                    .setHeader("Content-Range", "bytes $start-${tar.size - 1}/${tar.size}")
+                    .setBody(Buffer().write(tar, start, tar.size - start))
+            }
+            if (disconnectFirstResponse) {
+                disconnectFirstResponse = false
+                response.setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY)
+            }
+            return response
+        }
+    }
+}
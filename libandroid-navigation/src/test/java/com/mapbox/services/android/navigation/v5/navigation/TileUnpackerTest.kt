@@ -0,0 +1,118 @@
+package com.mapbox.services.android.navigation.v5.navigation
+
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import io.mockk.verifyOrder
+import java.util.concurrent.Executor
+import java.util.concurrent.ScheduledExecutorService
+import org.junit.Assert.assertFalse
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+
+class TileUnpackerTest {
+
+    @get:Rule
+    val folder = TemporaryFolder()
+
+    private val offlineNavigator = mockk<OfflineNavigator>(relaxed = true)
+    private val listener = mockk<TileUnpacker.ProgressUpdateListener>(relaxed = true)
+    private val directExecutor = Executor { it.run() }
+    private val queuedCommands = mutableListOf<Runnable>()
+    private val queuedExecutor = Executor { queuedCommands.add(it) }
+
+    @Test
+    fun unpack_tarIsUnpackedAndDeleted() {
+        val tar = buildTar()
+        val tileUnpacker = TileUnpacker(offlineNavigator, directExecutor, mockk(relaxed = true), directExecutor)
+
+        tileUnpacker.unpack(tar, "some/path", listener)
+
+        verify { offlineNavigator.unpackTiles(tar.absolutePath, "some/path/") }
+        assertFalse(tar.exists())
+    }
+
+    @Test
+    fun unpack_completionIsSentAfterFullProgress() {
+        val tileUnpacker = TileUnpacker(offlineNavigator, directExecutor, mockk(relaxed = true), directExecutor)
+
+        tileUnpacker.unpack(buildTar(), "some/path", listener)
+
+        verifyOrder {
+            listener.onProgressUpdate(100L)
+            listener.onCompletion()
+        }
+    }
+
+    @Test
+    fun unpack_progressPostedAfterCompletionIsDropped() {
+        val tileUnpacker = TileUnpacker(offlineNavigator, directExecutor, mockk(relaxed = true), queuedExecutor)
+
+        tileUnpacker.unpack(buildTar(), "some/path", listener)
+        queuedCommands.asReversed().forEach { it.run() }
+
+        verify(exactly = 1) { listener.onCompletion() }
+        verify(exactly = 0) { listener.onProgressUpdate(any()) }
+    }
+
+    @Test
+    fun unpack_missingTarSendsError() {
+        val tileUnpacker = TileUnpacker(offlineNavigator, directExecutor, mockk(relaxed = true), directExecutor)
+
+        tileUnpacker.unpack(folder.root.resolve("missing.tar"), "some/path", listener)
+
+        verify { listener.onError(any()) }
+        verify(exactly = 0) { offlineNavigator.unpackTiles(any(), any()) }
+    }
+
+    @Test
+    fun unpack_navigatorFailureSendsError() {
+        every { offlineNavigator.unpackTiles(any(), any()) } throws IllegalStateException("corrupted")
+        val tileUnpacker = TileUnpacker(offlineNavigator, directExecutor, mockk(relaxed = true), directExecutor)
+
+        tileUnpacker.unpack(buildTar(), "some/path", listener)
+
+        verify { listener.onError(OfflineError("Error occurred unpacking tiles: corrupted")) }
+        verify(exactly = 0) { listener.onCompletion() }
+    }
+
+    @Test
+    fun unpack_progressIsSampledOnScheduler() {
+        val scheduler = mockk<ScheduledExecutorService>(relaxed = true)
+        val tileUnpacker = TileUnpacker(offlineNavigator, directExecutor, scheduler, directExecutor)
+
+        tileUnpacker.unpack(buildTar(), "some/path", listener)
+
+        verify { scheduler.scheduleWithFixedDelay(any(), 0L, 250L, any()) }
+    }
+
+    @Test
+    fun cancel_beforeStartSkipsUnpacking() {
+        val tileUnpacker = TileUnpacker(offlineNavigator, queuedExecutor, mockk(relaxed = true), directExecutor)
+        val task = tileUnpacker.unpack(buildTar(), "some/path", listener)
+
+        task.cancel()
+        queuedCommands.forEach { it.run() }
+
+        verify(exactly = 0) { offlineNavigator.unpackTiles(any(), any()) }
+        verify(exactly = 0) { listener.onCompletion() }
+    }
+
+    @Test
+    fun cancel_pendingCallbacksAreDropped() {
+        val tileUnpacker = TileUnpacker(offlineNavigator, directExecutor, mockk(relaxed = true), queuedExecutor)
+        val task = tileUnpacker.unpack(buildTar(), "some/path", listener)
+
+        task.cancel()
+        queuedCommands.forEach { it.run() }
+
+        verify { offlineNavigator.unpackTiles(any(), any()) }
+        verify(exactly = 0) { listener.onProgressUpdate(any()) }
+        verify(exactly = 0) { listener.onCompletion() }
+    }
+
+    private fun buildTar() = folder.newFile("tiles.tar").apply {
+        writeBytes(ByteArray(1024))
+    }
+}
@@ -27,4 +27,25 @@ public class UnpackProgressUpdateListenerTest {
 
     verify(listener).onCompletion();
   }
-}
\ No newline at end of file
+
+  @Test
+  public void onError_downloadListenerIsTriggered() {
+    RouteTileDownloadListener listener = mock(RouteTileDownloadListener.class);
+    OfflineError error = new OfflineError("Error occurred unpacking tiles");
+    UnpackProgressUpdateListener progressUpdateListener = new UnpackProgressUpdateListener(listener);
+
+    progressUpdateListener.onError(error);
+
+    verify(listener).onError(error);
+  }
+
+  @Test
+  public void onProgressUpdate_progressIsScaledAfterStartPercent() {
+    RouteTileDownloadListener listener = mock(RouteTileDownloadListener.class);
+    UnpackProgressUpdateListener progressUpdateListener = new UnpackProgressUpdateListener(listener, 50);
+
+    progressUpdateListener.onProgressUpdate(58L);
+
+    verify(listener).onProgressUpdate(79);
+  }
+}
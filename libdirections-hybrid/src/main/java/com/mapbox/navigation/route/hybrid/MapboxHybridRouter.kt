@@ -4,37 +4,63 @@ import com.mapbox.annotation.navigation.module.MapboxNavigationModule
 import com.mapbox.annotation.navigation.module.MapboxNavigationModuleType
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.RouteOptions
+import com.mapbox.navigation.base.options.HybridRouterOptions
 import com.mapbox.navigation.base.route.Router
 import com.mapbox.navigation.utils.network.NetworkStatusService
 import com.mapbox.navigation.utils.thread.ThreadController
 import com.mapbox.navigation.utils.thread.monitorChannelWithException
-import java.util.concurrent.atomic.AtomicReference
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.cancelChildren
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
 
 /**
  * MapboxHybridRouter combines onboard and offboard Routers.
  * Fetch route based on internet-connection state.
+ *
+ * Without network, the onboard router is used and the offboard router is only asked if it fails.
+ * With network, the offboard router is used. If it hasn't answered within
+ * [HybridRouterOptions.hedgingDelay], the onboard router is asked too and the first route found wins,
+ * the other request is canceled. After the offboard router missed that deadline, both routers are asked
+ * at once for a while. Latencies of both routers are available with [offboardLatencyHistogram]
+ * and [onboardLatencyHistogram].
+ *
+ * Routes have to be requested from the main thread.
  */
 @MapboxNavigationModule(MapboxNavigationModuleType.HybridRouter, skipConfiguration = true)
 class MapboxHybridRouter(
     private val onboardRouter: Router,
     private val offboardRouter: Router,
-    networkStatusService: NetworkStatusService
+    networkStatusService: NetworkStatusService,
+    private val options: HybridRouterOptions = HybridRouterOptions.Builder().build()
 ) : Router {
 
-    private val jobControl = ThreadController.getIOScopeAndRootJob()
-    private val offBoardRouterHandler: RouterHandler by lazy {
-        RouterHandler(mainRouter = offboardRouter, reserveRouter = onboardRouter)
-    }
-    private val onBoardRouterHandler: RouterHandler by lazy {
-        RouterHandler(mainRouter = onboardRouter, reserveRouter = offboardRouter)
+    companion object {
+        private val POOR_LINK_DURATION_NANOS = TimeUnit.MINUTES.toNanos(1)
     }
 
+    private val jobControl = ThreadController.getIOScopeAndRootJob()
+    private val mainJobControl = ThreadController.getMainScopeAndRootJob()
+    private val isNetworkAvailable = AtomicBoolean(true)
+    private val hedgingDelayNanos = TimeUnit.MILLISECONDS.toNanos(options.hedgingDelay)
+
+    /**
+     * The offboard router is considered unreliable until then, because it missed the hedging deadline.
+     */
+    @Volatile
+    private var poorLinkUntilNanos = 0L
+
+    /**
+     * Latencies of the requests answered by the offboard router.
+     */
+    val offboardLatencyHistogram = RouterLatencyHistogram()
+
     /**
-     * routeDispatchHandler always references a router, (on-board or off-board).
-     * Internet availability determines which one.
+     * Latencies of the requests answered by the onboard router.
      */
-    private val routeDispatchHandler: AtomicReference<RouterDispatchInterface> =
-        AtomicReference(offBoardRouterHandler)
+    val onboardLatencyHistogram = RouterLatencyHistogram()
 
     /**
      * At init time, the network monitor is setup. isNetworkAvailable represents the current network state. Based
@@ -42,81 +68,176 @@ class MapboxHybridRouter(
      */
     init {
         jobControl.scope.monitorChannelWithException(networkStatusService.getNetworkStatusChannel(), { networkStatus ->
-            when (networkStatus.isNetworkAvailable) {
-                true -> {
-                    routeDispatchHandler.set(offBoardRouterHandler)
-                }
-                false -> {
-                    routeDispatchHandler.set(onBoardRouterHandler)
-                }
-            }
+            isNetworkAvailable.set(networkStatus.isNetworkAvailable)
+            // A new network comes with a new link
+            poorLinkUntilNanos = 0L
         }, networkStatusService::cleanup)
     }
 
+    override fun getRoute(
+        routeOptions: RouteOptions,
+        callback: Router.Callback
+    ) {
+        when (isNetworkAvailable.get()) {
+            true -> RouteRequest(routeOptions, callback, offboardRouter, onboardRouter).start(offboardHedgingDelay())
+            false -> RouteRequest(routeOptions, callback, onboardRouter, offboardRouter).start(null)
+        }
+    }
+
+    override fun cancel() {
+        mainJobControl.job.cancelChildren()
+        onboardRouter.cancel()
+        offboardRouter.cancel()
+    }
+
     /**
-     * Private interface used with handler classes here to call the correct router
+     * @return the delay in milliseconds before asking the onboard router, null to ask it only on failure
      */
-    private interface RouterDispatchInterface {
-        fun execute(routeOptions: RouteOptions, clientCallback: Router.Callback)
+    private fun offboardHedgingDelay(): Long? = when {
+        !options.hedgingEnabled -> null
+        System.nanoTime() < poorLinkUntilNanos -> 0L
+        else -> options.hedgingDelay
     }
 
-    private class RouterHandler(
-        private val mainRouter: Router,
-        private val reserveRouter: Router
-    ) : RouterDispatchInterface, Router.Callback {
+    private fun histogramOf(router: Router) = when (router) {
+        offboardRouter -> offboardLatencyHistogram
+        else -> onboardLatencyHistogram
+    }
 
-        private var reserveRouterCalled = false
-        private lateinit var options: RouteOptions
-        private lateinit var callback: Router.Callback
+    /**
+     * One route request, sent to the main router and, on failure or after the hedging delay,
+     * to the reserve router. Only the first result is passed to the client callback.
+     */
+    private inner class RouteRequest(
+        private val routeOptions: RouteOptions,
+        private val clientCallback: Router.Callback,
+        mainRouter: Router,
+        reserveRouter: Router
+    ) {
 
-        override fun onResponse(routes: List<DirectionsRoute>) {
-            callback.onResponse(routes)
-        }
+        private val mainAttempt = Attempt(mainRouter)
+        private val reserveAttempt = Attempt(reserveRouter)
+        private var hedgingJob: Job? = null
+        private var isFinished = false
 
         /**
-         * onFailure is used as a fail-safe. If the initial call to onBoardRouter.getRoute()
-         * fails, it is assumed that the offBoardRouter may be available. The call is made to the offBoardRouter.
-         * The error returns remains the same as in the first call, but the flag value has changed. This time a failure
-         * is propagated to the client. In short, call the onBoardRouter. If it fails call the offBoardRouter,
-         * if that fails propagate the exception
+         * @param hedgingDelay delay in milliseconds before asking the reserve router,
+         * null to ask it only when the main router fails
          */
-        override fun onFailure(throwable: Throwable) {
-            when (reserveRouterCalled) {
-                true -> {
-                    reserveRouterCalled = false
-                    callback.onFailure(throwable)
-                }
-                false -> {
-                    reserveRouterCalled = true
-                    reserveRouter.getRoute(options, this)
+        fun start(hedgingDelay: Long?) {
+            mainAttempt.start()
+            when {
+                hedgingDelay == null -> Unit
+                hedgingDelay <= 0L -> reserveAttempt.start()
+                else -> hedgingJob = mainJobControl.scope.launch {
+                    delay(hedgingDelay)
+                    onHedgingDeadline()
                 }
             }
         }
 
-        override fun onCanceled() {
-            callback.onCanceled()
+        private fun onHedgingDeadline() {
+            if (isFinished || reserveAttempt.isStarted) {
+                return
+            }
+            poorLinkUntilNanos = System.nanoTime() + POOR_LINK_DURATION_NANOS
+            reserveAttempt.start()
+        }
+
+        private fun onAttemptResponse(attempt: Attempt, routes: List<DirectionsRoute>) {
+            if (isFinished) {
+                return
+            }
+            val latencyNanos = System.nanoTime() - attempt.startNanos
+            histogramOf(attempt.router).record(TimeUnit.NANOSECONDS.toMillis(latencyNanos))
+            if (attempt.router == offboardRouter && latencyNanos < hedgingDelayNanos) {
+                poorLinkUntilNanos = 0L
+            }
+            finish()
+            otherAttempt(attempt).cancelIfPending()
+            clientCallback.onResponse(routes)
+        }
+
+        private fun onAttemptFailure(attempt: Attempt, throwable: Throwable) {
+            if (isFinished) {
+                return
+            }
+            attempt.isPending = false
+            histogramOf(attempt.router).recordFailure()
+            val other = otherAttempt(attempt)
+            when {
+                !other.isStarted -> {
+                    hedgingJob?.cancel()
+                    other.start()
+                }
+                other.isPending -> Unit
+                else -> {
+                    finish()
+                    clientCallback.onFailure(throwable)
+                }
+            }
         }
 
         /**
-         * This method is equivalent to calling .getRoute() with the additional parameter capture
+         * Canceling a router cancels all of its requests, including the ones of other hybrid requests,
+         * so a canceled attempt finishes the request only once the other attempt isn't pending.
          */
-        override fun execute(routeOptions: RouteOptions, clientCallback: Router.Callback) {
-            reserveRouterCalled = false
-            options = routeOptions
-            callback = clientCallback
-            mainRouter.getRoute(routeOptions, this)
+        private fun onAttemptCanceled(attempt: Attempt) {
+            if (isFinished) {
+                return
+            }
+            attempt.isPending = false
+            if (otherAttempt(attempt).isPending) {
+                return
+            }
+            finish()
+            clientCallback.onCanceled()
         }
-    }
 
-    override fun getRoute(
-        routeOptions: RouteOptions,
-        callback: Router.Callback
-    ) {
-        routeDispatchHandler.get().execute(routeOptions, callback)
-    }
+        private fun finish() {
+            isFinished = true
+            hedgingJob?.cancel()
+        }
 
-    override fun cancel() {
-        onboardRouter.cancel()
-        offboardRouter.cancel()
+        private fun otherAttempt(attempt: Attempt) = if (attempt === mainAttempt) reserveAttempt else mainAttempt
+
+        /**
+         * The request sent to one of the routers.
+         */
+        private inner class Attempt(val router: Router) : Router.Callback {
+
+            var isStarted = false
+                private set
+            var isPending = false
+            var startNanos = 0L
+                private set
+
+            fun start() {
+                isStarted = true
+                isPending = true
+                startNanos = System.nanoTime()
+                router.getRoute(routeOptions, this)
+            }
+
+            fun cancelIfPending() {
+                if (isPending) {
+                    isPending = false
+                    router.cancel()
+                }
+            }
+
+            override fun onResponse(routes: List<DirectionsRoute>) {
+                isPending = false
+                onAttemptResponse(this, routes)
+            }
+
+            override fun onFailure(throwable: Throwable) {
+                onAttemptFailure(this, throwable)
+            }
+
+            override fun onCanceled() {
+                onAttemptCanceled(this)
+            }
+        }
     }
 }
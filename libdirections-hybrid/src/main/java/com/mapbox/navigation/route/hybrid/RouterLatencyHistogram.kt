@@ -0,0 +1,73 @@
+package com.mapbox.navigation.route.hybrid
+
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+
+/**
+ * Latencies of the successful route requests of one router, counted in fixed buckets.
+ *
+ * Bucket `i` counts the requests that took at most [BUCKET_UPPER_BOUNDS_MILLIS]`[i]` milliseconds
+ * and more than the previous bound. The last bucket counts the requests slower than every bound.
+ * Requests canceled because the other router answered first aren't counted.
+ */
+class RouterLatencyHistogram internal constructor() {
+
+    companion object {
+        /**
+         * Upper bounds in milliseconds of the buckets, the last bucket has no upper bound.
+         */
+        @JvmField
+        val BUCKET_UPPER_BOUNDS_MILLIS = longArrayOf(250L, 500L, 1000L, 2000L, 4000L, 8000L, 16000L, 32000L)
+    }
+
+    private val bucketCounts = AtomicLongArray(BUCKET_UPPER_BOUNDS_MILLIS.size + 1)
+    private val failures = AtomicLong()
+
+    /**
+     * Number of failed route requests.
+     */
+    val failureCount: Long
+        get() = failures.get()
+
+    /**
+     * Number of successful route requests.
+     */
+    val count: Long
+        get() = bucketCounts().sum()
+
+    /**
+     * @return a copy of the request count of every bucket
+     */
+    fun bucketCounts(): LongArray = LongArray(bucketCounts.length()) { bucketCounts.get(it) }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the upper bound of the bucket holding the percentile, [Long.MAX_VALUE] if it's
+     * the last bucket, or 0 if nothing has been recorded
+     */
+    fun percentileMillis(percentile: Double): Long {
+        val counts = bucketCounts()
+        val total = counts.sum()
+        if (total == 0L) {
+            return 0L
+        }
+        val rank = Math.ceil(percentile / 100.0 * total).toLong().coerceIn(1L, total)
+        var cumulative = 0L
+        counts.forEachIndexed { index, bucketCount ->
+            cumulative += bucketCount
+            if (cumulative >= rank) {
+                return BUCKET_UPPER_BOUNDS_MILLIS.getOrElse(index) { Long.MAX_VALUE }
+            }
+        }
+        return Long.MAX_VALUE
+    }
+
+    internal fun record(latencyMillis: Long) {
+        val bucket = BUCKET_UPPER_BOUNDS_MILLIS.indexOfFirst { latencyMillis <= it }
+        bucketCounts.incrementAndGet(if (bucket == -1) BUCKET_UPPER_BOUNDS_MILLIS.size else bucket)
+    }
+
+    internal fun recordFailure() {
+        failures.incrementAndGet()
+    }
+}
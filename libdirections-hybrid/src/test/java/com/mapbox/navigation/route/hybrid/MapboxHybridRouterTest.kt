@@ -9,6 +9,8 @@ import com.mapbox.api.directions.v5.models.RouteOptions
 import com.mapbox.geojson.Point
 import com.mapbox.navigation.base.extensions.applyDefaultParams
 import com.mapbox.navigation.base.extensions.coordinates
+import com.mapbox.navigation.base.options.DEFAULT_HYBRID_ROUTER_HEDGING_DELAY
+import com.mapbox.navigation.base.options.HybridRouterOptions
 import com.mapbox.navigation.base.route.Router
 import com.mapbox.navigation.route.offboard.MapboxOffboardRouter
 import com.mapbox.navigation.route.onboard.MapboxOnboardRouter
@@ -21,6 +23,7 @@ import io.mockk.verify
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.InternalCoroutinesApi
 import kotlinx.coroutines.channels.Channel
+import org.junit.Assert.assertEquals
 import org.junit.Before
 import org.junit.Rule
 import org.junit.Test
@@ -32,6 +35,10 @@ import org.robolectric.RobolectricTestRunner
 @RunWith(RobolectricTestRunner::class)
 class MapboxHybridRouterTest {
 
+    companion object {
+        private const val HEDGING_DELAY = DEFAULT_HYBRID_ROUTER_HEDGING_DELAY
+    }
+
     @get:Rule
     var rule = MainCoroutineRule()
 
@@ -191,6 +198,135 @@ class MapboxHybridRouterTest {
         verify(exactly = 1) { onboardRouter.getRoute(routerOptions, capture(internalCallback)) }
     }
 
+    @Test
+    fun whenOffboardRouterMissesDeadlineOnboardRouterIsCalled() = rule.runBlockingTest {
+        enableNetworkConnection()
+
+        hybridRouter.getRoute(routerOptions, routerCallback)
+
+        advanceTimeBy(HEDGING_DELAY - 1)
+        verify(exactly = 0) { onboardRouter.getRoute(routerOptions, any()) }
+        advanceTimeBy(1)
+        verify(exactly = 1) { onboardRouter.getRoute(routerOptions, any()) }
+    }
+
+    @Test
+    fun whenOffboardRouterAnswersBeforeDeadlineOnboardRouterIsNotCalled() = rule.runBlockingTest {
+        enableNetworkConnection()
+
+        hybridRouter.getRoute(routerOptions, routerCallback)
+        internalCallback.captured.onResponse(emptyList())
+        advanceTimeBy(HEDGING_DELAY)
+
+        verify(exactly = 0) { onboardRouter.getRoute(routerOptions, any()) }
+        verify(exactly = 1) { routerCallback.onResponse(any()) }
+        assertEquals(1L, hybridRouter.offboardLatencyHistogram.count)
+    }
+
+    @Test
+    fun firstResponseWinsAndOtherRouterIsCanceled() = rule.runBlockingTest {
+        val offboardCallback = slot<Router.Callback>()
+        val onboardCallback = slot<Router.Callback>()
+        every { offboardRouter.getRoute(routerOptions, capture(offboardCallback)) } answers {}
+        every { onboardRouter.getRoute(routerOptions, capture(onboardCallback)) } answers {}
+        enableNetworkConnection()
+
+        hybridRouter.getRoute(routerOptions, routerCallback)
+        advanceTimeBy(HEDGING_DELAY)
+        onboardCallback.captured.onResponse(emptyList())
+        offboardCallback.captured.onResponse(emptyList())
+        offboardCallback.captured.onCanceled()
+
+        verify(exactly = 1) { offboardRouter.cancel() }
+        verify(exactly = 1) { routerCallback.onResponse(any()) }
+        verify(exactly = 0) { routerCallback.onCanceled() }
+        assertEquals(1L, hybridRouter.onboardLatencyHistogram.count)
+        assertEquals(0L, hybridRouter.offboardLatencyHistogram.count)
+    }
+
+    @Test
+    fun cancelFromOverlappingRequestDoesNotFinishPendingRequest() = rule.runBlockingTest {
+        val offboardCallbacks = mutableListOf<Router.Callback>()
+        val onboardCallbacks = mutableListOf<Router.Callback>()
+        val otherRouterCallback: Router.Callback = mockk(relaxUnitFun = true)
+        every { offboardRouter.getRoute(routerOptions, capture(offboardCallbacks)) } answers {}
+        every { onboardRouter.getRoute(routerOptions, capture(onboardCallbacks)) } answers {}
+        every { onboardRouter.cancel() } answers { onboardCallbacks.forEach { it.onCanceled() } }
+        enableNetworkConnection()
+
+        hybridRouter.getRoute(routerOptions, routerCallback)
+        hybridRouter.getRoute(routerOptions, otherRouterCallback)
+        advanceTimeBy(HEDGING_DELAY)
+        offboardCallbacks[0].onResponse(emptyList())
+
+        verify(exactly = 1) { onboardRouter.cancel() }
+        verify(exactly = 1) { routerCallback.onResponse(any()) }
+        verify(exactly = 0) { otherRouterCallback.onCanceled() }
+        offboardCallbacks[1].onResponse(emptyList())
+        verify(exactly = 1) { otherRouterCallback.onResponse(any()) }
+        verify(exactly = 0) { routerCallback.onCanceled() }
+    }
+
+    @Test
+    fun failureIsSentOnceBothRoutersFailed() = rule.runBlockingTest {
+        val offboardCallback = slot<Router.Callback>()
+        val onboardCallback = slot<Router.Callback>()
+        every { offboardRouter.getRoute(routerOptions, capture(offboardCallback)) } answers {}
+        every { onboardRouter.getRoute(routerOptions, capture(onboardCallback)) } answers {}
+        enableNetworkConnection()
+
+        hybridRouter.getRoute(routerOptions, routerCallback)
+        advanceTimeBy(HEDGING_DELAY)
+        onboardCallback.captured.onFailure(Throwable())
+        verify(exactly = 0) { routerCallback.onFailure(any()) }
+        offboardCallback.captured.onFailure(Throwable())
+
+        verify(exactly = 1) { routerCallback.onFailure(any()) }
+        assertEquals(1L, hybridRouter.onboardLatencyHistogram.failureCount)
+        assertEquals(1L, hybridRouter.offboardLatencyHistogram.failureCount)
+    }
+
+    @Test
+    fun afterMissedDeadlineBothRoutersAreCalledAtOnce() = rule.runBlockingTest {
+        enableNetworkConnection()
+
+        hybridRouter.getRoute(routerOptions, routerCallback)
+        advanceTimeBy(HEDGING_DELAY)
+        internalCallback.captured.onResponse(emptyList())
+        hybridRouter.getRoute(routerOptions, routerCallback)
+
+        verify(exactly = 2) { offboardRouter.getRoute(routerOptions, any()) }
+        verify(exactly = 2) { onboardRouter.getRoute(routerOptions, any()) }
+    }
+
+    @Test
+    fun whenHedgingDisabledOnboardRouterIsOnlyCalledOnFailure() = rule.runBlockingTest {
+        hybridRouter = MapboxHybridRouter(
+            onboardRouter,
+            offboardRouter,
+            networkStatusService,
+            HybridRouterOptions.Builder().hedgingEnabled(false).build()
+        )
+        enableNetworkConnection()
+
+        hybridRouter.getRoute(routerOptions, routerCallback)
+        advanceTimeBy(HEDGING_DELAY * 10)
+
+        verify(exactly = 0) { onboardRouter.getRoute(routerOptions, any()) }
+    }
+
+    @Test
+    fun latencyHistogram_percentileIsBucketUpperBound() {
+        val histogram = RouterLatencyHistogram()
+
+        listOf(100L, 200L, 300L, 5000L).forEach { histogram.record(it) }
+
+        assertEquals(250L, histogram.percentileMillis(50.0))
+        assertEquals(8000L, histogram.percentileMillis(99.0))
+        histogram.record(60000L)
+        assertEquals(Long.MAX_VALUE, histogram.percentileMillis(100.0))
+    }
+
     @Test
     fun networkStatusService_cleanup_calledOnChannelClose() = rule.runBlockingTest {
         (networkStatusService.getNetworkStatusChannel() as Channel).close()
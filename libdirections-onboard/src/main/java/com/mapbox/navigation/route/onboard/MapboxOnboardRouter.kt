@@ -1,17 +1,15 @@
 package com.mapbox.navigation.route.onboard
 
 import android.util.Log
-import com.google.gson.Gson
 import com.mapbox.annotation.navigation.module.MapboxNavigationModule
 import com.mapbox.annotation.navigation.module.MapboxNavigationModuleType
-import com.mapbox.api.directions.v5.models.DirectionsResponse
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.RouteOptions
 import com.mapbox.navigation.base.options.MapboxOnboardRouterConfig
 import com.mapbox.navigation.base.route.Router
 import com.mapbox.navigation.base.route.internal.RouteUrl
 import com.mapbox.navigation.navigator.MapboxNativeNavigator
-import com.mapbox.navigation.route.onboard.model.OfflineRouteError
+import com.mapbox.navigation.route.onboard.network.HttpClient
 import com.mapbox.navigation.utils.exceptions.NavigationException
 import com.mapbox.navigation.utils.thread.ThreadController
 import com.mapbox.navigator.RouterParams
@@ -27,6 +25,7 @@ import kotlinx.coroutines.withContext
  *
  * It uses offline storage path to store and retrieve data, setup endpoint,
  * tiles' version, token. Config is provided via [MapboxOnboardRouterConfig].
+ * Tiles are fetched by the navigator through an [HttpClient].
  */
 @MapboxNavigationModule(MapboxNavigationModuleType.OnboardRouter, skipConfiguration = true)
 class MapboxOnboardRouter(
@@ -41,7 +40,6 @@ class MapboxOnboardRouter(
     private val mainJobControl by lazy {
         ThreadController.getMainScopeAndRootJob()
     }
-    private val gson = Gson()
 
     init {
         if (config.tilePath.isNotEmpty()) {
@@ -63,7 +61,11 @@ class MapboxOnboardRouter(
                         ""
                     )
                 })
-            navigatorNative.configureRouter(routerParams, null)
+            val userAgent = config.endpoint?.userAgent
+            navigatorNative.configureRouter(
+                routerParams,
+                if (userAgent.isNullOrEmpty()) HttpClient() else HttpClient(userAgent)
+            )
         }
     }
 
@@ -104,17 +106,9 @@ class MapboxOnboardRouter(
     private fun retrieveRoute(url: String, callback: Router.Callback) {
         mainJobControl.scope.launch {
             try {
-                val routerResult = getRoute(url)
-
-                val routes: List<DirectionsRoute> = try {
-                    parseDirectionsRoutes(routerResult.json)
-                } catch (e: RuntimeException) {
-                    emptyList()
-                }
-
-                when {
-                    !routes.isNullOrEmpty() -> callback.onResponse(routes)
-                    else -> callback.onFailure(NavigationException(generateErrorMessage(routerResult.json)))
+                when (val result = fetchRoutes(url)) {
+                    is RouteResult.Success -> callback.onResponse(result.routes)
+                    is RouteResult.Failure -> callback.onFailure(NavigationException(result.message))
                 }
             } catch (e: CancellationException) {
                 callback.onCanceled()
@@ -122,19 +116,32 @@ class MapboxOnboardRouter(
         }
     }
 
-    internal suspend fun getRoute(url: String) = withContext(ThreadController.IODispatcher) {
-        navigatorNative.getRoute(url)
-    }
-
-    private suspend fun parseDirectionsRoutes(json: String): List<DirectionsRoute> =
-        withContext(ThreadController.IODispatcher) {
-            DirectionsResponse.fromJson(json).routes()
+    /**
+     * Gets the route from the navigator and parses it on the IO dispatcher,
+     * only the parsed result is handed back to the caller.
+     */
+    private suspend fun fetchRoutes(url: String): RouteResult = withContext(ThreadController.IODispatcher) {
+        val json = navigatorNative.getRoute(url).json
+        val routes: List<DirectionsRoute> = try {
+            RouterResultParser.parseRoutes(json)
+        } catch (e: Exception) {
+            emptyList()
+        }
+        when {
+            routes.isNotEmpty() -> RouteResult.Success(routes)
+            else -> RouteResult.Failure(generateErrorMessage(json))
         }
+    }
 
     private fun generateErrorMessage(response: String): String {
-        val (_, _, error, errorCode) = gson.fromJson(response, OfflineRouteError::class.java)
+        val (_, _, error, errorCode) = RouterResultParser.parseError(response)
         val errorMessage = "Error occurred fetching offline route: $error - Code: $errorCode"
         Log.e("MapboxOnboardRouter", errorMessage)
         return errorMessage
     }
+
+    private sealed class RouteResult {
+        class Success(val routes: List<DirectionsRoute>) : RouteResult()
+        class Failure(val message: String) : RouteResult()
+    }
 }
@@ -0,0 +1,71 @@
+package com.mapbox.navigation.route.onboard
+
+import com.google.gson.Gson
+import com.google.gson.GsonBuilder
+import com.google.gson.JsonElement
+import com.google.gson.TypeAdapter
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.navigation.base.route.internal.RouteJsonCache
+import com.mapbox.navigation.route.onboard.model.OfflineRouteError
+import java.io.StringReader
+
+/**
+ * Parses the JSON returned by the onboard router.
+ *
+ * Routes are read one at a time from a [JsonReader] instead of building a whole
+ * [com.mapbox.api.directions.v5.models.DirectionsResponse] first, other response members are skipped.
+ * The JSON of each route is kept in the [RouteJsonCache], so the route doesn't need to be
+ * serialized again for the navigator.
+ */
+internal object RouterResultParser {
+
+    private const val ROUTES = "routes"
+
+    private val gson: Gson = GsonBuilder()
+        .registerTypeAdapterFactory(DirectionsAdapterFactory.create())
+        .create()
+    private val routeAdapter: TypeAdapter<DirectionsRoute> by lazy {
+        gson.getAdapter(DirectionsRoute::class.java)
+    }
+    private val elementAdapter: TypeAdapter<JsonElement> by lazy {
+        gson.getAdapter(JsonElement::class.java)
+    }
+
+    /**
+     * @return the routes of the response, empty if it has none
+     */
+    fun parseRoutes(json: String): List<DirectionsRoute> {
+        val routes = mutableListOf<DirectionsRoute>()
+        JsonReader(StringReader(json)).use { reader ->
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                return routes
+            }
+            reader.beginObject()
+            while (reader.hasNext()) {
+                if (reader.nextName() == ROUTES && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray()
+                    while (reader.hasNext()) {
+                        routes.add(readRoute(reader))
+                    }
+                    reader.endArray()
+                } else {
+                    reader.skipValue()
+                }
+            }
+        }
+        return routes
+    }
+
+    fun parseError(json: String): OfflineRouteError =
+        gson.fromJson(json, OfflineRouteError::class.java)
+
+    private fun readRoute(reader: JsonReader): DirectionsRoute {
+        val routeElement = elementAdapter.read(reader)
+        return routeAdapter.fromJsonTree(routeElement).also {
+            RouteJsonCache.put(it, routeElement.toString())
+        }
+    }
+}
@@ -7,27 +7,42 @@ import com.mapbox.navigator.BuildConfig
 import com.mapbox.navigator.HttpCode
 import com.mapbox.navigator.HttpInterface
 import com.mapbox.navigator.HttpResponse
-import java.io.ByteArrayOutputStream
 import java.io.IOException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
 import okhttp3.Call
 import okhttp3.Callback
+import okhttp3.Dispatcher
 import okhttp3.OkHttpClient
 import okhttp3.Request
 import okhttp3.Response
 import okhttp3.logging.HttpLoggingInterceptor
-import okio.buffer
-import okio.sink
 
+/**
+ * [HttpInterface] used by the native navigator to fetch routing tiles.
+ *
+ * Tiles are fetched in bursts, so the number of concurrent requests per host is bounded.
+ * Response bodies are read from OkHttp's pooled segments straight into an array of the
+ * announced content length, which is handed to the navigator without further copies.
+ *
+ * @param userAgent sent with every request
+ * @param acceptGzipEncoding whether gzip encoded responses are requested and passed as is to the navigator
+ * @param maxRequestsPerHost number of requests to a single host running at the same time
+ * @param logger logs requests in debug builds
+ * @param clientBuilder used to build the OkHttp client
+ */
 @Keep
 internal class HttpClient(
     internal val userAgent: String = USER_AGENT,
-    private val acceptGzipEncoding: Boolean = false,
+    private val acceptGzipEncoding: Boolean = true,
+    private val maxRequestsPerHost: Int = MAX_REQUESTS_PER_HOST,
     private val logger: Logger? = null,
     private val clientBuilder: OkHttpClient.Builder = OkHttpClient.Builder()
 ) : HttpInterface() {
 
     companion object {
         private const val USER_AGENT = "MapboxNavigationNative"
+        private const val MAX_REQUESTS_PER_HOST = 4
 
         private const val ERROR_EMPTY_USER_AGENT = "Empty UserAgent is not allowed"
         private const val HEADER_USER_AGENT = "User-Agent"
@@ -35,6 +50,12 @@ internal class HttpClient(
         private const val GZIP = "gzip"
     }
 
+    private val requestCount = AtomicLong()
+    private val failureCount = AtomicLong()
+    private val receivedBytes = AtomicLong()
+    private val totalLatencyMillis = AtomicLong()
+    private val maxLatencyMillis = AtomicLong()
+
     private val client: OkHttpClient by lazy {
         if (BuildConfig.DEBUG) {
             val interceptor = HttpLoggingInterceptor(HttpLoggingInterceptor.Logger { message ->
@@ -46,7 +67,9 @@ internal class HttpClient(
             clientBuilder.addInterceptor(interceptor)
         }
 
-        clientBuilder.build()
+        clientBuilder
+            .dispatcher(Dispatcher().apply { maxRequestsPerHost = this@HttpClient.maxRequestsPerHost })
+            .build()
     }
 
     init {
@@ -73,26 +96,65 @@ internal class HttpClient(
             requestBuilder.addHeader(HEADER_ENCODING, GZIP)
         }
 
+        val startNanos = System.nanoTime()
+        requestCount.incrementAndGet()
         client.newCall(requestBuilder.build()).enqueue(object : Callback {
             override fun onFailure(call: Call, e: IOException) {
+                record(startNanos, 0L, false)
                 nativeResponse.run(ByteArray(0), HttpCode.FAILURE)
             }
 
             override fun onResponse(call: Call, response: Response) {
-                val outputStream = ByteArrayOutputStream()
-                val result = if (response.isSuccessful) HttpCode.SUCCESS else HttpCode.FAILURE
-
-                response.body()?.let { body ->
-                    val sink = outputStream.sink().buffer()
-                    sink.writeAll(body.source())
-                    sink.close()
+                val bytes = try {
+                    response.use { readBody(it) }
+                } catch (e: IOException) {
+                    onFailure(call, e)
+                    return
                 }
-
-                val bytes = outputStream.toByteArray()
-                outputStream.close()
-
+                val result = if (response.isSuccessful) HttpCode.SUCCESS else HttpCode.FAILURE
+                record(startNanos, bytes.size.toLong(), response.isSuccessful)
                 nativeResponse.run(bytes, result)
             }
         })
     }
+
+    /**
+     * @return the counters of the requests made so far
+     */
+    fun stats(): HttpClientStats {
+        val requests = requestCount.get()
+        return HttpClientStats(
+            requests,
+            failureCount.get(),
+            receivedBytes.get(),
+            if (requests == 0L) 0L else totalLatencyMillis.get() / requests,
+            maxLatencyMillis.get()
+        )
+    }
+
+    /**
+     * Reads the body with a single copy, into an array sized from the content length when it's known.
+     */
+    private fun readBody(response: Response): ByteArray {
+        val body = response.body() ?: return ByteArray(0)
+        val contentLength = body.contentLength()
+        return when {
+            contentLength == 0L -> ByteArray(0)
+            contentLength > 0L -> body.source().readByteArray(contentLength)
+            else -> body.source().readByteArray()
+        }
+    }
+
+    private fun record(startNanos: Long, bytes: Long, isSuccessful: Boolean) {
+        val latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)
+        if (!isSuccessful) {
+            failureCount.incrementAndGet()
+        }
+        receivedBytes.addAndGet(bytes)
+        totalLatencyMillis.addAndGet(latencyMillis)
+        var max = maxLatencyMillis.get()
+        while (latencyMillis > max && !maxLatencyMillis.compareAndSet(max, latencyMillis)) {
+            max = maxLatencyMillis.get()
+        }
+    }
 }
@@ -0,0 +1,18 @@
+package com.mapbox.navigation.route.onboard.network
+
+/**
+ * Counters of the requests made by the [HttpClient] for the native navigator.
+ *
+ * @param requestCount requests sent
+ * @param failureCount requests that failed or got an unsuccessful response
+ * @param receivedBytes body bytes passed to the navigator
+ * @param averageLatencyMillis mean time from sending a request to having read its whole body
+ * @param maxLatencyMillis longest time from sending a request to having read its whole body
+ */
+internal data class HttpClientStats(
+    val requestCount: Long,
+    val failureCount: Long,
+    val receivedBytes: Long,
+    val averageLatencyMillis: Long,
+    val maxLatencyMillis: Long
+)
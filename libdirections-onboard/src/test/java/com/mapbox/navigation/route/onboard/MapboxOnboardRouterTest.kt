@@ -5,13 +5,16 @@ import com.mapbox.api.directions.v5.models.RouteOptions
 import com.mapbox.geojson.Point
 import com.mapbox.navigation.base.extensions.applyDefaultParams
 import com.mapbox.navigation.base.extensions.coordinates
+import com.mapbox.navigation.base.options.Endpoint
 import com.mapbox.navigation.base.options.MapboxOnboardRouterConfig
 import com.mapbox.navigation.base.route.Router
 import com.mapbox.navigation.base.route.internal.RouteUrl
 import com.mapbox.navigation.navigator.MapboxNativeNavigator
+import com.mapbox.navigation.route.onboard.network.HttpClient
 import com.mapbox.navigation.testing.MainCoroutineRule
 import com.mapbox.navigation.utils.exceptions.NavigationException
 import com.mapbox.navigation.utils.thread.ThreadController
+import com.mapbox.navigator.HttpInterface
 import com.mapbox.navigator.RouterResult
 import io.mockk.coEvery
 import io.mockk.every
@@ -23,15 +26,11 @@ import io.mockk.verify
 import java.util.concurrent.CountDownLatch
 import java.util.concurrent.TimeUnit
 import junit.framework.Assert.assertEquals
-import junit.framework.Assert.assertFalse
-import junit.framework.Assert.assertTrue
 import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.InternalCoroutinesApi
-import kotlinx.coroutines.cancel
 import kotlinx.coroutines.delay
-import kotlinx.coroutines.launch
 import kotlinx.coroutines.runBlocking
 import org.junit.After
 import org.junit.Assert
@@ -81,6 +80,17 @@ class MapboxOnboardRouterTest {
         Assert.assertNotNull(onboardRouter)
     }
 
+    @Test
+    fun navigatorFetchesTilesWithEndpointUserAgent() {
+        val httpClient = slot<HttpInterface>()
+        every { navigator.configureRouter(any(), capture(httpClient)) } returns 0
+        val endpoint = Endpoint("host", "version", "token", USER_AGENT)
+
+        MapboxOnboardRouter(navigator, MapboxOnboardRouterConfig(TILE_PATH, endpoint = endpoint))
+
+        assertEquals(USER_AGENT, (httpClient.captured as HttpClient).userAgent)
+    }
+
     @Test
     fun checkCallbackCalledOnFailure() = coroutineRule.runBlockingTest {
         val exceptionSlot = slot<NavigationException>()
@@ -158,24 +168,21 @@ class MapboxOnboardRouterTest {
     fun checkCallbackCalledOnCancel4() = runBlocking {
         // cancellable code should run on a separate dispatcher to allow call `cancel` after launch.
         // if we use the same dispatcher, it will be blocked until coroutine finish. `cancel` will have no affect
-        // job's state will be `isActive == false`, `isCancelled == false`.
         every { ThreadController.IODispatcher } returns Dispatchers.Default
 
         coEvery { navigator.getRoute(any()) } coAnswers {
             // delay on a separate dispatcher, it doesn't affect the main thread.
             // we just suspend the function until it's cancelled from the main thread.
             // if we don't suspend it, the function will return immediately, before `cancel` is called.
-            // job's state will be `isActive == false`, `isCancelled == false`.
             delay(1000)
             routerResultSuccess
         }
 
-        val scope = coroutineRule.coroutineScope
-        val job = scope.launch { onboardRouter.getRoute("") }
-        scope.cancel()
+        onboardRouter.getRoute(routerOptions, routerCallback)
+        onboardRouter.cancel()
 
-        assertFalse(job.isActive)
-        assertTrue(job.isCancelled)
+        verify(timeout = 1000) { routerCallback.onCanceled() }
+        verify(exactly = 0) { routerCallback.onResponse(any()) }
     }
 
     @Test
@@ -275,6 +282,7 @@ class MapboxOnboardRouterTest {
         private val destination = Point.fromLngLat(1.83, 1232.01)
 
         private const val TILE_PATH = "tiles"
+        private const val USER_AGENT = "user-agent"
         private const val TAG = "MapboxOnboardRouter"
 
         private const val ROUTE_SIZE = 1
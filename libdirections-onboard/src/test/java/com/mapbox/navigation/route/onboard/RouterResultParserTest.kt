@@ -0,0 +1,55 @@
+package com.mapbox.navigation.route.onboard
+
+import com.mapbox.navigation.base.route.internal.RouteJsonCache
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class RouterResultParserTest {
+
+    @Test
+    fun parseRoutes_otherMembersAreSkipped() {
+        val json = "{\"waypoints\":[{\"name\":\"\",\"location\":[-77.0,38.9]}]," +
+            "\"routes\":[" +
+            "{\"distance\":100.0,\"duration\":10.0,\"geometry\":\"abc\",\"legs\":[{\"steps\":[]}]}," +
+            "{\"distance\":200.0,\"duration\":20.0,\"geometry\":\"def\"}" +
+            "],\"code\":\"Ok\"}"
+
+        val routes = RouterResultParser.parseRoutes(json)
+
+        assertEquals(2, routes.size)
+        assertEquals(100.0, routes[0].distance(), 0.0)
+        assertEquals(1, routes[0].legs()?.size)
+        assertEquals("def", routes[1].geometry())
+    }
+
+    @Test
+    fun parseRoutes_routeJsonIsKept() {
+        val firstRouteJson = "{\"distance\":100.0,\"duration\":10.0,\"geometry\":\"a}\\\"[b\"}"
+        val secondRouteJson = "{\"distance\":200.0,\"duration\":20.0,\"geometry\":\"c\",\"legs\":[{\"steps\":[]}]}"
+        val json = "{\"code\":\"routes\",\"routes\":[$firstRouteJson, $secondRouteJson]}"
+
+        val routes = RouterResultParser.parseRoutes(json)
+
+        assertEquals("a}\"[b", routes[0].geometry())
+        assertEquals(firstRouteJson, RouteJsonCache.toJson(routes[0]))
+        assertEquals(secondRouteJson, RouteJsonCache.toJson(routes[1]))
+    }
+
+    @Test
+    fun parseRoutes_errorResponseHasNoRoutes() {
+        val json = "{\"status\":\"Bad Request\",\"status_code\":400,\"error\":\"No suitable edges\",\"error_code\":171}"
+
+        assertTrue(RouterResultParser.parseRoutes(json).isEmpty())
+    }
+
+    @Test
+    fun parseError() {
+        val json = "{\"status\":\"Bad Request\",\"status_code\":400,\"error\":\"No suitable edges\",\"error_code\":171}"
+
+        val error = RouterResultParser.parseError(json)
+
+        assertEquals("No suitable edges", error.error)
+        assertEquals(171, error.errorCode)
+    }
+}
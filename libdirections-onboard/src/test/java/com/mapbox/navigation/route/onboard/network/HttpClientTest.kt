@@ -0,0 +1,128 @@
+package com.mapbox.navigation.route.onboard.network
+
+import com.mapbox.navigator.HttpCode
+import com.mapbox.navigator.HttpResponse
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import okhttp3.mockwebserver.SocketPolicy
+import okio.Buffer
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Assert.fail
+import org.junit.Before
+import org.junit.Test
+
+class HttpClientTest {
+
+    companion object {
+        private const val USER_AGENT = "testAgent"
+        private const val SUCCESS_BODY = "Success test message"
+        private const val FAILURE_BODY = "Error test message"
+        private const val FAILURE_CODE = 401
+        private const val HEADER_USER_AGENT = "User-Agent"
+        private const val HEADER_ENCODING = "Accept-Encoding"
+        private const val GZIP = "gzip"
+        private const val TILE_SIZE = 256 * 1024
+    }
+
+    private val mockServer = MockWebServer()
+    private val httpClient = HttpClient(USER_AGENT)
+    private val nativeResponse: HttpResponse = mockk(relaxUnitFun = true)
+    private lateinit var latch: CountDownLatch
+
+    @Before
+    fun setUp() {
+        mockServer.start()
+        latch = CountDownLatch(1)
+        every { nativeResponse.run(any(), any()) } answers { latch.countDown() }
+    }
+
+    @After
+    fun cleanUp() {
+        mockServer.shutdown()
+    }
+
+    @Test
+    fun get_successfulResponseIsPassedToNavigator() {
+        mockServer.enqueue(MockResponse().setBody(SUCCESS_BODY))
+
+        executeRequest()
+
+        verify { nativeResponse.run(SUCCESS_BODY.toByteArray(), HttpCode.SUCCESS) }
+        val request = mockServer.takeRequest()
+        assertEquals(USER_AGENT, request.getHeader(HEADER_USER_AGENT))
+        assertEquals(GZIP, request.getHeader(HEADER_ENCODING))
+    }
+
+    @Test
+    fun get_unsuccessfulResponseIsPassedAsFailure() {
+        mockServer.enqueue(MockResponse().setResponseCode(FAILURE_CODE).setBody(FAILURE_BODY))
+
+        executeRequest()
+
+        verify { nativeResponse.run(FAILURE_BODY.toByteArray(), HttpCode.FAILURE) }
+        assertEquals(1L, httpClient.stats().failureCount)
+    }
+
+    @Test
+    fun get_largeBodyIsReadCompletely() {
+        val tile = ByteArray(TILE_SIZE) { it.toByte() }
+        mockServer.enqueue(MockResponse().setBody(Buffer().write(tile)))
+
+        executeRequest()
+
+        verify { nativeResponse.run(tile, HttpCode.SUCCESS) }
+        assertEquals(TILE_SIZE.toLong(), httpClient.stats().receivedBytes)
+    }
+
+    @Test
+    fun get_truncatedBodyIsFailure() {
+        mockServer.enqueue(
+            MockResponse()
+                .setBody(Buffer().write(ByteArray(TILE_SIZE)))
+                .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY)
+        )
+
+        executeRequest()
+
+        verify { nativeResponse.run(ByteArray(0), HttpCode.FAILURE) }
+    }
+
+    @Test
+    fun stats_requestsAreCounted() {
+        mockServer.enqueue(MockResponse().setBody(SUCCESS_BODY))
+        mockServer.enqueue(MockResponse().setBody(SUCCESS_BODY))
+
+        executeRequest()
+        latch = CountDownLatch(1)
+        executeRequest()
+
+        val stats = httpClient.stats()
+        assertEquals(2L, stats.requestCount)
+        assertEquals(0L, stats.failureCount)
+        assertEquals(2L * SUCCESS_BODY.length, stats.receivedBytes)
+        assertTrue(stats.maxLatencyMillis >= stats.averageLatencyMillis)
+    }
+
+    @Test
+    fun isGzipped_enabledByDefault() {
+        assertTrue(httpClient.isGzipped())
+    }
+
+    private fun executeRequest() {
+        httpClient.get(mockServer.url("/").toString(), nativeResponse)
+        awaitResponse()
+    }
+
+    private fun awaitResponse() {
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            fail()
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.mapbox.navigation.base.options
+
+const val DEFAULT_HYBRID_ROUTER_HEDGING_DELAY = 3000L
+
+/**
+ * Defines how the hybrid router combines the offboard and onboard routers while the network is available.
+ *
+ * @param hedgingEnabled if true, the onboard router is also asked for a route when the offboard router
+ * hasn't answered within [hedgingDelay], the first route found wins and the other request is canceled.
+ * If false, the onboard router is only asked once the offboard router has failed
+ * @param hedgingDelay time in milliseconds given to the offboard router before the onboard router is asked too
+ */
+data class HybridRouterOptions(
+    val hedgingEnabled: Boolean,
+    val hedgingDelay: Long
+) {
+
+    /**
+     * Get a builder to customize a subset of current options.
+     */
+    fun toBuilder() = Builder(
+        hedgingEnabled,
+        hedgingDelay
+    )
+
+    /**
+     * Builder for [HybridRouterOptions].
+     */
+    data class Builder(
+        private var hedgingEnabled: Boolean = true,
+        private var hedgingDelay: Long = DEFAULT_HYBRID_ROUTER_HEDGING_DELAY
+    ) {
+
+        fun hedgingEnabled(enabled: Boolean) =
+            apply { this.hedgingEnabled = enabled }
+
+        fun hedgingDelay(delay: Long) =
+            apply { this.hedgingDelay = delay }
+
+        fun build(): HybridRouterOptions {
+            return HybridRouterOptions(
+                hedgingEnabled,
+                hedgingDelay
+            )
+        }
+    }
+}
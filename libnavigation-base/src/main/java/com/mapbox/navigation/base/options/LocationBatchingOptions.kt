@@ -0,0 +1,48 @@
+package com.mapbox.navigation.base.options
+
+const val DEFAULT_LOCATION_BATCHING_MAX_WAIT_TIME = 0L
+
+/**
+ * Defines how the trip session ingests the locations delivered by the location engine.
+ *
+ * @param batchingEnabled if true, every location of a location engine result is pushed to the navigator,
+ * in timestamp order, before the next trip status is computed. If false, only the newest one is pushed
+ * @param maxWaitTime maximum time in milliseconds the location engine may hold locations back to deliver
+ * them in a batch, letting the GPS hardware batch fixes to save power. Used by the default location engine
+ * request, 0 delivers every location as soon as it's available
+ */
+data class LocationBatchingOptions(
+    val batchingEnabled: Boolean,
+    val maxWaitTime: Long
+) {
+
+    /**
+     * Get a builder to customize a subset of current options.
+     */
+    fun toBuilder() = Builder(
+        batchingEnabled,
+        maxWaitTime
+    )
+
+    /**
+     * Builder for [LocationBatchingOptions].
+     */
+    data class Builder(
+        private var batchingEnabled: Boolean = true,
+        private var maxWaitTime: Long = DEFAULT_LOCATION_BATCHING_MAX_WAIT_TIME
+    ) {
+
+        fun batchingEnabled(enabled: Boolean) =
+            apply { this.batchingEnabled = enabled }
+
+        fun maxWaitTime(maxWaitTime: Long) =
+            apply { this.maxWaitTime = maxWaitTime }
+
+        fun build(): LocationBatchingOptions {
+            return LocationBatchingOptions(
+                batchingEnabled,
+                maxWaitTime
+            )
+        }
+    }
+}
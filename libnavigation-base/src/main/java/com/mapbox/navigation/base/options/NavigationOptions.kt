@@ -15,7 +15,11 @@ data class NavigationOptions constructor(
     val navigatorPollingDelay: Long,
     val fasterRouteDetectorInterval: Long,
     val distanceFormatter: DistanceFormatter?,
-    val onboardRouterConfig: MapboxOnboardRouterConfig?
+    val onboardRouterConfig: MapboxOnboardRouterConfig?,
+    val tripStatusSchedulerOptions: TripStatusSchedulerOptions,
+    val hybridRouterOptions: HybridRouterOptions,
+    val routeCacheOptions: RouteCacheOptions,
+    val locationBatchingOptions: LocationBatchingOptions
 ) {
 
     /**
@@ -27,7 +31,11 @@ data class NavigationOptions constructor(
         navigatorPollingDelay,
         fasterRouteDetectorInterval,
         distanceFormatter,
-        onboardRouterConfig
+        onboardRouterConfig,
+        tripStatusSchedulerOptions,
+        hybridRouterOptions,
+        routeCacheOptions,
+        locationBatchingOptions
     )
 
     data class Builder(
@@ -36,7 +44,12 @@ data class NavigationOptions constructor(
         private var navigatorPollingDelay: Long = DEFAULT_NAVIGATOR_POLLING_DELAY,
         private var fasterRouteDetectorInterval: Long = DEFAULT_FASTER_ROUTE_DETECTOR_INTERVAL,
         private var distanceFormatter: DistanceFormatter? = null,
-        private var onboardRouterConfig: MapboxOnboardRouterConfig? = null
+        private var onboardRouterConfig: MapboxOnboardRouterConfig? = null,
+        private var tripStatusSchedulerOptions: TripStatusSchedulerOptions =
+            TripStatusSchedulerOptions.Builder().build(),
+        private var hybridRouterOptions: HybridRouterOptions = HybridRouterOptions.Builder().build(),
+        private var routeCacheOptions: RouteCacheOptions = RouteCacheOptions.Builder().build(),
+        private var locationBatchingOptions: LocationBatchingOptions = LocationBatchingOptions.Builder().build()
     ) {
 
         fun roundingIncrement(roundingIncrement: Int) =
@@ -57,6 +70,18 @@ data class NavigationOptions constructor(
         fun onboardRouterConfig(onboardRouterConfig: MapboxOnboardRouterConfig?) =
             apply { this.onboardRouterConfig = onboardRouterConfig }
 
+        fun tripStatusSchedulerOptions(tripStatusSchedulerOptions: TripStatusSchedulerOptions) =
+            apply { this.tripStatusSchedulerOptions = tripStatusSchedulerOptions }
+
+        fun hybridRouterOptions(hybridRouterOptions: HybridRouterOptions) =
+            apply { this.hybridRouterOptions = hybridRouterOptions }
+
+        fun routeCacheOptions(routeCacheOptions: RouteCacheOptions) =
+            apply { this.routeCacheOptions = routeCacheOptions }
+
+        fun locationBatchingOptions(locationBatchingOptions: LocationBatchingOptions) =
+            apply { this.locationBatchingOptions = locationBatchingOptions }
+
         fun build(): NavigationOptions {
             return NavigationOptions(
                 roundingIncrement,
@@ -64,7 +89,11 @@ data class NavigationOptions constructor(
                 navigatorPollingDelay,
                 fasterRouteDetectorInterval,
                 distanceFormatter,
-                onboardRouterConfig
+                onboardRouterConfig,
+                tripStatusSchedulerOptions,
+                hybridRouterOptions,
+                routeCacheOptions,
+                locationBatchingOptions
             )
         }
     }
@@ -0,0 +1,61 @@
+package com.mapbox.navigation.base.options
+
+import com.mapbox.navigation.base.typedef.DELIVERY_IMMEDIATE
+import com.mapbox.navigation.base.typedef.DELIVERY_SAMPLED
+import com.mapbox.navigation.base.typedef.ObserverDeliveryPolicy
+import java.util.concurrent.Executor
+
+const val DEFAULT_DELIVERY_SAMPLING_RATE = 1.0
+
+/**
+ * Defines how updates reach an observer registered with these options.
+ *
+ * Each observer gets its own queue, so a slow observer only delays its own updates.
+ *
+ * @param policy one of [ObserverDeliveryPolicy]
+ * @param samplingRate maximum number of updates per second in [DELIVERY_SAMPLED] mode
+ * @param executor runs the observer callbacks, null for the main thread
+ */
+data class ObserverDeliveryOptions(
+    @ObserverDeliveryPolicy val policy: Int,
+    val samplingRate: Double,
+    val executor: Executor?
+) {
+
+    /**
+     * Get a builder to customize a subset of current options.
+     */
+    fun toBuilder() = Builder(
+        policy,
+        samplingRate,
+        executor
+    )
+
+    /**
+     * Builder for [ObserverDeliveryOptions].
+     */
+    data class Builder(
+        private var policy: Int = DELIVERY_IMMEDIATE,
+        private var samplingRate: Double = DEFAULT_DELIVERY_SAMPLING_RATE,
+        private var executor: Executor? = null
+    ) {
+
+        fun policy(@ObserverDeliveryPolicy policy: Int) =
+            apply { this.policy = policy }
+
+        fun samplingRate(updatesPerSecond: Double) =
+            apply { this.samplingRate = updatesPerSecond }
+
+        fun executor(executor: Executor?) =
+            apply { this.executor = executor }
+
+        fun build(): ObserverDeliveryOptions {
+            check(samplingRate > 0) { "Sampling rate must be positive." }
+            return ObserverDeliveryOptions(
+                policy,
+                samplingRate,
+                executor
+            )
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.mapbox.navigation.base.options
+
+const val DEFAULT_ROUTE_CACHE_MAX_ENTRIES = 8
+const val DEFAULT_ROUTE_CACHE_TIME_TO_LIVE = 60 * 1000L // 1 minute
+const val DEFAULT_ROUTE_CACHE_COORDINATE_TOLERANCE = 10.0
+const val DEFAULT_ROUTE_CACHE_BEARING_TOLERANCE = 30.0
+
+/**
+ * Defines how the directions session caches route responses.
+ *
+ * Two requests share a cache entry when their coordinates snap to the same grid cell
+ * and their bearings fall in the same bucket, all other route options being equal.
+ *
+ * @param maxEntries number of responses kept in memory and on disk, 0 disables the cache
+ * @param timeToLive time in milliseconds after which a response isn't used anymore
+ * @param coordinateTolerance size in meters of the grid cells coordinates are snapped to
+ * @param bearingTolerance size in degrees of the buckets bearings are put in
+ * @param diskCacheDirectory directory where responses are also persisted, null to only cache in memory
+ */
+data class RouteCacheOptions(
+    val maxEntries: Int,
+    val timeToLive: Long,
+    val coordinateTolerance: Double,
+    val bearingTolerance: Double,
+    val diskCacheDirectory: String?
+) {
+
+    /**
+     * Get a builder to customize a subset of current options.
+     */
+    fun toBuilder() = Builder(
+        maxEntries,
+        timeToLive,
+        coordinateTolerance,
+        bearingTolerance,
+        diskCacheDirectory
+    )
+
+    /**
+     * Builder for [RouteCacheOptions].
+     */
+    data class Builder(
+        private var maxEntries: Int = DEFAULT_ROUTE_CACHE_MAX_ENTRIES,
+        private var timeToLive: Long = DEFAULT_ROUTE_CACHE_TIME_TO_LIVE,
+        private var coordinateTolerance: Double = DEFAULT_ROUTE_CACHE_COORDINATE_TOLERANCE,
+        private var bearingTolerance: Double = DEFAULT_ROUTE_CACHE_BEARING_TOLERANCE,
+        private var diskCacheDirectory: String? = null
+    ) {
+
+        fun maxEntries(maxEntries: Int) =
+            apply { this.maxEntries = maxEntries }
+
+        fun timeToLive(timeToLive: Long) =
+            apply { this.timeToLive = timeToLive }
+
+        fun coordinateTolerance(tolerance: Double) =
+            apply { this.coordinateTolerance = tolerance }
+
+        fun bearingTolerance(tolerance: Double) =
+            apply { this.bearingTolerance = tolerance }
+
+        fun diskCacheDirectory(directory: String?) =
+            apply { this.diskCacheDirectory = directory }
+
+        fun build(): RouteCacheOptions {
+            return RouteCacheOptions(
+                maxEntries,
+                timeToLive,
+                coordinateTolerance,
+                bearingTolerance,
+                diskCacheDirectory
+            )
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.mapbox.navigation.base.options
+
+import com.mapbox.navigation.base.typedef.STATUS_FIXED_RATE
+import com.mapbox.navigation.base.typedef.TripStatusScheduleMode
+
+const val DEFAULT_STATUS_FIXED_RATE_INTERVAL = 1000L
+const val DEFAULT_STATUS_ADAPTIVE_MIN_INTERVAL = 100L
+const val DEFAULT_STATUS_ADAPTIVE_MAX_INTERVAL = 5000L
+const val DEFAULT_STATUS_MANEUVER_PROXIMITY_DISTANCE = 200f
+const val DEFAULT_STATUS_STATIONARY_SPEED = 0.5f
+
+private const val FIXED_RATE_INTERVAL_MUST_BE_GREATER_THAN_ZERO_MS =
+    "Fixed rate interval must be greater than 0 ms."
+private const val ADAPTIVE_MIN_INTERVAL_MUST_BE_GREATER_THAN_ZERO_MS =
+    "Adaptive min interval must be greater than 0 ms."
+private const val ADAPTIVE_MAX_INTERVAL_MUST_BE_GREATER_THAN_ZERO_MS =
+    "Adaptive max interval must be greater than 0 ms."
+private const val ADAPTIVE_MIN_INTERVAL_MUST_NOT_EXCEED_MAX_INTERVAL =
+    "Adaptive min interval must not be greater than the adaptive max interval."
+
+/**
+ * Defines when the trip session computes a new trip status.
+ *
+ * @param mode one of [TripStatusScheduleMode]
+ * @param fixedRateInterval interval in milliseconds between two status updates in
+ * [STATUS_FIXED_RATE] mode. Also used as the cruising interval in adaptive mode
+ * @param adaptiveMinInterval shortest interval in milliseconds used in adaptive mode,
+ * when approaching a maneuver
+ * @param adaptiveMaxInterval longest interval in milliseconds used in adaptive mode,
+ * when the device is stationary
+ * @param maneuverProximityDistance distance in meters to the next maneuver under which
+ * adaptive mode switches to [adaptiveMinInterval]
+ * @param stationarySpeed speed in meters per second under which adaptive mode considers
+ * the device stationary
+ */
+data class TripStatusSchedulerOptions(
+    @TripStatusScheduleMode val mode: Int,
+    val fixedRateInterval: Long,
+    val adaptiveMinInterval: Long,
+    val adaptiveMaxInterval: Long,
+    val maneuverProximityDistance: Float,
+    val stationarySpeed: Float
+) {
+
+    /**
+     * Get a builder to customize a subset of current options.
+     */
+    fun toBuilder() = Builder(
+        mode,
+        fixedRateInterval,
+        adaptiveMinInterval,
+        adaptiveMaxInterval,
+        maneuverProximityDistance,
+        stationarySpeed
+    )
+
+    /**
+     * Builder for [TripStatusSchedulerOptions].
+     */
+    data class Builder(
+        private var mode: Int = STATUS_FIXED_RATE,
+        private var fixedRateInterval: Long = DEFAULT_STATUS_FIXED_RATE_INTERVAL,
+        private var adaptiveMinInterval: Long = DEFAULT_STATUS_ADAPTIVE_MIN_INTERVAL,
+        private var adaptiveMaxInterval: Long = DEFAULT_STATUS_ADAPTIVE_MAX_INTERVAL,
+        private var maneuverProximityDistance: Float = DEFAULT_STATUS_MANEUVER_PROXIMITY_DISTANCE,
+        private var stationarySpeed: Float = DEFAULT_STATUS_STATIONARY_SPEED
+    ) {
+
+        fun mode(@TripStatusScheduleMode mode: Int) =
+            apply { this.mode = mode }
+
+        fun fixedRateInterval(interval: Long) =
+            apply { this.fixedRateInterval = interval }
+
+        fun adaptiveMinInterval(interval: Long) =
+            apply { this.adaptiveMinInterval = interval }
+
+        fun adaptiveMaxInterval(interval: Long) =
+            apply { this.adaptiveMaxInterval = interval }
+
+        fun maneuverProximityDistance(distance: Float) =
+            apply { this.maneuverProximityDistance = distance }
+
+        fun stationarySpeed(speed: Float) =
+            apply { this.stationarySpeed = speed }
+
+        fun build(): TripStatusSchedulerOptions {
+            require(fixedRateInterval > 0) { FIXED_RATE_INTERVAL_MUST_BE_GREATER_THAN_ZERO_MS }
+            require(adaptiveMinInterval > 0) { ADAPTIVE_MIN_INTERVAL_MUST_BE_GREATER_THAN_ZERO_MS }
+            require(adaptiveMaxInterval > 0) { ADAPTIVE_MAX_INTERVAL_MUST_BE_GREATER_THAN_ZERO_MS }
+            require(adaptiveMinInterval <= adaptiveMaxInterval) { ADAPTIVE_MIN_INTERVAL_MUST_NOT_EXCEED_MAX_INTERVAL }
+            return TripStatusSchedulerOptions(
+                mode,
+                fixedRateInterval,
+                adaptiveMinInterval,
+                adaptiveMaxInterval,
+                maneuverProximityDistance,
+                stationarySpeed
+            )
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.mapbox.navigation.base.trip.model
+
+import com.mapbox.geojson.BoundingBox
+import com.mapbox.geojson.Geometry
+import com.mapbox.geojson.GeometryCollection
+import com.mapbox.geojson.MultiPolygon
+import com.mapbox.geojson.Point
+import com.mapbox.geojson.Polygon
+import java.util.TreeMap
+import java.util.TreeSet
+import kotlin.math.floor
+
+/**
+ * Corridor around the current route, loaded the first time it's read and then kept for the route.
+ *
+ * Besides the [geometry] itself, the corridor is indexed in cells of [CELL_SIZE] degrees.
+ * The edges are kept per row of cells, so [contains] only looks at the edges of one row,
+ * and the cells covered by the corridor are kept per row for [cellsIntersecting].
+ *
+ * @param loader returns the corridor geometry, called at most once from any thread
+ */
+class RouteBufferGeometry(loader: () -> Geometry?) {
+
+    companion object {
+        /**
+         * Width and height of the index cells in degrees.
+         */
+        const val CELL_SIZE = 0.01
+    }
+
+    private val geometry: Geometry? by lazy(loader)
+    private val index: CorridorIndex by lazy { CorridorIndex(polygonsOf(geometry)) }
+
+    /**
+     * Corridor geometry, ideal for offline downloads of map or routing tile data.
+     *
+     * @return the corridor geometry, null if the navigator has none
+     */
+    fun geometry(): Geometry? = geometry
+
+    /**
+     * @return true if the point is inside the corridor
+     */
+    fun contains(point: Point): Boolean = index.contains(point.longitude(), point.latitude())
+
+    /**
+     * @return the index cells covered by the corridor that intersect the [boundingBox]
+     */
+    fun cellsIntersecting(boundingBox: BoundingBox): List<Polygon> =
+        index.cellsIntersecting(boundingBox)
+
+    private fun polygonsOf(geometry: Geometry?): List<Polygon> = when (geometry) {
+        is Polygon -> listOf(geometry)
+        is MultiPolygon -> geometry.polygons()
+        is GeometryCollection -> geometry.geometries().flatMap { polygonsOf(it) }
+        else -> emptyList()
+    }
+
+    private class CorridorIndex(polygons: List<Polygon>) {
+
+        private val rows = HashMap<Int, MutableList<Edge>>()
+        private val cells = TreeMap<Int, TreeSet<Int>>()
+
+        init {
+            polygons.forEach { polygon ->
+                polygon.coordinates().forEach { ring ->
+                    for (i in 1 until ring.size) {
+                        addEdge(Edge(ring[i - 1], ring[i]))
+                    }
+                }
+            }
+            addInnerCells()
+        }
+
+        /**
+         * Even-odd rule over the edges of the point row, the polygons don't overlap.
+         */
+        fun contains(longitude: Double, latitude: Double): Boolean {
+            val edges = rows[indexOf(latitude)] ?: return false
+            var isInside = false
+            edges.forEach { edge ->
+                if (edge.crossesRayFrom(longitude, latitude)) {
+                    isInside = !isInside
+                }
+            }
+            return isInside
+        }
+
+        fun cellsIntersecting(boundingBox: BoundingBox): List<Polygon> {
+            val westColumn = indexOf(boundingBox.west())
+            val eastColumn = indexOf(boundingBox.east())
+            if (westColumn > eastColumn) {
+                return emptyList()
+            }
+            val intersectingCells = mutableListOf<Polygon>()
+            cells.subMap(indexOf(boundingBox.south()), true, indexOf(boundingBox.north()), true)
+                .forEach { (row, columns) ->
+                    columns.subSet(westColumn, true, eastColumn, true).forEach { column ->
+                        intersectingCells.add(cellOf(row, column))
+                    }
+                }
+            return intersectingCells
+        }
+
+        /**
+         * Cells crossed by an edge are covered.
+         */
+        private fun addEdge(edge: Edge) {
+            for (row in indexOf(edge.minLatitude)..indexOf(edge.maxLatitude)) {
+                rows.getOrPut(row) { mutableListOf() }.add(edge)
+                val columns = cells.getOrPut(row) { TreeSet() }
+                val longitudes = edge.longitudesBetween(row * CELL_SIZE, (row + 1) * CELL_SIZE)
+                for (column in indexOf(longitudes.start)..indexOf(longitudes.endInclusive)) {
+                    columns.add(column)
+                }
+            }
+        }
+
+        /**
+         * Cells between the edges of a row are covered if the corridor is in between at the row center.
+         */
+        private fun addInnerCells() {
+            cells.forEach { (row, columns) ->
+                val centerLatitude = (row + 0.5) * CELL_SIZE
+                val crossings = rows[row].orEmpty().mapNotNull { it.longitudeAt(centerLatitude) }.sorted()
+                for (i in 1 until crossings.size step 2) {
+                    for (column in indexOf(crossings[i - 1])..indexOf(crossings[i])) {
+                        columns.add(column)
+                    }
+                }
+            }
+        }
+
+        private fun indexOf(degrees: Double) = floor(degrees / CELL_SIZE).toInt()
+
+        private fun cellOf(row: Int, column: Int): Polygon {
+            val west = column * CELL_SIZE
+            val south = row * CELL_SIZE
+            val east = west + CELL_SIZE
+            val north = south + CELL_SIZE
+            return Polygon.fromLngLats(
+                listOf(
+                    listOf(
+                        Point.fromLngLat(west, south),
+                        Point.fromLngLat(east, south),
+                        Point.fromLngLat(east, north),
+                        Point.fromLngLat(west, north),
+                        Point.fromLngLat(west, south)
+                    )
+                )
+            )
+        }
+    }
+
+    private class Edge(start: Point, end: Point) {
+        private val startLongitude = start.longitude()
+        private val startLatitude = start.latitude()
+        private val endLongitude = end.longitude()
+        private val endLatitude = end.latitude()
+        val minLatitude = minOf(startLatitude, endLatitude)
+        val maxLatitude = maxOf(startLatitude, endLatitude)
+        val minLongitude = minOf(startLongitude, endLongitude)
+        val maxLongitude = maxOf(startLongitude, endLongitude)
+
+        /**
+         * @return true if the edge crosses the ray cast east from the point
+         */
+        fun crossesRayFrom(longitude: Double, latitude: Double): Boolean =
+            longitudeAt(latitude)?.let { longitude < it } ?: false
+
+        /**
+         * @return the longitude the edge crosses the [latitude] at, null if it doesn't
+         */
+        fun longitudeAt(latitude: Double): Double? {
+            if ((startLatitude > latitude) == (endLatitude > latitude)) {
+                return null
+            }
+            return longitudeOn(latitude)
+        }
+
+        /**
+         * @return the longitudes the edge spans between the [south] and [north] latitudes
+         */
+        fun longitudesBetween(south: Double, north: Double): ClosedFloatingPointRange<Double> {
+            if (startLatitude == endLatitude) {
+                return minLongitude..maxLongitude
+            }
+            val southLongitude = longitudeOn(maxOf(south, minLatitude))
+            val northLongitude = longitudeOn(minOf(north, maxLatitude))
+            return minOf(southLongitude, northLongitude)..maxOf(southLongitude, northLongitude)
+        }
+
+        private fun longitudeOn(latitude: Double) = startLongitude +
+            (latitude - startLatitude) / (endLatitude - startLatitude) * (endLongitude - startLongitude)
+    }
+}
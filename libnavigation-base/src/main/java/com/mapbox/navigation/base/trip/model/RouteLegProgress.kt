@@ -78,7 +78,11 @@ class RouteLegProgress private constructor(
      */
     fun upcomingStep(): LegStep? = upcomingStep
 
-    fun toBuilder() = builder
+    /**
+     * Returns a copy of the builder used to build this snapshot, so that changes made through
+     * it never affect instances already handed out.
+     */
+    fun toBuilder() = builder.copy()
 
     data class Builder(
         private var legIndex: Int = 0,
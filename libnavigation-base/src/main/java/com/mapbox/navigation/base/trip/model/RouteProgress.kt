@@ -6,9 +6,12 @@ import com.mapbox.api.directions.v5.models.VoiceInstructions
 import com.mapbox.geojson.Geometry
 import com.mapbox.geojson.Point
 
+/**
+ * Immutable snapshot of the progress along the current route, safe to read from any thread.
+ */
 class RouteProgress private constructor(
     private val route: DirectionsRoute? = null,
-    private val routeGeometryWithBuffer: Geometry? = null,
+    private val routeBufferGeometry: RouteBufferGeometry? = null,
     private val bannerInstructions: BannerInstructions? = null,
     private val voiceInstructions: VoiceInstructions? = null,
     private val currentState: RouteProgressState? = null,
@@ -125,15 +128,29 @@ class RouteProgress private constructor(
      * This [Geometry] is ideal for offline downloads of map or routing tile
      * data.
      *
+     * The geometry is only loaded from the navigator the first time it's read.
+     *
      * @return current route geometry with buffer
      */
-    fun routeGeometryWithBuffer() = routeGeometryWithBuffer
+    fun routeGeometryWithBuffer(): Geometry? = routeBufferGeometry?.geometry()
 
-    fun toBuilder() = builder
+    /**
+     * Returns the current [DirectionsRoute] geometry with a buffer, indexed for
+     * "is this point inside the corridor" queries.
+     *
+     * @return current route geometry with buffer
+     */
+    fun routeBufferGeometry() = routeBufferGeometry
+
+    /**
+     * Returns a copy of the builder used to build this snapshot, so that changes made through
+     * it never affect instances already handed out.
+     */
+    fun toBuilder() = builder.copy()
 
     data class Builder(
         private var directionsRoute: DirectionsRoute? = null,
-        private var routeGeometryWithBuffer: Geometry? = null,
+        private var routeBufferGeometry: RouteBufferGeometry? = null,
         private var bannerInstructions: BannerInstructions? = null,
         private var voiceInstructions: VoiceInstructions? = null,
         private var currentState: RouteProgressState? = null,
@@ -151,7 +168,10 @@ class RouteProgress private constructor(
             apply { this.directionsRoute = route }
 
         fun routeGeometryWithBuffer(routeGeometryWithBuffer: Geometry?) =
-            apply { this.routeGeometryWithBuffer = routeGeometryWithBuffer }
+            apply { this.routeBufferGeometry = RouteBufferGeometry { routeGeometryWithBuffer } }
+
+        fun routeBufferGeometry(routeBufferGeometry: RouteBufferGeometry?) =
+            apply { this.routeBufferGeometry = routeBufferGeometry }
 
         fun bannerInstructions(bannerInstructions: BannerInstructions?) =
             apply { this.bannerInstructions = bannerInstructions }
@@ -188,7 +208,7 @@ class RouteProgress private constructor(
         fun build(): RouteProgress {
             return RouteProgress(
                 directionsRoute,
-                routeGeometryWithBuffer,
+                routeBufferGeometry,
                 bannerInstructions,
                 voiceInstructions,
                 currentState,
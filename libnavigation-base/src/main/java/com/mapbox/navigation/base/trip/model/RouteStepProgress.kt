@@ -68,7 +68,11 @@ class RouteStepProgress private constructor(
      */
     fun durationRemaining(): Long = durationRemaining
 
-    fun toBuilder() = builder
+    /**
+     * Returns a copy of the builder used to build this snapshot, so that changes made through
+     * it never affect instances already handed out.
+     */
+    fun toBuilder() = builder.copy()
 
     data class Builder(
         private var stepIndex: Int = 0,
@@ -0,0 +1,26 @@
+package com.mapbox.navigation.base.typedef
+
+import androidx.annotation.IntDef
+
+/**
+ * Every update is delivered to the observer, in order.
+ */
+const val DELIVERY_IMMEDIATE = 0
+
+/**
+ * Only the latest update is kept while the observer is busy, older pending updates are dropped.
+ */
+const val DELIVERY_LATEST = 1
+
+/**
+ * The latest update is delivered at most at the sampling rate, older pending updates are dropped.
+ */
+const val DELIVERY_SAMPLED = 2
+
+@Retention(AnnotationRetention.SOURCE)
+@IntDef(
+    DELIVERY_IMMEDIATE,
+    DELIVERY_LATEST,
+    DELIVERY_SAMPLED
+)
+annotation class ObserverDeliveryPolicy
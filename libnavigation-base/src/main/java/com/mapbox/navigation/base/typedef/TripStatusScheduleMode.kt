@@ -0,0 +1,27 @@
+package com.mapbox.navigation.base.typedef
+
+import androidx.annotation.IntDef
+
+/**
+ * Trip status is computed right after each raw location is pushed to the navigator.
+ */
+const val STATUS_ON_LOCATION_UPDATE = 0
+
+/**
+ * Trip status is computed at a fixed rate, regardless of how fast raw locations arrive.
+ */
+const val STATUS_FIXED_RATE = 1
+
+/**
+ * Trip status is computed at a rate that backs off while stationary and speeds up
+ * when approaching a maneuver.
+ */
+const val STATUS_ADAPTIVE = 2
+
+@Retention(AnnotationRetention.SOURCE)
+@IntDef(
+    STATUS_ON_LOCATION_UPDATE,
+    STATUS_FIXED_RATE,
+    STATUS_ADAPTIVE
+)
+annotation class TripStatusScheduleMode
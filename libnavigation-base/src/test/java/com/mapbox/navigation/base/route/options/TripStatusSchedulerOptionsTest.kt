@@ -0,0 +1,54 @@
+package com.mapbox.navigation.base.route.options
+
+import com.mapbox.navigation.base.options.DEFAULT_STATUS_ADAPTIVE_MAX_INTERVAL
+import com.mapbox.navigation.base.options.DEFAULT_STATUS_ADAPTIVE_MIN_INTERVAL
+import com.mapbox.navigation.base.options.DEFAULT_STATUS_FIXED_RATE_INTERVAL
+import com.mapbox.navigation.base.options.TripStatusSchedulerOptions
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class TripStatusSchedulerOptionsTest {
+
+    @Test
+    fun whenBuilderBuildWithNoValuesCalledThenDefaultValuesUsed() {
+        val options = TripStatusSchedulerOptions.Builder().build()
+
+        assertEquals(DEFAULT_STATUS_FIXED_RATE_INTERVAL, options.fixedRateInterval)
+        assertEquals(DEFAULT_STATUS_ADAPTIVE_MIN_INTERVAL, options.adaptiveMinInterval)
+        assertEquals(DEFAULT_STATUS_ADAPTIVE_MAX_INTERVAL, options.adaptiveMaxInterval)
+    }
+
+    @Test
+    fun whenMinIntervalEqualsMaxIntervalThenOptionsBuilt() {
+        val options = TripStatusSchedulerOptions.Builder()
+            .adaptiveMinInterval(500L)
+            .adaptiveMaxInterval(500L)
+            .build()
+
+        assertEquals(500L, options.adaptiveMinInterval)
+        assertEquals(500L, options.adaptiveMaxInterval)
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun whenFixedRateIntervalIsZeroThenBuildFails() {
+        TripStatusSchedulerOptions.Builder().fixedRateInterval(0L).build()
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun whenMinIntervalIsNegativeThenBuildFails() {
+        TripStatusSchedulerOptions.Builder().adaptiveMinInterval(-1L).build()
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun whenMaxIntervalIsZeroThenBuildFails() {
+        TripStatusSchedulerOptions.Builder().adaptiveMaxInterval(0L).build()
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun whenMinIntervalGreaterThanMaxIntervalThenBuildFails() {
+        TripStatusSchedulerOptions.Builder()
+            .adaptiveMinInterval(1000L)
+            .adaptiveMaxInterval(500L)
+            .build()
+    }
+}
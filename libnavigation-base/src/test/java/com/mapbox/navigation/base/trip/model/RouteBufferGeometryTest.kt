@@ -0,0 +1,91 @@
+package com.mapbox.navigation.base.trip.model
+
+import com.mapbox.geojson.BoundingBox
+import com.mapbox.geojson.MultiPolygon
+import com.mapbox.geojson.Point
+import com.mapbox.geojson.Polygon
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class RouteBufferGeometryTest {
+
+    private val squareWithHole = Polygon.fromLngLats(
+        listOf(
+            square(0.0, 0.0, 0.1),
+            square(0.035, 0.035, 0.03)
+        )
+    )
+    private val farSquare = Polygon.fromLngLats(listOf(square(1.002, 1.002, 0.005)))
+    private val corridor = MultiPolygon.fromPolygons(listOf(squareWithHole, farSquare))
+
+    @Test
+    fun geometry_loadedOnceOnFirstRead() {
+        var loadCount = 0
+        val routeBufferGeometry = RouteBufferGeometry {
+            loadCount++
+            corridor
+        }
+
+        assertEquals(0, loadCount)
+        assertEquals(corridor, routeBufferGeometry.geometry())
+        routeBufferGeometry.contains(Point.fromLngLat(0.01, 0.01))
+        assertEquals(1, loadCount)
+    }
+
+    @Test
+    fun contains() {
+        val routeBufferGeometry = RouteBufferGeometry { corridor }
+
+        assertTrue(routeBufferGeometry.contains(Point.fromLngLat(0.01, 0.09)))
+        assertTrue(routeBufferGeometry.contains(Point.fromLngLat(1.005, 1.005)))
+        assertFalse(routeBufferGeometry.contains(Point.fromLngLat(0.05, 0.05)))
+        assertFalse(routeBufferGeometry.contains(Point.fromLngLat(0.5, 0.5)))
+        assertFalse(routeBufferGeometry.contains(Point.fromLngLat(-0.01, 0.05)))
+    }
+
+    @Test
+    fun contains_noGeometry() {
+        val routeBufferGeometry = RouteBufferGeometry { null }
+
+        assertFalse(routeBufferGeometry.contains(Point.fromLngLat(0.0, 0.0)))
+    }
+
+    @Test
+    fun cellsIntersecting() {
+        val routeBufferGeometry = RouteBufferGeometry { corridor }
+
+        val cells = routeBufferGeometry.cellsIntersecting(BoundingBox.fromLngLats(0.5, 0.5, 1.5, 1.5))
+
+        assertEquals(1, cells.size)
+        val cellCorner = 100 * RouteBufferGeometry.CELL_SIZE
+        assertEquals(Point.fromLngLat(cellCorner, cellCorner), cells[0].coordinates()[0][0])
+    }
+
+    @Test
+    fun cellsIntersecting_onlyCellsOfTheBoundingBox() {
+        val routeBufferGeometry = RouteBufferGeometry { corridor }
+
+        val cells = routeBufferGeometry.cellsIntersecting(BoundingBox.fromLngLats(0.012, 0.012, 0.028, 0.018))
+
+        assertEquals(2, cells.size)
+    }
+
+    @Test
+    fun cellsIntersecting_holeCellsAreNotCovered() {
+        val routeBufferGeometry = RouteBufferGeometry { corridor }
+
+        val cells = routeBufferGeometry.cellsIntersecting(BoundingBox.fromLngLats(0.042, 0.042, 0.058, 0.058))
+
+        assertTrue(cells.isEmpty())
+    }
+
+    private fun square(west: Double, south: Double, size: Double) = listOf(
+        Point.fromLngLat(west, south),
+        Point.fromLngLat(west + size, south),
+        Point.fromLngLat(west + size, south + size),
+        Point.fromLngLat(west, south + size),
+        Point.fromLngLat(west, south)
+    )
+}
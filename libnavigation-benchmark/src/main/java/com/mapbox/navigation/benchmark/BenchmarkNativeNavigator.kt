@@ -0,0 +1,227 @@
+package com.mapbox.navigation.benchmark
+
+import android.hardware.SensorEvent
+import android.location.Location
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.LegStep
+import com.mapbox.api.directions.v5.models.RouteLeg
+import com.mapbox.geojson.Point
+import com.mapbox.navigation.base.trip.model.RouteLegProgress
+import com.mapbox.navigation.base.trip.model.RouteProgress
+import com.mapbox.navigation.base.trip.model.RouteProgressState
+import com.mapbox.navigation.base.trip.model.RouteStepProgress
+import com.mapbox.navigation.navigator.MapboxNativeNavigator
+import com.mapbox.navigation.navigator.TripStatus
+import com.mapbox.navigator.BannerInstruction
+import com.mapbox.navigator.HttpInterface
+import com.mapbox.navigator.NavigationStatus
+import com.mapbox.navigator.NavigatorConfig
+import com.mapbox.navigator.RouterParams
+import com.mapbox.navigator.RouterResult
+import com.mapbox.navigator.VoiceInstruction
+import com.mapbox.turf.TurfConstants
+import com.mapbox.turf.TurfMeasurement
+import java.util.Date
+
+/**
+ * [MapboxNativeNavigator] stand-in that doesn't need the native library.
+ *
+ * Raw locations are assumed to follow the route, the distance traveled is the length of the
+ * replayed trace. Each status maps that distance to leg and step progress the same way the
+ * native status is mapped to a [RouteProgress], so the SDK side of the status hot path can be
+ * measured on a plain JVM.
+ *
+ * Only route following is supported, routing, offline and history calls do nothing and
+ * report a failed or empty result.
+ *
+ * @param routeStatus returned when a route is set or the leg index is updated
+ * @param config returned until another one is set
+ */
+class BenchmarkNativeNavigator(
+    private val routeStatus: NavigationStatus,
+    private var config: NavigatorConfig
+) : MapboxNativeNavigator {
+
+    companion object {
+        private const val BENCHMARK_PROVIDER = "benchmark"
+        private const val NOT_SUPPORTED_JSON = "{\"error\":\"Not supported by the benchmark navigator.\"}"
+        private const val NO_TILES = 0L
+    }
+
+    /**
+     * Time of the date the last status was asked for, in epoch milliseconds.
+     */
+    @Volatile
+    var lastStatusTimeMillis: Long = 0L
+        private set
+
+    private val lock = Any()
+    private var route: DirectionsRoute? = null
+    private var lastLocation: Location? = null
+    private var distanceTraveled = 0.0
+    private var legIndex = 0
+    private var stepIndex = 0
+    private var legStartDistance = 0.0
+    private var stepStartDistance = 0.0
+
+    override fun updateLocation(rawLocation: Location): Boolean {
+        synchronized(lock) {
+            lastLocation?.let { previous ->
+                distanceTraveled += TurfMeasurement.distance(
+                    Point.fromLngLat(previous.longitude, previous.latitude),
+                    Point.fromLngLat(rawLocation.longitude, rawLocation.latitude),
+                    TurfConstants.UNIT_METERS
+                )
+            }
+            lastLocation = rawLocation
+        }
+        return true
+    }
+
+    override fun updateSensorEvent(sensorEvent: SensorEvent): Boolean = false
+
+    override fun getStatus(date: Date): TripStatus {
+        lastStatusTimeMillis = date.time
+        synchronized(lock) {
+            val location = lastLocation ?: Location(BENCHMARK_PROVIDER)
+            val currentRoute = route ?: return TripStatus(
+                location,
+                emptyList(),
+                RouteProgress.Builder().currentState(RouteProgressState.ROUTE_INVALID).build(),
+                false
+            )
+            return TripStatus(location, emptyList(), buildRouteProgress(currentRoute), false)
+        }
+    }
+
+    override fun setRoute(route: DirectionsRoute, routeIndex: Int, legIndex: Int): NavigationStatus {
+        synchronized(lock) {
+            this.route = route
+            this.lastLocation = null
+            this.distanceTraveled = 0.0
+            this.legIndex = 0
+            this.stepIndex = 0
+            this.legStartDistance = 0.0
+            this.stepStartDistance = 0.0
+        }
+        return routeStatus
+    }
+
+    override fun updateAnnotations(legAnnotationJson: String, routeIndex: Int, legIndex: Int): Boolean = false
+
+    override fun getBannerInstruction(index: Int): BannerInstruction? = null
+
+    override fun getRouteGeometryWithBuffer(gridSize: Float, bufferDilation: Short): String? = null
+
+    override fun updateLegIndex(routeIndex: Int, legIndex: Int): NavigationStatus = routeStatus
+
+    override fun getElectronicHorizon(request: String): RouterResult = RouterResult(NOT_SUPPORTED_JSON, false)
+
+    override fun cacheLastRoute() {
+    }
+
+    override fun configureRouter(routerParams: RouterParams, httpClient: HttpInterface?): Long = NO_TILES
+
+    override fun getRoute(url: String): RouterResult = RouterResult(NOT_SUPPORTED_JSON, false)
+
+    override fun unpackTiles(tarPath: String, destinationPath: String): Long = NO_TILES
+
+    override fun removeTiles(tilePath: String, southwest: Point, northeast: Point): Long = NO_TILES
+
+    override fun getHistory(): String = ""
+
+    override fun toggleHistory(isEnabled: Boolean) {
+    }
+
+    override fun addHistoryEvent(eventType: String, eventJsonProperties: String) {
+    }
+
+    override fun getConfig(): NavigatorConfig = config
+
+    override fun setConfig(config: NavigatorConfig?) {
+        config?.let { this.config = it }
+    }
+
+    override fun getVoiceInstruction(index: Int): VoiceInstruction? = null
+
+    private fun buildRouteProgress(route: DirectionsRoute): RouteProgress {
+        val legs = route.legs() ?: emptyList()
+        val leg = advanceTo(legs) ?: return RouteProgress.Builder()
+            .route(route)
+            .currentState(RouteProgressState.ROUTE_INVALID)
+            .build()
+        val steps = leg.steps() ?: emptyList()
+        val step = steps[stepIndex]
+
+        val stepTraveled = (distanceTraveled - stepStartDistance).coerceIn(0.0, step.distance())
+        val stepFraction = fraction(stepTraveled, step.distance())
+        val stepProgress = RouteStepProgress.Builder()
+            .stepIndex(stepIndex)
+            .step(step)
+            .distanceTraveled(stepTraveled.toFloat())
+            .distanceRemaining((step.distance() - stepTraveled).toFloat())
+            .fractionTraveled(stepFraction)
+            .durationRemaining((step.duration() * (1 - stepFraction)).toLong())
+            .build()
+
+        val legDistance = leg.distance() ?: 0.0
+        val legTraveled = (distanceTraveled - legStartDistance).coerceIn(0.0, legDistance)
+        val legFraction = fraction(legTraveled, legDistance)
+        val legProgress = RouteLegProgress.Builder()
+            .legIndex(legIndex)
+            .routeLeg(leg)
+            .distanceTraveled(legTraveled.toFloat())
+            .distanceRemaining((legDistance - legTraveled).toFloat())
+            .fractionTraveled(legFraction)
+            .durationRemaining(((leg.duration() ?: 0.0) * (1 - legFraction)).toLong())
+            .currentStepProgress(stepProgress)
+            .apply { steps.getOrNull(stepIndex + 1)?.let { upcomingStep(it) } }
+            .build()
+
+        val routeDistance = route.distance() ?: 0.0
+        val routeTraveled = distanceTraveled.coerceIn(0.0, routeDistance)
+        val routeFraction = fraction(routeTraveled, routeDistance)
+        val isArrived = legIndex == legs.size - 1 && stepIndex == steps.size - 1
+        return RouteProgress.Builder()
+            .route(route)
+            .bannerInstructions(step.bannerInstructions()?.firstOrNull())
+            .voiceInstructions(step.voiceInstructions()?.firstOrNull())
+            .currentState(
+                if (isArrived) RouteProgressState.ROUTE_ARRIVED else RouteProgressState.LOCATION_TRACKING
+            )
+            .currentLegProgress(legProgress)
+            .distanceTraveled(routeTraveled.toFloat())
+            .distanceRemaining((routeDistance - routeTraveled).toFloat())
+            .fractionTraveled(routeFraction)
+            .durationRemaining(((route.duration() ?: 0.0) * (1 - routeFraction)).toLong())
+            .remainingWaypoints(legs.size - legIndex - 1)
+            .build()
+    }
+
+    /**
+     * Moves the leg and step cursor forward to the step containing the distance traveled.
+     */
+    private fun advanceTo(legs: List<RouteLeg>): RouteLeg? {
+        while (legIndex < legs.size) {
+            val steps = legs[legIndex].steps() ?: emptyList<LegStep>()
+            while (stepIndex < steps.size - 1 &&
+                distanceTraveled > stepStartDistance + steps[stepIndex].distance()
+            ) {
+                stepStartDistance += steps[stepIndex].distance()
+                stepIndex++
+            }
+            val legEnd = legStartDistance + (legs[legIndex].distance() ?: 0.0)
+            if (stepIndex < steps.size - 1 || legIndex == legs.size - 1 || distanceTraveled <= legEnd) {
+                return legs[legIndex].takeIf { steps.isNotEmpty() }
+            }
+            legIndex++
+            stepIndex = 0
+            legStartDistance = legEnd
+            stepStartDistance = legEnd
+        }
+        return null
+    }
+
+    private fun fraction(traveled: Double, total: Double): Float =
+        if (total > 0) (traveled / total).toFloat() else 1f
+}
@@ -0,0 +1,107 @@
+package com.mapbox.navigation.benchmark
+
+import android.location.Location
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.geojson.LineString
+import com.mapbox.geojson.Point
+import com.mapbox.turf.TurfConstants
+import com.mapbox.turf.TurfMeasurement
+
+/**
+ * Location streams to replay through the trip pipeline, timestamped on a [VirtualClock].
+ */
+object ReplayLocations {
+
+    private const val REPLAY_PROVIDER = "benchmark"
+    private const val PRECISION_6 = 6
+    private const val ONE_KM_IN_METERS = 1000.0
+    private const val ONE_HOUR_IN_SECONDS = 3600.0
+    private const val ONE_SECOND_IN_MILLISECONDS = 1000.0
+    private const val DEFAULT_ACCURACY = 3f
+
+    /**
+     * Synthesizes locations along the route geometry, evenly spaced for the given speed and
+     * update interval. Locations are created lazily while the sequence is iterated.
+     *
+     * @param route with a precision 6 polyline geometry
+     * @param clock start time of the first location
+     * @param speedKmPerHour simulated speed
+     * @param intervalMillis time between two locations
+     * @return sequence of [Location]s from the origin to the destination of the route
+     */
+    @JvmStatic
+    fun fromRoute(
+        route: DirectionsRoute,
+        clock: VirtualClock,
+        speedKmPerHour: Double,
+        intervalMillis: Long
+    ): Sequence<Location> {
+        val geometry = route.geometry() ?: return emptySequence()
+        val coordinates = LineString.fromPolyline(geometry, PRECISION_6).coordinates()
+        val speed = speedKmPerHour * ONE_KM_IN_METERS / ONE_HOUR_IN_SECONDS
+        val spacing = speed * intervalMillis / ONE_SECOND_IN_MILLISECONDS
+        if (coordinates.size < 2 || spacing <= 0) {
+            return emptySequence()
+        }
+        val startTime = clock.timeMillis
+        return sequence {
+            var tick = 0L
+            var distance = 0.0
+            var segmentStartDistance = 0.0
+            for (index in 0 until coordinates.size - 1) {
+                val from = coordinates[index]
+                val to = coordinates[index + 1]
+                val segmentLength = TurfMeasurement.distance(from, to, TurfConstants.UNIT_METERS)
+                val bearing = TurfMeasurement.bearing(from, to)
+                while (distance <= segmentStartDistance + segmentLength) {
+                    val point = TurfMeasurement.destination(
+                        from,
+                        distance - segmentStartDistance,
+                        bearing,
+                        TurfConstants.UNIT_METERS
+                    )
+                    yield(buildLocation(point, bearing, speed, startTime + tick * intervalMillis))
+                    tick++
+                    distance += spacing
+                }
+                segmentStartDistance += segmentLength
+            }
+        }
+    }
+
+    /**
+     * Replays recorded locations, keeping the time between them but shifting the first one to
+     * the current time of the clock. Locations are copied, the recording isn't modified.
+     *
+     * @param locations recorded trace, in time order
+     * @param clock start time of the first location
+     * @return sequence of [Location]s
+     */
+    @JvmStatic
+    fun fromRecording(
+        locations: Iterable<Location>,
+        clock: VirtualClock
+    ): Sequence<Location> {
+        val startTime = clock.timeMillis
+        val recordingStartTime = locations.firstOrNull()?.time ?: return emptySequence()
+        return locations.asSequence().map { recorded ->
+            Location(recorded).apply {
+                time = startTime + (recorded.time - recordingStartTime)
+            }
+        }
+    }
+
+    private fun buildLocation(
+        point: Point,
+        bearing: Double,
+        speed: Double,
+        time: Long
+    ): Location = Location(REPLAY_PROVIDER).apply {
+        longitude = point.longitude()
+        latitude = point.latitude()
+        this.bearing = bearing.toFloat()
+        this.speed = speed.toFloat()
+        accuracy = DEFAULT_ACCURACY
+        this.time = time
+    }
+}
@@ -0,0 +1,131 @@
+package com.mapbox.navigation.benchmark
+
+import java.lang.management.ManagementFactory
+import java.util.Locale
+import java.util.concurrent.TimeUnit
+import kotlin.math.ceil
+
+/**
+ * Per-tick measurements of a replay: latency from a location update to the resulting
+ * route progress, and bytes allocated by the process in between.
+ *
+ * @param name used in the [report]
+ */
+class TickStats(val name: String) {
+
+    companion object {
+        private const val INITIAL_CAPACITY = 1024
+        private const val NOT_AVAILABLE = -1L
+    }
+
+    private var latencies = LongArray(INITIAL_CAPACITY)
+    private var allocations = LongArray(INITIAL_CAPACITY)
+
+    /**
+     * Number of recorded ticks.
+     */
+    var tickCount = 0
+        private set
+
+    /**
+     * Records one tick.
+     *
+     * @param latencyNanos from the location update to the route progress
+     * @param allocatedBytes during the tick, negative if not measured
+     */
+    fun record(latencyNanos: Long, allocatedBytes: Long) {
+        if (tickCount == latencies.size) {
+            latencies = latencies.copyOf(tickCount * 2)
+            allocations = allocations.copyOf(tickCount * 2)
+        }
+        latencies[tickCount] = latencyNanos
+        allocations[tickCount] = allocatedBytes
+        tickCount++
+    }
+
+    /**
+     * Nearest-rank percentile of the tick latencies.
+     *
+     * @param percentile in the range (0, 100]
+     * @return latency in nanoseconds, 0 if nothing was recorded
+     */
+    fun latencyPercentileNanos(percentile: Double): Long {
+        require(percentile > 0 && percentile <= 100) { "Percentile must be in (0, 100]." }
+        if (tickCount == 0) {
+            return 0
+        }
+        val sorted = latencies.copyOf(tickCount).apply { sort() }
+        val rank = ceil(percentile / 100 * tickCount).toInt()
+        return sorted[rank - 1]
+    }
+
+    /**
+     * Mean bytes allocated per tick.
+     *
+     * @return bytes per tick, or a negative value if allocations couldn't be measured
+     */
+    fun allocatedBytesPerTick(): Long {
+        if (tickCount == 0) {
+            return 0
+        }
+        var total = 0L
+        for (index in 0 until tickCount) {
+            if (allocations[index] < 0) {
+                return NOT_AVAILABLE
+            }
+            total += allocations[index]
+        }
+        return total / tickCount
+    }
+
+    /**
+     * Single line summary of the recorded ticks.
+     */
+    fun report(): String = String.format(
+        Locale.US,
+        "%s: ticks=%d p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms alloc/tick=%s",
+        name,
+        tickCount,
+        toMillis(latencyPercentileNanos(50.0)),
+        toMillis(latencyPercentileNanos(90.0)),
+        toMillis(latencyPercentileNanos(99.0)),
+        toMillis(latencyPercentileNanos(100.0)),
+        allocatedBytesPerTick().let { if (it < 0) "n/a" else "${it}B" }
+    )
+
+    private fun toMillis(nanos: Long): Double =
+        nanos.toDouble() / TimeUnit.MILLISECONDS.toNanos(1)
+}
+
+/**
+ * Bytes allocated by all live threads, based on the HotSpot thread MX bean.
+ * Reports [isSupported] false on JVMs without per-thread allocation accounting.
+ */
+internal object AllocationCounter {
+
+    private val threadBean = ManagementFactory.getThreadMXBean() as? com.sun.management.ThreadMXBean
+
+    val isSupported: Boolean = threadBean?.let { bean ->
+        if (bean.isThreadAllocatedMemorySupported && !bean.isThreadAllocatedMemoryEnabled) {
+            bean.isThreadAllocatedMemoryEnabled = true
+        }
+        bean.isThreadAllocatedMemorySupported
+    } ?: false
+
+    /**
+     * @return total bytes allocated so far, or a negative value if not supported
+     */
+    fun allocatedBytes(): Long {
+        val bean = threadBean
+        if (!isSupported || bean == null) {
+            return -1
+        }
+        var total = 0L
+        bean.getThreadAllocatedBytes(bean.allThreadIds).forEach { bytes ->
+            if (bytes > 0) {
+                total += bytes
+            }
+        }
+        return total
+    }
+}
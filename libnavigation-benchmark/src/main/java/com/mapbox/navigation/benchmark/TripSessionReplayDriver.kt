@@ -0,0 +1,166 @@
+package com.mapbox.navigation.benchmark
+
+import android.app.PendingIntent
+import android.location.Location
+import android.os.Looper
+import com.mapbox.android.core.location.LocationEngine
+import com.mapbox.android.core.location.LocationEngineCallback
+import com.mapbox.android.core.location.LocationEngineRequest
+import com.mapbox.android.core.location.LocationEngineResult
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.navigation.base.options.ObserverDeliveryOptions
+import com.mapbox.navigation.base.options.TripStatusSchedulerOptions
+import com.mapbox.navigation.base.trip.model.RouteProgress
+import com.mapbox.navigation.base.typedef.STATUS_ON_LOCATION_UPDATE
+import com.mapbox.navigation.core.trip.service.TripService
+import com.mapbox.navigation.core.trip.session.MapboxTripSession
+import com.mapbox.navigation.core.trip.session.RouteProgressObserver
+import java.util.concurrent.CopyOnWriteArraySet
+import java.util.concurrent.Executors
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
+
+/**
+ * Replays location streams through a [MapboxTripSession] backed by a [BenchmarkNativeNavigator],
+ * as fast as the session produces route progress.
+ *
+ * Every location is one tick: it's pushed to the session, and the tick ends when the route
+ * progress computed for it reaches a [RouteProgressObserver] notified on a background executor.
+ * The next location is only pushed afterwards, so ticks don't overlap and each one is measured
+ * on its own.
+ *
+ * Locations are timestamped on the [VirtualClock] and the session polls the navigator status at
+ * its time, no wall-clock delay is involved. The session posts results to `Dispatchers.Main`,
+ * which has to be available, e.g. set to a test dispatcher.
+ *
+ * @param clock advanced to the time of each replayed location, used by the session for status polls
+ * @param navigator navigator stand-in used by the session
+ * @param tickTimeoutMillis maximum time to wait for the route progress of a tick
+ */
+class TripSessionReplayDriver @JvmOverloads constructor(
+    private val clock: VirtualClock,
+    private val navigator: BenchmarkNativeNavigator,
+    private val tickTimeoutMillis: Long = DEFAULT_TICK_TIMEOUT_MILLIS
+) {
+
+    companion object {
+        private const val DEFAULT_TICK_TIMEOUT_MILLIS = 5000L
+        private const val LOCATION_REQUEST_INTERVAL = 1000L
+        private const val NAVIGATOR_POLLING_DELAY = 0L
+    }
+
+    private val locationEngine = ReplayLocationEngine()
+    private val routeProgressTicks = Semaphore(0)
+    private val routeProgressObserver = object : RouteProgressObserver {
+        override fun onRouteProgressChanged(routeProgress: RouteProgress) {
+            routeProgressTicks.release()
+        }
+    }
+
+    /**
+     * Starts a new trip session on the route, replays all locations and stops the session.
+     *
+     * @param route set on the navigator before the first location
+     * @param locations stream to replay, in time order
+     * @param stats receives one record per tick
+     * @return the given [stats]
+     * @throws IllegalStateException if a tick doesn't complete within the timeout
+     */
+    fun replay(
+        route: DirectionsRoute,
+        locations: Sequence<Location>,
+        stats: TickStats
+    ): TickStats {
+        navigator.setRoute(route)
+        val tripSession = MapboxTripSession(
+            NoOpTripService,
+            locationEngine,
+            LocationEngineRequest.Builder(LOCATION_REQUEST_INTERVAL).build(),
+            NAVIGATOR_POLLING_DELAY,
+            navigator,
+            tripStatusSchedulerOptions = TripStatusSchedulerOptions.Builder()
+                .mode(STATUS_ON_LOCATION_UPDATE)
+                .build(),
+            time = clock
+        )
+        val deliveryExecutor = Executors.newSingleThreadExecutor()
+        tripSession.registerRouteProgressObserver(
+            routeProgressObserver,
+            ObserverDeliveryOptions.Builder().executor(deliveryExecutor).build()
+        )
+        routeProgressTicks.drainPermits()
+        tripSession.start()
+        try {
+            locations.forEach { location ->
+                clock.advanceTo(location.time)
+                val allocatedBefore = AllocationCounter.allocatedBytes()
+                val tickStart = System.nanoTime()
+
+                locationEngine.deliver(location)
+                check(routeProgressTicks.tryAcquire(tickTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    "No route progress within $tickTimeoutMillis ms of tick ${stats.tickCount}."
+                }
+
+                val latency = System.nanoTime() - tickStart
+                val allocatedAfter = AllocationCounter.allocatedBytes()
+                stats.record(
+                    latency,
+                    if (allocatedBefore < 0) allocatedBefore else (allocatedAfter - allocatedBefore).coerceAtLeast(0)
+                )
+            }
+        } finally {
+            tripSession.unregisterRouteProgressObserver(routeProgressObserver)
+            tripSession.stop()
+            deliveryExecutor.shutdown()
+        }
+        return stats
+    }
+
+    /**
+     * [LocationEngine] that pushes locations to its callbacks synchronously, on the caller's thread.
+     */
+    private class ReplayLocationEngine : LocationEngine {
+
+        private val callbacks = CopyOnWriteArraySet<LocationEngineCallback<LocationEngineResult>>()
+
+        fun deliver(location: Location) {
+            val result = LocationEngineResult.create(location)
+            callbacks.forEach { it.onSuccess(result) }
+        }
+
+        override fun getLastLocation(callback: LocationEngineCallback<LocationEngineResult>) {
+        }
+
+        override fun requestLocationUpdates(
+            request: LocationEngineRequest,
+            callback: LocationEngineCallback<LocationEngineResult>,
+            looper: Looper?
+        ) {
+            callbacks.add(callback)
+        }
+
+        override fun requestLocationUpdates(request: LocationEngineRequest, pendingIntent: PendingIntent) {
+        }
+
+        override fun removeLocationUpdates(callback: LocationEngineCallback<LocationEngineResult>) {
+            callbacks.remove(callback)
+        }
+
+        override fun removeLocationUpdates(pendingIntent: PendingIntent) {
+        }
+    }
+
+    private object NoOpTripService : TripService {
+
+        override fun startService() {
+        }
+
+        override fun stopService() {
+        }
+
+        override fun updateNotification(routeProgress: RouteProgress) {
+        }
+
+        override fun hasServiceStarted(): Boolean = true
+    }
+}
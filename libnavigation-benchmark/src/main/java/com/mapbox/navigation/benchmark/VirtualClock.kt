@@ -0,0 +1,47 @@
+package com.mapbox.navigation.benchmark
+
+import com.mapbox.navigation.utils.time.Time
+import java.util.concurrent.TimeUnit
+
+/**
+ * Clock used to timestamp replayed locations and to date the status polls of the trip session.
+ *
+ * Time only moves when the replay driver advances it, so a replay runs as fast as the
+ * trip pipeline can process it instead of waiting for wall-clock delays.
+ *
+ * @param startTimeMillis initial epoch time in milliseconds
+ */
+class VirtualClock(startTimeMillis: Long = 0L) : Time {
+
+    /**
+     * Current epoch time in milliseconds.
+     */
+    @Volatile
+    var timeMillis: Long = startTimeMillis
+        private set
+
+    override fun millis(): Long = timeMillis
+
+    override fun nanoTime(): Long = TimeUnit.MILLISECONDS.toNanos(timeMillis)
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param millis to advance the clock by, must not be negative
+     */
+    fun advanceBy(millis: Long) {
+        require(millis >= 0) { "Virtual time can't go backwards." }
+        timeMillis += millis
+    }
+
+    /**
+     * Moves the clock forward to the given time, does nothing if it's already past it.
+     *
+     * @param timeMillis epoch time in milliseconds
+     */
+    fun advanceTo(timeMillis: Long) {
+        if (timeMillis > this.timeMillis) {
+            this.timeMillis = timeMillis
+        }
+    }
+}
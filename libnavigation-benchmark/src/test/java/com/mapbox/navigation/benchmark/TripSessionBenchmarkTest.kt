@@ -0,0 +1,131 @@
+package com.mapbox.navigation.benchmark
+
+import com.google.gson.GsonBuilder
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory
+import com.mapbox.api.directions.v5.models.DirectionsResponse
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.navigation.testing.MainCoroutineRule
+import io.mockk.mockk
+import java.util.Date
+import java.util.Scanner
+import java.util.concurrent.TimeUnit
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@ExperimentalCoroutinesApi
+@RunWith(RobolectricTestRunner::class)
+class TripSessionBenchmarkTest {
+
+    @get:Rule
+    var coroutineRule = MainCoroutineRule()
+
+    companion object {
+        private val ROUTE_FIXTURES = listOf(
+            "directions_v5_precision_6.json",
+            "directions_two_leg_route.json"
+        )
+        private const val WARMUP_SESSIONS = 1
+        private const val MEASURED_SESSIONS = 2
+        private const val SPEED_KM_PER_HOUR = 100.0
+        private const val LOCATION_INTERVAL_MILLIS = 1000L
+        private const val P99_BUDGET_PROPERTY = "benchmark.p99BudgetMillis"
+    }
+
+    @Test
+    fun replayRoutes_reportsTickLatencyAndAllocations() {
+        val p99Budget = System.getProperty(P99_BUDGET_PROPERTY)?.toLongOrNull()
+        ROUTE_FIXTURES.forEach { fixture ->
+            val route = loadRoute(fixture)
+            val clock = VirtualClock()
+            val driver = TripSessionReplayDriver(clock, benchmarkNavigator())
+            val expectedTicks = locations(route, clock).count()
+
+            repeat(WARMUP_SESSIONS) {
+                driver.replay(route, locations(route, clock), TickStats("warmup"))
+            }
+            val stats = TickStats(fixture)
+            repeat(MEASURED_SESSIONS) {
+                driver.replay(route, locations(route, clock), stats)
+            }
+
+            assertEquals(expectedTicks * MEASURED_SESSIONS, stats.tickCount)
+            assertTrue(stats.report(), stats.latencyPercentileNanos(50.0) > 0)
+            assertTrue(stats.report(), stats.latencyPercentileNanos(50.0) <= stats.latencyPercentileNanos(99.0))
+            p99Budget?.let { budget ->
+                assertTrue(
+                    stats.report(),
+                    stats.latencyPercentileNanos(99.0) <= TimeUnit.MILLISECONDS.toNanos(budget)
+                )
+            }
+        }
+    }
+
+    @Test
+    fun replayLocations_advanceVirtualClockOnly() {
+        val route = loadRoute(ROUTE_FIXTURES[0])
+        val clock = VirtualClock(1_000L)
+
+        val locations = ReplayLocations.fromRoute(route, clock, SPEED_KM_PER_HOUR, LOCATION_INTERVAL_MILLIS)
+            .take(3)
+            .toList()
+
+        assertEquals(listOf(1_000L, 2_000L, 3_000L), locations.map { it.time })
+        assertEquals(1_000L, clock.timeMillis)
+    }
+
+    @Test
+    fun replayRoute_pollsStatusAtVirtualTime() {
+        val route = loadRoute(ROUTE_FIXTURES[0])
+        val clock = VirtualClock(1_000L)
+        val navigator = benchmarkNavigator()
+        val driver = TripSessionReplayDriver(clock, navigator)
+
+        driver.replay(route, locations(route, clock).take(3), TickStats("virtual time"))
+
+        assertEquals(3_000L, clock.timeMillis)
+        assertEquals(clock.timeMillis, navigator.lastStatusTimeMillis)
+    }
+
+    @Test
+    fun benchmarkNavigator_reachesRouteEnd() {
+        val route = loadRoute(ROUTE_FIXTURES[1])
+        val clock = VirtualClock()
+        val navigator = benchmarkNavigator()
+        navigator.setRoute(route)
+
+        locations(route, clock).forEach { navigator.updateLocation(it) }
+        val routeProgress = navigator.getStatus(Date()).routeProgress
+
+        assertEquals(1, routeProgress.currentLegProgress()?.legIndex())
+        assertEquals(0, routeProgress.remainingWaypoints())
+    }
+
+    @Test
+    fun tickStats_nearestRankPercentiles() {
+        val stats = TickStats("stats")
+
+        (1L..100L).forEach { stats.record(it, 10) }
+
+        assertEquals(50L, stats.latencyPercentileNanos(50.0))
+        assertEquals(99L, stats.latencyPercentileNanos(99.0))
+        assertEquals(100L, stats.latencyPercentileNanos(100.0))
+        assertEquals(10L, stats.allocatedBytesPerTick())
+    }
+
+    private fun benchmarkNavigator() = BenchmarkNativeNavigator(mockk(relaxed = true), mockk(relaxed = true))
+
+    private fun locations(route: DirectionsRoute, clock: VirtualClock) =
+        ReplayLocations.fromRoute(route, clock, SPEED_KM_PER_HOUR, LOCATION_INTERVAL_MILLIS)
+
+    private fun loadRoute(fixture: String): DirectionsRoute {
+        val inputStream = javaClass.classLoader!!.getResourceAsStream(fixture)
+        val body = Scanner(inputStream, "UTF-8").useDelimiter("\\A").next()
+        val gson = GsonBuilder().registerTypeAdapterFactory(DirectionsAdapterFactory.create()).create()
+        return gson.fromJson(body, DirectionsResponse::class.java).routes()[0]
+    }
+}
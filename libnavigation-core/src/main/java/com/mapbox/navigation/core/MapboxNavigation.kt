@@ -18,8 +18,10 @@ import com.mapbox.navigation.base.extensions.ifNonNull
 import com.mapbox.navigation.base.options.DEFAULT_FASTER_ROUTE_DETECTOR_INTERVAL
 import com.mapbox.navigation.base.options.DEFAULT_NAVIGATOR_POLLING_DELAY
 import com.mapbox.navigation.base.options.Endpoint
+import com.mapbox.navigation.base.options.HybridRouterOptions
 import com.mapbox.navigation.base.options.MapboxOnboardRouterConfig
 import com.mapbox.navigation.base.options.NavigationOptions
+import com.mapbox.navigation.base.options.ObserverDeliveryOptions
 import com.mapbox.navigation.base.route.Router
 import com.mapbox.navigation.base.trip.TripNotification
 import com.mapbox.navigation.base.trip.model.RouteProgress
@@ -36,6 +38,7 @@ import com.mapbox.navigation.core.module.NavigationModuleProvider
 import com.mapbox.navigation.core.trip.service.TripService
 import com.mapbox.navigation.core.trip.session.BannerInstructionsObserver
 import com.mapbox.navigation.core.trip.session.LocationObserver
+import com.mapbox.navigation.core.trip.session.ObserverDeliveryStats
 import com.mapbox.navigation.core.trip.session.OffRouteObserver
 import com.mapbox.navigation.core.trip.session.RouteProgressObserver
 import com.mapbox.navigation.core.trip.session.TripSession
@@ -116,6 +119,7 @@ constructor(
     locationEngine: LocationEngine = LocationEngineProvider.getBestLocationEngine(context.applicationContext),
     locationEngineRequest: LocationEngineRequest = LocationEngineRequest.Builder(1000L)
         .setPriority(LocationEngineRequest.PRIORITY_HIGH_ACCURACY)
+        .setMaxWaitTime(navigationOptions.locationBatchingOptions.maxWaitTime)
         .build()
 ) {
 
@@ -137,7 +141,8 @@ constructor(
             NavigationModuleProvider.createModule(
                 MapboxNavigationModuleType.HybridRouter,
                 ::paramsProvider
-            )
+            ),
+            navigationOptions.routeCacheOptions
         )
         directionsSession.registerRoutesObserver(internalRoutesObserver)
         directionsSession.registerRoutesObserver(navigationSession)
@@ -160,7 +165,9 @@ constructor(
             tripService,
             locationEngine,
             locationEngineRequest,
-            navigationOptions.navigatorPollingDelay
+            navigationOptions.navigatorPollingDelay,
+            navigationOptions.tripStatusSchedulerOptions,
+            navigationOptions.locationBatchingOptions
         )
         tripSession.registerOffRouteObserver(internalOffRouteObserver)
         tripSession.registerStateObserver(navigationSession)
@@ -334,6 +341,20 @@ constructor(
         tripSession.registerLocationObserver(locationObserver)
     }
 
+    /**
+     * Registers [LocationObserver] with its own delivery queue. Raw and enhanced locations
+     * are queued separately, so dropping stale updates of one never drops the other.
+     *
+     * @param deliveryOptions policy and thread used to notify the observer
+     * @see [getObserverDeliveryStats]
+     */
+    fun registerLocationObserver(
+        locationObserver: LocationObserver,
+        deliveryOptions: ObserverDeliveryOptions
+    ) {
+        tripSession.registerLocationObserver(locationObserver, deliveryOptions)
+    }
+
     /**
      * Unregisters [LocationObserver].
      */
@@ -351,6 +372,22 @@ constructor(
         tripSession.registerRouteProgressObserver(routeProgressObserver)
     }
 
+    /**
+     * Registers [RouteProgressObserver] with its own delivery queue. A slow observer, like one that
+     * redraws the route line, can keep only the latest [RouteProgress] or sample it at a lower rate
+     * instead of delaying the other observers. Observers that don't need to touch the UI can be
+     * notified off the main thread with an [ObserverDeliveryOptions.executor].
+     *
+     * @param deliveryOptions policy and thread used to notify the observer
+     * @see [getObserverDeliveryStats]
+     */
+    fun registerRouteProgressObserver(
+        routeProgressObserver: RouteProgressObserver,
+        deliveryOptions: ObserverDeliveryOptions
+    ) {
+        tripSession.registerRouteProgressObserver(routeProgressObserver, deliveryOptions)
+    }
+
     /**
      * Unregisters [RouteProgressObserver].
      */
@@ -396,6 +433,19 @@ constructor(
         tripSession.registerBannerInstructionsObserver(bannerInstructionsObserver)
     }
 
+    /**
+     * Registers [BannerInstructionsObserver] with its own delivery queue.
+     *
+     * @param deliveryOptions policy and thread used to notify the observer
+     * @see [getObserverDeliveryStats]
+     */
+    fun registerBannerInstructionsObserver(
+        bannerInstructionsObserver: BannerInstructionsObserver,
+        deliveryOptions: ObserverDeliveryOptions
+    ) {
+        tripSession.registerBannerInstructionsObserver(bannerInstructionsObserver, deliveryOptions)
+    }
+
     /**
      * Unregisters [BannerInstructionsObserver].
      */
@@ -411,6 +461,30 @@ constructor(
         tripSession.registerVoiceInstructionsObserver(voiceInstructionsObserver)
     }
 
+    /**
+     * Registers [VoiceInstructionsObserver] with its own delivery queue. Policies other than
+     * [com.mapbox.navigation.base.typedef.DELIVERY_IMMEDIATE] can drop instructions.
+     *
+     * @param deliveryOptions policy and thread used to notify the observer
+     * @see [getObserverDeliveryStats]
+     */
+    fun registerVoiceInstructionsObserver(
+        voiceInstructionsObserver: VoiceInstructionsObserver,
+        deliveryOptions: ObserverDeliveryOptions
+    ) {
+        tripSession.registerVoiceInstructionsObserver(voiceInstructionsObserver, deliveryOptions)
+    }
+
+    /**
+     * Returns the delivery counters of an observer registered with [ObserverDeliveryOptions].
+     *
+     * @param observer registered with delivery options
+     * @return counters summed over the updates the observer receives, null if the observer
+     * isn't registered with delivery options
+     */
+    fun getObserverDeliveryStats(observer: Any): ObserverDeliveryStats? =
+        tripSession.getObserverDeliveryStats(observer)
+
     /**
      * Unregisters [VoiceInstructionsObserver].
      */
@@ -546,7 +620,8 @@ constructor(
                     MapboxNavigationModuleType.OffboardRouter,
                     ::paramsProvider
                 ),
-                NetworkStatusService::class.java to NetworkStatusService(context.applicationContext)
+                NetworkStatusService::class.java to NetworkStatusService(context.applicationContext),
+                HybridRouterOptions::class.java to navigationOptions.hybridRouterOptions
             )
             MapboxNavigationModuleType.OffboardRouter -> arrayOf(
                 String::class.java to (accessToken
@@ -3,10 +3,14 @@ package com.mapbox.navigation.core
 import android.content.Context
 import com.mapbox.android.core.location.LocationEngine
 import com.mapbox.android.core.location.LocationEngineRequest
+import com.mapbox.navigation.base.options.LocationBatchingOptions
+import com.mapbox.navigation.base.options.RouteCacheOptions
+import com.mapbox.navigation.base.options.TripStatusSchedulerOptions
 import com.mapbox.navigation.base.route.Router
 import com.mapbox.navigation.base.trip.TripNotification
 import com.mapbox.navigation.core.directions.session.DirectionsSession
 import com.mapbox.navigation.core.directions.session.MapboxDirectionsSession
+import com.mapbox.navigation.core.directions.session.RouteResponseCache
 import com.mapbox.navigation.core.trip.service.MapboxTripService
 import com.mapbox.navigation.core.trip.service.TripService
 import com.mapbox.navigation.core.trip.session.MapboxTripSession
@@ -15,9 +19,12 @@ import com.mapbox.navigation.utils.timer.MapboxTimer
 
 internal object NavigationComponentProvider {
     fun createDirectionsSession(
-        router: Router
-    ): DirectionsSession =
-        MapboxDirectionsSession(router)
+        router: Router,
+        routeCacheOptions: RouteCacheOptions
+    ): DirectionsSession = MapboxDirectionsSession(
+        router,
+        if (routeCacheOptions.maxEntries > 0) RouteResponseCache(routeCacheOptions) else null
+    )
 
     fun createTripService(
         applicationContext: Context,
@@ -29,12 +36,16 @@ internal object NavigationComponentProvider {
         tripService: TripService,
         locationEngine: LocationEngine,
         locationEngineRequest: LocationEngineRequest,
-        navigatorPollingDelay: Long
+        navigatorPollingDelay: Long,
+        tripStatusSchedulerOptions: TripStatusSchedulerOptions,
+        locationBatchingOptions: LocationBatchingOptions
     ): TripSession = MapboxTripSession(
         tripService,
         locationEngine,
         locationEngineRequest,
-        navigatorPollingDelay
+        navigatorPollingDelay,
+        tripStatusSchedulerOptions = tripStatusSchedulerOptions,
+        locationBatchingOptions = locationBatchingOptions
     )
 
     fun createMapboxTimer(
@@ -4,41 +4,51 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.RouteOptions
 import com.mapbox.navigation.base.extensions.ifNonNull
 import com.mapbox.navigation.base.route.Router
+import com.mapbox.navigation.utils.thread.ThreadController
 import java.util.concurrent.CopyOnWriteArrayList
-
+import kotlinx.coroutines.launch
+
+/**
+ * Requests routes from the [Router] and holds the current ones.
+ *
+ * With a [RouteResponseCache], responses are cached and identical requests in progress
+ * are coalesced into a single router request. Requests and router callbacks are expected
+ * on the main thread.
+ */
 // todo make internal
-class MapboxDirectionsSession(
-    private val router: Router
+class MapboxDirectionsSession internal constructor(
+    private val router: Router,
+    private val routeResponseCache: RouteResponseCache?
 ) : DirectionsSession {
 
+    constructor(router: Router) : this(router, null)
+
     private val routesObservers = CopyOnWriteArrayList<RoutesObserver>()
     private var routeOptions: RouteOptions? = null
+    private var currentRoutes: List<DirectionsRoute> = emptyList()
+    private val inFlightRequests = mutableMapOf<String, InFlightRequest>()
+    private val mainJobControl by lazy { ThreadController.getMainScopeAndRootJob() }
 
-    override var routes: List<DirectionsRoute> = emptyList()
+    override var routes: List<DirectionsRoute>
+        get() = currentRoutes
         set(value) {
             router.cancel()
-            if (routes.isEmpty() && value.isEmpty()) {
-                return
-            }
-            field = value
-            if (!routes.isEmpty()) {
-                this.routeOptions = routes[0].routeOptions()
-            }
-            routesObservers.forEach { it.onRoutesChanged(value) }
+            inFlightRequests.clear()
+            updateRoutes(value)
         }
 
     override fun getRouteOptions(): RouteOptions? = routeOptions
 
     override fun cancel() {
         router.cancel()
+        inFlightRequests.clear()
     }
 
     override fun requestRoutes(
         routeOptions: RouteOptions,
         routesRequestCallback: RoutesRequestCallback
     ) {
-        routes = emptyList()
-        router.getRoute(routeOptions, object : Router.Callback {
+        val callback = object : Router.Callback {
             override fun onResponse(routes: List<DirectionsRoute>) {
                 this@MapboxDirectionsSession.routes = routesRequestCallback.onRoutesReady(routes)
             }
@@ -50,7 +60,17 @@ class MapboxDirectionsSession(
             override fun onCanceled() {
                 routesRequestCallback.onRoutesRequestCanceled(routeOptions)
             }
-        })
+        }
+        val cacheKey = routeResponseCache?.keyOf(routeOptions)
+        val inFlightRequest = cacheKey?.let { inFlightRequests[it] }
+        if (inFlightRequest != null) {
+            // The same request is in progress, join it instead of canceling it
+            updateRoutes(emptyList())
+            inFlightRequest.callbacks.add(callback)
+            return
+        }
+        routes = emptyList()
+        fetchRoutes(routeOptions, cacheKey, callback)
     }
 
     override fun requestFasterRoute(
@@ -61,7 +81,7 @@ class MapboxDirectionsSession(
             routesRequestCallback.onRoutesRequestCanceled(adjustedRouteOptions)
             return
         }
-        router.getRoute(adjustedRouteOptions, object : Router.Callback {
+        val callback = object : Router.Callback {
             override fun onResponse(routes: List<DirectionsRoute>) {
                 routesRequestCallback.onRoutesReady(routes)
             }
@@ -77,7 +97,14 @@ class MapboxDirectionsSession(
                     routesRequestCallback.onRoutesRequestCanceled(options)
                 }
             }
-        })
+        }
+        val cacheKey = routeResponseCache?.keyOf(adjustedRouteOptions)
+        val inFlightRequest = cacheKey?.let { inFlightRequests[it] }
+        if (inFlightRequest != null) {
+            inFlightRequest.callbacks.add(callback)
+            return
+        }
+        fetchRoutes(adjustedRouteOptions, cacheKey, callback)
     }
 
     override fun registerRoutesObserver(routesObserver: RoutesObserver) {
@@ -98,4 +125,82 @@ class MapboxDirectionsSession(
     override fun shutDownSession() {
         cancel()
     }
+
+    private fun updateRoutes(value: List<DirectionsRoute>) {
+        if (currentRoutes.isEmpty() && value.isEmpty()) {
+            return
+        }
+        currentRoutes = value
+        if (currentRoutes.isNotEmpty()) {
+            this.routeOptions = currentRoutes[0].routeOptions()
+        }
+        routesObservers.forEach { it.onRoutesChanged(value) }
+    }
+
+    /**
+     * Answers from the cache if possible, asks the router otherwise.
+     * Cached routes are delivered asynchronously, like the router ones.
+     *
+     * @param cacheKey of the route options, null if there's no cache
+     */
+    private fun fetchRoutes(routeOptions: RouteOptions, cacheKey: String?, callback: Router.Callback) {
+        val cache = routeResponseCache
+        if (cache == null || cacheKey == null) {
+            router.getRoute(routeOptions, callback)
+            return
+        }
+        val request = InFlightRequest(cacheKey)
+        request.callbacks.add(callback)
+        inFlightRequests[cacheKey] = request
+        val memoryRoutes = cache.getFromMemory(cacheKey)
+        if (memoryRoutes == null && !cache.hasDiskTier) {
+            router.getRoute(routeOptions, request)
+            return
+        }
+        mainJobControl.scope.launch {
+            val cachedRoutes = memoryRoutes ?: cache.getFromDisk(cacheKey)
+            when {
+                inFlightRequests[cacheKey] !== request -> request.onCanceled()
+                cachedRoutes != null -> request.onCachedResponse(cachedRoutes)
+                else -> router.getRoute(routeOptions, request)
+            }
+        }
+    }
+
+    /**
+     * Router request shared by all the identical requests made while it's in progress.
+     */
+    private inner class InFlightRequest(private val cacheKey: String) : Router.Callback {
+
+        val callbacks = mutableListOf<Router.Callback>()
+
+        override fun onResponse(routes: List<DirectionsRoute>) {
+            routeResponseCache?.put(cacheKey, routes)
+            onCachedResponse(routes)
+        }
+
+        /**
+         * Delivers routes already in the cache, without putting them again and refreshing their timestamp.
+         */
+        fun onCachedResponse(routes: List<DirectionsRoute>) {
+            remove()
+            callbacks.toList().forEach { it.onResponse(routes) }
+        }
+
+        override fun onFailure(throwable: Throwable) {
+            remove()
+            callbacks.toList().forEach { it.onFailure(throwable) }
+        }
+
+        override fun onCanceled() {
+            remove()
+            callbacks.toList().forEach { it.onCanceled() }
+        }
+
+        private fun remove() {
+            if (inFlightRequests[cacheKey] === this) {
+                inFlightRequests.remove(cacheKey)
+            }
+        }
+    }
 }
@@ -0,0 +1,161 @@
+package com.mapbox.navigation.core.directions.session
+
+import com.google.gson.JsonParser
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.RouteOptions
+import com.mapbox.geojson.Point
+import com.mapbox.navigation.base.options.RouteCacheOptions
+import com.mapbox.navigation.base.route.internal.RouteJsonCache
+import com.mapbox.navigation.utils.thread.JobControl
+import com.mapbox.navigation.utils.thread.ThreadController
+import java.io.File
+import java.io.IOException
+import java.security.MessageDigest
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.withContext
+
+/**
+ * Bounded LRU cache of route responses, keyed by [keyOf].
+ *
+ * Entries are kept in memory and, if [RouteCacheOptions.diskCacheDirectory] is set, on disk as well,
+ * one route JSON per line. Both tiers drop entries older than [RouteCacheOptions.timeToLive].
+ * The memory tier has to be accessed from a single thread, the disk tier is accessed on the IO dispatcher.
+ *
+ * @param options size, lifetime and key tolerances of the cache
+ * @param ioJobControl scope of the disk writes
+ * @param clock current time in milliseconds
+ */
+internal class RouteResponseCache(
+    private val options: RouteCacheOptions,
+    private val ioJobControl: JobControl = ThreadController.getIOScopeAndRootJob(),
+    private val clock: () -> Long = { System.currentTimeMillis() }
+) {
+
+    companion object {
+        private const val METERS_PER_DEGREE = 111_320.0
+        private const val FULL_CIRCLE_DEGREES = 360.0
+        private const val KEY_COORDINATES = "coordinates"
+        private const val KEY_BEARINGS = "bearings"
+        private const val KEY_UUID = "uuid"
+        private const val DIGEST_ALGORITHM = "SHA-1"
+        private const val CACHE_FILE_EXTENSION = ".routes"
+        private const val TEMP_FILE_EXTENSION = ".tmp"
+    }
+
+    private val coordinateStep = options.coordinateTolerance / METERS_PER_DEGREE
+    private val bearingBuckets = Math.round(FULL_CIRCLE_DEGREES / options.bearingTolerance)
+    private val diskDirectory = options.diskCacheDirectory?.let { File(it) }
+    private val entries = object : LinkedHashMap<String, Entry>(options.maxEntries, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, Entry>?) =
+            size > options.maxEntries
+    }
+
+    val hasDiskTier: Boolean
+        get() = diskDirectory != null
+
+    /**
+     * Canonical form of the route options. Coordinates are snapped to a grid of
+     * [RouteCacheOptions.coordinateTolerance] and bearings put in buckets of
+     * [RouteCacheOptions.bearingTolerance], the request UUID is ignored.
+     */
+    fun keyOf(routeOptions: RouteOptions): String {
+        val otherOptions = JsonParser().parse(routeOptions.toJson()).asJsonObject.apply {
+            remove(KEY_COORDINATES)
+            remove(KEY_BEARINGS)
+            remove(KEY_UUID)
+        }
+        val coordinates = routeOptions.coordinates().joinToString(";") { snap(it) }
+        val bearings = routeOptions.bearingsList()?.joinToString(";") { bucket(it) } ?: ""
+        return "$coordinates|$bearings|$otherOptions"
+    }
+
+    fun getFromMemory(key: String): List<DirectionsRoute>? {
+        val entry = entries[key] ?: return null
+        if (isExpired(entry.timestamp)) {
+            entries.remove(key)
+            return null
+        }
+        return entry.routes
+    }
+
+    /**
+     * Reads the entry from the disk tier and, if found, adds it back to the memory tier.
+     */
+    suspend fun getFromDisk(key: String): List<DirectionsRoute>? {
+        val directory = diskDirectory ?: return null
+        val (timestamp, routes) = withContext(ThreadController.IODispatcher) {
+            val file = cacheFile(directory, key)
+            val timestamp = file.lastModified()
+            if (!file.exists() || isExpired(timestamp)) {
+                return@withContext null
+            }
+            try {
+                timestamp to file.readLines().filter { it.isNotBlank() }.map { json ->
+                    DirectionsRoute.fromJson(json).also { RouteJsonCache.put(it, json) }
+                }
+            } catch (exception: Exception) {
+                file.delete()
+                null
+            }
+        } ?: return null
+        if (routes.isEmpty()) {
+            return null
+        }
+        entries[key] = Entry(routes, timestamp)
+        return routes
+    }
+
+    fun put(key: String, routes: List<DirectionsRoute>) {
+        if (options.maxEntries <= 0 || routes.isEmpty()) {
+            return
+        }
+        entries[key] = Entry(routes, clock())
+        diskDirectory?.let { directory ->
+            ioJobControl.scope.launch {
+                write(directory, key, routes)
+            }
+        }
+    }
+
+    private fun write(directory: File, key: String, routes: List<DirectionsRoute>) {
+        try {
+            directory.mkdirs()
+            val file = cacheFile(directory, key)
+            val tempFile = File(file.path + TEMP_FILE_EXTENSION)
+            tempFile.writeText(routes.joinToString("\n") { RouteJsonCache.toJson(it) })
+            if (!tempFile.renameTo(file)) {
+                file.delete()
+                tempFile.renameTo(file)
+            }
+            trimDiskTier(directory)
+        } catch (exception: IOException) {
+            // The memory tier still holds the entry
+        }
+    }
+
+    private fun trimDiskTier(directory: File) {
+        val files = directory.listFiles { file -> file.name.endsWith(CACHE_FILE_EXTENSION) } ?: return
+        files.sortedByDescending { it.lastModified() }
+            .filterIndexed { index, file -> index >= options.maxEntries || isExpired(file.lastModified()) }
+            .forEach { it.delete() }
+    }
+
+    private fun cacheFile(directory: File, key: String): File {
+        val digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(key.toByteArray())
+        val name = digest.joinToString("") { String.format("%02x", it) }
+        return File(directory, name + CACHE_FILE_EXTENSION)
+    }
+
+    private fun isExpired(timestamp: Long) = clock() - timestamp > options.timeToLive
+
+    private fun snap(point: Point): String =
+        "${Math.round(point.latitude() / coordinateStep)},${Math.round(point.longitude() / coordinateStep)}"
+
+    private fun bucket(bearing: List<Double>?): String {
+        val angle = bearing?.getOrNull(0) ?: return ""
+        val bucket = (Math.round(angle / options.bearingTolerance) % bearingBuckets + bearingBuckets) % bearingBuckets
+        return "$bucket,${bearing.getOrNull(1) ?: ""}"
+    }
+
+    private class Entry(val routes: List<DirectionsRoute>, val timestamp: Long)
+}
@@ -87,14 +87,10 @@ class ReplayRouteLocationEngine(
     }
 
     override fun run() {
-        var nextMockedLocations = converter.toLocations()
+        val nextMockedLocations = converter.toLocations()
         if (nextMockedLocations.isEmpty()) {
-            if (converter.isMultiLegRoute) {
-                nextMockedLocations = converter.toLocations()
-            } else {
-                handler.removeCallbacks(this)
-                return
-            }
+            handler.removeCallbacks(this)
+            return
         }
         dispatcher.add(nextMockedLocations)
         mockedLocations.addAll(nextMockedLocations)
@@ -153,6 +149,9 @@ class ReplayRouteLocationEngine(
         callback: LocationEngineCallback<LocationEngineResult>
     ) {
         handler.removeCallbacks(this)
+        converter.updateSpeed(speed)
+        converter.updateDelay(delay)
+        converter.setRoute(route)
         converter.initializeTime()
         mockedLocations = converter.toLocations().toMutableList()
         dispatcher = obtainDispatcher(callback)
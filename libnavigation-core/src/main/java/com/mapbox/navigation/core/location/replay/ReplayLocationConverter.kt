@@ -17,9 +17,13 @@ interface ReplayLocationConverter {
 
     fun toLocations(): List<Location>
 
+    fun toLocationSequence(): Sequence<Location>
+
     fun initializeTime()
 
     fun sliceRoute(lineString: LineString): List<Point>
 
+    fun sliceRouteSequence(lineString: LineString): Sequence<Point>
+
     fun calculateMockLocations(points: List<Point>): List<Location>
 }
@@ -11,6 +11,9 @@ import com.mapbox.android.core.location.LocationEngineResult
 import com.mapbox.api.directions.v5.models.BannerInstructions
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.VoiceInstructions
+import com.mapbox.navigation.base.options.LocationBatchingOptions
+import com.mapbox.navigation.base.options.ObserverDeliveryOptions
+import com.mapbox.navigation.base.options.TripStatusSchedulerOptions
 import com.mapbox.navigation.base.trip.model.RouteProgress
 import com.mapbox.navigation.core.trip.service.TripService
 import com.mapbox.navigation.navigator.MapboxNativeNavigator
@@ -19,9 +22,12 @@ import com.mapbox.navigation.navigator.TripStatus
 import com.mapbox.navigation.utils.extensions.ifNonNull
 import com.mapbox.navigation.utils.thread.JobControl
 import com.mapbox.navigation.utils.thread.ThreadController
+import com.mapbox.navigation.utils.thread.monitorChannelWithException
+import com.mapbox.navigation.utils.time.Time
 import java.util.Date
 import java.util.concurrent.CopyOnWriteArrayList
 import kotlinx.coroutines.cancelChildren
+import kotlinx.coroutines.channels.Channel
 import kotlinx.coroutines.delay
 import kotlinx.coroutines.isActive
 import kotlinx.coroutines.launch
@@ -34,10 +40,12 @@ class MapboxTripSession(
     override val locationEngineRequest: LocationEngineRequest,
     private val navigatorPollingDelay: Long,
     private val navigator: MapboxNativeNavigator = MapboxNativeNavigatorImpl,
-    threadController: ThreadController = ThreadController
+    threadController: ThreadController = ThreadController,
+    tripStatusSchedulerOptions: TripStatusSchedulerOptions = TripStatusSchedulerOptions.Builder().build(),
+    private val locationBatchingOptions: LocationBatchingOptions = LocationBatchingOptions.Builder().build(),
+    private val time: Time = Time.SystemImpl
 ) : TripSession {
 
-    private val STATUS_POLLING_INTERVAL = 1000L
     override var route: DirectionsRoute? = null
         set(value) {
             field = value
@@ -49,6 +57,11 @@ class MapboxTripSession(
         }
     private val ioJobController: JobControl = threadController.getIOScopeAndRootJob()
     private val mainJobController: JobControl = threadController.getMainScopeAndRootJob()
+    private val tripStatusJobController: JobControl = threadController.getTripStatusScopeAndRootJob()
+    // Deliveries run while the session is started, observers stay registered across sessions
+    private val deliveryJobController: JobControl = threadController.getMainScopeAndRootJob()
+    private val statusScheduler = TripStatusScheduler(tripStatusSchedulerOptions)
+    private val statusRequests = Channel<Unit>(Channel.CONFLATED)
 
     private val locationObservers = CopyOnWriteArrayList<LocationObserver>()
     private val routeProgressObservers = CopyOnWriteArrayList<RouteProgressObserver>()
@@ -57,6 +70,17 @@ class MapboxTripSession(
     private val bannerInstructionsObservers = CopyOnWriteArrayList<BannerInstructionsObserver>()
     private val voiceInstructionsObservers = CopyOnWriteArrayList<VoiceInstructionsObserver>()
 
+    private val rawLocationDeliveries =
+        CopyOnWriteArrayList<ObserverDelivery<LocationObserver, Location>>()
+    private val enhancedLocationDeliveries =
+        CopyOnWriteArrayList<ObserverDelivery<LocationObserver, Pair<Location, List<Location>>>>()
+    private val routeProgressDeliveries =
+        CopyOnWriteArrayList<ObserverDelivery<RouteProgressObserver, RouteProgress>>()
+    private val bannerInstructionsDeliveries =
+        CopyOnWriteArrayList<ObserverDelivery<BannerInstructionsObserver, BannerInstructions>>()
+    private val voiceInstructionsDeliveries =
+        CopyOnWriteArrayList<ObserverDelivery<VoiceInstructionsObserver, VoiceInstructions>>()
+
     private val bannerInstructionEvent = BannerInstructionEvent()
     private val voiceInstructionEvent = VoiceInstructionEvent()
 
@@ -79,7 +103,9 @@ class MapboxTripSession(
         }
 
     private var rawLocation: Location? = null
+    @Volatile
     private var enhancedLocation: Location? = null
+    @Volatile
     private var routeProgress: RouteProgress? = null
 
     override fun getRawLocation() = rawLocation
@@ -95,6 +121,7 @@ class MapboxTripSession(
             return
         }
         tripService.startService()
+        allDeliveries().forEach { it.start() }
         startLocationUpdates()
         state = TripSessionState.STARTED
     }
@@ -115,7 +142,10 @@ class MapboxTripSession(
         tripService.stopService()
         stopLocationUpdates()
         ioJobController.job.cancelChildren()
+        tripStatusJobController.job.cancelChildren()
         mainJobController.job.cancelChildren()
+        allDeliveries().forEach { it.stop() }
+        deliveryJobController.job.cancelChildren()
         reset()
         state = TripSessionState.STOPPED
     }
@@ -138,12 +168,36 @@ class MapboxTripSession(
         enhancedLocation?.let { locationObserver.onEnhancedLocationChanged(it, emptyList()) }
     }
 
+    override fun registerLocationObserver(
+        locationObserver: LocationObserver,
+        deliveryOptions: ObserverDeliveryOptions
+    ) {
+        val rawDelivery = ObserverDelivery<LocationObserver, Location>(
+            locationObserver,
+            deliveryJobController.scope,
+            deliveryOptions
+        ) { observer, location -> observer.onRawLocationChanged(location) }
+        val enhancedDelivery = ObserverDelivery<LocationObserver, Pair<Location, List<Location>>>(
+            locationObserver,
+            deliveryJobController.scope,
+            deliveryOptions
+        ) { observer, (location, keyPoints) -> observer.onEnhancedLocationChanged(location, keyPoints) }
+        rawLocationDeliveries.addDelivery(rawDelivery)
+        enhancedLocationDeliveries.addDelivery(enhancedDelivery)
+        rawLocation?.let { rawDelivery.offer(it) }
+        enhancedLocation?.let { enhancedDelivery.offer(Pair(it, emptyList())) }
+    }
+
     override fun unregisterLocationObserver(locationObserver: LocationObserver) {
         locationObservers.remove(locationObserver)
+        rawLocationDeliveries.removeDelivery(locationObserver)
+        enhancedLocationDeliveries.removeDelivery(locationObserver)
     }
 
     override fun unregisterAllLocationObservers() {
         locationObservers.clear()
+        rawLocationDeliveries.clearDeliveries()
+        enhancedLocationDeliveries.clearDeliveries()
     }
 
     override fun registerRouteProgressObserver(routeProgressObserver: RouteProgressObserver) {
@@ -151,12 +205,27 @@ class MapboxTripSession(
         routeProgress?.let { routeProgressObserver.onRouteProgressChanged(it) }
     }
 
+    override fun registerRouteProgressObserver(
+        routeProgressObserver: RouteProgressObserver,
+        deliveryOptions: ObserverDeliveryOptions
+    ) {
+        val delivery = ObserverDelivery<RouteProgressObserver, RouteProgress>(
+            routeProgressObserver,
+            deliveryJobController.scope,
+            deliveryOptions
+        ) { observer, progress -> observer.onRouteProgressChanged(progress) }
+        routeProgressDeliveries.addDelivery(delivery)
+        routeProgress?.let { delivery.offer(it) }
+    }
+
     override fun unregisterRouteProgressObserver(routeProgressObserver: RouteProgressObserver) {
         routeProgressObservers.remove(routeProgressObserver)
+        routeProgressDeliveries.removeDelivery(routeProgressObserver)
     }
 
     override fun unregisterAllRouteProgressObservers() {
         routeProgressObservers.clear()
+        routeProgressDeliveries.clearDeliveries()
     }
 
     override fun registerOffRouteObserver(offRouteObserver: OffRouteObserver) {
@@ -194,12 +263,31 @@ class MapboxTripSession(
         }
     }
 
+    override fun registerBannerInstructionsObserver(
+        bannerInstructionsObserver: BannerInstructionsObserver,
+        deliveryOptions: ObserverDeliveryOptions
+    ) {
+        val delivery = ObserverDelivery<BannerInstructionsObserver, BannerInstructions>(
+            bannerInstructionsObserver,
+            deliveryJobController.scope,
+            deliveryOptions
+        ) { observer, bannerInstructions -> observer.onNewBannerInstructions(bannerInstructions) }
+        bannerInstructionsDeliveries.addDelivery(delivery)
+        routeProgress?.let {
+            checkBannerInstructionEvent(it) { bannerInstruction ->
+                delivery.offer(bannerInstruction)
+            }
+        }
+    }
+
     override fun unregisterAllBannerInstructionsObservers() {
         bannerInstructionsObservers.clear()
+        bannerInstructionsDeliveries.clearDeliveries()
     }
 
     override fun unregisterBannerInstructionsObserver(bannerInstructionsObserver: BannerInstructionsObserver) {
         bannerInstructionsObservers.remove(bannerInstructionsObserver)
+        bannerInstructionsDeliveries.removeDelivery(bannerInstructionsObserver)
     }
 
     override fun registerVoiceInstructionsObserver(voiceInstructionsObserver: VoiceInstructionsObserver) {
@@ -211,22 +299,48 @@ class MapboxTripSession(
         }
     }
 
+    override fun registerVoiceInstructionsObserver(
+        voiceInstructionsObserver: VoiceInstructionsObserver,
+        deliveryOptions: ObserverDeliveryOptions
+    ) {
+        val delivery = ObserverDelivery<VoiceInstructionsObserver, VoiceInstructions>(
+            voiceInstructionsObserver,
+            deliveryJobController.scope,
+            deliveryOptions
+        ) { observer, voiceInstructions -> observer.onNewVoiceInstructions(voiceInstructions) }
+        voiceInstructionsDeliveries.addDelivery(delivery)
+        routeProgress?.let {
+            checkVoiceInstructionEvent(it) { voiceInstruction ->
+                delivery.offer(voiceInstruction)
+            }
+        }
+    }
+
     override fun unregisterVoiceInstructionsObserver(voiceInstructionsObserver: VoiceInstructionsObserver) {
         voiceInstructionsObservers.remove(voiceInstructionsObserver)
+        voiceInstructionsDeliveries.removeDelivery(voiceInstructionsObserver)
     }
 
     override fun unregisterAllVoiceInstructionsObservers() {
         voiceInstructionsObservers.clear()
+        voiceInstructionsDeliveries.clearDeliveries()
     }
 
+    override fun getObserverDeliveryStats(observer: Any): ObserverDeliveryStats? =
+        allDeliveries().filter { it.observer == observer }
+            .takeIf { it.isNotEmpty() }
+            ?.map { it.stats() }
+            ?.reduce { total, stats -> total + stats }
+
     override fun updateSensorEvent(sensorEvent: SensorEvent) {
         navigator.updateSensorEvent(sensorEvent)
     }
 
     private var locationEngineCallback = object : LocationEngineCallback<LocationEngineResult> {
         override fun onSuccess(result: LocationEngineResult?) {
-            result?.locations?.firstOrNull()?.let {
-                updateRawLocation(it)
+            val locations = result?.locations?.filterNotNull()
+            if (!locations.isNullOrEmpty()) {
+                updateRawLocations(locations)
             }
         }
 
@@ -236,37 +350,76 @@ class MapboxTripSession(
         }
     }
 
-    private fun updateRawLocation(rawLocation: Location) {
-        ioJobController.scope.launch {
-            rawLocation.let {
-                navigator.updateLocation(it)
+    /**
+     * Pushes the batch to the navigator in one call, followed by a single status evaluation.
+     * Locations older than the last one pushed are dropped, only the newest one is passed to the observers.
+     * A location without a time (0 or less) is never dropped, the navigator falls back to now for it.
+     * Batches are pushed on the trip status thread, so the navigator gets them in order.
+     */
+    private fun updateRawLocations(locations: List<Location>) {
+        val sortedLocations = if (locations.size > 1) locations.sortedBy { it.time } else locations
+        val lastTime = this.rawLocation?.time ?: 0L
+        val newLocations = when {
+            lastTime <= 0L -> sortedLocations
+            else -> sortedLocations.filter { it.time <= 0L || it.time >= lastTime }
+        }
+        if (newLocations.isEmpty()) {
+            return
+        }
+        val batch = if (locationBatchingOptions.batchingEnabled) newLocations else listOf(newLocations.last())
+        tripStatusJobController.scope.launch {
+            navigator.updateLocations(batch)
+            if (statusScheduler.isLocationDriven) {
+                statusRequests.offer(Unit)
             }
         }
+        updateRawLocation(batch.last())
+    }
+
+    private fun updateRawLocation(rawLocation: Location) {
+        rawLocationDeliveries.forEach { it.offer(rawLocation) }
         locationObservers.forEach { it.onRawLocationChanged(rawLocation) }
         if (this.rawLocation == null) {
-            fireOffStatusPolling()
+            fireOffStatusUpdates()
         }
         this.rawLocation = rawLocation
     }
 
-    private fun fireOffStatusPolling() {
-        mainJobController.scope.launch {
-            while (isActive) {
-                val status = navigatorPolling()
-                updateEnhancedLocation(status.enhancedLocation, status.keyPoints)
-                updateRouteProgress(status.routeProgress)
-                isOffRoute = status.offRoute
-                delay(STATUS_POLLING_INTERVAL)
+    private fun fireOffStatusUpdates() {
+        if (statusScheduler.isLocationDriven) {
+            tripStatusJobController.scope.monitorChannelWithException(statusRequests, {
+                postStatus(navigatorPolling())
+            })
+        } else {
+            tripStatusJobController.scope.launch {
+                while (isActive) {
+                    val status = navigatorPolling()
+                    postStatus(status)
+                    delay(statusScheduler.nextInterval(status))
+                }
             }
         }
     }
 
-    private suspend fun navigatorPolling(): TripStatus =
-        withContext(ioJobController.scope.coroutineContext) {
-            val date = Date()
-            date.time = date.time + navigatorPollingDelay
-            navigator.getStatus(date)
+    private fun navigatorPolling(): TripStatus {
+        return navigator.getStatus(Date(time.millis() + navigatorPollingDelay))
+    }
+
+    private suspend fun postStatus(status: TripStatus) {
+        val progress = status.routeProgress
+        routeProgress = progress
+        if (enhancedLocationDeliveries.isNotEmpty()) {
+            val enhancedLocationUpdate = Pair(status.enhancedLocation, status.keyPoints)
+            enhancedLocationDeliveries.forEach { it.offer(enhancedLocationUpdate) }
+        }
+        routeProgressDeliveries.forEach { it.offer(progress) }
+        withContext(mainJobController.scope.coroutineContext) {
+            tripService.updateNotification(progress)
+            updateEnhancedLocation(status.enhancedLocation, status.keyPoints)
+            updateRouteProgress(progress)
+            isOffRoute = status.offRoute
         }
+    }
 
     private fun updateEnhancedLocation(location: Location, keyPoints: List<Location>) {
         enhancedLocation = location
@@ -274,15 +427,15 @@ class MapboxTripSession(
     }
 
     private fun updateRouteProgress(progress: RouteProgress) {
-        routeProgress = progress
-        tripService.updateNotification(progress)
         routeProgressObservers.forEach { it.onRouteProgressChanged(progress) }
         checkBannerInstructionEvent(progress) { bannerInstruction ->
+            bannerInstructionsDeliveries.forEach { it.offer(bannerInstruction) }
             bannerInstructionsObservers.forEach {
                 it.onNewBannerInstructions(bannerInstruction)
             }
         }
         checkVoiceInstructionEvent(progress) { voiceInstruction ->
+            voiceInstructionsDeliveries.forEach { it.offer(voiceInstruction) }
             voiceInstructionsObservers.forEach {
                 it.onNewVoiceInstructions(voiceInstruction)
             }
@@ -308,4 +461,30 @@ class MapboxTripSession(
             action(voiceInstructionEvent.voiceInstructions)
         }
     }
+
+    private fun allDeliveries(): List<ObserverDelivery<*, *>> =
+        rawLocationDeliveries +
+            enhancedLocationDeliveries +
+            routeProgressDeliveries +
+            bannerInstructionsDeliveries +
+            voiceInstructionsDeliveries
+
+    private fun <D : ObserverDelivery<*, *>> MutableList<D>.addDelivery(delivery: D) {
+        add(delivery)
+        if (state == TripSessionState.STARTED) {
+            delivery.start()
+        }
+    }
+
+    private fun <O, D : ObserverDelivery<O, *>> MutableList<D>.removeDelivery(observer: O) {
+        filter { it.observer == observer }.forEach { delivery ->
+            remove(delivery)
+            delivery.cancel()
+        }
+    }
+
+    private fun <D : ObserverDelivery<*, *>> MutableList<D>.clearDeliveries() {
+        forEach { it.cancel() }
+        clear()
+    }
 }
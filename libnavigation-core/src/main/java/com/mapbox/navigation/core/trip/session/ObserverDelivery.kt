@@ -0,0 +1,118 @@
+package com.mapbox.navigation.core.trip.session
+
+import com.mapbox.navigation.base.options.ObserverDeliveryOptions
+import com.mapbox.navigation.base.typedef.DELIVERY_IMMEDIATE
+import com.mapbox.navigation.base.typedef.DELIVERY_SAMPLED
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+import kotlin.coroutines.EmptyCoroutineContext
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
+
+/**
+ * Queue of updates for one observer, drained by its own coroutine according to the
+ * [ObserverDeliveryOptions]. Offering an update never waits for the observer.
+ *
+ * The coroutine only runs between [start] and [stop], so a delivery can outlive the trip session
+ * it was registered with and be started again with the next one.
+ *
+ * @param observer receiving the updates
+ * @param scope in which the updates are delivered, the [ObserverDeliveryOptions.executor] is used
+ * instead of the scope dispatcher if set
+ * @param options delivery policy of the observer
+ * @param callback notifies the observer about one update
+ */
+internal class ObserverDelivery<O, T>(
+    val observer: O,
+    private val scope: CoroutineScope,
+    private val options: ObserverDeliveryOptions,
+    private val callback: (O, T) -> Unit
+) {
+
+    private val isConflated = options.policy != DELIVERY_IMMEDIATE
+    private val samplingIntervalMillis = (TimeUnit.SECONDS.toMillis(1) / options.samplingRate).toLong()
+    private val updates = Channel<T>(if (isConflated) Channel.CONFLATED else Channel.UNLIMITED)
+    private val queueDepth = AtomicInteger()
+    private val deliveredCount = AtomicLong()
+    private val droppedCount = AtomicLong()
+    private val totalCallbackNanos = AtomicLong()
+    private val maxCallbackNanos = AtomicLong()
+    private var job: Job? = null
+
+    /**
+     * Starts delivering the queued and future updates, does nothing if already started.
+     */
+    fun start() {
+        if (job?.isActive == true) {
+            return
+        }
+        job = scope.launch(options.executor?.asCoroutineDispatcher() ?: EmptyCoroutineContext) {
+            for (update in updates) {
+                if (isConflated) {
+                    queueDepth.set(0)
+                } else {
+                    queueDepth.decrementAndGet()
+                }
+                val callbackStart = System.nanoTime()
+                callback(observer, update)
+                record(System.nanoTime() - callbackStart)
+                if (options.policy == DELIVERY_SAMPLED) {
+                    delay(samplingIntervalMillis)
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the delivery and drops the pending updates, the delivery can be started again.
+     */
+    fun stop() {
+        job?.cancel()
+        job = null
+        while (updates.poll() != null) {
+            droppedCount.incrementAndGet()
+        }
+        queueDepth.set(0)
+    }
+
+    fun offer(update: T) {
+        if (isConflated) {
+            if (queueDepth.getAndSet(1) > 0) {
+                droppedCount.incrementAndGet()
+            }
+        } else {
+            queueDepth.incrementAndGet()
+        }
+        updates.offer(update)
+    }
+
+    fun cancel() {
+        updates.close()
+        job?.cancel()
+    }
+
+    fun stats(): ObserverDeliveryStats {
+        val delivered = deliveredCount.get()
+        return ObserverDeliveryStats(
+            queueDepth.get(),
+            delivered,
+            droppedCount.get(),
+            if (delivered == 0L) 0L else totalCallbackNanos.get() / delivered,
+            maxCallbackNanos.get()
+        )
+    }
+
+    private fun record(callbackNanos: Long) {
+        deliveredCount.incrementAndGet()
+        totalCallbackNanos.addAndGet(callbackNanos)
+        var max = maxCallbackNanos.get()
+        while (callbackNanos > max && !maxCallbackNanos.compareAndSet(max, callbackNanos)) {
+            max = maxCallbackNanos.get()
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.mapbox.navigation.core.trip.session
+
+import com.mapbox.navigation.base.options.ObserverDeliveryOptions
+
+/**
+ * Delivery counters of an observer registered with [ObserverDeliveryOptions].
+ *
+ * @param queueDepth updates waiting to be delivered
+ * @param deliveredCount updates delivered so far
+ * @param droppedCount updates replaced by a newer one, or dropped when the session stopped, before being delivered
+ * @param averageCallbackNanos mean time spent in the observer callback
+ * @param maxCallbackNanos longest time spent in the observer callback
+ */
+data class ObserverDeliveryStats(
+    val queueDepth: Int,
+    val deliveredCount: Long,
+    val droppedCount: Long,
+    val averageCallbackNanos: Long,
+    val maxCallbackNanos: Long
+) {
+
+    internal operator fun plus(other: ObserverDeliveryStats): ObserverDeliveryStats {
+        val totalCount = deliveredCount + other.deliveredCount
+        return ObserverDeliveryStats(
+            queueDepth + other.queueDepth,
+            totalCount,
+            droppedCount + other.droppedCount,
+            if (totalCount == 0L) {
+                0L
+            } else {
+                (averageCallbackNanos * deliveredCount + other.averageCallbackNanos * other.deliveredCount) / totalCount
+            },
+            maxOf(maxCallbackNanos, other.maxCallbackNanos)
+        )
+    }
+}
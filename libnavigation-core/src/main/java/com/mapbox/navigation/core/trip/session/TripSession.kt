@@ -5,6 +5,7 @@ import android.location.Location
 import com.mapbox.android.core.location.LocationEngine
 import com.mapbox.android.core.location.LocationEngineRequest
 import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.navigation.base.options.ObserverDeliveryOptions
 import com.mapbox.navigation.base.trip.model.RouteProgress
 import com.mapbox.navigation.core.trip.service.TripService
 
@@ -24,10 +25,15 @@ internal interface TripSession {
     fun stop()
 
     fun registerLocationObserver(locationObserver: LocationObserver)
+    fun registerLocationObserver(locationObserver: LocationObserver, deliveryOptions: ObserverDeliveryOptions)
     fun unregisterLocationObserver(locationObserver: LocationObserver)
     fun unregisterAllLocationObservers()
 
     fun registerRouteProgressObserver(routeProgressObserver: RouteProgressObserver)
+    fun registerRouteProgressObserver(
+        routeProgressObserver: RouteProgressObserver,
+        deliveryOptions: ObserverDeliveryOptions
+    )
     fun unregisterRouteProgressObserver(routeProgressObserver: RouteProgressObserver)
     fun unregisterAllRouteProgressObservers()
 
@@ -40,11 +46,21 @@ internal interface TripSession {
     fun unregisterAllStateObservers()
 
     fun registerBannerInstructionsObserver(bannerInstructionsObserver: BannerInstructionsObserver)
+    fun registerBannerInstructionsObserver(
+        bannerInstructionsObserver: BannerInstructionsObserver,
+        deliveryOptions: ObserverDeliveryOptions
+    )
     fun unregisterBannerInstructionsObserver(bannerInstructionsObserver: BannerInstructionsObserver)
     fun unregisterAllBannerInstructionsObservers()
 
     fun registerVoiceInstructionsObserver(voiceInstructionsObserver: VoiceInstructionsObserver)
+    fun registerVoiceInstructionsObserver(
+        voiceInstructionsObserver: VoiceInstructionsObserver,
+        deliveryOptions: ObserverDeliveryOptions
+    )
     fun unregisterVoiceInstructionsObserver(voiceInstructionsObserver: VoiceInstructionsObserver)
     fun unregisterAllVoiceInstructionsObservers()
+
+    fun getObserverDeliveryStats(observer: Any): ObserverDeliveryStats?
     fun updateSensorEvent(sensorEvent: SensorEvent)
 }
@@ -0,0 +1,51 @@
+package com.mapbox.navigation.core.trip.session
+
+import com.mapbox.navigation.base.options.TripStatusSchedulerOptions
+import com.mapbox.navigation.base.typedef.STATUS_ADAPTIVE
+import com.mapbox.navigation.base.typedef.STATUS_ON_LOCATION_UPDATE
+import com.mapbox.navigation.navigator.TripStatus
+
+/**
+ * Decides when [MapboxTripSession] computes the next [TripStatus], based on
+ * [TripStatusSchedulerOptions].
+ */
+internal class TripStatusScheduler(private val options: TripStatusSchedulerOptions) {
+
+    /**
+     * True if a status has to be computed after each raw location update,
+     * false if it's computed on a timer.
+     */
+    val isLocationDriven: Boolean
+        get() = options.mode == STATUS_ON_LOCATION_UPDATE
+
+    /**
+     * Returns the delay in milliseconds before the next status should be computed,
+     * given the last computed [TripStatus].
+     */
+    fun nextInterval(status: TripStatus?): Long =
+        when (options.mode) {
+            STATUS_ADAPTIVE -> adaptiveInterval(status)
+            else -> options.fixedRateInterval
+        }
+
+    private fun adaptiveInterval(status: TripStatus?): Long {
+        if (status == null) {
+            return options.fixedRateInterval
+        }
+        val location = status.enhancedLocation
+        val speed = if (location.hasSpeed()) location.speed else 0f
+        if (speed < options.stationarySpeed) {
+            return options.adaptiveMaxInterval
+        }
+        val distanceToManeuver = status.routeProgress.currentLegProgress()
+            ?.currentStepProgress()
+            ?.distanceRemaining()
+        if (distanceToManeuver != null && distanceToManeuver <= options.maneuverProximityDistance) {
+            return options.adaptiveMinInterval
+        }
+        return options.fixedRateInterval.coerceIn(
+            options.adaptiveMinInterval,
+            options.adaptiveMaxInterval
+        )
+    }
+}
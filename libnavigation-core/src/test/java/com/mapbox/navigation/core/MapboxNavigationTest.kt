@@ -236,7 +236,7 @@ class MapboxNavigationTest {
     }
 
     private fun mockDirectionSession() {
-        every { NavigationComponentProvider.createDirectionsSession(any()) } answers {
+        every { NavigationComponentProvider.createDirectionsSession(any(), any()) } answers {
             directionsSession
         }
         every { directionsSession.getRouteOptions() } returns routeOptions
@@ -251,6 +251,8 @@ class MapboxNavigationTest {
                 tripService,
                 locationEngine,
                 locationEngineRequest,
+                any(),
+                any(),
                 any()
             )
         } returns tripSession
@@ -4,19 +4,26 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.RouteOptions
 import com.mapbox.navigation.base.route.Router
 import com.mapbox.navigation.core.NavigationComponentProvider
+import com.mapbox.navigation.testing.MainCoroutineRule
 import io.mockk.clearMocks
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.mockkObject
 import io.mockk.slot
 import io.mockk.verify
+import kotlinx.coroutines.ExperimentalCoroutinesApi
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertNull
 import org.junit.Before
+import org.junit.Rule
 import org.junit.Test
 
+@ExperimentalCoroutinesApi
 class MapboxDirectionsSessionTest {
 
+    @get:Rule
+    var coroutineRule = MainCoroutineRule()
+
     private lateinit var session: MapboxDirectionsSession
 
     private val router: Router = mockk(relaxUnitFun = true)
@@ -194,4 +201,81 @@ class MapboxDirectionsSessionTest {
         verify { router.getRoute(routeOptions, callback) }
         verify(exactly = 0) { observer.onRoutesChanged(any()) }
     }
+
+    @Test
+    fun cachedRoutes_routerNotCalled() = coroutineRule.runBlockingTest {
+        val cache = mockCache(cachedRoutes = routes)
+        session = MapboxDirectionsSession(router, cache)
+
+        session.requestRoutes(routeOptions, routesRequestCallback)
+
+        verify(exactly = 0) { router.getRoute(any(), any()) }
+        verify(exactly = 1) { routesRequestCallback.onRoutesReady(routes) }
+        assertEquals(routes, session.routes)
+    }
+
+    @Test
+    fun cachedRoutes_notPutAgain() = coroutineRule.runBlockingTest {
+        val cache = mockCache(cachedRoutes = routes)
+        session = MapboxDirectionsSession(router, cache)
+
+        session.requestRoutes(routeOptions, routesRequestCallback)
+
+        verify(exactly = 0) { cache.put(any(), any()) }
+    }
+
+    @Test
+    fun cachedRoutes_deliveredAsynchronously() {
+        coroutineRule.testDispatcher.pauseDispatcher()
+        val cache = mockCache(cachedRoutes = routes)
+        session = MapboxDirectionsSession(router, cache)
+
+        session.requestRoutes(routeOptions, routesRequestCallback)
+        verify(exactly = 0) { routesRequestCallback.onRoutesReady(any()) }
+
+        coroutineRule.testDispatcher.resumeDispatcher()
+        verify(exactly = 1) { routesRequestCallback.onRoutesReady(routes) }
+    }
+
+    @Test
+    fun identicalRequestsInProgress_coalesced() {
+        val cache = mockCache(cachedRoutes = null)
+        session = MapboxDirectionsSession(router, cache)
+        val otherCallback: RoutesRequestCallback = mockk(relaxUnitFun = true)
+        every { otherCallback.onRoutesReady(any()) } answers { this.value }
+
+        session.requestRoutes(routeOptions, routesRequestCallback)
+        clearMocks(router, answers = false)
+        session.requestRoutes(routeOptions, otherCallback)
+        callback.onResponse(routes)
+
+        verify(exactly = 0) { router.getRoute(any(), any()) }
+        verify(exactly = 1) { routesRequestCallback.onRoutesReady(routes) }
+        verify(exactly = 1) { otherCallback.onRoutesReady(routes) }
+        verify(exactly = 1) { cache.put(CACHE_KEY, routes) }
+    }
+
+    @Test
+    fun canceledRequest_notJoined() {
+        val cache = mockCache(cachedRoutes = null)
+        session = MapboxDirectionsSession(router, cache)
+
+        session.requestRoutes(routeOptions, routesRequestCallback)
+        session.cancel()
+        session.requestRoutes(routeOptions, routesRequestCallback)
+
+        verify(exactly = 2) { router.getRoute(routeOptions, any()) }
+    }
+
+    private fun mockCache(cachedRoutes: List<DirectionsRoute>?): RouteResponseCache {
+        val cache: RouteResponseCache = mockk(relaxUnitFun = true)
+        every { cache.keyOf(routeOptions) } returns CACHE_KEY
+        every { cache.getFromMemory(CACHE_KEY) } returns cachedRoutes
+        every { cache.hasDiskTier } returns false
+        return cache
+    }
+
+    companion object {
+        private const val CACHE_KEY = "key"
+    }
 }
@@ -0,0 +1,130 @@
+package com.mapbox.navigation.core.directions.session
+
+import com.mapbox.api.directions.v5.DirectionsCriteria
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.RouteOptions
+import com.mapbox.geojson.Point
+import com.mapbox.navigation.base.extensions.applyDefaultParams
+import com.mapbox.navigation.base.extensions.coordinates
+import com.mapbox.navigation.base.options.RouteCacheOptions
+import com.mapbox.navigation.utils.thread.JobControl
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotEquals
+import org.junit.Assert.assertNull
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+
+class RouteResponseCacheTest {
+
+    @get:Rule
+    val folder = TemporaryFolder()
+
+    private var time = 0L
+    private val options = RouteCacheOptions.Builder()
+        .maxEntries(2)
+        .timeToLive(TIME_TO_LIVE)
+        .build()
+    private val routes = listOf(
+        DirectionsRoute.builder()
+            .geometry("_izlhA~rlgdF")
+            .distance(1000.0)
+            .duration(100.0)
+            .build()
+    )
+
+    @Test
+    fun keyOf_nearbyCoordinatesShareKey() {
+        val cache = RouteResponseCache(options, clock = { time })
+
+        val key = cache.keyOf(routeOptions(Point.fromLngLat(-122.41950, 37.77490)))
+        val nearbyKey = cache.keyOf(routeOptions(Point.fromLngLat(-122.41951, 37.77491)))
+        val distantKey = cache.keyOf(routeOptions(Point.fromLngLat(-122.42950, 37.77490)))
+
+        assertEquals(key, nearbyKey)
+        assertNotEquals(key, distantKey)
+    }
+
+    @Test
+    fun keyOf_bearingsAreBucketed() {
+        val cache = RouteResponseCache(options, clock = { time })
+        val origin = Point.fromLngLat(-122.41950, 37.77490)
+
+        val key = cache.keyOf(routeOptions(origin, bearing = 91.0))
+        val closeKey = cache.keyOf(routeOptions(origin, bearing = 95.0))
+        val oppositeKey = cache.keyOf(routeOptions(origin, bearing = 271.0))
+
+        assertEquals(key, closeKey)
+        assertNotEquals(key, oppositeKey)
+    }
+
+    @Test
+    fun keyOf_otherOptionsAreCompared() {
+        val cache = RouteResponseCache(options, clock = { time })
+        val origin = Point.fromLngLat(-122.41950, 37.77490)
+
+        val drivingKey = cache.keyOf(routeOptions(origin))
+        val walkingKey = cache.keyOf(
+            routeOptions(origin).toBuilder().profile(DirectionsCriteria.PROFILE_WALKING).build()
+        )
+
+        assertNotEquals(drivingKey, walkingKey)
+    }
+
+    @Test
+    fun getFromMemory_expiredEntryIsDropped() {
+        val cache = RouteResponseCache(options, clock = { time })
+
+        cache.put(KEY, routes)
+        time += TIME_TO_LIVE
+        assertEquals(routes, cache.getFromMemory(KEY))
+        time += 1
+        assertNull(cache.getFromMemory(KEY))
+    }
+
+    @Test
+    fun put_leastRecentlyUsedEntryIsEvicted() {
+        val cache = RouteResponseCache(options, clock = { time })
+
+        cache.put("first", routes)
+        cache.put("second", routes)
+        cache.getFromMemory("first")
+        cache.put("third", routes)
+
+        assertEquals(routes, cache.getFromMemory("first"))
+        assertNull(cache.getFromMemory("second"))
+    }
+
+    @Test
+    fun getFromDisk_entryIsRestored() = runBlocking {
+        val job = SupervisorJob()
+        val jobControl = JobControl(job, CoroutineScope(job + Dispatchers.Unconfined))
+        val diskOptions = options.toBuilder().diskCacheDirectory(folder.root.path).build()
+        val clock = { System.currentTimeMillis() }
+        RouteResponseCache(diskOptions, jobControl, clock).put(KEY, routes)
+
+        val restoredCache = RouteResponseCache(diskOptions, jobControl, clock)
+
+        assertEquals(routes, restoredCache.getFromDisk(KEY))
+        assertEquals(routes, restoredCache.getFromMemory(KEY))
+    }
+
+    private fun routeOptions(origin: Point, bearing: Double? = null): RouteOptions =
+        RouteOptions.builder()
+            .applyDefaultParams()
+            .accessToken("token")
+            .coordinates(origin, null, Point.fromLngLat(-122.4, 37.8))
+            .apply {
+                bearing?.let { bearings("$it,45;0,90") }
+            }
+            .build()
+
+    companion object {
+        private const val KEY = "key"
+        private const val TIME_TO_LIVE = 1000L
+    }
+}
@@ -9,7 +9,12 @@ import com.mapbox.android.core.location.LocationEngineResult
 import com.mapbox.api.directions.v5.models.BannerInstructions
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.VoiceInstructions
+import com.mapbox.navigation.base.options.LocationBatchingOptions
+import com.mapbox.navigation.base.options.ObserverDeliveryOptions
+import com.mapbox.navigation.base.options.TripStatusSchedulerOptions
 import com.mapbox.navigation.base.trip.model.RouteProgress
+import com.mapbox.navigation.base.typedef.DELIVERY_LATEST
+import com.mapbox.navigation.base.typedef.STATUS_ON_LOCATION_UPDATE
 import com.mapbox.navigation.core.trip.service.TripService
 import com.mapbox.navigation.navigator.MapboxNativeNavigator
 import com.mapbox.navigation.navigator.TripStatus
@@ -24,6 +29,7 @@ import io.mockk.mockkObject
 import io.mockk.slot
 import io.mockk.unmockkObject
 import io.mockk.verify
+import java.util.concurrent.Executor
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.InternalCoroutinesApi
@@ -78,6 +84,7 @@ class MapboxTripSessionTest {
         every { ThreadController.IODispatcher } returns coroutineRule.testDispatcher
         every { ThreadController.getIOScopeAndRootJob() } returns JobControl(parentJob, testScope)
         every { ThreadController.getMainScopeAndRootJob() } returns JobControl(parentJob, testScope)
+        every { ThreadController.getTripStatusScopeAndRootJob() } returns JobControl(parentJob, testScope)
 
         tripSession = MapboxTripSession(
             tripService,
@@ -89,6 +96,8 @@ class MapboxTripSessionTest {
 
         every { navigator.getStatus(any()) } returns tripStatus
         every { navigator.updateLocation(any()) } returns false
+        every { navigator.updateLocations(any()) } returns false
+        every { location.time } returns 1000L
         every { navigator.setRoute(any()) } returns navigationStatus
         every { tripStatus.enhancedLocation } returns enhancedLocation
         every { tripStatus.keyPoints } returns keyPoints
@@ -178,7 +187,88 @@ class MapboxTripSessionTest {
     fun locationPush() = coroutineRule.runBlockingTest {
         tripSession.start()
         updateLocationAndJoin()
-        verify { navigator.updateLocation(location) }
+        verify { navigator.updateLocations(listOf(location)) }
+        tripSession.stop()
+    }
+
+    @Test
+    fun locationBatchPushedInTimestampOrder() = coroutineRule.runBlockingTest {
+        val earlierLocation = locationAt(500L)
+        val laterLocation = locationAt(2000L)
+        every { locationEngineResult.locations } returns listOf(location, laterLocation, earlierLocation)
+        tripSession.start()
+        val observer: LocationObserver = mockk(relaxUnitFun = true)
+        tripSession.registerLocationObserver(observer)
+
+        updateLocationAndJoin()
+
+        verify(exactly = 1) { navigator.updateLocations(listOf(earlierLocation, location, laterLocation)) }
+        verify(exactly = 0) { navigator.updateLocation(any()) }
+        verify(exactly = 1) { observer.onRawLocationChanged(any()) }
+        assertEquals(laterLocation, tripSession.getRawLocation())
+        tripSession.stop()
+    }
+
+    @Test
+    fun locationBatchOlderLocationsDropped() = coroutineRule.runBlockingTest {
+        val staleLocation = locationAt(500L)
+        tripSession.start()
+        locationCallbackSlot.captured.onSuccess(locationEngineResult)
+        every { locationEngineResult.locations } returns listOf(staleLocation)
+
+        updateLocationAndJoin()
+
+        verify(exactly = 0) { navigator.updateLocations(listOf(staleLocation)) }
+        assertEquals(location, tripSession.getRawLocation())
+        tripSession.stop()
+    }
+
+    @Test
+    fun locationBatchSameTimestampPushed() = coroutineRule.runBlockingTest {
+        tripSession.start()
+        locationCallbackSlot.captured.onSuccess(locationEngineResult)
+
+        updateLocationAndJoin()
+
+        verify(exactly = 2) { navigator.updateLocations(listOf(location)) }
+        tripSession.stop()
+    }
+
+    @Test
+    fun locationBatchUntimedLocationsPushed() = coroutineRule.runBlockingTest {
+        val untimedLocation = locationAt(0L)
+        val otherUntimedLocation = locationAt(0L)
+        tripSession.start()
+        locationCallbackSlot.captured.onSuccess(locationEngineResult)
+        every { locationEngineResult.locations } returns listOf(untimedLocation)
+        locationCallbackSlot.captured.onSuccess(locationEngineResult)
+        every { locationEngineResult.locations } returns listOf(otherUntimedLocation)
+
+        updateLocationAndJoin()
+
+        verify(exactly = 1) { navigator.updateLocations(listOf(untimedLocation)) }
+        verify(exactly = 1) { navigator.updateLocations(listOf(otherUntimedLocation)) }
+        assertEquals(otherUntimedLocation, tripSession.getRawLocation())
+        tripSession.stop()
+    }
+
+    @Test
+    fun locationBatchingDisabledPushesNewestLocation() = coroutineRule.runBlockingTest {
+        val laterLocation = locationAt(2000L)
+        tripSession = MapboxTripSession(
+            tripService,
+            locationEngine,
+            locationEngineRequest,
+            navigatorPollingDelay,
+            navigator,
+            locationBatchingOptions = LocationBatchingOptions.Builder().batchingEnabled(false).build()
+        )
+        every { locationEngineResult.locations } returns listOf(laterLocation, location)
+        tripSession.start()
+
+        updateLocationAndJoin()
+
+        verify(exactly = 1) { navigator.updateLocations(listOf(laterLocation)) }
         tripSession.stop()
     }
 
@@ -202,6 +292,115 @@ class MapboxTripSessionTest {
         tripSession.stop()
     }
 
+    @Test
+    fun routeProgressObserverLocationDrivenStatus() = coroutineRule.runBlockingTest {
+        tripSession = MapboxTripSession(
+            tripService,
+            locationEngine,
+            locationEngineRequest,
+            navigatorPollingDelay,
+            navigator,
+            ThreadController,
+            TripStatusSchedulerOptions.Builder().mode(STATUS_ON_LOCATION_UPDATE).build()
+        )
+        tripSession.start()
+        val observer: RouteProgressObserver = mockk(relaxUnitFun = true)
+        tripSession.registerRouteProgressObserver(observer)
+        updateLocationAndJoin()
+
+        verify(exactly = 1) { navigator.getStatus(any()) }
+        verify(exactly = 1) { observer.onRouteProgressChanged(routeProgress) }
+        tripSession.stop()
+    }
+
+    @Test
+    fun routeProgressObserverExecutorDelivery() = coroutineRule.runBlockingTest {
+        tripSession = MapboxTripSession(
+            tripService,
+            locationEngine,
+            locationEngineRequest,
+            navigatorPollingDelay,
+            navigator,
+            ThreadController
+        )
+        tripSession.start()
+        val observer: RouteProgressObserver = mockk(relaxUnitFun = true)
+        val deliveryOptions = ObserverDeliveryOptions.Builder().executor(Executor { it.run() }).build()
+        tripSession.registerRouteProgressObserver(observer, deliveryOptions)
+        updateLocationAndJoin()
+
+        verify(exactly = 1) { observer.onRouteProgressChanged(routeProgress) }
+        verify { tripService.updateNotification(routeProgress) }
+        tripSession.stop()
+    }
+
+    @Test
+    fun routeProgressObserverDeliveryOptions() = coroutineRule.runBlockingTest {
+        tripSession = MapboxTripSession(
+            tripService,
+            locationEngine,
+            locationEngineRequest,
+            navigatorPollingDelay,
+            navigator,
+            ThreadController
+        )
+        tripSession.start()
+        val observer: RouteProgressObserver = mockk(relaxUnitFun = true)
+        val deliveryOptions = ObserverDeliveryOptions.Builder().policy(DELIVERY_LATEST).build()
+        tripSession.registerRouteProgressObserver(observer, deliveryOptions)
+        updateLocationAndJoin()
+
+        verify(exactly = 1) { observer.onRouteProgressChanged(routeProgress) }
+        assertEquals(1L, tripSession.getObserverDeliveryStats(observer)?.deliveredCount)
+        tripSession.stop()
+    }
+
+    @Test
+    fun routeProgressObserverDeliveryFollowsSession() = coroutineRule.runBlockingTest {
+        tripSession = MapboxTripSession(
+            tripService,
+            locationEngine,
+            locationEngineRequest,
+            navigatorPollingDelay,
+            navigator,
+            ThreadController
+        )
+        val observer: RouteProgressObserver = mockk(relaxUnitFun = true)
+        val deliveryOptions = ObserverDeliveryOptions.Builder().policy(DELIVERY_LATEST).build()
+        tripSession.registerRouteProgressObserver(observer, deliveryOptions)
+        tripSession.start()
+        updateLocationAndJoin()
+        tripSession.stop()
+
+        tripSession.start()
+        updateLocationAndJoin()
+
+        verify(exactly = 2) { observer.onRouteProgressChanged(routeProgress) }
+        assertEquals(2L, tripSession.getObserverDeliveryStats(observer)?.deliveredCount)
+        tripSession.stop()
+    }
+
+    @Test
+    fun routeProgressObserverExecutorUnregister() = coroutineRule.runBlockingTest {
+        tripSession = MapboxTripSession(
+            tripService,
+            locationEngine,
+            locationEngineRequest,
+            navigatorPollingDelay,
+            navigator,
+            ThreadController
+        )
+        tripSession.start()
+        val observer: RouteProgressObserver = mockk(relaxUnitFun = true)
+        val deliveryOptions = ObserverDeliveryOptions.Builder().executor(Executor { it.run() }).build()
+        tripSession.registerRouteProgressObserver(observer, deliveryOptions)
+        tripSession.unregisterRouteProgressObserver(observer)
+        updateLocationAndJoin()
+
+        verify(exactly = 0) { observer.onRouteProgressChanged(any()) }
+        tripSession.stop()
+    }
+
     @Test
     fun routeProgressObserverImmediate() = coroutineRule.runBlockingTest {
         tripSession = MapboxTripSession(
@@ -551,6 +750,10 @@ class MapboxTripSessionTest {
         unmockkObject(ThreadController)
     }
 
+    private fun locationAt(fixTime: Long): Location = mockk(relaxUnitFun = true) {
+        every { time } returns fixTime
+    }
+
     private suspend fun updateLocationAndJoin() {
         locationCallbackSlot.captured.onSuccess(locationEngineResult)
         parentJob.cancelAndJoin()
@@ -0,0 +1,149 @@
+package com.mapbox.navigation.core.trip.session
+
+import com.mapbox.navigation.base.options.ObserverDeliveryOptions
+import com.mapbox.navigation.base.typedef.DELIVERY_IMMEDIATE
+import com.mapbox.navigation.base.typedef.DELIVERY_LATEST
+import com.mapbox.navigation.base.typedef.DELIVERY_SAMPLED
+import java.util.concurrent.Executor
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.test.TestCoroutineScope
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+@ExperimentalCoroutinesApi
+class ObserverDeliveryTest {
+
+    private val testScope = TestCoroutineScope()
+    private val received = mutableListOf<Int>()
+
+    @After
+    fun cleanUp() {
+        testScope.cleanupTestCoroutines()
+    }
+
+    @Test
+    fun immediate_allUpdatesAreDeliveredInOrder() {
+        val delivery = buildDelivery(DELIVERY_IMMEDIATE)
+        testScope.pauseDispatcher()
+
+        (1..3).forEach { delivery.offer(it) }
+        assertEquals(3, delivery.stats().queueDepth)
+        testScope.resumeDispatcher()
+
+        assertEquals(listOf(1, 2, 3), received)
+        assertEquals(0, delivery.stats().queueDepth)
+        assertEquals(3L, delivery.stats().deliveredCount)
+    }
+
+    @Test
+    fun latest_pendingUpdatesAreConflated() {
+        val delivery = buildDelivery(DELIVERY_LATEST)
+        testScope.pauseDispatcher()
+
+        (1..3).forEach { delivery.offer(it) }
+        assertEquals(1, delivery.stats().queueDepth)
+        testScope.resumeDispatcher()
+
+        assertEquals(listOf(3), received)
+        assertEquals(2L, delivery.stats().droppedCount)
+    }
+
+    @Test
+    fun sampled_updatesAreDeliveredAtSamplingRate() {
+        val delivery = buildDelivery(DELIVERY_SAMPLED, samplingRate = 2.0)
+
+        delivery.offer(1)
+        delivery.offer(2)
+        delivery.offer(3)
+        testScope.advanceTimeBy(499)
+        assertEquals(listOf(1), received)
+        testScope.advanceTimeBy(1)
+
+        assertEquals(listOf(1, 3), received)
+    }
+
+    @Test
+    fun cancel_pendingUpdatesAreNotDelivered() {
+        val delivery = buildDelivery(DELIVERY_IMMEDIATE)
+        testScope.pauseDispatcher()
+
+        delivery.offer(1)
+        delivery.cancel()
+        testScope.resumeDispatcher()
+
+        assertEquals(emptyList<Int>(), received)
+    }
+
+    @Test
+    fun stop_pendingUpdatesAreDroppedAndRestartDeliversNewOnes() {
+        val delivery = buildDelivery(DELIVERY_IMMEDIATE)
+        testScope.pauseDispatcher()
+
+        delivery.offer(1)
+        delivery.stop()
+        testScope.resumeDispatcher()
+        assertEquals(emptyList<Int>(), received)
+        assertEquals(0, delivery.stats().queueDepth)
+        assertEquals(1L, delivery.stats().droppedCount)
+
+        delivery.start()
+        delivery.offer(2)
+
+        assertEquals(listOf(2), received)
+    }
+
+    @Test
+    fun notStarted_updatesAreQueued() {
+        val options = ObserverDeliveryOptions.Builder().build()
+        val delivery = ObserverDelivery<MutableList<Int>, Int>(received, testScope, options) { observer, update ->
+            observer.add(update)
+        }
+
+        delivery.offer(1)
+        assertEquals(emptyList<Int>(), received)
+        delivery.start()
+
+        assertEquals(listOf(1), received)
+    }
+
+    @Test
+    fun executor_callbacksRunOnExecutor() {
+        val executed = mutableListOf<Runnable>()
+        val options = ObserverDeliveryOptions.Builder()
+            .executor(Executor { executed.add(it) })
+            .build()
+        val delivery = ObserverDelivery<MutableList<Int>, Int>(received, testScope, options) { observer, update ->
+            observer.add(update)
+        }
+        delivery.start()
+
+        delivery.offer(1)
+        assertEquals(emptyList<Int>(), received)
+        while (executed.isNotEmpty()) {
+            executed.removeAt(0).run()
+        }
+
+        assertEquals(listOf(1), received)
+    }
+
+    @Test
+    fun stats_noDeliveryYet() {
+        val delivery = buildDelivery(DELIVERY_IMMEDIATE)
+
+        val stats = delivery.stats()
+
+        assertEquals(0L, stats.deliveredCount)
+        assertEquals(0L, stats.averageCallbackNanos)
+    }
+
+    private fun buildDelivery(policy: Int, samplingRate: Double = 1.0): ObserverDelivery<MutableList<Int>, Int> {
+        val options = ObserverDeliveryOptions.Builder()
+            .policy(policy)
+            .samplingRate(samplingRate)
+            .build()
+        return ObserverDelivery<MutableList<Int>, Int>(received, testScope, options) { observer, update ->
+            observer.add(update)
+        }.apply { start() }
+    }
+}
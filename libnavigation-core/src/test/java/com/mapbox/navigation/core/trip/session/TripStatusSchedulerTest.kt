@@ -0,0 +1,88 @@
+package com.mapbox.navigation.core.trip.session
+
+import android.location.Location
+import com.mapbox.navigation.base.options.TripStatusSchedulerOptions
+import com.mapbox.navigation.base.trip.model.RouteProgress
+import com.mapbox.navigation.base.typedef.STATUS_ADAPTIVE
+import com.mapbox.navigation.base.typedef.STATUS_FIXED_RATE
+import com.mapbox.navigation.base.typedef.STATUS_ON_LOCATION_UPDATE
+import com.mapbox.navigation.navigator.TripStatus
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class TripStatusSchedulerTest {
+
+    private val adaptiveOptions = TripStatusSchedulerOptions.Builder()
+        .mode(STATUS_ADAPTIVE)
+        .fixedRateInterval(1000L)
+        .adaptiveMinInterval(100L)
+        .adaptiveMaxInterval(5000L)
+        .maneuverProximityDistance(200f)
+        .stationarySpeed(0.5f)
+        .build()
+
+    @Test
+    fun locationDrivenOnlyInOnLocationUpdateMode() {
+        val onLocation = TripStatusSchedulerOptions.Builder().mode(STATUS_ON_LOCATION_UPDATE).build()
+        val fixedRate = TripStatusSchedulerOptions.Builder().mode(STATUS_FIXED_RATE).build()
+
+        assertTrue(TripStatusScheduler(onLocation).isLocationDriven)
+        assertFalse(TripStatusScheduler(fixedRate).isLocationDriven)
+        assertFalse(TripStatusScheduler(adaptiveOptions).isLocationDriven)
+    }
+
+    @Test
+    fun fixedRateIntervalIsUsedInFixedRateMode() {
+        val options = TripStatusSchedulerOptions.Builder()
+            .mode(STATUS_FIXED_RATE)
+            .fixedRateInterval(150L)
+            .build()
+
+        val interval = TripStatusScheduler(options).nextInterval(buildStatus(20f, 50f))
+
+        assertEquals(150L, interval)
+    }
+
+    @Test
+    fun adaptiveBacksOffWhenStationary() {
+        val interval = TripStatusScheduler(adaptiveOptions).nextInterval(buildStatus(0f, 50f))
+
+        assertEquals(5000L, interval)
+    }
+
+    @Test
+    fun adaptiveSpeedsUpNearManeuver() {
+        val interval = TripStatusScheduler(adaptiveOptions).nextInterval(buildStatus(15f, 150f))
+
+        assertEquals(100L, interval)
+    }
+
+    @Test
+    fun adaptiveCruisesAtFixedRateAwayFromManeuver() {
+        val interval = TripStatusScheduler(adaptiveOptions).nextInterval(buildStatus(15f, 2000f))
+
+        assertEquals(1000L, interval)
+    }
+
+    @Test
+    fun adaptiveWithoutStatusUsesFixedRate() {
+        val interval = TripStatusScheduler(adaptiveOptions).nextInterval(null)
+
+        assertEquals(1000L, interval)
+    }
+
+    private fun buildStatus(speed: Float, stepDistanceRemaining: Float): TripStatus {
+        val location: Location = mockk()
+        every { location.hasSpeed() } returns true
+        every { location.speed } returns speed
+        val routeProgress: RouteProgress = mockk()
+        every {
+            routeProgress.currentLegProgress()?.currentStepProgress()?.distanceRemaining()
+        } returns stepDistanceRemaining
+        return TripStatus(location, emptyList(), routeProgress, false)
+    }
+}
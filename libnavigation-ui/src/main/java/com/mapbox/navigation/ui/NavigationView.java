@@ -46,6 +46,7 @@ import com.mapbox.navigation.ui.map.NavigationMapboxMapInstanceState;
 import com.mapbox.navigation.ui.map.WayNameView;
 import com.mapbox.navigation.ui.summary.SummaryBottomSheet;
 import com.mapbox.navigation.ui.utils.LocaleEx;
+import com.mapbox.navigation.ui.voice.VoiceInstructionMetrics;
 import com.mapbox.navigation.utils.extensions.ContextEx;
 
 /**
@@ -473,6 +474,16 @@ public class NavigationView extends CoordinatorLayout implements LifecycleOwner,
     return navigationViewModel.retrieveNavigation();
   }
 
+  /**
+   * Returns the hit, miss and latency metrics of the voice instructions prefetched along the route.
+   *
+   * @return voice instruction metrics, or null if navigation has not started
+   */
+  @Nullable
+  public VoiceInstructionMetrics retrieveVoiceInstructionMetrics() {
+    return navigationViewModel.retrieveVoiceInstructionMetrics();
+  }
+
   /**
    * Returns the sound button used for muting instructions
    *
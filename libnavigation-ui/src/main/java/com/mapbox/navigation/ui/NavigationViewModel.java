@@ -39,6 +39,7 @@ import com.mapbox.navigation.ui.voice.NavigationSpeechPlayer;
 import com.mapbox.navigation.ui.voice.SpeechPlayer;
 import com.mapbox.navigation.ui.voice.SpeechPlayerProvider;
 import com.mapbox.navigation.ui.voice.VoiceInstructionLoader;
+import com.mapbox.navigation.ui.voice.VoiceInstructionMetrics;
 import com.mapbox.navigation.utils.extensions.ContextEx;
 
 import org.jetbrains.annotations.TestOnly;
@@ -69,7 +70,6 @@ public class NavigationViewModel extends AndroidViewModel {
   private SpeechPlayer speechPlayer;
   private VoiceInstructionLoader voiceInstructionLoader;
   private VoiceInstructionCache voiceInstructionCache;
-  private int voiceInstructionsToAnnounce = 0;
   private RouteProgress routeProgress;
   private String feedbackId;
   private String screenshot;
@@ -190,6 +190,19 @@ public class NavigationViewModel extends AndroidViewModel {
     return navigation;
   }
 
+  /**
+   * Returns how well the voice instructions prefetched along the route served the announcements.
+   * <p>
+   * Will be null if navigation has not been initialized.
+   */
+  @Nullable
+  public VoiceInstructionMetrics retrieveVoiceInstructionMetrics() {
+    if (voiceInstructionLoader == null) {
+      return null;
+    }
+    return voiceInstructionLoader.retrieveMetrics();
+  }
+
   void initializeEventDispatcher(NavigationViewEventDispatcher navigationViewEventDispatcher) {
     this.navigationViewEventDispatcher = navigationViewEventDispatcher;
   }
@@ -266,6 +279,7 @@ public class NavigationViewModel extends AndroidViewModel {
   void updateRouteProgress(RouteProgress routeProgress) {
     this.routeProgress = routeProgress;
     sendEventArrival(routeProgress);
+    voiceInstructionCache.update(routeProgress);
     instructionModel.setValue(new InstructionModel(distanceFormatter, routeProgress));
     summaryModel.setValue(new SummaryModel(getApplication(), distanceFormatter, routeProgress, timeFormatType));
   }
@@ -368,7 +382,7 @@ public class NavigationViewModel extends AndroidViewModel {
 
   private void initializeVoiceInstructionCache() {
     ConnectivityStatusProvider connectivityStatus = new ConnectivityStatusProvider(getApplication());
-    voiceInstructionCache = new VoiceInstructionCache(navigation, voiceInstructionLoader, connectivityStatus);
+    voiceInstructionCache = new VoiceInstructionCache(voiceInstructionLoader, connectivityStatus);
   }
 
   @NonNull
@@ -426,7 +440,6 @@ public class NavigationViewModel extends AndroidViewModel {
     if (route != null) {
       navigation.setRoutes(Arrays.asList(route));
       navigation.startTripSession();
-      voiceInstructionsToAnnounce = 0;
       voiceInstructionCache.preCache(route);
     }
   }
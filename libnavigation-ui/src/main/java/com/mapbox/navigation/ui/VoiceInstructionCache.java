@@ -4,83 +4,120 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.models.VoiceInstructions;
-import com.mapbox.navigation.core.MapboxNavigation;
+import com.mapbox.navigation.base.trip.model.RouteProgress;
 import com.mapbox.navigation.ui.voice.VoiceInstructionLoader;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
+/**
+ * Walks the voice instructions of the route in distance order and keeps the SSML audio of the
+ * next {@link #VOICE_INSTRUCTIONS_TO_PREFETCH} announcements downloaded, evicting the ones the user has passed.
+ */
 class VoiceInstructionCache {
 
-  private static final int MAX_VOICE_INSTRUCTIONS_TO_CACHE = 10;
-  private static final int VOICE_INSTRUCTIONS_TO_CACHE_THRESHOLD = 5;
-  private final MapboxNavigation navigation;
+  private static final int VOICE_INSTRUCTIONS_TO_PREFETCH = 10;
   private final VoiceInstructionLoader voiceInstructionLoader;
   private final ConnectivityStatusProvider connectivityStatus;
-  private int totalVoiceInstructions = 0;
-  private int currentVoiceInstructionsCachedIndex = 0;
-  private boolean isVoiceInstructionsToCacheThresholdReached = false;
+  private final List<Announcement> announcements = new ArrayList<>();
+  private DirectionsRoute route;
+  private int nextAnnouncementIndex = 0;
 
-  VoiceInstructionCache(MapboxNavigation navigation, VoiceInstructionLoader voiceInstructionLoader,
-                        ConnectivityStatusProvider connectivityStatus) {
-    this.navigation = navigation;
+  VoiceInstructionCache(VoiceInstructionLoader voiceInstructionLoader, ConnectivityStatusProvider connectivityStatus) {
     this.voiceInstructionLoader = voiceInstructionLoader;
     this.connectivityStatus = connectivityStatus;
   }
 
   void preCache(DirectionsRoute route) {
-    if (!connectivityStatus.isConnected()) {
+    this.route = route;
+    announcements.clear();
+    nextAnnouncementIndex = 0;
+    addAnnouncementsFrom(route);
+    Collections.sort(announcements, new Comparator<Announcement>() {
+      @Override
+      public int compare(Announcement first, Announcement second) {
+        return Double.compare(first.distanceAlongRoute, second.distanceAlongRoute);
+      }
+    });
+    voiceInstructionLoader.evictVoiceInstructions();
+    cacheUpcomingAnnouncements();
+  }
+
+  /**
+   * Slides the prefetch window along the route. The last announcement passed is kept,
+   * as it may still be playing. A new route, e.g. after a reroute, is pre-cached from its start.
+   */
+  void update(RouteProgress routeProgress) {
+    DirectionsRoute progressRoute = routeProgress.route();
+    if (progressRoute != null && progressRoute != route) {
+      preCache(progressRoute);
+    }
+    float distanceTraveled = routeProgress.distanceTraveled();
+    int passedAnnouncementIndex = nextAnnouncementIndex;
+    while (nextAnnouncementIndex < announcements.size()
+      && announcements.get(nextAnnouncementIndex).distanceAlongRoute <= distanceTraveled) {
+      nextAnnouncementIndex++;
+    }
+    if (nextAnnouncementIndex == passedAnnouncementIndex) {
       return;
     }
+    voiceInstructionLoader.evictVoiceInstructionsBefore(nextAnnouncementIndex - 1);
+    cacheUpcomingAnnouncements();
+  }
 
-    totalVoiceInstructions = 0;
-    currentVoiceInstructionsCachedIndex = 0;
-    isVoiceInstructionsToCacheThresholdReached = false;
-    for (int i = 0; i < route.legs().size(); i++) {
-      RouteLeg leg = route.legs().get(i);
-      for (int j = 0; j < leg.steps().size(); j++) {
-        LegStep step = leg.steps().get(j);
-        for (VoiceInstructions ignored : step.voiceInstructions()) {
-          totalVoiceInstructions++;
-        }
+  private void addAnnouncementsFrom(DirectionsRoute route) {
+    if (route.legs() == null) {
+      return;
+    }
+    double stepStartDistance = 0d;
+    for (RouteLeg leg : route.legs()) {
+      if (leg.steps() == null) {
+        continue;
       }
+      for (LegStep step : leg.steps()) {
+        addAnnouncementsFrom(step, stepStartDistance);
+        stepStartDistance += step.distance();
+      }
+    }
+  }
+
+  private void addAnnouncementsFrom(LegStep step, double stepStartDistance) {
+    if (step.voiceInstructions() == null) {
+      return;
     }
-    List<String> voiceInstructionsToCache = new ArrayList<>();
-    // TODO add to MapbxoNavigation retrieveSsmlAnnouncementInstruction from Navigator
-    /*for (int i = currentVoiceInstructionsCachedIndex; i < totalVoiceInstructions; i++) {
-      voiceInstructionsToCache.add(navigation.retrieveSsmlAnnouncementInstruction(i));
-      currentVoiceInstructionsCachedIndex++;
-      if ((currentVoiceInstructionsCachedIndex + 1) % MAX_VOICE_INSTRUCTIONS_TO_CACHE == 0) {
-        break;
+    for (VoiceInstructions voiceInstructions : step.voiceInstructions()) {
+      String ssmlAnnouncement = voiceInstructions.ssmlAnnouncement();
+      if (ssmlAnnouncement == null) {
+        continue;
       }
-    }*/
-    voiceInstructionLoader.cacheInstructions(voiceInstructionsToCache);
+      Double distanceAlongGeometry = voiceInstructions.distanceAlongGeometry();
+      double distanceToManeuver = distanceAlongGeometry != null
+        ? Math.min(distanceAlongGeometry, step.distance()) : step.distance();
+      double distanceAlongRoute = stepStartDistance + step.distance() - distanceToManeuver;
+      announcements.add(new Announcement(ssmlAnnouncement, distanceAlongRoute));
+    }
   }
 
-  void cache() {
+  private void cacheUpcomingAnnouncements() {
     if (!connectivityStatus.isConnected()) {
       return;
     }
-
-    if (isVoiceInstructionsToCacheThresholdReached) {
-      isVoiceInstructionsToCacheThresholdReached = false;
-      voiceInstructionLoader.evictVoiceInstructions();
-      List<String> voiceInstructionsToCache = new ArrayList<>();
-      // TODO add to MapbxoNavigation retrieveSsmlAnnouncementInstruction from Navigator
-      /*for (int i = currentVoiceInstructionsCachedIndex; i < totalVoiceInstructions; i++) {
-        voiceInstructionsToCache.add(navigation.retrieveSsmlAnnouncementInstruction(i));
-        currentVoiceInstructionsCachedIndex++;
-        if ((currentVoiceInstructionsCachedIndex + 1) % MAX_VOICE_INSTRUCTIONS_TO_CACHE == 0) {
-          break;
-        }
-      }*/
-      voiceInstructionLoader.cacheInstructions(voiceInstructionsToCache);
+    int lastAnnouncementIndex = Math.min(nextAnnouncementIndex + VOICE_INSTRUCTIONS_TO_PREFETCH, announcements.size());
+    for (int i = nextAnnouncementIndex; i < lastAnnouncementIndex; i++) {
+      voiceInstructionLoader.cacheInstruction(i, announcements.get(i).ssmlAnnouncement);
     }
   }
 
-  void update(int voiceInstructionsToAnnounce) {
-    if (voiceInstructionsToAnnounce % VOICE_INSTRUCTIONS_TO_CACHE_THRESHOLD == 0) {
-      isVoiceInstructionsToCacheThresholdReached = true;
+  private static class Announcement {
+
+    private final String ssmlAnnouncement;
+    private final double distanceAlongRoute;
+
+    Announcement(String ssmlAnnouncement, double distanceAlongRoute) {
+      this.ssmlAnnouncement = ssmlAnnouncement;
+      this.distanceAlongRoute = distanceAlongRoute;
     }
   }
 }
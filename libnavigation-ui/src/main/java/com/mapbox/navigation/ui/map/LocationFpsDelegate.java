@@ -6,28 +6,27 @@ import androidx.annotation.NonNull;
 import com.mapbox.mapboxsdk.location.LocationComponent;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
 
-class LocationFpsDelegate implements MapboxMap.OnCameraIdleListener {
+class LocationFpsDelegate implements MapboxMap.OnCameraIdleListener,
+  MapRenderGovernor.OnRenderBudgetChangedListener {
 
-  private static final int ZOOM_LEVEL_FIVE = 5;
-  private static final int ZOOM_LEVEL_TEN = 10;
-  private static final int ZOOM_LEVEL_FOURTEEN = 14;
-  private static final int ZOOM_LEVEL_SIXTEEN = 16;
-  private static final int ZOOM_LEVEL_EIGHTEEN = 18;
-  private static final int MAX_ANIMATION_FPS_THREE = 3;
-  private static final int MAX_ANIMATION_FPS_FIVE = 5;
-  private static final int MAX_ANIMATION_FPS_TEN = 10;
-  private static final int MAX_ANIMATION_FPS_FIFTEEN = 15;
-  private static final int MAX_ANIMATION_FPS_TWENTY_FIVE = 25;
   private static final int MAX_ANIMATION_FPS = Integer.MAX_VALUE;
   private final MapboxMap mapboxMap;
   private final LocationComponent locationComponent;
+  private final MapRenderGovernor renderGovernor;
   private int currentFps = MAX_ANIMATION_FPS;
   private boolean isEnabled = true;
 
   LocationFpsDelegate(@NonNull MapboxMap mapboxMap, @NonNull LocationComponent locationComponent) {
+    this(mapboxMap, locationComponent, new MapRenderGovernor(new MapBatteryMonitor()));
+  }
+
+  LocationFpsDelegate(@NonNull MapboxMap mapboxMap, @NonNull LocationComponent locationComponent,
+                      @NonNull MapRenderGovernor renderGovernor) {
     this.mapboxMap = mapboxMap;
     this.locationComponent = locationComponent;
+    this.renderGovernor = renderGovernor;
     mapboxMap.addOnCameraIdleListener(this);
+    renderGovernor.setOnRenderBudgetChangedListener(this);
   }
 
   @Override
@@ -35,7 +34,16 @@ class LocationFpsDelegate implements MapboxMap.OnCameraIdleListener {
     if (!isEnabled) {
       return;
     }
-    updateMaxFps();
+    double zoom = mapboxMap.getCameraPosition().zoom;
+    updateMaxFps(renderGovernor.locationFpsFor(zoom));
+  }
+
+  @Override
+  public void onRenderBudgetChanged() {
+    if (!isEnabled) {
+      return;
+    }
+    updateMaxFps(renderGovernor.locationFps());
   }
 
   void onStart() {
@@ -55,36 +63,18 @@ class LocationFpsDelegate implements MapboxMap.OnCameraIdleListener {
     return isEnabled;
   }
 
-  private void updateMaxFps() {
-    double zoom = mapboxMap.getCameraPosition().zoom;
-    int maxAnimationFps = buildFpsFrom(zoom);
+  private void updateMaxFps(int maxAnimationFps) {
     if (currentFps != maxAnimationFps) {
       locationComponent.setMaxAnimationFps(maxAnimationFps);
       currentFps = maxAnimationFps;
     }
   }
 
-  private int buildFpsFrom(double zoom) {
-    int maxAnimationFps;
-    if (zoom < ZOOM_LEVEL_FIVE) {
-      maxAnimationFps = MAX_ANIMATION_FPS_THREE;
-    } else if (zoom < ZOOM_LEVEL_TEN) {
-      maxAnimationFps = MAX_ANIMATION_FPS_FIVE;
-    } else if (zoom < ZOOM_LEVEL_FOURTEEN) {
-      maxAnimationFps = MAX_ANIMATION_FPS_TEN;
-    } else if (zoom < ZOOM_LEVEL_SIXTEEN) {
-      maxAnimationFps = MAX_ANIMATION_FPS_FIFTEEN;
-    } else if (zoom < ZOOM_LEVEL_EIGHTEEN) {
-      maxAnimationFps = MAX_ANIMATION_FPS_TWENTY_FIVE;
-    } else {
-      maxAnimationFps = MAX_ANIMATION_FPS;
-    }
-    return maxAnimationFps;
-  }
-
   private void resetMaxFps() {
     if (!isEnabled) {
+      renderGovernor.resetLocationFps();
       locationComponent.setMaxAnimationFps(MAX_ANIMATION_FPS);
+      currentFps = MAX_ANIMATION_FPS;
     }
   }
 }
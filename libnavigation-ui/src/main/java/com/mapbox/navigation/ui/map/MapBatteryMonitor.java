@@ -1,21 +1,84 @@
 package com.mapbox.navigation.ui.map;
 
+import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
 import android.content.IntentFilter;
 import android.os.BatteryManager;
 import android.os.Build;
+import android.os.PowerManager;
 
+/**
+ * Keeps the power state of the device, updated by the battery and power save broadcasts.
+ * <p>
+ * The receiver is registered on the first read, which also delivers the current sticky battery
+ * state, so reads don't go through the system server each time.
+ */
 class MapBatteryMonitor {
 
   private static final int DEFAULT_BATTERY_LEVEL = -1;
+  private static final int DEFAULT_BATTERY_TEMPERATURE = 0;
+  // In tenths of a degree Celsius, battery temperature at which the device is considered hot
+  private static final int HOT_BATTERY_TEMPERATURE = 420;
+
+  private final BroadcastReceiver powerStateReceiver = new BroadcastReceiver() {
+    @Override
+    public void onReceive(Context context, Intent intent) {
+      if (Intent.ACTION_BATTERY_CHANGED.equals(intent.getAction())) {
+        updateBatteryState(intent);
+      } else {
+        updatePowerSaveMode(context);
+      }
+    }
+  };
+  private Context registeredContext;
+  private boolean isPluggedIn;
+  private boolean isHot;
+  private boolean isPowerSaveMode;
 
   boolean isPluggedIn(Context context) {
-    Intent batteryStatus = registerBatteryUpdates(context);
-    if (batteryStatus == null) {
-      return false;
+    register(context);
+    return isPluggedIn;
+  }
+
+  /**
+   * @return true if power save mode is on or the battery is hot
+   */
+  boolean isPowerConstrained(Context context) {
+    register(context);
+    return isPowerSaveMode || isHot;
+  }
+
+  void register(Context context) {
+    if (registeredContext != null) {
+      return;
+    }
+    Context applicationContext = context.getApplicationContext();
+    registeredContext = applicationContext != null ? applicationContext : context;
+    IntentFilter filter = new IntentFilter(Intent.ACTION_BATTERY_CHANGED);
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      filter.addAction(PowerManager.ACTION_POWER_SAVE_MODE_CHANGED);
     }
+    Intent batteryStatus = registeredContext.registerReceiver(powerStateReceiver, filter);
+    if (batteryStatus != null) {
+      updateBatteryState(batteryStatus);
+    }
+    updatePowerSaveMode(registeredContext);
+  }
+
+  void unregister() {
+    if (registeredContext == null) {
+      return;
+    }
+    try {
+      registeredContext.unregisterReceiver(powerStateReceiver);
+    } catch (IllegalArgumentException exception) {
+      // Receiver already gone
+    }
+    registeredContext = null;
+  }
 
+  private void updateBatteryState(Intent batteryStatus) {
     int chargePlug = batteryStatus.getIntExtra(BatteryManager.EXTRA_PLUGGED, DEFAULT_BATTERY_LEVEL);
     boolean pluggedUsb = chargePlug == BatteryManager.BATTERY_PLUGGED_USB;
     boolean pluggedAc = chargePlug == BatteryManager.BATTERY_PLUGGED_AC;
@@ -23,11 +86,16 @@ class MapBatteryMonitor {
     if (Build.VERSION.SDK_INT > Build.VERSION_CODES.JELLY_BEAN) {
       isPlugged = isPlugged || chargePlug == BatteryManager.BATTERY_PLUGGED_WIRELESS;
     }
-    return isPlugged;
+    isPluggedIn = isPlugged;
+    int temperature = batteryStatus.getIntExtra(BatteryManager.EXTRA_TEMPERATURE, DEFAULT_BATTERY_TEMPERATURE);
+    isHot = temperature >= HOT_BATTERY_TEMPERATURE;
   }
 
-  private static Intent registerBatteryUpdates(Context context) {
-    IntentFilter filter = new IntentFilter(Intent.ACTION_BATTERY_CHANGED);
-    return context.registerReceiver(null, filter);
+  private void updatePowerSaveMode(Context context) {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+      return;
+    }
+    PowerManager powerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+    isPowerSaveMode = powerManager != null && powerManager.isPowerSaveMode();
   }
-}
\ No newline at end of file
+}
@@ -1,10 +1,6 @@
 package com.mapbox.navigation.ui.map;
 
-import android.content.Context;
-
 import com.mapbox.mapboxsdk.maps.MapView;
-import com.mapbox.navigation.ui.legacy.NavigationConstants;
-import com.mapbox.navigation.base.trip.model.RouteLegProgress;
 import com.mapbox.navigation.base.trip.model.RouteProgress;
 import com.mapbox.navigation.core.MapboxNavigation;
 import com.mapbox.navigation.core.trip.session.RouteProgressObserver;
@@ -15,22 +11,21 @@ import com.mapbox.navigation.ui.camera.OnTrackingModeTransitionListener;
 class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTransitionListener {
 
   static final int DEFAULT_MAX_FPS_THRESHOLD = 20;
-  private static final double VALID_DURATION_IN_SECONDS_UNTIL_NEXT_MANEUVER = 7d;
-  private static final double VALID_DURATION_IN_SECONDS_SINCE_PREVIOUS_MANEUVER = 5d;
-  private static final int DEVICE_MAX_FPS = Integer.MAX_VALUE;
-  private static final int LOW_POWER_MAX_FPS = 30;
 
   private final MapView mapView;
-  private final MapBatteryMonitor batteryMonitor;
+  private final MapRenderGovernor renderGovernor;
   private final RouteProgressObserver fpsProgressListener = new FpsDelegateProgressChangeListener(this);
   private MapboxNavigation navigation;
-  private int maxFpsThreshold = DEFAULT_MAX_FPS_THRESHOLD;
   private boolean isTracking = true;
   private boolean isEnabled = true;
 
   MapFpsDelegate(MapView mapView, MapBatteryMonitor batteryMonitor) {
+    this(mapView, new MapRenderGovernor(batteryMonitor));
+  }
+
+  MapFpsDelegate(MapView mapView, MapRenderGovernor renderGovernor) {
     this.mapView = mapView;
-    this.batteryMonitor = batteryMonitor;
+    this.renderGovernor = renderGovernor;
   }
 
   @Override
@@ -60,12 +55,14 @@ class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTra
     if (navigation != null) {
       navigation.registerRouteProgressObserver(fpsProgressListener);
     }
+    renderGovernor.onStart(mapView.getContext());
   }
 
   void onStop() {
     if (navigation != null) {
       navigation.unregisterRouteProgressObserver(fpsProgressListener);
     }
+    renderGovernor.onStop();
   }
 
   void updateEnabled(boolean isEnabled) {
@@ -74,7 +71,7 @@ class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTra
   }
 
   void updateMaxFpsThreshold(int maxFps) {
-    this.maxFpsThreshold = maxFps;
+    renderGovernor.updateMaxFpsThreshold(maxFps);
   }
 
   void adjustFpsFor(RouteProgress routeProgress) {
@@ -82,8 +79,11 @@ class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTra
       return;
     }
 
-    int maxFps = determineMaxFpsFrom(routeProgress, mapView.getContext());
-    mapView.setMaximumFps(maxFps);
+    int currentMaxFps = renderGovernor.mapFps();
+    int maxFps = renderGovernor.mapFpsFor(routeProgress, mapView.getContext());
+    if (maxFps != currentMaxFps) {
+      mapView.setMaximumFps(maxFps);
+    }
   }
 
   private void updateCameraTracking(@NavigationCamera.TrackingMode int trackingMode) {
@@ -93,36 +93,8 @@ class MapFpsDelegate implements OnTrackingModeChangedListener, OnTrackingModeTra
 
   private void resetMaxFps(boolean shouldReset) {
     if (shouldReset) {
-      mapView.setMaximumFps(DEVICE_MAX_FPS);
-    }
-  }
-
-  private int determineMaxFpsFrom(RouteProgress routeProgress, Context context) {
-    final boolean isPluggedIn = batteryMonitor.isPluggedIn(context);
-    RouteLegProgress routeLegProgress = routeProgress.currentLegProgress();
-
-    if (isPluggedIn) {
-      return LOW_POWER_MAX_FPS;
-    } else if (validLowFpsManeuver(routeLegProgress) || validLowFpsDuration(routeLegProgress)) {
-      return maxFpsThreshold;
-    } else {
-      return LOW_POWER_MAX_FPS;
+      renderGovernor.resetMapFps();
+      mapView.setMaximumFps(MapRenderGovernor.DEVICE_MAX_FPS);
     }
   }
-
-  private boolean validLowFpsManeuver(RouteLegProgress routeLegProgress) {
-    final String maneuverModifier = routeLegProgress.currentStepProgress().step().maneuver().modifier();
-    return maneuverModifier != null
-            && (maneuverModifier.equals(NavigationConstants.STEP_MANEUVER_MODIFIER_STRAIGHT)
-            || maneuverModifier.equals(NavigationConstants.STEP_MANEUVER_MODIFIER_SLIGHT_LEFT)
-            || maneuverModifier.equals(NavigationConstants.STEP_MANEUVER_MODIFIER_SLIGHT_RIGHT));
-  }
-
-  private boolean validLowFpsDuration(RouteLegProgress routeLegProgress) {
-    final double expectedStepDuration = routeLegProgress.currentStepProgress().step().duration();
-    final double durationUntilNextManeuver = routeLegProgress.currentStepProgress().durationRemaining();
-    final double durationSincePreviousManeuver = expectedStepDuration - durationUntilNextManeuver;
-    return durationUntilNextManeuver > VALID_DURATION_IN_SECONDS_UNTIL_NEXT_MANEUVER
-            && durationSincePreviousManeuver > VALID_DURATION_IN_SECONDS_SINCE_PREVIOUS_MANEUVER;
-  }
 }
@@ -0,0 +1,32 @@
+package com.mapbox.navigation.ui.map;
+
+/**
+ * Why the navigation map picked its current maximum frames per second while tracking the user location.
+ */
+public enum MapRenderDecision {
+
+  /**
+   * The device is charging, the map renders at the maneuver rate.
+   */
+  POWERED,
+
+  /**
+   * Power save mode is on or the battery is hot, the map is capped at the throttle threshold.
+   */
+  CONSTRAINED,
+
+  /**
+   * The user isn't moving, the map renders at the lowest rate.
+   */
+  STATIONARY,
+
+  /**
+   * A maneuver is coming up, the map renders at the maneuver rate.
+   */
+  MANEUVER,
+
+  /**
+   * Nothing is going on, the map is held at the throttle threshold.
+   */
+  CRUISING
+}
@@ -0,0 +1,230 @@
+package com.mapbox.navigation.ui.map;
+
+import android.content.Context;
+import android.location.Location;
+
+import androidx.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.StepManeuver;
+import com.mapbox.navigation.base.trip.model.RouteLegProgress;
+import com.mapbox.navigation.base.trip.model.RouteProgress;
+import com.mapbox.navigation.base.trip.model.RouteStepProgress;
+import com.mapbox.navigation.ui.legacy.NavigationConstants;
+
+import java.util.EnumMap;
+
+/**
+ * Decides the render rates of the navigation map and of the location icon animation.
+ * <p>
+ * The map rate comes from the power state of the device, the user speed and how close the
+ * next maneuver is. A power constraint caps that rate at the throttle threshold. The location icon rate comes from the camera zoom, and never goes above
+ * the map rate, frames the map won't render aren't worth animating.
+ */
+class MapRenderGovernor {
+
+  static final int DEVICE_MAX_FPS = Integer.MAX_VALUE;
+  private static final int MANEUVER_MAX_FPS = 30;
+  private static final int STATIONARY_MAX_FPS = 10;
+  private static final float STATIONARY_SPEED_IN_METERS_PER_SECOND = 1f;
+  private static final float UNKNOWN_SPEED = -1f;
+  private static final double VALID_DURATION_IN_SECONDS_UNTIL_NEXT_MANEUVER = 7d;
+  private static final double VALID_DURATION_IN_SECONDS_SINCE_PREVIOUS_MANEUVER = 5d;
+  private static final int ZOOM_LEVEL_FIVE = 5;
+  private static final int ZOOM_LEVEL_TEN = 10;
+  private static final int ZOOM_LEVEL_FOURTEEN = 14;
+  private static final int ZOOM_LEVEL_SIXTEEN = 16;
+  private static final int ZOOM_LEVEL_EIGHTEEN = 18;
+  private static final int MAX_ANIMATION_FPS_THREE = 3;
+  private static final int MAX_ANIMATION_FPS_FIVE = 5;
+  private static final int MAX_ANIMATION_FPS_TEN = 10;
+  private static final int MAX_ANIMATION_FPS_FIFTEEN = 15;
+  private static final int MAX_ANIMATION_FPS_TWENTY_FIVE = 25;
+
+  private final MapBatteryMonitor batteryMonitor;
+  private final EnumMap<MapRenderDecision, Long> decisionCounts = new EnumMap<>(MapRenderDecision.class);
+  @Nullable
+  private OnRenderBudgetChangedListener budgetChangedListener;
+  private int maxFpsThreshold = MapFpsDelegate.DEFAULT_MAX_FPS_THRESHOLD;
+  private float speed = UNKNOWN_SPEED;
+  private double zoom = Double.NaN;
+  private int mapFps = DEVICE_MAX_FPS;
+  private int locationFps = DEVICE_MAX_FPS;
+  private long mapFpsChangeCount;
+  private long locationFpsChangeCount;
+
+  MapRenderGovernor(MapBatteryMonitor batteryMonitor) {
+    this.batteryMonitor = batteryMonitor;
+    for (MapRenderDecision decision : MapRenderDecision.values()) {
+      decisionCounts.put(decision, 0L);
+    }
+  }
+
+  void setOnRenderBudgetChangedListener(@Nullable OnRenderBudgetChangedListener budgetChangedListener) {
+    this.budgetChangedListener = budgetChangedListener;
+  }
+
+  void onStart(Context context) {
+    batteryMonitor.register(context);
+  }
+
+  void onStop() {
+    batteryMonitor.unregister();
+  }
+
+  void updateMaxFpsThreshold(int maxFpsThreshold) {
+    this.maxFpsThreshold = maxFpsThreshold;
+  }
+
+  void updateSpeed(Location location) {
+    speed = location.hasSpeed() ? location.getSpeed() : UNKNOWN_SPEED;
+  }
+
+  /**
+   * @return the maximum frames per second of the map for the progress
+   */
+  int mapFpsFor(RouteProgress routeProgress, Context context) {
+    MapRenderDecision decision = decideFrom(routeProgress, context);
+    int maxFps = mapFpsFor(decision);
+    if (maxFps > maxFpsThreshold && batteryMonitor.isPowerConstrained(context)) {
+      decision = MapRenderDecision.CONSTRAINED;
+      maxFps = maxFpsThreshold;
+    }
+    decisionCounts.put(decision, decisionCounts.get(decision) + 1);
+    updateMapFps(maxFps);
+    return maxFps;
+  }
+
+  int mapFps() {
+    return mapFps;
+  }
+
+  void resetMapFps() {
+    updateMapFps(DEVICE_MAX_FPS);
+  }
+
+  /**
+   * @return the maximum animation frames per second of the location icon for the zoom
+   */
+  int locationFpsFor(double zoom) {
+    this.zoom = zoom;
+    return locationFps();
+  }
+
+  /**
+   * @return the maximum animation frames per second of the location icon for the last zoom
+   */
+  int locationFps() {
+    int maxFps = Math.min(buildFpsFrom(zoom), mapFps);
+    if (locationFps != maxFps) {
+      locationFps = maxFps;
+      locationFpsChangeCount++;
+    }
+    return maxFps;
+  }
+
+  void resetLocationFps() {
+    locationFps = DEVICE_MAX_FPS;
+  }
+
+  MapRenderMetrics retrieveMetrics() {
+    return new MapRenderMetrics(
+      new EnumMap<>(decisionCounts), mapFpsChangeCount, locationFpsChangeCount, mapFps, locationFps
+    );
+  }
+
+  private void updateMapFps(int maxFps) {
+    if (mapFps == maxFps) {
+      return;
+    }
+    mapFps = maxFps;
+    mapFpsChangeCount++;
+    if (budgetChangedListener != null) {
+      budgetChangedListener.onRenderBudgetChanged();
+    }
+  }
+
+  private MapRenderDecision decideFrom(RouteProgress routeProgress, Context context) {
+    if (batteryMonitor.isPluggedIn(context)) {
+      return MapRenderDecision.POWERED;
+    } else if (isStationary()) {
+      return MapRenderDecision.STATIONARY;
+    }
+    RouteStepProgress stepProgress = currentStepProgressOf(routeProgress);
+    if (stepProgress == null || stepProgress.step() == null) {
+      return MapRenderDecision.CRUISING;
+    } else if (validLowFpsManeuver(stepProgress.step()) || validLowFpsDuration(stepProgress)) {
+      return MapRenderDecision.CRUISING;
+    }
+    return MapRenderDecision.MANEUVER;
+  }
+
+  private int mapFpsFor(MapRenderDecision decision) {
+    switch (decision) {
+      case POWERED:
+      case MANEUVER:
+        return MANEUVER_MAX_FPS;
+      case STATIONARY:
+        return Math.min(STATIONARY_MAX_FPS, maxFpsThreshold);
+      default:
+        return maxFpsThreshold;
+    }
+  }
+
+  private boolean isStationary() {
+    return speed != UNKNOWN_SPEED && speed < STATIONARY_SPEED_IN_METERS_PER_SECOND;
+  }
+
+  @Nullable
+  private RouteStepProgress currentStepProgressOf(RouteProgress routeProgress) {
+    RouteLegProgress routeLegProgress = routeProgress.currentLegProgress();
+    return routeLegProgress != null ? routeLegProgress.currentStepProgress() : null;
+  }
+
+  private boolean validLowFpsManeuver(LegStep step) {
+    StepManeuver maneuver = step.maneuver();
+    final String maneuverModifier = maneuver != null ? maneuver.modifier() : null;
+    return maneuverModifier != null
+            && (maneuverModifier.equals(NavigationConstants.STEP_MANEUVER_MODIFIER_STRAIGHT)
+            || maneuverModifier.equals(NavigationConstants.STEP_MANEUVER_MODIFIER_SLIGHT_LEFT)
+            || maneuverModifier.equals(NavigationConstants.STEP_MANEUVER_MODIFIER_SLIGHT_RIGHT));
+  }
+
+  /**
+   * The time until the next maneuver comes from the current speed when moving,
+   * the route duration estimate is off in traffic.
+   */
+  private boolean validLowFpsDuration(RouteStepProgress stepProgress) {
+    final double expectedStepDuration = stepProgress.step().duration();
+    final double durationUntilNextManeuver = speed > STATIONARY_SPEED_IN_METERS_PER_SECOND
+            ? stepProgress.distanceRemaining() / speed
+            : stepProgress.durationRemaining();
+    final double durationSincePreviousManeuver = expectedStepDuration - stepProgress.durationRemaining();
+    return durationUntilNextManeuver > VALID_DURATION_IN_SECONDS_UNTIL_NEXT_MANEUVER
+            && durationSincePreviousManeuver > VALID_DURATION_IN_SECONDS_SINCE_PREVIOUS_MANEUVER;
+  }
+
+  private int buildFpsFrom(double zoom) {
+    int maxAnimationFps;
+    if (Double.isNaN(zoom)) {
+      maxAnimationFps = DEVICE_MAX_FPS;
+    } else if (zoom < ZOOM_LEVEL_FIVE) {
+      maxAnimationFps = MAX_ANIMATION_FPS_THREE;
+    } else if (zoom < ZOOM_LEVEL_TEN) {
+      maxAnimationFps = MAX_ANIMATION_FPS_FIVE;
+    } else if (zoom < ZOOM_LEVEL_FOURTEEN) {
+      maxAnimationFps = MAX_ANIMATION_FPS_TEN;
+    } else if (zoom < ZOOM_LEVEL_SIXTEEN) {
+      maxAnimationFps = MAX_ANIMATION_FPS_FIFTEEN;
+    } else if (zoom < ZOOM_LEVEL_EIGHTEEN) {
+      maxAnimationFps = MAX_ANIMATION_FPS_TWENTY_FIVE;
+    } else {
+      maxAnimationFps = DEVICE_MAX_FPS;
+    }
+    return maxAnimationFps;
+  }
+
+  interface OnRenderBudgetChangedListener {
+    void onRenderBudgetChanged();
+  }
+}
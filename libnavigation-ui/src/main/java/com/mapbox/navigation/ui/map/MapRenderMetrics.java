@@ -0,0 +1,78 @@
+package com.mapbox.navigation.ui.map;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Snapshot of the decisions taken to throttle the navigation map rendering and
+ * of the resulting frame budget.
+ */
+public class MapRenderMetrics {
+
+  private static final long MILLIS_PER_SECOND = 1000L;
+
+  private final Map<MapRenderDecision, Long> decisionCounts;
+  private final long mapFpsChangeCount;
+  private final long locationFpsChangeCount;
+  private final int mapMaxFps;
+  private final int locationMaxFps;
+
+  MapRenderMetrics(EnumMap<MapRenderDecision, Long> decisionCounts, long mapFpsChangeCount,
+                   long locationFpsChangeCount, int mapMaxFps, int locationMaxFps) {
+    this.decisionCounts = Collections.unmodifiableMap(decisionCounts);
+    this.mapFpsChangeCount = mapFpsChangeCount;
+    this.locationFpsChangeCount = locationFpsChangeCount;
+    this.mapMaxFps = mapMaxFps;
+    this.locationMaxFps = locationMaxFps;
+  }
+
+  /**
+   * @return how many times each decision was taken, one decision per route progress update
+   */
+  @NonNull
+  public Map<MapRenderDecision, Long> getDecisionCounts() {
+    return decisionCounts;
+  }
+
+  /**
+   * @return how many times the map maximum frames per second changed
+   */
+  public long getMapFpsChangeCount() {
+    return mapFpsChangeCount;
+  }
+
+  /**
+   * @return how many times the location icon maximum animation frames per second changed
+   */
+  public long getLocationFpsChangeCount() {
+    return locationFpsChangeCount;
+  }
+
+  /**
+   * @return current maximum frames per second of the map, {@link Integer#MAX_VALUE} if not throttled
+   */
+  public int getMapMaxFps() {
+    return mapMaxFps;
+  }
+
+  /**
+   * @return current maximum animation frames per second of the location icon,
+   * {@link Integer#MAX_VALUE} if not throttled
+   */
+  public int getLocationMaxFps() {
+    return locationMaxFps;
+  }
+
+  /**
+   * @return minimum time between two map frames in milliseconds, 0 if not throttled
+   */
+  public long getMapFrameBudgetMillis() {
+    if (mapMaxFps <= 0 || mapMaxFps == Integer.MAX_VALUE) {
+      return 0L;
+    }
+    return MILLIS_PER_SECOND / mapMaxFps;
+  }
+}
@@ -2,9 +2,6 @@ package com.mapbox.navigation.ui.map;
 
 import android.graphics.PointF;
 import android.location.Location;
-import android.os.AsyncTask;
-
-import androidx.annotation.NonNull;
 
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.Point;
@@ -17,18 +14,26 @@ import java.util.Set;
 
 import static com.mapbox.navigation.ui.map.NavigationMapboxMap.STREETS_LAYER_ID;
 
+/**
+ * Resolves the name of the road the user is on.
+ * <p>
+ * Road geometries are queried around the user once and kept in a {@link WaynameFeatureCache},
+ * following locations are matched against it until the user leaves the cached area.
+ */
 class MapWayName {
 
   private static final String NAME_PROPERTY = "name";
   private static final String EMPTY_CURRENT_WAY_NAME = "";
+  private static final int FIRST = 0;
+  private static final float DEFAULT_QUERY_RADIUS_IN_PIXELS = 100f;
   private final MapWaynameProgressChangeListener progressChangeListener = new MapWaynameProgressChangeListener(this);
   private final Set<OnWayNameChangedListener> onWayNameChangedListeners;
+  private final WaynameFeatureCache featureCache = new WaynameFeatureCache();
   private WaynameFeatureFinder featureInteractor;
   private List<Point> currentStepPoints = new ArrayList<>();
   private Location currentLocation = null;
   private MapboxNavigation navigation;
   private boolean isAutoQueryEnabled;
-  private FeatureFilterTask filterTask;
   private String wayName = EMPTY_CURRENT_WAY_NAME;
 
   MapWayName(WaynameFeatureFinder featureInteractor, MapPaddingAdjustor paddingAdjustor) {
@@ -41,12 +46,20 @@ class MapWayName {
     if (!isAutoQueryEnabled) {
       return;
     }
-    List<Feature> roadLabelFeatures = findRoadLabelFeatures(point);
-    boolean invalidLabelFeatures = roadLabelFeatures.isEmpty();
-    if (invalidLabelFeatures) {
+    if (currentLocation == null) {
+      updateWayNameWithFeatureAt(point);
       return;
     }
-    executeFeatureFilterTask(roadLabelFeatures);
+    double longitude = currentLocation.getLongitude();
+    double latitude = currentLocation.getLatitude();
+    if (!featureCache.covers(longitude, latitude)) {
+      List<Feature> roadLabelFeatures = findRoadLabelFeaturesAround(point, latitude);
+      featureCache.update(roadLabelFeatures, longitude, latitude);
+    }
+    Feature roadFeature = featureCache.match(longitude, latitude, findBearing());
+    if (roadFeature != null) {
+      updateWayNameLayerWithNameProperty(roadFeature);
+    }
   }
 
   void updateProgress(List<Point> currentStepPoints) {
@@ -85,44 +98,36 @@ class MapWayName {
   }
 
   void onStop() {
-    if (isTaskRunning()) {
-      filterTask.cancel(true);
-    }
+    featureCache.clear();
     if (navigation != null) {
       navigation.unregisterRouteProgressObserver(progressChangeListener);
     }
   }
 
-  private List<Feature> findRoadLabelFeatures(PointF point) {
+  private void updateWayNameWithFeatureAt(PointF point) {
     String[] layerIds = {STREETS_LAYER_ID};
-    return featureInteractor.queryRenderedFeatures(point, layerIds);
-  }
-
-  private void executeFeatureFilterTask(List<Feature> roadFeatures) {
-    if (isTaskRunning()) {
-      filterTask.cancel(true);
-    }
-
-    if (hasValidProgressData()) {
-      filterTask = new FeatureFilterTask(roadFeatures, currentLocation, currentStepPoints,
-        new OnFeatureFilteredCallback() {
-          @Override
-          public void onFeatureFiltered(@NonNull Feature feature) {
-            updateWayNameLayerWithNameProperty(feature);
-          }
-        });
-      filterTask.execute();
+    List<Feature> roadLabelFeatures = featureInteractor.queryRenderedFeatures(point, layerIds);
+    if (!roadLabelFeatures.isEmpty()) {
+      updateWayNameLayerWithNameProperty(roadLabelFeatures.get(FIRST));
     }
   }
 
-  private boolean isTaskRunning() {
-    return filterTask != null
-      && (filterTask.getStatus() == AsyncTask.Status.PENDING
-      || filterTask.getStatus() == AsyncTask.Status.RUNNING);
+  private List<Feature> findRoadLabelFeaturesAround(PointF point, double latitude) {
+    String[] layerIds = {STREETS_LAYER_ID};
+    double radiusInMeters = WaynameFeatureCache.CACHE_RADIUS_METERS + WaynameFeatureCache.MATCH_TOLERANCE_METERS;
+    double metersPerPixel = featureInteractor.metersPerPixelAtLatitude(latitude);
+    float radiusInPixels = metersPerPixel > 0
+      ? (float) (radiusInMeters / metersPerPixel) : DEFAULT_QUERY_RADIUS_IN_PIXELS;
+    return featureInteractor.queryRenderedFeatures(point, radiusInPixels, layerIds);
   }
 
-  private boolean hasValidProgressData() {
-    return currentLocation != null && !currentStepPoints.isEmpty();
+  private double findBearing() {
+    if (currentLocation.hasBearing()) {
+      return currentLocation.getBearing();
+    }
+    return WaynameFeatureCache.bearingAlong(
+      currentStepPoints, currentLocation.getLongitude(), currentLocation.getLatitude()
+    );
   }
 
   private void updateWayNameLayerWithNameProperty(Feature roadFeature) {
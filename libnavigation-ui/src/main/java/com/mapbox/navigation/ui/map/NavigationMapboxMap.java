@@ -81,6 +81,7 @@ public class NavigationMapboxMap {
   @Nullable
   private MapFpsDelegate mapFpsDelegate;
   private LocationFpsDelegate locationFpsDelegate;
+  private final MapRenderGovernor renderGovernor = new MapRenderGovernor(new MapBatteryMonitor());
 
   /**
    * Constructor that can be used once {@link OnMapReadyCallback}
@@ -218,6 +219,7 @@ public class NavigationMapboxMap {
    */
   public void updateLocation(Location location) {
     locationComponent.forceLocationUpdate(location);
+    renderGovernor.updateSpeed(location);
     updateMapWayNameWithLocation(location);
   }
 
@@ -257,6 +259,17 @@ public class NavigationMapboxMap {
     }
   }
 
+  /**
+   * Returns the decisions taken so far to throttle the map and location icon frames per second,
+   * along with the current frame budget.
+   *
+   * @return a snapshot of the render metrics
+   */
+  @NonNull
+  public MapRenderMetrics retrieveMapRenderMetrics() {
+    return renderGovernor.retrieveMetrics();
+  }
+
   /**
    * Enabled by default, the navigation map will throttle frames per second of the location icon
    * based on the map zoom level.
@@ -688,7 +701,7 @@ public class NavigationMapboxMap {
   }
 
   private void initializeLocationFpsDelegate(MapboxMap map, LocationComponent locationComponent) {
-    locationFpsDelegate = new LocationFpsDelegate(map, locationComponent);
+    locationFpsDelegate = new LocationFpsDelegate(map, locationComponent, renderGovernor);
   }
 
   private void initializeWayName(MapboxMap mapboxMap, MapPaddingAdjustor paddingAdjustor) {
@@ -736,8 +749,7 @@ public class NavigationMapboxMap {
     if (mapFpsDelegate != null) {
       return;
     }
-    MapBatteryMonitor batteryMonitor = new MapBatteryMonitor();
-    mapFpsDelegate = new MapFpsDelegate(mapView, batteryMonitor);
+    mapFpsDelegate = new MapFpsDelegate(mapView, renderGovernor);
     mapFpsDelegate.updateEnabled(settings.isMaxFpsEnabled());
     mapFpsDelegate.updateMaxFpsThreshold(settings.retrieveMaxFps());
     addFpsListenersToCamera();
@@ -759,6 +771,7 @@ public class NavigationMapboxMap {
     }
     LatLng latLng = new LatLng(location);
     PointF mapPoint = mapboxMap.getProjection().toScreenLocation(latLng);
+    mapWayName.updateLocation(location);
     mapWayName.updateWayNameWithPoint(mapPoint);
   }
 
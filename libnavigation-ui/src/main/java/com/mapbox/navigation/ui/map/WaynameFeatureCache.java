@@ -0,0 +1,195 @@
+package com.mapbox.navigation.ui.map;
+
+import androidx.annotation.Nullable;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Road geometries queried around the user, matched against the user position without going back to the map.
+ * <p>
+ * Segments are kept in meters on a plane tangent to the query origin, which is accurate enough
+ * within {@link #CACHE_RADIUS_METERS}. A match projects the position on every segment and picks
+ * the closest one, penalizing roads that don't run along the user heading.
+ */
+class WaynameFeatureCache {
+
+  static final double CACHE_RADIUS_METERS = 50d;
+  static final double MATCH_TOLERANCE_METERS = 20d;
+  // Added to the distance of a road running perpendicular to the heading
+  private static final double HEADING_PENALTY_METERS = 15d;
+  private static final double RIGHT_ANGLE = 90d;
+  private static final double STRAIGHT_ANGLE = 180d;
+  // Mean earth radius, as used by Turf
+  private static final double EARTH_RADIUS_METERS = 6371008.8d;
+  private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / STRAIGHT_ANGLE;
+  private static final int TWO_POINTS = 2;
+
+  private final List<Segment> segments = new ArrayList<>();
+  private boolean hasOrigin;
+  private double originLongitude;
+  private double originLatitude;
+  private double metersPerDegreeLongitude;
+
+  /**
+   * Replaces the cached roads with the ones queried around the position.
+   */
+  void update(List<Feature> roadFeatures, double longitude, double latitude) {
+    segments.clear();
+    hasOrigin = true;
+    originLongitude = longitude;
+    originLatitude = latitude;
+    metersPerDegreeLongitude = METERS_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+    for (Feature roadFeature : roadFeatures) {
+      for (List<Point> line : linesOf(roadFeature.geometry())) {
+        addSegments(roadFeature, line);
+      }
+    }
+  }
+
+  /**
+   * @return true if the position is close enough to the query origin to be matched against the cached roads
+   */
+  boolean covers(double longitude, double latitude) {
+    if (!hasOrigin) {
+      return false;
+    }
+    double x = xOf(longitude);
+    double y = yOf(latitude);
+    return x * x + y * y <= CACHE_RADIUS_METERS * CACHE_RADIUS_METERS;
+  }
+
+  /**
+   * @param bearing heading of the user in degrees, {@link Double#NaN} if unknown
+   * @return the road the position is on, null if none is within {@link #MATCH_TOLERANCE_METERS}
+   */
+  @Nullable
+  Feature match(double longitude, double latitude, double bearing) {
+    double x = xOf(longitude);
+    double y = yOf(latitude);
+    Feature matchedFeature = null;
+    double lowestCost = Double.POSITIVE_INFINITY;
+    for (Segment segment : segments) {
+      double distance = segment.distanceTo(x, y);
+      if (distance > MATCH_TOLERANCE_METERS) {
+        continue;
+      }
+      double cost = distance;
+      if (!Double.isNaN(bearing)) {
+        cost += HEADING_PENALTY_METERS * headingDifference(segment.bearing, bearing) / RIGHT_ANGLE;
+      }
+      if (cost < lowestCost) {
+        lowestCost = cost;
+        matchedFeature = segment.feature;
+      }
+    }
+    return matchedFeature;
+  }
+
+  /**
+   * @return the bearing in degrees of the line segment closest to the position, {@link Double#NaN} if none
+   */
+  static double bearingAlong(List<Point> line, double longitude, double latitude) {
+    if (line.size() < TWO_POINTS) {
+      return Double.NaN;
+    }
+    double localMetersPerDegreeLongitude = METERS_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+    double bearing = Double.NaN;
+    double smallestDistance = Double.POSITIVE_INFINITY;
+    for (int i = 1; i < line.size(); i++) {
+      Point start = line.get(i - 1);
+      Point end = line.get(i);
+      Segment segment = new Segment(null,
+        (start.longitude() - longitude) * localMetersPerDegreeLongitude,
+        (start.latitude() - latitude) * METERS_PER_DEGREE,
+        (end.longitude() - longitude) * localMetersPerDegreeLongitude,
+        (end.latitude() - latitude) * METERS_PER_DEGREE);
+      double distance = segment.distanceTo(0d, 0d);
+      if (distance < smallestDistance) {
+        smallestDistance = distance;
+        bearing = segment.bearing;
+      }
+    }
+    return bearing;
+  }
+
+  void clear() {
+    segments.clear();
+    hasOrigin = false;
+  }
+
+  private List<List<Point>> linesOf(@Nullable Geometry geometry) {
+    if (geometry instanceof LineString) {
+      return Collections.singletonList(((LineString) geometry).coordinates());
+    } else if (geometry instanceof MultiLineString) {
+      return ((MultiLineString) geometry).coordinates();
+    }
+    return Collections.emptyList();
+  }
+
+  private void addSegments(Feature roadFeature, List<Point> line) {
+    for (int i = 1; i < line.size(); i++) {
+      Point start = line.get(i - 1);
+      Point end = line.get(i);
+      segments.add(new Segment(roadFeature,
+        xOf(start.longitude()), yOf(start.latitude()), xOf(end.longitude()), yOf(end.latitude())));
+    }
+  }
+
+  private double xOf(double longitude) {
+    return (longitude - originLongitude) * metersPerDegreeLongitude;
+  }
+
+  private double yOf(double latitude) {
+    return (latitude - originLatitude) * METERS_PER_DEGREE;
+  }
+
+  /**
+   * Roads go both ways, so opposite headings match.
+   *
+   * @return the angle between the two headings, from 0 to 90 degrees
+   */
+  private static double headingDifference(double roadBearing, double bearing) {
+    double difference = Math.abs(roadBearing - bearing) % STRAIGHT_ANGLE;
+    return difference > RIGHT_ANGLE ? STRAIGHT_ANGLE - difference : difference;
+  }
+
+  private static class Segment {
+
+    private final Feature feature;
+    private final double startX;
+    private final double startY;
+    private final double deltaX;
+    private final double deltaY;
+    private final double lengthSquared;
+    private final double bearing;
+
+    Segment(Feature feature, double startX, double startY, double endX, double endY) {
+      this.feature = feature;
+      this.startX = startX;
+      this.startY = startY;
+      this.deltaX = endX - startX;
+      this.deltaY = endY - startY;
+      this.lengthSquared = deltaX * deltaX + deltaY * deltaY;
+      this.bearing = (Math.toDegrees(Math.atan2(deltaX, deltaY)) + 2 * STRAIGHT_ANGLE) % (2 * STRAIGHT_ANGLE);
+    }
+
+    double distanceTo(double x, double y) {
+      double fraction = 0d;
+      if (lengthSquared > 0d) {
+        fraction = ((x - startX) * deltaX + (y - startY) * deltaY) / lengthSquared;
+        fraction = Math.max(0d, Math.min(1d, fraction));
+      }
+      double projectedX = startX + fraction * deltaX;
+      double projectedY = startY + fraction * deltaY;
+      return Math.hypot(x - projectedX, y - projectedY);
+    }
+  }
+}
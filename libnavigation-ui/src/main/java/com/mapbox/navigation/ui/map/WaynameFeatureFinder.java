@@ -1,6 +1,7 @@
 package com.mapbox.navigation.ui.map;
 
 import android.graphics.PointF;
+import android.graphics.RectF;
 
 import com.mapbox.geojson.Feature;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
@@ -18,4 +19,16 @@ class WaynameFeatureFinder {
   List<Feature> queryRenderedFeatures(PointF point, String[] layerIds) {
     return mapboxMap.queryRenderedFeatures(point, layerIds);
   }
+
+  List<Feature> queryRenderedFeatures(PointF point, float radiusInPixels, String[] layerIds) {
+    RectF area = new RectF(
+      point.x - radiusInPixels, point.y - radiusInPixels,
+      point.x + radiusInPixels, point.y + radiusInPixels
+    );
+    return mapboxMap.queryRenderedFeatures(area, layerIds);
+  }
+
+  double metersPerPixelAtLatitude(double latitude) {
+    return mapboxMap.getProjection().getMetersPerPixelAtLatitude(latitude);
+  }
 }
@@ -3,6 +3,7 @@ package com.mapbox.navigation.ui.route;
 import android.os.Handler;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegAnnotation;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.Feature;
@@ -12,7 +13,6 @@ import com.mapbox.geojson.Point;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -23,7 +23,7 @@ class FeatureProcessingTask extends Thread {
   private final List<? extends DirectionsRoute> routes;
   private final List<FeatureCollection> routeFeatureCollections = new ArrayList<>();
   private final WeakReference<OnRouteFeaturesProcessedCallback> callbackWeakReference;
-  private final HashMap<LineString, DirectionsRoute> routeLineStrings = new HashMap<>();
+  private final RouteSegmentIndex routeSegmentIndex = new RouteSegmentIndex();
   private AtomicBoolean cancelThread = new AtomicBoolean(false);
   private Handler postHandler;
 
@@ -65,7 +65,7 @@ class FeatureProcessingTask extends Thread {
           if (cancelThread.get()) {
             return;
           }
-          callback.onRouteFeaturesProcessed(routeFeatureCollections, routeLineStrings);
+          callback.onRouteFeaturesProcessed(routeFeatureCollections, routeSegmentIndex);
         }
       });
     }
@@ -78,34 +78,32 @@ class FeatureProcessingTask extends Thread {
     Feature routeFeature = Feature.fromGeometry(routeGeometry);
     routeFeature.addBooleanProperty(PRIMARY_ROUTE_PROPERTY_KEY, isPrimary);
     features.add(routeFeature);
-    routeLineStrings.put(routeGeometry, route);
+    routeSegmentIndex.addRoute(routeGeometry.coordinates());
 
     List<Feature> congestionFeatures = buildCongestionFeaturesFromRoute(route, routeGeometry, isPrimary);
     features.addAll(congestionFeatures);
     return FeatureCollection.fromFeatures(features);
   }
 
+  /**
+   * Builds one feature per run of consecutive segments with the same congestion,
+   * so that a route is drawn with a few features instead of one per annotated segment.
+   */
   private List<Feature> buildCongestionFeaturesFromRoute(DirectionsRoute route, LineString lineString,
                                                          boolean isPrimary) {
     final List<Feature> features = new ArrayList<>();
+    final List<Point> coordinates = lineString.coordinates();
+    // Legs share their waypoint coordinate, so the segments of a leg follow the ones of the previous leg
+    int segmentOffset = 0;
     for (RouteLeg leg : route.legs()) {
-      if (leg.annotation() != null && leg.annotation().congestion() != null) {
-        for (int i = 0; i < leg.annotation().congestion().size(); i++) {
-          // See https://github.com/mapbox/mapbox-navigation-android/issues/353
-          if (leg.annotation().congestion().size() + 1 <= lineString.coordinates().size()) {
-
-            List<Point> points = new ArrayList<>();
-            points.add(lineString.coordinates().get(i));
-            points.add(lineString.coordinates().get(i + 1));
-
-            LineString congestionLineString = LineString.fromLngLats(points);
-            Feature feature = Feature.fromGeometry(congestionLineString);
-            String congestionValue = leg.annotation().congestion().get(i);
-            feature.addStringProperty(RouteConstants.CONGESTION_KEY, congestionValue);
-            feature.addBooleanProperty(PRIMARY_ROUTE_PROPERTY_KEY, isPrimary);
-            features.add(feature);
-          }
+      LegAnnotation annotation = leg.annotation();
+      List<String> congestion = annotation != null ? annotation.congestion() : null;
+      if (congestion != null) {
+        // See https://github.com/mapbox/mapbox-navigation-android/issues/353
+        if (segmentOffset + congestion.size() + 1 <= coordinates.size()) {
+          addCongestionRunFeatures(features, coordinates, congestion, segmentOffset, isPrimary);
         }
+        segmentOffset += congestion.size();
       } else {
         Feature feature = Feature.fromGeometry(lineString);
         features.add(feature);
@@ -113,4 +111,25 @@ class FeatureProcessingTask extends Thread {
     }
     return features;
   }
+
+  private void addCongestionRunFeatures(List<Feature> features, List<Point> coordinates, List<String> congestion,
+                                        int segmentOffset, boolean isPrimary) {
+    int runStart = 0;
+    for (int i = 1; i <= congestion.size(); i++) {
+      String runCongestion = congestion.get(runStart);
+      if (i < congestion.size() && isSameCongestion(runCongestion, congestion.get(i))) {
+        continue;
+      }
+      List<Point> points = new ArrayList<>(coordinates.subList(segmentOffset + runStart, segmentOffset + i + 1));
+      Feature feature = Feature.fromGeometry(LineString.fromLngLats(points));
+      feature.addStringProperty(RouteConstants.CONGESTION_KEY, runCongestion);
+      feature.addBooleanProperty(PRIMARY_ROUTE_PROPERTY_KEY, isPrimary);
+      features.add(feature);
+      runStart = i;
+    }
+  }
+
+  private boolean isSameCongestion(String congestion, String otherCongestion) {
+    return congestion == null ? otherCongestion == null : congestion.equals(otherCongestion);
+  }
 }
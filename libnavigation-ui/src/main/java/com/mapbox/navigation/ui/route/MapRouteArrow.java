@@ -28,10 +28,10 @@ import com.mapbox.mapboxsdk.style.sources.GeoJsonOptions;
 import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 import com.mapbox.mapboxsdk.utils.MathUtils;
 import com.mapbox.navigation.base.trip.model.RouteProgress;
+import com.mapbox.navigation.base.trip.model.RouteStepProgress;
 import com.mapbox.navigation.ui.utils.MapImageUtils;
 import com.mapbox.turf.TurfConstants;
 import com.mapbox.turf.TurfMeasurement;
-import com.mapbox.turf.TurfMisc;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -80,6 +80,9 @@ import static com.mapbox.navigation.ui.route.RouteConstants.TWO_POINTS;
 
 class MapRouteArrow {
 
+  private static final int FORWARD = 1;
+  private static final int BACKWARD = -1;
+
   @ColorInt
   private final int arrowColor;
   @ColorInt
@@ -88,6 +91,10 @@ class MapRouteArrow {
   private List<String> arrowLayerIds;
   private GeoJsonSource arrowShaftGeoJsonSource;
   private GeoJsonSource arrowHeadGeoJsonSource;
+  private int currentLegIndex = -1;
+  private int currentStepIndex = -1;
+  private Point currentManeuverPoint;
+  private Point currentUpcomingStepEndPoint;
 
   private final MapView mapView;
   private final MapboxMap mapboxMap;
@@ -108,17 +115,30 @@ class MapRouteArrow {
   }
 
   void addUpcomingManeuverArrow(RouteProgress routeProgress) {
-    boolean invalidUpcomingStepPoints = routeProgress.upcomingStepPoints() == null
-            || routeProgress.upcomingStepPoints().size() < TWO_POINTS;
-    boolean invalidCurrentStepPoints =
-      routeProgress.currentLegProgress().currentStepProgress().stepPoints().size() < TWO_POINTS;
+    List<Point> upcomingStepPoints = routeProgress.upcomingStepPoints();
+    RouteStepProgress currentStepProgress = routeProgress.currentLegProgress().currentStepProgress();
+    List<Point> currentStepPoints = currentStepProgress.stepPoints();
+    boolean invalidUpcomingStepPoints = upcomingStepPoints == null || upcomingStepPoints.size() < TWO_POINTS;
+    boolean invalidCurrentStepPoints = currentStepPoints.size() < TWO_POINTS;
     if (invalidUpcomingStepPoints || invalidCurrentStepPoints) {
       updateVisibilityTo(false);
       return;
     }
     updateVisibilityTo(true);
 
-    List<Point> maneuverPoints = obtainArrowPointsFrom(routeProgress);
+    int legIndex = routeProgress.currentLegProgress().legIndex();
+    int stepIndex = currentStepProgress.stepIndex();
+    Point maneuverPoint = currentStepPoints.get(currentStepPoints.size() - 1);
+    Point upcomingStepEndPoint = upcomingStepPoints.get(upcomingStepPoints.size() - 1);
+    if (isSameManeuver(legIndex, stepIndex, maneuverPoint, upcomingStepEndPoint)) {
+      return;
+    }
+    currentLegIndex = legIndex;
+    currentStepIndex = stepIndex;
+    currentManeuverPoint = maneuverPoint;
+    currentUpcomingStepEndPoint = upcomingStepEndPoint;
+
+    List<Point> maneuverPoints = obtainArrowPointsFrom(currentStepPoints, upcomingStepPoints);
     updateArrowShaftWith(maneuverPoints);
     updateArrowHeadWith(maneuverPoints);
   }
@@ -138,25 +158,44 @@ class MapRouteArrow {
     }
   }
 
-  private List<Point> obtainArrowPointsFrom(RouteProgress routeProgress) {
-    List<Point> reversedCurrent =
-      new ArrayList<>(routeProgress.currentLegProgress().currentStepProgress().stepPoints());
-    Collections.reverse(reversedCurrent);
-
-    LineString arrowLineCurrent = LineString.fromLngLats(reversedCurrent);
-    LineString arrowLineUpcoming = LineString.fromLngLats(routeProgress.upcomingStepPoints());
-
-    LineString arrowCurrentSliced =
-      TurfMisc.lineSliceAlong(arrowLineCurrent, 0, THIRTY, TurfConstants.UNIT_METERS);
-    LineString arrowUpcomingSliced =
-      TurfMisc.lineSliceAlong(arrowLineUpcoming, 0, THIRTY, TurfConstants.UNIT_METERS);
+  /**
+   * Joins the last {@link RouteConstants#THIRTY} meters of the current step with the first ones of the
+   * upcoming step, only walking the points needed to cover that distance.
+   */
+  static List<Point> obtainArrowPointsFrom(List<Point> currentStepPoints, List<Point> upcomingStepPoints) {
+    List<Point> arrowPoints = sliceAlong(currentStepPoints, currentStepPoints.size() - 1, BACKWARD);
+    Collections.reverse(arrowPoints);
+    arrowPoints.addAll(sliceAlong(upcomingStepPoints, 0, FORWARD));
+    return arrowPoints;
+  }
 
-    Collections.reverse(arrowCurrentSliced.coordinates());
+  private static List<Point> sliceAlong(List<Point> points, int startIndex, int direction) {
+    List<Point> slice = new ArrayList<>();
+    Point previous = points.get(startIndex);
+    slice.add(previous);
+    double travelled = 0d;
+    for (int i = startIndex + direction; i >= 0 && i < points.size(); i += direction) {
+      Point current = points.get(i);
+      double distance = TurfMeasurement.distance(previous, current, TurfConstants.UNIT_METERS);
+      if (travelled + distance >= THIRTY) {
+        double remaining = THIRTY - travelled;
+        double bearing = TurfMeasurement.bearing(previous, current);
+        slice.add(remaining == distance ? current
+          : TurfMeasurement.destination(previous, remaining, bearing, TurfConstants.UNIT_METERS));
+        break;
+      }
+      travelled += distance;
+      slice.add(current);
+      previous = current;
+    }
+    return slice;
+  }
 
-    List<Point> combined = new ArrayList<>();
-    combined.addAll(arrowCurrentSliced.coordinates());
-    combined.addAll(arrowUpcomingSliced.coordinates());
-    return combined;
+  private boolean isSameManeuver(int legIndex, int stepIndex, Point maneuverPoint, Point upcomingStepEndPoint) {
+    return legIndex == currentLegIndex
+      && stepIndex == currentStepIndex
+      && maneuverPoint.equals(currentManeuverPoint)
+      && upcomingStepEndPoint.equals(currentUpcomingStepEndPoint);
   }
 
   private void updateArrowShaftWith(List<Point> points) {
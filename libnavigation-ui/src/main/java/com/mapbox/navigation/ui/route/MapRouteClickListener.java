@@ -1,31 +1,33 @@
 package com.mapbox.navigation.ui.route;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
-import com.mapbox.geojson.Feature;
-import com.mapbox.geojson.LineString;
-import com.mapbox.geojson.Point;
 import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
-import com.mapbox.turf.TurfConstants;
-import com.mapbox.turf.TurfMeasurement;
-import com.mapbox.turf.TurfMisc;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 
 class MapRouteClickListener implements MapboxMap.OnMapClickListener {
 
+  static final float NO_CLICK_TOLERANCE = Float.POSITIVE_INFINITY;
+
   private final MapRouteLine routeLine;
+  @Nullable
+  private final MapboxMap mapboxMap;
 
   private OnRouteSelectionChangeListener onRouteSelectionChangeListener;
   private boolean alternativesVisible = true;
+  private float clickToleranceInPixels = NO_CLICK_TOLERANCE;
 
   MapRouteClickListener(MapRouteLine routeLine) {
+    this(routeLine, null);
+  }
+
+  MapRouteClickListener(MapRouteLine routeLine, @Nullable MapboxMap mapboxMap) {
     this.routeLine = routeLine;
+    this.mapboxMap = mapboxMap;
   }
 
   @Override
@@ -33,12 +35,12 @@ class MapRouteClickListener implements MapboxMap.OnMapClickListener {
     if (!isRouteVisible()) {
       return false;
     }
-    HashMap<LineString, DirectionsRoute> routeLineStrings = routeLine.retrieveRouteLineStrings();
-    if (invalidMapClick(routeLineStrings)) {
+    RouteSegmentIndex routeSegmentIndex = routeLine.retrieveRouteSegmentIndex();
+    if (invalidMapClick(routeSegmentIndex)) {
       return false;
     }
     List<DirectionsRoute> directionsRoutes = routeLine.retrieveDirectionsRoutes();
-    findClickedRoute(point, routeLineStrings, directionsRoutes);
+    findClickedRoute(point, routeSegmentIndex, directionsRoutes);
     return false;
   }
 
@@ -50,47 +52,37 @@ class MapRouteClickListener implements MapboxMap.OnMapClickListener {
     this.alternativesVisible = alternativesVisible;
   }
 
-  private boolean invalidMapClick(HashMap<LineString, DirectionsRoute> routeLineStrings) {
-    return routeLineStrings == null || routeLineStrings.isEmpty() || !alternativesVisible;
+  void updateClickTolerance(float clickToleranceInPixels) {
+    this.clickToleranceInPixels = clickToleranceInPixels;
+  }
+
+  private boolean invalidMapClick(RouteSegmentIndex routeSegmentIndex) {
+    return routeSegmentIndex == null || routeSegmentIndex.isEmpty() || !alternativesVisible;
   }
 
   private boolean isRouteVisible() {
     return routeLine.retrieveVisibility();
   }
 
-  private void findClickedRoute(@NonNull LatLng point, HashMap<LineString, DirectionsRoute> routeLineStrings,
+  private void findClickedRoute(@NonNull LatLng point, RouteSegmentIndex routeSegmentIndex,
                                 List<DirectionsRoute> directionsRoutes) {
-
-    HashMap<Double, DirectionsRoute> routeDistancesAwayFromClick = new HashMap<>();
-    Point clickPoint = Point.fromLngLat(point.getLongitude(), point.getLatitude());
-
-    calculateClickDistances(routeDistancesAwayFromClick, clickPoint, routeLineStrings);
-    List<Double> distancesAwayFromClick = new ArrayList<>(routeDistancesAwayFromClick.keySet());
-    Collections.sort(distancesAwayFromClick);
-
-    DirectionsRoute clickedRoute = routeDistancesAwayFromClick.get(distancesAwayFromClick.get(0));
-    int newPrimaryRouteIndex = directionsRoutes.indexOf(clickedRoute);
+    double toleranceInMeters = findClickToleranceInMeters(point.getLatitude());
+    int newPrimaryRouteIndex = routeSegmentIndex.findClosestRoute(
+      point.getLongitude(), point.getLatitude(), toleranceInMeters
+    );
+    if (newPrimaryRouteIndex == RouteSegmentIndex.NO_ROUTE) {
+      return;
+    }
     if (routeLine.updatePrimaryRouteIndex(newPrimaryRouteIndex) && onRouteSelectionChangeListener != null) {
       DirectionsRoute selectedRoute = directionsRoutes.get(newPrimaryRouteIndex);
       onRouteSelectionChangeListener.onNewPrimaryRouteSelected(selectedRoute);
     }
   }
 
-  private void calculateClickDistances(HashMap<Double, DirectionsRoute> routeDistancesAwayFromClick,
-                                       Point clickPoint, HashMap<LineString, DirectionsRoute> routeLineStrings) {
-    for (LineString lineString : routeLineStrings.keySet()) {
-      Point pointOnLine = findPointOnLine(clickPoint, lineString);
-      if (pointOnLine == null) {
-        return;
-      }
-      double distance = TurfMeasurement.distance(clickPoint, pointOnLine, TurfConstants.UNIT_METERS);
-      routeDistancesAwayFromClick.put(distance, routeLineStrings.get(lineString));
+  private double findClickToleranceInMeters(double latitude) {
+    if (mapboxMap == null || clickToleranceInPixels == NO_CLICK_TOLERANCE) {
+      return Double.POSITIVE_INFINITY;
     }
-  }
-
-  private Point findPointOnLine(Point clickPoint, LineString lineString) {
-    List<Point> linePoints = lineString.coordinates();
-    Feature feature = TurfMisc.nearestPointOnLine(clickPoint, linePoints);
-    return (Point) feature.geometry();
+    return clickToleranceInPixels * mapboxMap.getProjection().getMetersPerPixelAtLatitude(latitude);
   }
 }
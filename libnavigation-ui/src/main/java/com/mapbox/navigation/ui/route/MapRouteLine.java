@@ -12,7 +12,6 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
-import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.libnavigation.ui.R;
 import com.mapbox.mapboxsdk.location.LocationComponentConstants;
@@ -26,7 +25,6 @@ import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
 import com.mapbox.navigation.ui.utils.MapUtils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -67,7 +65,7 @@ class MapRouteLine {
 
   private Style style;
 
-  private final HashMap<LineString, DirectionsRoute> routeLineStrings = new HashMap<>();
+  private RouteSegmentIndex routeSegmentIndex = new RouteSegmentIndex();
   private final List<FeatureCollection> routeFeatureCollections = new ArrayList<>();
   private final List<DirectionsRoute> directionsRoutes = new ArrayList<>();
   private final List<String> routeLayerIds;
@@ -106,7 +104,7 @@ class MapRouteLine {
             FeatureCollection.fromFeatures(new Feature[]{}),
             new ArrayList<DirectionsRoute>(),
             new ArrayList<FeatureCollection>(),
-            new HashMap<LineString, DirectionsRoute>(),
+            new RouteSegmentIndex(),
             0,
             true,
             true,
@@ -124,7 +122,7 @@ class MapRouteLine {
                FeatureCollection waypointsFeatureCollection,
                List<DirectionsRoute> directionsRoutes,
                List<FeatureCollection> routeFeatureCollections,
-               HashMap<LineString, DirectionsRoute> routeLineStrings,
+               RouteSegmentIndex routeSegmentIndex,
                int primaryRouteIndex,
                boolean isVisible,
                boolean alternativesVisible,
@@ -214,7 +212,7 @@ class MapRouteLine {
 
     this.directionsRoutes.addAll(directionsRoutes);
     this.routeFeatureCollections.addAll(routeFeatureCollections);
-    this.routeLineStrings.putAll(routeLineStrings);
+    this.routeSegmentIndex = routeSegmentIndex;
 
     updateAlternativeVisibilityTo(alternativesVisible);
     updateRoutesFor(primaryRouteIndex);
@@ -269,8 +267,8 @@ class MapRouteLine {
     return isVisible;
   }
 
-  HashMap<LineString, DirectionsRoute> retrieveRouteLineStrings() {
-    return routeLineStrings;
+  RouteSegmentIndex retrieveRouteSegmentIndex() {
+    return routeSegmentIndex;
   }
 
   List<FeatureCollection> retrieveRouteFeatureCollections() {
@@ -328,8 +326,8 @@ class MapRouteLine {
     if (!directionsRoutes.isEmpty()) {
       directionsRoutes.clear();
     }
-    if (!routeLineStrings.isEmpty()) {
-      routeLineStrings.clear();
+    if (!routeSegmentIndex.isEmpty()) {
+      routeSegmentIndex = new RouteSegmentIndex();
     }
     if (!routeFeatureCollections.isEmpty()) {
       routeFeatureCollections.clear();
@@ -368,9 +366,9 @@ class MapRouteLine {
   private OnRouteFeaturesProcessedCallback routeFeaturesProcessedCallback = new OnRouteFeaturesProcessedCallback() {
     @Override
     public void onRouteFeaturesProcessed(List<FeatureCollection> routeFeatureCollections,
-                                         HashMap<LineString, DirectionsRoute> routeLineStrings) {
+                                         RouteSegmentIndex routeSegmentIndex) {
       MapRouteLine.this.routeFeatureCollections.addAll(routeFeatureCollections);
-      MapRouteLine.this.routeLineStrings.putAll(routeLineStrings);
+      MapRouteLine.this.routeSegmentIndex = routeSegmentIndex;
       drawRoutes(routeFeatureCollections);
       drawWayPoints();
       updateAlternativeVisibilityTo(alternativesVisible);
@@ -54,6 +54,7 @@ public class NavigationMapRoute implements LifecycleObserver {
   private MapboxNavigation navigation;
   private MapRouteLine routeLine;
   private MapRouteArrow routeArrow;
+  private float routeClickTolerance = MapRouteClickListener.NO_CLICK_TOLERANCE;
 
   /**
    * Construct an instance of {@link NavigationMapRoute}.
@@ -142,7 +143,7 @@ public class NavigationMapRoute implements LifecycleObserver {
     this.navigation = navigation;
     this.routeLine = buildMapRouteLine(mapView, mapboxMap, styleRes, belowLayer);
     this.routeArrow = new MapRouteArrow(mapView, mapboxMap, styleRes, routeLine.getTopLayerId());
-    this.mapRouteClickListener = new MapRouteClickListener(routeLine);
+    this.mapRouteClickListener = new MapRouteClickListener(routeLine, mapboxMap);
     this.mapRouteProgressChangeListener = new MapRouteProgressChangeListener(routeLine, routeArrow);
     initializeDidFinishLoadingStyleListener();
     addListeners();
@@ -272,6 +273,17 @@ public class NavigationMapRoute implements LifecycleObserver {
     routeLine.toggleAlternativeVisibilityWith(alternativesVisible);
   }
 
+  /**
+   * Limits how far from a route a map click can be to select it. By default, a click anywhere on the map
+   * selects the closest route.
+   *
+   * @param toleranceInPixels maximum distance in screen pixels between the click and the route
+   */
+  public void updateRouteClickTolerance(float toleranceInPixels) {
+    routeClickTolerance = toleranceInPixels;
+    mapRouteClickListener.updateClickTolerance(toleranceInPixels);
+  }
+
   /**
    * This method will allow this class to listen to new routes based on
    * the progress updates from {@link MapboxNavigation}.
@@ -398,14 +410,15 @@ public class NavigationMapRoute implements LifecycleObserver {
             routeLine.retrieveDrawnWaypointsFeatureCollections(),
             routeLine.retrieveDirectionsRoutes(),
             routeLine.retrieveRouteFeatureCollections(),
-            routeLine.retrieveRouteLineStrings(),
+            routeLine.retrieveRouteSegmentIndex(),
             routeLine.retrievePrimaryRouteIndex(),
             routeLine.retrieveVisibility(),
             routeLine.retrieveAlternativesVisible(),
             handler
     );
     mapboxMap.removeOnMapClickListener(mapRouteClickListener);
-    mapRouteClickListener = new MapRouteClickListener(routeLine);
+    mapRouteClickListener = new MapRouteClickListener(routeLine, mapboxMap);
+    mapRouteClickListener.updateClickTolerance(routeClickTolerance);
     mapboxMap.addOnMapClickListener(mapRouteClickListener);
   }
 
@@ -0,0 +1,152 @@
+package com.mapbox.navigation.ui.route;
+
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Segments of the drawn routes, grouped in chunks of consecutive segments with their bounding box,
+ * to find the route closest to a map click without going through every coordinate.
+ * <p>
+ * Routes are indexed in the order they're added, which is the order of the drawn directions routes.
+ */
+class RouteSegmentIndex {
+
+  static final int NO_ROUTE = -1;
+  private static final int SEGMENTS_PER_CHUNK = 32;
+  // Mean earth radius, as used by Turf
+  private static final double EARTH_RADIUS_METERS = 6371008.8d;
+  private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180d;
+
+  private final List<List<Chunk>> routeChunks = new ArrayList<>();
+
+  void addRoute(List<Point> coordinates) {
+    List<Chunk> chunks = new ArrayList<>();
+    for (int start = 0; start < coordinates.size() - 1; start += SEGMENTS_PER_CHUNK) {
+      int end = Math.min(start + SEGMENTS_PER_CHUNK, coordinates.size() - 1);
+      chunks.add(new Chunk(coordinates.subList(start, end + 1)));
+    }
+    routeChunks.add(chunks);
+  }
+
+  boolean isEmpty() {
+    return routeChunks.isEmpty();
+  }
+
+  int size() {
+    return routeChunks.size();
+  }
+
+  /**
+   * Chunks that can't hold a segment closer than the best one found so far, or than the tolerance,
+   * are skipped. Of routes at the same distance, the first one wins.
+   *
+   * @param toleranceInMeters maximum distance between the point and the route,
+   *                          {@link Double#POSITIVE_INFINITY} for no limit
+   * @return the index of the route closest to the point, {@link #NO_ROUTE} if none is within the tolerance
+   */
+  int findClosestRoute(double longitude, double latitude, double toleranceInMeters) {
+    Projection projection = new Projection(longitude, latitude);
+    int closestRoute = NO_ROUTE;
+    double closestDistance = toleranceInMeters;
+    for (int route = 0; route < routeChunks.size(); route++) {
+      for (Chunk chunk : routeChunks.get(route)) {
+        if (chunk.minDistanceTo(projection) > closestDistance) {
+          continue;
+        }
+        double distance = chunk.distanceTo(projection);
+        if (distance < closestDistance) {
+          closestDistance = distance;
+          closestRoute = route;
+        }
+      }
+    }
+    return closestRoute;
+  }
+
+  /**
+   * Plane tangent to the query point, in meters.
+   */
+  private static class Projection {
+
+    private final double longitude;
+    private final double latitude;
+    private final double metersPerDegreeLongitude;
+
+    Projection(double longitude, double latitude) {
+      this.longitude = longitude;
+      this.latitude = latitude;
+      this.metersPerDegreeLongitude = METERS_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+    }
+
+    double xOf(double pointLongitude) {
+      return (pointLongitude - longitude) * metersPerDegreeLongitude;
+    }
+
+    double yOf(double pointLatitude) {
+      return (pointLatitude - latitude) * METERS_PER_DEGREE;
+    }
+  }
+
+  private static class Chunk {
+
+    private final double[] longitudes;
+    private final double[] latitudes;
+    private double west = Double.POSITIVE_INFINITY;
+    private double south = Double.POSITIVE_INFINITY;
+    private double east = Double.NEGATIVE_INFINITY;
+    private double north = Double.NEGATIVE_INFINITY;
+
+    Chunk(List<Point> points) {
+      longitudes = new double[points.size()];
+      latitudes = new double[points.size()];
+      for (int i = 0; i < points.size(); i++) {
+        Point point = points.get(i);
+        longitudes[i] = point.longitude();
+        latitudes[i] = point.latitude();
+        west = Math.min(west, longitudes[i]);
+        south = Math.min(south, latitudes[i]);
+        east = Math.max(east, longitudes[i]);
+        north = Math.max(north, latitudes[i]);
+      }
+    }
+
+    /**
+     * @return distance between the projection origin and the bounding box of the chunk
+     */
+    double minDistanceTo(Projection projection) {
+      double x = Math.max(0d, Math.max(projection.xOf(west), -projection.xOf(east)));
+      double y = Math.max(0d, Math.max(projection.yOf(south), -projection.yOf(north)));
+      return Math.hypot(x, y);
+    }
+
+    /**
+     * @return distance between the projection origin and the closest segment of the chunk
+     */
+    double distanceTo(Projection projection) {
+      double closestDistance = Double.POSITIVE_INFINITY;
+      double startX = projection.xOf(longitudes[0]);
+      double startY = projection.yOf(latitudes[0]);
+      for (int i = 1; i < longitudes.length; i++) {
+        double endX = projection.xOf(longitudes[i]);
+        double endY = projection.yOf(latitudes[i]);
+        closestDistance = Math.min(closestDistance, segmentDistance(startX, startY, endX, endY));
+        startX = endX;
+        startY = endY;
+      }
+      return closestDistance;
+    }
+
+    private double segmentDistance(double startX, double startY, double endX, double endY) {
+      double deltaX = endX - startX;
+      double deltaY = endY - startY;
+      double lengthSquared = deltaX * deltaX + deltaY * deltaY;
+      double fraction = 0d;
+      if (lengthSquared > 0d) {
+        fraction = Math.max(0d, Math.min(1d, -(startX * deltaX + startY * deltaY) / lengthSquared));
+      }
+      return Math.hypot(startX + fraction * deltaX, startY + fraction * deltaY);
+    }
+  }
+}
@@ -12,22 +12,27 @@ import timber.log.Timber;
 class InstructionCacheCallback implements Callback<ResponseBody> {
 
   private final VoiceInstructionLoader loader;
+  private final int announcementIndex;
 
-  InstructionCacheCallback(VoiceInstructionLoader loader) {
+  InstructionCacheCallback(VoiceInstructionLoader loader, int announcementIndex) {
     this.loader = loader;
+    this.announcementIndex = announcementIndex;
   }
 
   @Override
   public void onResponse(@NonNull Call<ResponseBody> call, @NonNull Response<ResponseBody> response) {
     if (closeResponseBody(response)) {
       String url = call.request().url().toString();
-      loader.addCachedUrl(url);
+      loader.addCachedUrl(announcementIndex, url, this);
+    } else {
+      loader.removeCachingInstruction(announcementIndex, this);
     }
   }
 
   @Override
   public void onFailure(@NonNull Call<ResponseBody> call, @NonNull Throwable throwable) {
     Timber.e(throwable, "onFailure cache instruction");
+    loader.removeCachingInstruction(announcementIndex, this);
   }
 
   private boolean closeResponseBody(@NonNull Response<ResponseBody> response) {
@@ -39,4 +44,4 @@ class InstructionCacheCallback implements Callback<ResponseBody> {
     }
     return false;
   }
-}
\ No newline at end of file
+}
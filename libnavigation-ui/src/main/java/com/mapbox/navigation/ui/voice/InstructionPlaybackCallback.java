@@ -0,0 +1,36 @@
+package com.mapbox.navigation.ui.voice;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+class InstructionPlaybackCallback implements Callback<ResponseBody> {
+
+  private final VoiceInstructionLoader loader;
+  private final Callback<ResponseBody> callback;
+  private final long requestTime;
+
+  InstructionPlaybackCallback(VoiceInstructionLoader loader, Callback<ResponseBody> callback) {
+    this.loader = loader;
+    this.callback = callback;
+    this.requestTime = SystemClock.elapsedRealtime();
+  }
+
+  @Override
+  public void onResponse(@NonNull Call<ResponseBody> call, @NonNull Response<ResponseBody> response) {
+    boolean isCacheHit = response.isSuccessful() && response.raw().networkResponse() == null;
+    loader.updatePlaybackMetrics(isCacheHit, SystemClock.elapsedRealtime() - requestTime);
+    callback.onResponse(call, response);
+  }
+
+  @Override
+  public void onFailure(@NonNull Call<ResponseBody> call, @NonNull Throwable throwable) {
+    loader.updatePlaybackMetrics(false, SystemClock.elapsedRealtime() - requestTime);
+    callback.onFailure(call, throwable);
+  }
+}
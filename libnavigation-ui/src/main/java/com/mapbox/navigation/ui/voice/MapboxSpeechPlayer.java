@@ -132,7 +132,7 @@ class MapboxSpeechPlayer implements SpeechPlayer {
       return;
     }
 
-    voiceInstructionLoader.requestInstruction(instruction, textType, new Callback<ResponseBody>() {
+    voiceInstructionLoader.requestPlayedInstruction(instruction, textType, new Callback<ResponseBody>() {
       @Override
       public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
         if (response.isSuccessful()) {
@@ -7,8 +7,16 @@ import com.mapbox.navigation.ui.ConnectivityStatusProvider;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 
 import okhttp3.Cache;
@@ -20,21 +28,38 @@ import okhttp3.ResponseBody;
 import retrofit2.Callback;
 import timber.log.Timber;
 
+/**
+ * Downloads the SSML audio of upcoming voice instructions ahead of time, into the same HTTP cache
+ * used to play them.
+ * <p>
+ * Announcements are identified by their index along the route, in distance order. At most
+ * {@link #MAX_CONCURRENT_DOWNLOADS} are downloaded at a time, closest to the user first, and the
+ * ones behind the user are evicted by index instead of looking them up one by one.
+ */
 public class VoiceInstructionLoader {
-  private static final int VOICE_INSTRUCTIONS_TO_EVICT_THRESHOLD = 4;
+  private static final int MAX_CONCURRENT_DOWNLOADS = 2;
   private static final String SSML_TEXT_TYPE = "ssml";
   private final ConnectivityStatusProvider connectivityStatus;
   private final String accessToken;
-  private List<String> urlsCached;
+  private final SortedMap<Integer, String> urlsCached = new TreeMap<>();
+  private final SortedMap<Integer, String> instructionsToCache = new TreeMap<>();
+  private final Map<Integer, InstructionCacheCallback> instructionsCaching = new HashMap<>();
   private final Cache cache;
   private final Context context;
   private MapboxSpeech.Builder mapboxSpeechBuilder = null;
+  private int firstRetainedIndex = 0;
+  private long hitCount;
+  private long missCount;
+  private long totalLatencyMillis;
+  private long maxLatencyMillis;
+  private long prefetchCount;
+  private long prefetchFailureCount;
+  private long evictionCount;
 
   public VoiceInstructionLoader(Context context, String accessToken, Cache cache) {
     this.connectivityStatus = new ConnectivityStatusProvider(context);
     this.accessToken = accessToken;
     this.context = context;
-    this.urlsCached = new ArrayList<>();
     this.cache = cache;
   }
 
@@ -43,43 +68,69 @@ public class VoiceInstructionLoader {
                          ConnectivityStatusProvider connectivityStatus) {
     this.accessToken = accessToken;
     this.context = context;
-    this.urlsCached = new ArrayList<>();
     this.cache = cache;
     this.mapboxSpeechBuilder = mapboxSpeechBuilder;
     this.connectivityStatus = connectivityStatus;
   }
 
+  /**
+   * Evicts every announcement downloaded for the current route and drops the pending ones,
+   * before prefetching the announcements of a new route.
+   *
+   * @return the urls removed from the cache
+   */
   public List<String> evictVoiceInstructions() {
-    List<String> urlsToRemove = new ArrayList<>();
-    for (int i = 0; i < urlsCached.size() && i < VOICE_INSTRUCTIONS_TO_EVICT_THRESHOLD; i++) {
-      String urlToRemove = urlsCached.get(i);
-      try {
-        Iterator<String> urlsCurrentlyCached = cache.urls();
-        for (Iterator<String> urlCached = urlsCurrentlyCached; urlCached.hasNext(); ) {
-          String url = urlCached.next();
-          if (url.equals(urlToRemove)) {
-            urlCached.remove();
-            urlsToRemove.add(urlToRemove);
-            break;
-          }
-        }
-      } catch (IOException exception) {
-        exception.printStackTrace();
-      }
-    }
-    urlsCached.removeAll(urlsToRemove);
-    return urlsToRemove;
+    instructionsToCache.clear();
+    instructionsCaching.clear();
+    List<String> urlsEvicted = evictCachedUrls(urlsCached.values());
+    urlsCached.clear();
+    firstRetainedIndex = 0;
+    return urlsEvicted;
+  }
+
+  /**
+   * Evicts the announcements the user has passed and drops the pending ones.
+   *
+   * @param announcementIndex index of the first announcement to keep
+   * @return the urls removed from the cache
+   */
+  public List<String> evictVoiceInstructionsBefore(int announcementIndex) {
+    firstRetainedIndex = Math.max(firstRetainedIndex, announcementIndex);
+    instructionsToCache.headMap(announcementIndex).clear();
+    SortedMap<Integer, String> urlsPassed = urlsCached.headMap(announcementIndex);
+    List<String> urlsEvicted = evictCachedUrls(urlsPassed.values());
+    urlsPassed.clear();
+    return urlsEvicted;
   }
 
-  public void cacheInstructions(List<String> instructions) {
-    for (String instruction : instructions) {
-      cacheInstruction(instruction);
+  /**
+   * Queues the SSML announcement for download, unless it's already downloaded or queued.
+   *
+   * @param announcementIndex index of the announcement along the route
+   * @param instruction       SSML announcement
+   */
+  public void cacheInstruction(int announcementIndex, String instruction) {
+    boolean isKnown = urlsCached.containsKey(announcementIndex)
+      || instructionsCaching.containsKey(announcementIndex)
+      || instructionsToCache.containsKey(announcementIndex);
+    if (isKnown || announcementIndex < firstRetainedIndex) {
+      return;
     }
+    instructionsToCache.put(announcementIndex, instruction);
+    cacheNextInstructions();
+  }
+
+  public VoiceInstructionMetrics retrieveMetrics() {
+    return new VoiceInstructionMetrics(hitCount, missCount, totalLatencyMillis, maxLatencyMillis,
+      prefetchCount, prefetchFailureCount, evictionCount);
   }
 
   // Package private (no modifier) for testing purposes
   void addStubUrlsToCache(List<String> urlsToCache) {
-    this.urlsCached = urlsToCache;
+    urlsCached.clear();
+    for (int i = 0; i < urlsToCache.size(); i++) {
+      urlsCached.put(i, urlsToCache.get(i));
+    }
   }
 
   void setupMapboxSpeechBuilder(String language) {
@@ -93,7 +144,7 @@ public class VoiceInstructionLoader {
   }
 
   void requestInstruction(String instruction, String textType, Callback<ResponseBody> callback) {
-    if (context != null && !cache.isClosed() && mapboxSpeechBuilder != null) {
+    if (canRequestInstruction()) {
       mapboxSpeechBuilder
               .instruction(instruction); // TODO Sku interceptor
       MapboxSpeech mapboxSpeech = mapboxSpeechBuilder
@@ -104,11 +155,22 @@ public class VoiceInstructionLoader {
     }
   }
 
+  /**
+   * Requests an announcement that is due to be played, keeping track of whether it had been prefetched.
+   */
+  void requestPlayedInstruction(String instruction, String textType, Callback<ResponseBody> callback) {
+    requestInstruction(instruction, textType, new InstructionPlaybackCallback(this, callback));
+  }
+
   boolean hasCache() {
     return !urlsCached.isEmpty();
   }
 
   void flushCache() {
+    urlsCached.clear();
+    instructionsToCache.clear();
+    instructionsCaching.clear();
+    firstRetainedIndex = 0;
     try {
       cache.evictAll();
     } catch (IOException exception) {
@@ -116,12 +178,87 @@ public class VoiceInstructionLoader {
     }
   }
 
-  void addCachedUrl(String url) {
-    urlsCached.add(url);
+  void addCachedUrl(int announcementIndex, String url, InstructionCacheCallback callback) {
+    if (!removeCaching(announcementIndex, callback)) {
+      return;
+    }
+    prefetchCount++;
+    if (announcementIndex < firstRetainedIndex) {
+      evictCachedUrls(Collections.singletonList(url));
+    } else {
+      urlsCached.put(announcementIndex, url);
+    }
+    cacheNextInstructions();
+  }
+
+  void removeCachingInstruction(int announcementIndex, InstructionCacheCallback callback) {
+    if (!removeCaching(announcementIndex, callback)) {
+      return;
+    }
+    prefetchFailureCount++;
+    cacheNextInstructions();
+  }
+
+  void updatePlaybackMetrics(boolean isCacheHit, long latencyMillis) {
+    if (isCacheHit) {
+      hitCount++;
+    } else {
+      missCount++;
+    }
+    totalLatencyMillis += latencyMillis;
+    maxLatencyMillis = Math.max(maxLatencyMillis, latencyMillis);
   }
 
-  private void cacheInstruction(String instruction) {
-    requestInstruction(instruction, SSML_TEXT_TYPE, new InstructionCacheCallback(this));
+  /**
+   * Callbacks of downloads dropped by an eviction are ignored.
+   */
+  private boolean removeCaching(int announcementIndex, InstructionCacheCallback callback) {
+    if (instructionsCaching.get(announcementIndex) != callback) {
+      return false;
+    }
+    instructionsCaching.remove(announcementIndex);
+    return true;
+  }
+
+  private void cacheNextInstructions() {
+    if (!canRequestInstruction()) {
+      return;
+    }
+    while (instructionsCaching.size() < MAX_CONCURRENT_DOWNLOADS && !instructionsToCache.isEmpty()) {
+      int announcementIndex = instructionsToCache.firstKey();
+      String instruction = instructionsToCache.remove(announcementIndex);
+      InstructionCacheCallback callback = new InstructionCacheCallback(this, announcementIndex);
+      instructionsCaching.put(announcementIndex, callback);
+      requestInstruction(instruction, SSML_TEXT_TYPE, callback);
+    }
+  }
+
+  private boolean canRequestInstruction() {
+    return context != null && !cache.isClosed() && mapboxSpeechBuilder != null;
+  }
+
+  /**
+   * Goes through the cached urls once, whatever the number of urls to evict.
+   */
+  private List<String> evictCachedUrls(Collection<String> urlsToEvict) {
+    List<String> urlsEvicted = new ArrayList<>();
+    if (urlsToEvict.isEmpty()) {
+      return urlsEvicted;
+    }
+    Set<String> urls = new HashSet<>(urlsToEvict);
+    try {
+      for (Iterator<String> urlCached = cache.urls(); urlCached.hasNext() && !urls.isEmpty(); ) {
+        String url = urlCached.next();
+        if (urls.remove(url)) {
+          urlCached.remove();
+          urlsEvicted.add(url);
+        }
+      }
+    } catch (IOException exception) {
+      Timber.e(exception);
+    }
+    evictionCount += urlsEvicted.size();
+    return urlsEvicted;
   }
 
   private Interceptor provideOfflineCacheInterceptor() {
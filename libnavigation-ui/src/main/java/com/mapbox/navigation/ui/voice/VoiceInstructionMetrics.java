@@ -0,0 +1,81 @@
+package com.mapbox.navigation.ui.voice;
+
+/**
+ * Snapshot of how well the voice instructions prefetched along the route
+ * served the announcements that were played.
+ */
+public class VoiceInstructionMetrics {
+
+  private final long hitCount;
+  private final long missCount;
+  private final long totalLatencyMillis;
+  private final long maxLatencyMillis;
+  private final long prefetchCount;
+  private final long prefetchFailureCount;
+  private final long evictionCount;
+
+  VoiceInstructionMetrics(long hitCount, long missCount, long totalLatencyMillis, long maxLatencyMillis,
+                          long prefetchCount, long prefetchFailureCount, long evictionCount) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.totalLatencyMillis = totalLatencyMillis;
+    this.maxLatencyMillis = maxLatencyMillis;
+    this.prefetchCount = prefetchCount;
+    this.prefetchFailureCount = prefetchFailureCount;
+    this.evictionCount = evictionCount;
+  }
+
+  /**
+   * @return how many played announcements were served from the cache without going to the network
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return how many played announcements had to be fetched, or failed to be fetched, when they were due
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * @return average time in milliseconds between requesting an announcement and receiving its audio,
+   * 0 if none was played
+   */
+  public long getAverageLatencyMillis() {
+    long playedCount = hitCount + missCount;
+    if (playedCount == 0) {
+      return 0L;
+    }
+    return totalLatencyMillis / playedCount;
+  }
+
+  /**
+   * @return longest time in milliseconds between requesting an announcement and receiving its audio
+   */
+  public long getMaxLatencyMillis() {
+    return maxLatencyMillis;
+  }
+
+  /**
+   * @return how many announcements were downloaded ahead of time
+   */
+  public long getPrefetchCount() {
+    return prefetchCount;
+  }
+
+  /**
+   * @return how many announcements failed to be downloaded ahead of time
+   */
+  public long getPrefetchFailureCount() {
+    return prefetchFailureCount;
+  }
+
+  /**
+   * @return how many prefetched announcements were evicted once they were behind the user
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+}
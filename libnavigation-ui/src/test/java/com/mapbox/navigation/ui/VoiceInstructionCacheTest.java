@@ -2,123 +2,156 @@ package com.mapbox.navigation.ui;
 
 import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
-import com.mapbox.navigation.core.MapboxNavigation;
+import com.mapbox.navigation.base.trip.model.RouteProgress;
 import com.mapbox.navigation.ui.voice.VoiceInstructionLoader;
 
 import org.junit.Test;
 
 import java.io.IOException;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class VoiceInstructionCacheTest extends BaseTest {
 
   private static final String DIRECTIONS_PRECISION_6 = "directions_v5_precision_6.json";
 
-  /*@Test
-  public void checksPreCachingCachesNineInstructions() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  @Test
+  public void checksPreCachingCachesTenInstructions() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
     when(aConnectivityStatus.isConnected()).thenReturn(true);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader, aConnectivityStatus);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus);
     DirectionsRoute aRoute = buildDirectionsRoute();
-    ArgumentCaptor<List> voiceInstructionsToCache = ArgumentCaptor.forClass(List.class);
 
     theVoiceInstructionCache.preCache(aRoute);
 
-    verify(aVoiceInstructionLoader, times(1))
-      .cacheInstructions(voiceInstructionsToCache.capture());
-    assertEquals(9, voiceInstructionsToCache.getValue().size());
-  }*/
+    verify(aVoiceInstructionLoader, times(10)).cacheInstruction(anyInt(), anyString());
+    verify(aVoiceInstructionLoader, never()).cacheInstruction(eq(10), anyString());
+  }
 
   @Test
-  public void checksCacheIsNotCalledIfIsVoiceInstructionsToCacheThresholdNotReached() {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void checksPreCachingStartsWithFirstAnnouncement() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader, aConnectivityStatus);
+    when(aConnectivityStatus.isConnected()).thenReturn(true);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus);
+    DirectionsRoute aRoute = buildDirectionsRoute();
+    String firstAnnouncement = aRoute.legs().get(0).steps().get(0).voiceInstructions().get(0).ssmlAnnouncement();
 
-    theVoiceInstructionCache.cache();
+    theVoiceInstructionCache.preCache(aRoute);
 
-    verifyZeroInteractions(aVoiceInstructionLoader);
+    verify(aVoiceInstructionLoader).cacheInstruction(eq(0), eq(firstAnnouncement));
   }
 
-  /*@Test
-  public void checksCaching() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  @Test
+  public void checksPreCachingEvictsPreviousRoute() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
     when(aConnectivityStatus.isConnected()).thenReturn(true);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader, aConnectivityStatus);
-    DirectionsRoute twentyOneInstructionsRoute = buildDirectionsRoute();
-    ArgumentCaptor<List> voiceInstructionsToCache = ArgumentCaptor.forClass(List.class);
-
-    theVoiceInstructionCache.preCache(twentyOneInstructionsRoute);
-    theVoiceInstructionCache.update(5);
-    theVoiceInstructionCache.cache();
-    theVoiceInstructionCache.update(10);
-    theVoiceInstructionCache.cache();
-
-    verify(aVoiceInstructionLoader, times(3))
-      .cacheInstructions(voiceInstructionsToCache.capture());
-    List<List> capturedVoiceInstructionsToCache = voiceInstructionsToCache.getAllValues();
-    assertEquals(9, capturedVoiceInstructionsToCache.get(0).size());
-    assertEquals(10, capturedVoiceInstructionsToCache.get(1).size());
-    assertEquals(2, capturedVoiceInstructionsToCache.get(2).size());
-  }*/
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus);
+    DirectionsRoute aRoute = buildDirectionsRoute();
+
+    theVoiceInstructionCache.preCache(aRoute);
+
+    verify(aVoiceInstructionLoader).evictVoiceInstructions();
+  }
 
   @Test
-  public void checksEvictVoiceInstructionsIsCalledWhenCaching() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void checksCachingSlidesAlongRoute() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
     when(aConnectivityStatus.isConnected()).thenReturn(true);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader, aConnectivityStatus);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus);
     DirectionsRoute aRoute = buildDirectionsRoute();
 
     theVoiceInstructionCache.preCache(aRoute);
-    theVoiceInstructionCache.update(5);
-    theVoiceInstructionCache.cache();
+    theVoiceInstructionCache.update(buildRouteProgress(400f));
 
-    verify(aVoiceInstructionLoader, times(1)).evictVoiceInstructions();
+    verify(aVoiceInstructionLoader).evictVoiceInstructionsBefore(eq(3));
+    verify(aVoiceInstructionLoader).cacheInstruction(eq(13), anyString());
+    verify(aVoiceInstructionLoader, never()).cacheInstruction(eq(14), anyString());
+  }
+
+  @Test
+  public void checksCacheIsNotUpdatedIfNoAnnouncementPassed() throws Exception {
+    VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
+    ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
+    when(aConnectivityStatus.isConnected()).thenReturn(true);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus);
+    DirectionsRoute aRoute = buildDirectionsRoute();
+
+    theVoiceInstructionCache.preCache(aRoute);
+    theVoiceInstructionCache.update(buildRouteProgress(100f));
+    theVoiceInstructionCache.update(buildRouteProgress(150f));
+
+    verify(aVoiceInstructionLoader, times(1)).evictVoiceInstructionsBefore(anyInt());
+  }
+
+  @Test
+  public void checksRerouteRestartsCachingFromNewRoute() throws Exception {
+    VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
+    ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
+    when(aConnectivityStatus.isConnected()).thenReturn(true);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus);
+    DirectionsRoute aRoute = buildDirectionsRoute();
+    DirectionsRoute aNewRoute = buildDirectionsRoute();
+    RouteProgress aNewRouteProgress = buildRouteProgress(0f);
+    when(aNewRouteProgress.route()).thenReturn(aNewRoute);
+
+    theVoiceInstructionCache.preCache(aRoute);
+    theVoiceInstructionCache.update(buildRouteProgress(400f));
+    theVoiceInstructionCache.update(aNewRouteProgress);
+
+    verify(aVoiceInstructionLoader, times(2)).evictVoiceInstructions();
+    verify(aVoiceInstructionLoader, times(2)).cacheInstruction(eq(0), anyString());
   }
 
   @Test
   public void noConnectivityDoesNotAllowPreCaching() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
     when(aConnectivityStatus.isConnected()).thenReturn(false);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader, aConnectivityStatus);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus);
     DirectionsRoute aRoute = buildDirectionsRoute();
 
     theVoiceInstructionCache.preCache(aRoute);
 
-    verifyZeroInteractions(aVoiceInstructionLoader);
+    verify(aVoiceInstructionLoader, never()).cacheInstruction(anyInt(), anyString());
   }
 
   @Test
-  public void noConnectivityDoesNotAllowCaching() {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void noConnectivityDoesNotAllowCaching() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
     ConnectivityStatusProvider aConnectivityStatus = mock(ConnectivityStatusProvider.class);
     when(aConnectivityStatus.isConnected()).thenReturn(false);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader, aConnectivityStatus);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader,
+      aConnectivityStatus);
+    DirectionsRoute aRoute = buildDirectionsRoute();
+
+    theVoiceInstructionCache.preCache(aRoute);
+    theVoiceInstructionCache.update(buildRouteProgress(400f));
 
-    theVoiceInstructionCache.cache();
+    verify(aVoiceInstructionLoader, never()).cacheInstruction(anyInt(), anyString());
+  }
 
-    verifyZeroInteractions(aVoiceInstructionLoader);
+  private RouteProgress buildRouteProgress(float distanceTraveled) {
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    when(routeProgress.distanceTraveled()).thenReturn(distanceTraveled);
+    return routeProgress;
   }
 
   private DirectionsRoute buildDirectionsRoute() throws IOException {
@@ -127,4 +160,4 @@ public class VoiceInstructionCacheTest extends BaseTest {
     return response.routes().get(0);
   }
 
-}
\ No newline at end of file
+}
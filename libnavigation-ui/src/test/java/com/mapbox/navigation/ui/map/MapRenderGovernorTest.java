@@ -0,0 +1,132 @@
+package com.mapbox.navigation.ui.map;
+
+import android.content.Context;
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.StepManeuver;
+import com.mapbox.navigation.base.trip.model.RouteLegProgress;
+import com.mapbox.navigation.base.trip.model.RouteProgress;
+import com.mapbox.navigation.base.trip.model.RouteStepProgress;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MapRenderGovernorTest {
+
+  @Test
+  public void mapFpsFor_powerConstrainedUsesThreshold() {
+    MapBatteryMonitor batteryMonitor = mock(MapBatteryMonitor.class);
+    when(batteryMonitor.isPowerConstrained(any(Context.class))).thenReturn(true);
+    when(batteryMonitor.isPluggedIn(any(Context.class))).thenReturn(true);
+    MapRenderGovernor governor = new MapRenderGovernor(batteryMonitor);
+    governor.updateMaxFpsThreshold(15);
+
+    int maxFps = governor.mapFpsFor(buildRouteProgressWith("left", 100d, 3d), mock(Context.class));
+
+    assertEquals(15, maxFps);
+  }
+
+  @Test
+  public void mapFpsFor_powerConstrainedKeepsLowerStationaryFps() {
+    MapBatteryMonitor batteryMonitor = mock(MapBatteryMonitor.class);
+    when(batteryMonitor.isPowerConstrained(any(Context.class))).thenReturn(true);
+    MapRenderGovernor governor = new MapRenderGovernor(batteryMonitor);
+    governor.updateSpeed(buildLocationWithSpeed(0f));
+
+    int maxFps = governor.mapFpsFor(buildRouteProgressWith("left", 100d, 3d), mock(Context.class));
+
+    assertEquals(10, maxFps);
+    MapRenderMetrics metrics = governor.retrieveMetrics();
+    assertEquals(Long.valueOf(1L), metrics.getDecisionCounts().get(MapRenderDecision.STATIONARY));
+    assertEquals(Long.valueOf(0L), metrics.getDecisionCounts().get(MapRenderDecision.CONSTRAINED));
+  }
+
+  @Test
+  public void mapFpsFor_upcomingManeuverUsesManeuverFps() {
+    MapRenderGovernor governor = new MapRenderGovernor(mock(MapBatteryMonitor.class));
+
+    int maxFps = governor.mapFpsFor(buildRouteProgressWith("left", 100d, 3d), mock(Context.class));
+
+    assertEquals(30, maxFps);
+  }
+
+  @Test
+  public void mapFpsFor_stationaryUsesLowestFps() {
+    MapRenderGovernor governor = new MapRenderGovernor(mock(MapBatteryMonitor.class));
+    governor.updateSpeed(buildLocationWithSpeed(0f));
+
+    int maxFps = governor.mapFpsFor(buildRouteProgressWith("left", 100d, 3d), mock(Context.class));
+
+    assertEquals(10, maxFps);
+  }
+
+  @Test
+  public void locationFpsFor_cappedByMapFps() {
+    MapRenderGovernor governor = new MapRenderGovernor(mock(MapBatteryMonitor.class));
+    governor.mapFpsFor(buildRouteProgressWith("straight", 100d, 50d), mock(Context.class));
+
+    int maxFps = governor.locationFpsFor(17d);
+
+    assertEquals(MapFpsDelegate.DEFAULT_MAX_FPS_THRESHOLD, maxFps);
+  }
+
+  @Test
+  public void mapFpsFor_listenerNotifiedOnlyWhenBudgetChanges() {
+    MapRenderGovernor governor = new MapRenderGovernor(mock(MapBatteryMonitor.class));
+    MapRenderGovernor.OnRenderBudgetChangedListener listener =
+      mock(MapRenderGovernor.OnRenderBudgetChangedListener.class);
+    governor.setOnRenderBudgetChangedListener(listener);
+    RouteProgress routeProgress = buildRouteProgressWith("straight", 100d, 50d);
+
+    governor.mapFpsFor(routeProgress, mock(Context.class));
+    governor.mapFpsFor(routeProgress, mock(Context.class));
+
+    verify(listener, times(1)).onRenderBudgetChanged();
+  }
+
+  @Test
+  public void retrieveMetrics_countsDecisionsAndFrameBudget() {
+    MapRenderGovernor governor = new MapRenderGovernor(mock(MapBatteryMonitor.class));
+    RouteProgress routeProgress = buildRouteProgressWith("straight", 100d, 50d);
+    governor.mapFpsFor(routeProgress, mock(Context.class));
+    governor.mapFpsFor(routeProgress, mock(Context.class));
+
+    MapRenderMetrics metrics = governor.retrieveMetrics();
+
+    assertEquals(Long.valueOf(2L), metrics.getDecisionCounts().get(MapRenderDecision.CRUISING));
+    assertEquals(Long.valueOf(0L), metrics.getDecisionCounts().get(MapRenderDecision.MANEUVER));
+    assertEquals(1L, metrics.getMapFpsChangeCount());
+    assertEquals(50L, metrics.getMapFrameBudgetMillis());
+  }
+
+  private Location buildLocationWithSpeed(float speed) {
+    Location location = mock(Location.class);
+    when(location.hasSpeed()).thenReturn(true);
+    when(location.getSpeed()).thenReturn(speed);
+    return location;
+  }
+
+  private RouteProgress buildRouteProgressWith(String maneuverModifier, double totalDuration,
+                                               double durationRemaining) {
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    RouteLegProgress routeLegProgress = mock(RouteLegProgress.class);
+    RouteStepProgress routeStepProgress = mock(RouteStepProgress.class);
+    LegStep currentStep = mock(LegStep.class);
+    StepManeuver currentManeuver = mock(StepManeuver.class);
+    when(currentManeuver.modifier()).thenReturn(maneuverModifier);
+    when(currentStep.maneuver()).thenReturn(currentManeuver);
+    when(currentStep.duration()).thenReturn(totalDuration);
+    when(routeStepProgress.step()).thenReturn(currentStep);
+    when(routeStepProgress.durationRemaining()).thenReturn((long) durationRemaining);
+    when(routeLegProgress.currentStepProgress()).thenReturn(routeStepProgress);
+    when(routeProgress.currentLegProgress()).thenReturn(routeLegProgress);
+    return routeProgress;
+  }
+}
@@ -0,0 +1,109 @@
+package com.mapbox.navigation.ui.map;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WaynameFeatureCacheTest {
+
+  private static final double INTERSECTION_LONGITUDE = -77.03196;
+  private static final double INTERSECTION_LATITUDE = 38.9013;
+
+  @Test
+  public void match_headingNorthAtIntersection() {
+    WaynameFeatureCache featureCache = buildCacheAround(INTERSECTION_LONGITUDE, INTERSECTION_LATITUDE);
+
+    Feature roadFeature = featureCache.match(INTERSECTION_LONGITUDE, INTERSECTION_LATITUDE, 0d);
+
+    assertEquals("14th St NW", roadFeature.getStringProperty("name"));
+  }
+
+  @Test
+  public void match_headingEastAtIntersection() {
+    WaynameFeatureCache featureCache = buildCacheAround(INTERSECTION_LONGITUDE, INTERSECTION_LATITUDE);
+
+    Feature roadFeature = featureCache.match(INTERSECTION_LONGITUDE, INTERSECTION_LATITUDE, 90d);
+
+    assertEquals("I St NW", roadFeature.getStringProperty("name"));
+  }
+
+  @Test
+  public void match_withoutBearingClosestRoad() {
+    WaynameFeatureCache featureCache = buildCacheAround(-77.03195, 38.9005);
+
+    Feature roadFeature = featureCache.match(-77.03195, 38.9005, Double.NaN);
+
+    assertEquals("14th St NW", roadFeature.getStringProperty("name"));
+  }
+
+  @Test
+  public void match_noRoadWithinTolerance() {
+    WaynameFeatureCache featureCache = buildCacheAround(-77.0325, 38.9005);
+
+    Feature roadFeature = featureCache.match(-77.0325, 38.9005, Double.NaN);
+
+    assertNull(roadFeature);
+  }
+
+  @Test
+  public void covers_positionsAroundOrigin() {
+    WaynameFeatureCache featureCache = buildCacheAround(INTERSECTION_LONGITUDE, INTERSECTION_LATITUDE);
+
+    assertTrue(featureCache.covers(INTERSECTION_LONGITUDE, 38.9016));
+    assertFalse(featureCache.covers(INTERSECTION_LONGITUDE, 38.9020));
+  }
+
+  @Test
+  public void covers_falseWhenCleared() {
+    WaynameFeatureCache featureCache = buildCacheAround(INTERSECTION_LONGITUDE, INTERSECTION_LATITUDE);
+
+    featureCache.clear();
+
+    assertFalse(featureCache.covers(INTERSECTION_LONGITUDE, INTERSECTION_LATITUDE));
+  }
+
+  @Test
+  public void bearingAlong_closestSegment() {
+    List<Point> line = new ArrayList<>();
+    line.add(Point.fromLngLat(-77.0336, 38.9013));
+    line.add(Point.fromLngLat(-77.0320, 38.9013));
+    line.add(Point.fromLngLat(-77.0320, 38.9030));
+
+    double bearing = WaynameFeatureCache.bearingAlong(line, -77.0321, 38.9025);
+
+    assertEquals(0d, bearing, 0.1d);
+  }
+
+  private WaynameFeatureCache buildCacheAround(double longitude, double latitude) {
+    WaynameFeatureCache featureCache = new WaynameFeatureCache();
+    featureCache.update(buildQueriedFeatures(), longitude, latitude);
+    return featureCache;
+  }
+
+  private List<Feature> buildQueriedFeatures() {
+    List<Feature> queriedFeatures = new ArrayList<>();
+    Feature featureOne = Feature.fromJson(loadJsonFixture("feature_one.json"));
+    Feature featureTwo = Feature.fromJson(loadJsonFixture("feature_two.json"));
+    queriedFeatures.add(featureOne);
+    queriedFeatures.add(featureTwo);
+    return queriedFeatures;
+  }
+
+  private String loadJsonFixture(String filename) {
+    ClassLoader classLoader = getClass().getClassLoader();
+    InputStream inputStream = classLoader.getResourceAsStream(filename);
+    Scanner scanner = new Scanner(inputStream, "UTF-8").useDelimiter("\\A");
+    return scanner.hasNext() ? scanner.next() : "";
+  }
+}
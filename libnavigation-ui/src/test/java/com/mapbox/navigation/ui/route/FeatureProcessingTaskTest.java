@@ -0,0 +1,102 @@
+package com.mapbox.navigation.ui.route;
+
+import android.os.Handler;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public class FeatureProcessingTaskTest {
+
+  @Test
+  public void run_congestionSegmentsAreMergedIntoRuns() {
+    DirectionsRoute route = buildRoute(7,
+      Arrays.asList("low", "low", "heavy"),
+      Arrays.asList("heavy", "moderate", "moderate")
+    );
+    List<Point> points = decodeGeometry(route);
+
+    List<Feature> features = processFeatures(route);
+
+    assertEquals(5, features.size());
+    assertCongestionRun(features.get(1), "low", points.subList(0, 3));
+    assertCongestionRun(features.get(2), "heavy", points.subList(2, 4));
+    assertCongestionRun(features.get(3), "heavy", points.subList(3, 5));
+    assertCongestionRun(features.get(4), "moderate", points.subList(4, 7));
+  }
+
+  @Test
+  public void run_uniformCongestionIsOneFeature() {
+    DirectionsRoute route = buildRoute(5, Arrays.asList("low", "low", "low", "low"));
+    List<Point> points = decodeGeometry(route);
+
+    List<Feature> features = processFeatures(route);
+
+    assertEquals(2, features.size());
+    assertCongestionRun(features.get(1), "low", points);
+  }
+
+  private List<Feature> processFeatures(DirectionsRoute route) {
+    OnRouteFeaturesProcessedCallback callback = mock(OnRouteFeaturesProcessedCallback.class);
+    Handler handler = mock(Handler.class);
+    FeatureProcessingTask task = new FeatureProcessingTask(Arrays.asList(route), callback, handler);
+
+    task.run();
+    ArgumentCaptor<Runnable> completion = ArgumentCaptor.forClass(Runnable.class);
+    verify(handler).post(completion.capture());
+    completion.getValue().run();
+
+    ArgumentCaptor<List> collections = ArgumentCaptor.forClass(List.class);
+    verify(callback).onRouteFeaturesProcessed(collections.capture(), any(RouteSegmentIndex.class));
+    return ((FeatureCollection) collections.getValue().get(0)).features();
+  }
+
+  private void assertCongestionRun(Feature feature, String congestion, List<Point> points) {
+    assertEquals(congestion, feature.getStringProperty(RouteConstants.CONGESTION_KEY));
+    assertEquals(points, ((LineString) feature.geometry()).coordinates());
+  }
+
+  private List<Point> decodeGeometry(DirectionsRoute route) {
+    return LineString.fromPolyline(route.geometry(), Constants.PRECISION_6).coordinates();
+  }
+
+  @SafeVarargs
+  private final DirectionsRoute buildRoute(int pointCount, List<String>... legCongestion) {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < pointCount; i++) {
+      points.add(Point.fromLngLat(-122.4 + i * 0.001, 37.7));
+    }
+    List<RouteLeg> legs = new ArrayList<>();
+    for (List<String> congestion : legCongestion) {
+      legs.add(RouteLeg.builder()
+        .annotation(LegAnnotation.builder().congestion(congestion).build())
+        .build());
+    }
+    return DirectionsRoute.builder()
+      .geometry(LineString.fromLngLats(points).toPolyline(Constants.PRECISION_6))
+      .distance(1000d)
+      .duration(100d)
+      .legs(legs)
+      .build();
+  }
+}
@@ -0,0 +1,68 @@
+package com.mapbox.navigation.ui.route;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMisc;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class MapRouteArrowTest {
+
+  @Test
+  public void obtainArrowPointsFrom_matchesSlicedStepLines() {
+    List<Point> currentStepPoints = buildLine(-122.4, 37.7, 0.0001, 0d, 20);
+    List<Point> upcomingStepPoints = buildLine(-122.3981, 37.7, 0d, 0.00007, 20);
+
+    List<Point> arrowPoints = MapRouteArrow.obtainArrowPointsFrom(currentStepPoints, upcomingStepPoints);
+
+    assertPointsEqual(sliceStepLines(currentStepPoints, upcomingStepPoints), arrowPoints);
+  }
+
+  @Test
+  public void obtainArrowPointsFrom_shortStepsKeepAllPoints() {
+    List<Point> currentStepPoints = buildLine(-122.4, 37.7, 0.00005, 0d, 3);
+    List<Point> upcomingStepPoints = buildLine(-122.3999, 37.7, 0d, 0.00005, 3);
+
+    List<Point> arrowPoints = MapRouteArrow.obtainArrowPointsFrom(currentStepPoints, upcomingStepPoints);
+
+    assertEquals(6, arrowPoints.size());
+    assertPointsEqual(sliceStepLines(currentStepPoints, upcomingStepPoints), arrowPoints);
+  }
+
+  private List<Point> sliceStepLines(List<Point> currentStepPoints, List<Point> upcomingStepPoints) {
+    List<Point> reversedCurrent = new ArrayList<>(currentStepPoints);
+    Collections.reverse(reversedCurrent);
+    LineString currentSliced = TurfMisc.lineSliceAlong(
+      LineString.fromLngLats(reversedCurrent), 0, RouteConstants.THIRTY, TurfConstants.UNIT_METERS);
+    LineString upcomingSliced = TurfMisc.lineSliceAlong(
+      LineString.fromLngLats(upcomingStepPoints), 0, RouteConstants.THIRTY, TurfConstants.UNIT_METERS);
+    List<Point> combined = new ArrayList<>(currentSliced.coordinates());
+    Collections.reverse(combined);
+    combined.addAll(upcomingSliced.coordinates());
+    return combined;
+  }
+
+  private List<Point> buildLine(double longitude, double latitude, double longitudeStep, double latitudeStep,
+                                int pointCount) {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < pointCount; i++) {
+      points.add(Point.fromLngLat(longitude + i * longitudeStep, latitude + i * latitudeStep));
+    }
+    return points;
+  }
+
+  private void assertPointsEqual(List<Point> expected, List<Point> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).longitude(), actual.get(i).longitude(), 0.000001);
+      assertEquals(expected.get(i).latitude(), actual.get(i).latitude(), 0.000001);
+    }
+  }
+}
@@ -4,14 +4,16 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.LineString;
 import com.mapbox.mapboxsdk.geometry.LatLng;
+import com.mapbox.mapboxsdk.maps.MapboxMap;
+import com.mapbox.mapboxsdk.maps.Projection;
 
 import org.junit.Test;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -25,9 +27,8 @@ public class MapRouteClickListenerTest {
     DirectionsRoute anyRoute = buildMockDirectionsRoute();
     List<DirectionsRoute> anyDirectionsRoutes = buildDirectionsRoutes(anyRoute);
     LineString anyRouteGeometry = LineString.fromPolyline(anyRoute.geometry(), Constants.PRECISION_6);
-    HashMap<LineString, DirectionsRoute> anyLineStringDirectionsRouteMap =
-      buildLineStringDirectionsRouteHashMap(anyRoute, anyRouteGeometry);
-    MapRouteLine mockedMapRouteLine = buildMockMapRouteLine(true, anyLineStringDirectionsRouteMap);
+    RouteSegmentIndex anyRouteSegmentIndex = buildRouteSegmentIndex(anyRouteGeometry);
+    MapRouteLine mockedMapRouteLine = buildMockMapRouteLine(true, anyRouteSegmentIndex);
     when(mockedMapRouteLine.updatePrimaryRouteIndex(anyInt())).thenReturn(true);
     when(mockedMapRouteLine.retrieveDirectionsRoutes()).thenReturn(anyDirectionsRoutes);
     MapRouteClickListener theMapRouteClickListener = new MapRouteClickListener(mockedMapRouteLine);
@@ -42,8 +43,8 @@ public class MapRouteClickListenerTest {
 
   @Test
   public void checksOnRouteSelectionChangeListenerIsNotCalledWhenRouteIsNotVisible() {
-    HashMap<LineString, DirectionsRoute> mockedLineStringDirectionsRouteMap = mock(HashMap.class);
-    MapRouteLine mockedMapRouteLine = buildMockMapRouteLine(false, mockedLineStringDirectionsRouteMap);
+    RouteSegmentIndex mockedRouteSegmentIndex = mock(RouteSegmentIndex.class);
+    MapRouteLine mockedMapRouteLine = buildMockMapRouteLine(false, mockedRouteSegmentIndex);
     MapRouteClickListener theMapRouteClickListener = new MapRouteClickListener(mockedMapRouteLine);
     OnRouteSelectionChangeListener mockedOnRouteSelectionChangeListener =
       buildMockOnRouteSelectionChangeListener(theMapRouteClickListener);
@@ -54,6 +55,28 @@ public class MapRouteClickListenerTest {
     verify(mockedOnRouteSelectionChangeListener, never()).onNewPrimaryRouteSelected(any(DirectionsRoute.class));
   }
 
+  @Test
+  public void checksOnRouteSelectionChangeListenerIsNotCalledWhenClickIsBeyondTolerance() {
+    DirectionsRoute anyRoute = buildMockDirectionsRoute();
+    LineString anyRouteGeometry = LineString.fromPolyline(anyRoute.geometry(), Constants.PRECISION_6);
+    MapRouteLine mockedMapRouteLine = buildMockMapRouteLine(true, buildRouteSegmentIndex(anyRouteGeometry));
+    when(mockedMapRouteLine.updatePrimaryRouteIndex(anyInt())).thenReturn(true);
+    when(mockedMapRouteLine.retrieveDirectionsRoutes()).thenReturn(buildDirectionsRoutes(anyRoute));
+    MapboxMap mockedMapboxMap = mock(MapboxMap.class);
+    Projection mockedProjection = mock(Projection.class);
+    when(mockedProjection.getMetersPerPixelAtLatitude(anyDouble())).thenReturn(1d);
+    when(mockedMapboxMap.getProjection()).thenReturn(mockedProjection);
+    MapRouteClickListener theMapRouteClickListener = new MapRouteClickListener(mockedMapRouteLine, mockedMapboxMap);
+    theMapRouteClickListener.updateClickTolerance(20f);
+    OnRouteSelectionChangeListener mockedOnRouteSelectionChangeListener =
+      buildMockOnRouteSelectionChangeListener(theMapRouteClickListener);
+    LatLng mockedPoint = mock(LatLng.class);
+
+    theMapRouteClickListener.onMapClick(mockedPoint);
+
+    verify(mockedOnRouteSelectionChangeListener, never()).onNewPrimaryRouteSelected(any(DirectionsRoute.class));
+  }
+
   private DirectionsRoute buildMockDirectionsRoute() {
     DirectionsRoute anyRoute = mock(DirectionsRoute.class);
     when(anyRoute.geometry()).thenReturn("awbagAzavnhFp`@~fGr~Ya|BhcBwcYbr\\u{C`tZ~{H~vrBsge@bdo@`kc@dqpAckUbmn" +
@@ -68,18 +91,16 @@ public class MapRouteClickListenerTest {
     return anyDirectionsRoutes;
   }
 
-  private HashMap<LineString, DirectionsRoute> buildLineStringDirectionsRouteHashMap(DirectionsRoute anyRoute,
-                                                                                     LineString anyRouteGeometry) {
-    HashMap<LineString, DirectionsRoute> anyLineStringDirectionsRouteMap = new HashMap<>();
-    anyLineStringDirectionsRouteMap.put(anyRouteGeometry, anyRoute);
-    return anyLineStringDirectionsRouteMap;
+  private RouteSegmentIndex buildRouteSegmentIndex(LineString anyRouteGeometry) {
+    RouteSegmentIndex anyRouteSegmentIndex = new RouteSegmentIndex();
+    anyRouteSegmentIndex.addRoute(anyRouteGeometry.coordinates());
+    return anyRouteSegmentIndex;
   }
 
-  private MapRouteLine buildMockMapRouteLine(boolean isVisible,
-                                             HashMap<LineString, DirectionsRoute> lineStringDirectionsRouteMap) {
+  private MapRouteLine buildMockMapRouteLine(boolean isVisible, RouteSegmentIndex routeSegmentIndex) {
     MapRouteLine mockedMapRouteLine = mock(MapRouteLine.class);
     when(mockedMapRouteLine.retrieveVisibility()).thenReturn(isVisible);
-    when(mockedMapRouteLine.retrieveRouteLineStrings()).thenReturn(lineStringDirectionsRouteMap);
+    when(mockedMapRouteLine.retrieveRouteSegmentIndex()).thenReturn(routeSegmentIndex);
     return mockedMapRouteLine;
   }
 
@@ -9,7 +9,6 @@ import androidx.annotation.NonNull;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.geojson.FeatureCollection;
-import com.mapbox.geojson.LineString;
 import com.mapbox.libnavigation.ui.R;
 import com.mapbox.mapboxsdk.maps.Style;
 import com.mapbox.mapboxsdk.style.layers.LineLayer;
@@ -25,7 +24,6 @@ import org.mockito.ArgumentCaptor;
 import org.robolectric.RobolectricTestRunner;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -169,7 +167,7 @@ public class MapRouteLineTest extends BaseTest {
       waypointsFeatureCollection,
       new ArrayList<DirectionsRoute>(),
       new ArrayList<FeatureCollection>(),
-      new HashMap<LineString, DirectionsRoute>(),
+      new RouteSegmentIndex(),
       0,
       true,
       true,
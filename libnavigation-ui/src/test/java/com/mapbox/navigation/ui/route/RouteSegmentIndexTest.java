@@ -0,0 +1,82 @@
+package com.mapbox.navigation.ui.route;
+
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RouteSegmentIndexTest {
+
+  @Test
+  public void findClosestRoute_returnsRouteIndex() {
+    RouteSegmentIndex routeSegmentIndex = new RouteSegmentIndex();
+    routeSegmentIndex.addRoute(buildStraightRoute(37.70, 100));
+    routeSegmentIndex.addRoute(buildStraightRoute(37.71, 100));
+    routeSegmentIndex.addRoute(buildStraightRoute(37.72, 100));
+
+    int routeIndex = routeSegmentIndex.findClosestRoute(-122.35, 37.7085, Double.POSITIVE_INFINITY);
+
+    assertEquals(1, routeIndex);
+  }
+
+  @Test
+  public void findClosestRoute_clickBetweenVerticesMatchesSegment() {
+    RouteSegmentIndex routeSegmentIndex = new RouteSegmentIndex();
+    routeSegmentIndex.addRoute(Arrays.asList(Point.fromLngLat(-122.5, 37.7), Point.fromLngLat(-122.3, 37.7)));
+    routeSegmentIndex.addRoute(Arrays.asList(Point.fromLngLat(-122.41, 37.71), Point.fromLngLat(-122.39, 37.71)));
+
+    int routeIndex = routeSegmentIndex.findClosestRoute(-122.4, 37.7001, Double.POSITIVE_INFINITY);
+
+    assertEquals(0, routeIndex);
+  }
+
+  @Test
+  public void findClosestRoute_equalDistancesFirstRouteWins() {
+    RouteSegmentIndex routeSegmentIndex = new RouteSegmentIndex();
+    routeSegmentIndex.addRoute(buildStraightRoute(37.70, 10));
+    routeSegmentIndex.addRoute(buildStraightRoute(37.70, 10));
+
+    int routeIndex = routeSegmentIndex.findClosestRoute(-122.395, 37.7001, Double.POSITIVE_INFINITY);
+
+    assertEquals(0, routeIndex);
+  }
+
+  @Test
+  public void findClosestRoute_beyondToleranceNoRoute() {
+    RouteSegmentIndex routeSegmentIndex = new RouteSegmentIndex();
+    routeSegmentIndex.addRoute(buildStraightRoute(37.70, 100));
+
+    int routeIndex = routeSegmentIndex.findClosestRoute(-122.35, 37.701, 100d);
+
+    assertEquals(RouteSegmentIndex.NO_ROUTE, routeIndex);
+  }
+
+  @Test
+  public void findClosestRoute_withinToleranceRoute() {
+    RouteSegmentIndex routeSegmentIndex = new RouteSegmentIndex();
+    routeSegmentIndex.addRoute(buildStraightRoute(37.70, 100));
+
+    int routeIndex = routeSegmentIndex.findClosestRoute(-122.35, 37.7005, 100d);
+
+    assertEquals(0, routeIndex);
+  }
+
+  @Test
+  public void isEmpty_trueWithoutRoutes() {
+    assertTrue(new RouteSegmentIndex().isEmpty());
+  }
+
+  private List<Point> buildStraightRoute(double latitude, int pointCount) {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < pointCount; i++) {
+      points.add(Point.fromLngLat(-122.4 + i * 0.001, latitude));
+    }
+    return points;
+  }
+}
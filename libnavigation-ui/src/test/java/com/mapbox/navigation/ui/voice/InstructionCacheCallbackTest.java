@@ -8,10 +8,13 @@ import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.Response;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class InstructionCacheCallbackTest {
@@ -24,11 +27,11 @@ public class InstructionCacheCallbackTest {
     when(response.body()).thenReturn(body);
     String url = "http://some.url";
     Call call = buildMockCall(url);
-    InstructionCacheCallback callback = new InstructionCacheCallback(loader);
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, 0);
 
     callback.onResponse(call, response);
 
-    verify(loader).addCachedUrl(eq(url));
+    verify(loader).addCachedUrl(eq(0), eq(url), eq(callback));
   }
 
   @Test
@@ -39,7 +42,7 @@ public class InstructionCacheCallbackTest {
     when(response.body()).thenReturn(body);
     String url = "http://some.url";
     Call call = buildMockCall(url);
-    InstructionCacheCallback callback = new InstructionCacheCallback(loader);
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, 0);
 
     callback.onResponse(call, response);
 
@@ -47,16 +50,28 @@ public class InstructionCacheCallbackTest {
   }
 
   @Test
-  public void onResponse_nullBodyIsIgnored() {
+  public void onResponse_nullBodyIsNotCached() {
     VoiceInstructionLoader loader = mock(VoiceInstructionLoader.class);
     Response<ResponseBody> response = mock(Response.class);
     String url = "http://some.url";
     Call call = buildMockCall(url);
-    InstructionCacheCallback callback = new InstructionCacheCallback(loader);
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, 0);
 
     callback.onResponse(call, response);
 
-    verifyZeroInteractions(loader);
+    verify(loader).removeCachingInstruction(eq(0), eq(callback));
+    verify(loader, never()).addCachedUrl(anyInt(), anyString(), any(InstructionCacheCallback.class));
+  }
+
+  @Test
+  public void onFailure_cachingInstructionIsRemoved() {
+    VoiceInstructionLoader loader = mock(VoiceInstructionLoader.class);
+    Call call = buildMockCall("http://some.url");
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, 3);
+
+    callback.onFailure(call, new Throwable());
+
+    verify(loader).removeCachingInstruction(eq(3), eq(callback));
   }
 
   private Call buildMockCall(String stringUrl) {
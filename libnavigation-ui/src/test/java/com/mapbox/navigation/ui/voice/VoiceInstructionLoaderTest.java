@@ -7,6 +7,7 @@ import com.mapbox.navigation.ui.BaseTest;
 import com.mapbox.navigation.ui.ConnectivityStatusProvider;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -16,9 +17,13 @@ import okhttp3.Cache;
 import retrofit2.Callback;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,7 +31,7 @@ import static org.mockito.Mockito.when;
 public class VoiceInstructionLoaderTest extends BaseTest {
 
   @Test
-  public void checksEvictFourInstructions() throws Exception {
+  public void checksEvictInstructionsBeforeFourthOne() throws Exception {
     Context anyContext = mock(Context.class);
     Cache aCache = mock(Cache.class);
     List<String> urlsToBeCached = buildUrlsToCache();
@@ -38,11 +43,89 @@ public class VoiceInstructionLoaderTest extends BaseTest {
     List<String> urlsToCache = buildUrlsToCache();
     theVoiceInstructionLoader.addStubUrlsToCache(urlsToCache);
 
-    List<String> urlsEvicted = theVoiceInstructionLoader.evictVoiceInstructions();
+    List<String> urlsEvicted = theVoiceInstructionLoader.evictVoiceInstructionsBefore(4);
 
     assertEquals(4, urlsEvicted.size());
   }
 
+  @Test
+  public void checksEvictAllInstructions() throws Exception {
+    Context anyContext = mock(Context.class);
+    Cache aCache = mock(Cache.class);
+    List<String> urlsToBeCached = buildUrlsToCache();
+    when(aCache.urls()).thenReturn(new ArrayList<>(urlsToBeCached).iterator());
+    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(anyContext, "any_access_token",
+      aCache);
+    theVoiceInstructionLoader.addStubUrlsToCache(urlsToBeCached);
+
+    List<String> urlsEvicted = theVoiceInstructionLoader.evictVoiceInstructions();
+
+    assertEquals(5, urlsEvicted.size());
+    assertEquals(5, theVoiceInstructionLoader.retrieveMetrics().getEvictionCount());
+  }
+
+  @Test
+  public void checksCachingIsBoundedToTwoConcurrentDownloads() {
+    MapboxSpeech.Builder aSpeechBuilder = buildSpeechBuilder();
+    VoiceInstructionLoader theVoiceInstructionLoader = buildLoaderWith(aSpeechBuilder);
+
+    theVoiceInstructionLoader.cacheInstruction(0, "first");
+    theVoiceInstructionLoader.cacheInstruction(1, "second");
+    theVoiceInstructionLoader.cacheInstruction(2, "third");
+
+    verify(aSpeechBuilder, atLeastOnce()).instruction(eq("first"));
+    verify(aSpeechBuilder, atLeastOnce()).instruction(eq("second"));
+    verify(aSpeechBuilder, never()).instruction(eq("third"));
+  }
+
+  @Test
+  public void checksNextInstructionCachedWhenDownloadCompletes() {
+    MapboxSpeech.Builder aSpeechBuilder = buildSpeechBuilder();
+    VoiceInstructionLoader theVoiceInstructionLoader = buildLoaderWith(aSpeechBuilder);
+    MapboxSpeech aSpeech = aSpeechBuilder.build();
+    ArgumentCaptor<InstructionCacheCallback> callbacks = ArgumentCaptor.forClass(InstructionCacheCallback.class);
+    theVoiceInstructionLoader.cacheInstruction(0, "first");
+    theVoiceInstructionLoader.cacheInstruction(1, "second");
+    theVoiceInstructionLoader.cacheInstruction(2, "third");
+    verify(aSpeech, times(2)).enqueueCall(callbacks.capture());
+
+    theVoiceInstructionLoader.addCachedUrl(0, "http://first.url", callbacks.getAllValues().get(0));
+
+    verify(aSpeechBuilder, atLeastOnce()).instruction(eq("third"));
+    assertTrue(theVoiceInstructionLoader.hasCache());
+    assertEquals(1, theVoiceInstructionLoader.retrieveMetrics().getPrefetchCount());
+  }
+
+  @Test
+  public void checksEvictedDownloadIsNotCached() {
+    MapboxSpeech.Builder aSpeechBuilder = buildSpeechBuilder();
+    VoiceInstructionLoader theVoiceInstructionLoader = buildLoaderWith(aSpeechBuilder);
+    MapboxSpeech aSpeech = aSpeechBuilder.build();
+    ArgumentCaptor<InstructionCacheCallback> callback = ArgumentCaptor.forClass(InstructionCacheCallback.class);
+    theVoiceInstructionLoader.cacheInstruction(0, "first");
+    verify(aSpeech).enqueueCall(callback.capture());
+
+    theVoiceInstructionLoader.evictVoiceInstructions();
+    theVoiceInstructionLoader.addCachedUrl(0, "http://first.url", callback.getValue());
+
+    assertFalse(theVoiceInstructionLoader.hasCache());
+  }
+
+  @Test
+  public void checksPlaybackMetrics() {
+    VoiceInstructionLoader theVoiceInstructionLoader = buildLoaderWith(buildSpeechBuilder());
+
+    theVoiceInstructionLoader.updatePlaybackMetrics(true, 20L);
+    theVoiceInstructionLoader.updatePlaybackMetrics(false, 600L);
+    theVoiceInstructionLoader.updatePlaybackMetrics(true, 40L);
+
+    VoiceInstructionMetrics metrics = theVoiceInstructionLoader.retrieveMetrics();
+    assertEquals(2, metrics.getHitCount());
+    assertEquals(1, metrics.getMissCount());
+    assertEquals(220L, metrics.getAverageLatencyMillis());
+    assertEquals(600L, metrics.getMaxLatencyMillis());
+  }
+
   @Test
   public void checksRequestEnqueuedIfCacheIsNotClosedAndMapboxSpeechBuilderIsNotNull() {
     Cache anyCache = mock(Cache.class);
@@ -97,6 +180,23 @@ public class VoiceInstructionLoaderTest extends BaseTest {
     verify(aSpeech, times(0)).enqueueCall(eq(aCallback));
   }
 
+  private MapboxSpeech.Builder buildSpeechBuilder() {
+    MapboxSpeech.Builder aSpeechBuilder = mock(MapboxSpeech.Builder.class);
+    when(aSpeechBuilder.instruction(anyString())).thenReturn(aSpeechBuilder);
+    when(aSpeechBuilder.textType(anyString())).thenReturn(aSpeechBuilder);
+    MapboxSpeech aSpeech = mock(MapboxSpeech.class);
+    when(aSpeechBuilder.build()).thenReturn(aSpeech);
+    return aSpeechBuilder;
+  }
+
+  private VoiceInstructionLoader buildLoaderWith(MapboxSpeech.Builder aSpeechBuilder) {
+    Cache anyCache = mock(Cache.class);
+    when(anyCache.isClosed()).thenReturn(false);
+    ConnectivityStatusProvider connectivityStatus = mock(ConnectivityStatusProvider.class);
+    Context context = mock(Context.class);
+    return new VoiceInstructionLoader(context, "any_access_token", anyCache, aSpeechBuilder, connectivityStatus);
+  }
+
   private List<String> buildUrlsToCache() {
     List<String> urlsCached = new ArrayList<>();
     urlsCached.add("https://api.mapbox.com/voice/v1/speak/%3Cspeak%3E%3Camazon:effect%20name=%22drc%22%3E%3Cprosody" +
@@ -61,6 +61,13 @@ object ThreadController {
     val IODispatcher: CoroutineDispatcher =
             Executors.newFixedThreadPool(maxCoresUsed).asCoroutineDispatcher()
 
+    /**
+     * Single threaded dispatcher dedicated to computing trip status and route progress, so that
+     * consecutive snapshots are built in order and never compete with the main thread.
+     */
+    val TripStatusDispatcher: CoroutineDispatcher =
+            Executors.newSingleThreadExecutor().asCoroutineDispatcher()
+
     private var ioRootJob = SupervisorJob()
     private var mainRootJob = SupervisorJob()
 
@@ -108,6 +115,15 @@ object ThreadController {
         return JobControl(parentJob, CoroutineScope(parentJob + IODispatcher))
     }
 
+    /**
+     * Same as [getIOScopeAndRootJob], but using the [TripStatusDispatcher]. Coroutines launched
+     * from the returned scope are children of the [ioRootJob] as well.
+     */
+    fun getTripStatusScopeAndRootJob(): JobControl {
+        val parentJob = SupervisorJob(ioRootJob)
+        return JobControl(parentJob, CoroutineScope(parentJob + TripStatusDispatcher))
+    }
+
     /**
      * Same as [getIOScopeAndRootJob], but using the MainThread dispatcher.
      */
@@ -25,6 +25,19 @@ interface MapboxNativeNavigator {
     // Route following
 
     fun updateLocation(rawLocation: Location): Boolean
+
+    /**
+     * Pushes a batch of locations in one call.
+     *
+     * @param rawLocations in timestamp order
+     * @return true if any of the locations was accepted
+     */
+    fun updateLocations(rawLocations: List<Location>): Boolean {
+        var isUpdated = false
+        rawLocations.forEach { isUpdated = updateLocation(it) || isUpdated }
+        return isUpdated
+    }
+
     fun updateSensorEvent(sensorEvent: SensorEvent): Boolean
     fun getStatus(date: Date): TripStatus
 
@@ -2,25 +2,19 @@ package com.mapbox.navigation.navigator
 
 import android.hardware.SensorEvent
 import android.location.Location
-import com.mapbox.api.directions.v5.models.BannerComponents
-import com.mapbox.api.directions.v5.models.BannerInstructions
-import com.mapbox.api.directions.v5.models.BannerText
 import com.mapbox.api.directions.v5.models.DirectionsRoute
 import com.mapbox.api.directions.v5.models.LegStep
 import com.mapbox.api.directions.v5.models.RouteLeg
-import com.mapbox.api.directions.v5.models.VoiceInstructions
-import com.mapbox.geojson.Geometry
 import com.mapbox.geojson.Point
 import com.mapbox.geojson.gson.GeometryGeoJson
-import com.mapbox.geojson.utils.PolylineUtils
 import com.mapbox.navigation.base.extensions.ifNonNull
+import com.mapbox.navigation.base.route.internal.RouteJsonCache
+import com.mapbox.navigation.base.trip.model.RouteBufferGeometry
 import com.mapbox.navigation.base.trip.model.RouteLegProgress
 import com.mapbox.navigation.base.trip.model.RouteProgress
 import com.mapbox.navigation.base.trip.model.RouteProgressState
 import com.mapbox.navigation.base.trip.model.RouteStepProgress
-import com.mapbox.navigator.BannerComponent
 import com.mapbox.navigator.BannerInstruction
-import com.mapbox.navigator.BannerSection
 import com.mapbox.navigator.HttpInterface
 import com.mapbox.navigator.NavigationStatus
 import com.mapbox.navigator.Navigator
@@ -47,13 +41,32 @@ object MapboxNativeNavigatorImpl : MapboxNativeNavigator {
     private const val TWO_LEGS: Short = 2
 
     private val navigator: Navigator = Navigator()
+    @Volatile
     private var route: DirectionsRoute? = null
-    private var routeBufferGeoJson: Geometry? = null
+    private var routeBufferGeometry: RouteBufferGeometry? = null
+    private var routeStepGeometry: RouteStepGeometry? = null
+    private val instructionsCache = RouteInstructionsCache()
 
     // Route following
 
     override fun updateLocation(rawLocation: Location): Boolean =
-        navigator.updateLocation(rawLocation.toFixLocation(Date()))
+        navigator.updateLocation(rawLocation.toFixLocation(fixDate(rawLocation)))
+
+    /**
+     * Pushes the whole batch under the navigator lock, so no status is read in the middle of it.
+     */
+    @Synchronized
+    override fun updateLocations(rawLocations: List<Location>): Boolean {
+        var isUpdated = false
+        rawLocations.forEach { isUpdated = updateLocation(it) || isUpdated }
+        return isUpdated
+    }
+
+    /**
+     * Locations keep the time they were fixed at, unless they have none.
+     */
+    private fun fixDate(rawLocation: Location) =
+        if (rawLocation.time > 0) Date(rawLocation.time) else Date()
 
     override fun updateSensorEvent(sensorEvent: SensorEvent): Boolean {
         val value = SensorMapper.toNavigatorSensorData(sensorEvent)
@@ -62,6 +75,7 @@ object MapboxNativeNavigatorImpl : MapboxNativeNavigator {
         } ?: false
     }
 
+    @Synchronized
     override fun getStatus(date: Date): TripStatus {
         val status = navigator.getStatus(date)
         return TripStatus(
@@ -74,15 +88,26 @@ object MapboxNativeNavigatorImpl : MapboxNativeNavigator {
 
     // Routing
 
+    @Synchronized
     override fun setRoute(
         route: DirectionsRoute,
         routeIndex: Int,
         legIndex: Int
     ): NavigationStatus {
         this.route = route
-        val result = navigator.setRoute(route.toJson(), routeIndex, legIndex)
-        navigator.getRouteBufferGeoJson(GRID_SIZE, BUFFER_DILATION)?.also {
-            routeBufferGeoJson = GeometryGeoJson.fromJson(it)
+        this.routeStepGeometry = RouteStepGeometry(route)
+        val result = navigator.setRoute(RouteJsonCache.toJson(route), routeIndex, legIndex)
+        routeBufferGeometry = RouteBufferGeometry {
+            // The buffer is only asked for if someone reads it, and only while the route is current.
+            // The reader may be on any thread, so the navigator call is serialized with setRoute and getStatus.
+            val routeBufferGeoJson = synchronized(this) {
+                if (this.route === route) {
+                    navigator.getRouteBufferGeoJson(GRID_SIZE, BUFFER_DILATION)
+                } else {
+                    null
+                }
+            }
+            routeBufferGeoJson?.let { GeometryGeoJson.fromJson(it) }
         }
         return result
     }
@@ -200,15 +225,8 @@ object MapboxNativeNavigatorImpl : MapboxNativeNavigator {
                     stepProgressBuilder.stepIndex(stepIndex)
                     stepProgressBuilder.step(currentStep)
 
-                    currentStep?.distance()
-                    val stepGeometry = currentStep.geometry()
-                    stepGeometry?.let {
-                        stepProgressBuilder.stepPoints(
-                            PolylineUtils.decode(
-                                stepGeometry, /* todo add core dependency PRECISION_6*/
-                                6
-                            )
-                        )
+                    routeStepGeometry?.stepPoints(legIndex, stepIndex)?.let {
+                        stepProgressBuilder.stepPoints(it)
                     }
 
                     val distanceTraveled =
@@ -219,14 +237,22 @@ object MapboxNativeNavigatorImpl : MapboxNativeNavigator {
                     routeState.convertState()?.also {
                         routeProgressBuilder.currentState(it)
 
-                        var bannerInstructions = bannerInstruction?.mapToDirectionsApi(currentStep)
-                        if (it == RouteProgressState.ROUTE_INITIALIZED) {
-                            bannerInstructions =
-                                getBannerInstruction(FIRST_BANNER_INSTRUCTION)?.mapToDirectionsApi(
+                        val banner = if (it == RouteProgressState.ROUTE_INITIALIZED) {
+                            getBannerInstruction(FIRST_BANNER_INSTRUCTION)
+                        } else {
+                            bannerInstruction
+                        }
+                        routeProgressBuilder.bannerInstructions(
+                            banner?.let { instruction ->
+                                instructionsCache.bannerInstructions(
+                                    route,
+                                    instruction,
+                                    legIndex,
+                                    stepIndex,
                                     currentStep
                                 )
-                        }
-                        routeProgressBuilder.bannerInstructions(bannerInstructions)
+                            }
+                        )
                     }
                 }
 
@@ -234,15 +260,9 @@ object MapboxNativeNavigatorImpl : MapboxNativeNavigator {
                     val upcomingStep = steps[upcomingStepIndex]
                     legProgressBuilder.upcomingStep(upcomingStep)
 
-                    val stepGeometry = upcomingStep.geometry()
-                    stepGeometry?.let {
-                        routeProgressBuilder.upcomingStepPoints(
-                            PolylineUtils.decode(
-                                stepGeometry, /* todo add core dependency PRECISION_6*/
-                                6
-                            )
-                        )
-                    }
+                    routeProgressBuilder.upcomingStepPoints(
+                        routeStepGeometry?.stepPoints(legIndex, upcomingStepIndex)
+                    )
                 }
             }
         }
@@ -257,9 +277,11 @@ object MapboxNativeNavigatorImpl : MapboxNativeNavigator {
         routeProgressBuilder.currentLegProgress(legProgressBuilder.build())
 
         routeProgressBuilder.inTunnel(inTunnel)
-        routeProgressBuilder.routeGeometryWithBuffer(routeBufferGeoJson)
+        routeProgressBuilder.routeBufferGeometry(routeBufferGeometry)
 
-        routeProgressBuilder.voiceInstructions(voiceInstruction?.mapToDirectionsApi())
+        routeProgressBuilder.voiceInstructions(
+            voiceInstruction?.let { instructionsCache.voiceInstructions(route, it) }
+        )
 
         ifNonNull(route) {
             routeProgressBuilder.route(it)
@@ -267,53 +289,6 @@ object MapboxNativeNavigatorImpl : MapboxNativeNavigator {
 
         return routeProgressBuilder.build()
     }
-
-    private fun BannerInstruction.mapToDirectionsApi(currentStep: LegStep): BannerInstructions {
-        return BannerInstructions.builder()
-            .distanceAlongGeometry(this.remainingStepDistance.toDouble())
-            .primary(this.primary.mapToDirectionsApi())
-            .secondary(this.secondary?.mapToDirectionsApi())
-            .sub(this.sub?.mapToDirectionsApi())
-            .view(currentStep.bannerInstructions()?.get(this.index)?.view())
-            .build()
-    }
-
-    private fun BannerSection.mapToDirectionsApi(): BannerText {
-        return BannerText.builder()
-            .components(this.components?.mapToDirectionsApi())
-            .degrees(this.degrees?.toDouble())
-            .drivingSide(this.drivingSide)
-            .modifier(this.modifier)
-            .text(this.text)
-            .type(this.type)
-            .build()
-    }
-
-    private fun MutableList<BannerComponent>.mapToDirectionsApi(): MutableList<BannerComponents>? {
-        val components = mutableListOf<BannerComponents>()
-        this.forEach {
-            components.add(
-                BannerComponents.builder()
-                    .abbreviation(it.abbr)
-                    .abbreviationPriority(it.abbrPriority)
-                    .active(it.active)
-                    .directions(it.directions)
-                    .imageBaseUrl(it.imageBaseurl)
-                    .text(it.text)
-                    .type(it.type)
-                    .build()
-            )
-        }
-        return components
-    }
-
-    private fun VoiceInstruction.mapToDirectionsApi(): VoiceInstructions? {
-        return VoiceInstructions.builder()
-            .announcement(this.announcement)
-            .distanceAlongGeometry(this.remainingStepDistance.toDouble())
-            .ssmlAnnouncement(this.ssmlAnnouncement)
-            .build()
-    }
 }
 
 private fun RouteState.convertState(): RouteProgressState? {
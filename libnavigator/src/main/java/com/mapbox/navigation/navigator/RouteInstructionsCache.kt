@@ -0,0 +1,128 @@
+package com.mapbox.navigation.navigator
+
+import com.mapbox.api.directions.v5.models.BannerComponents
+import com.mapbox.api.directions.v5.models.BannerInstructions
+import com.mapbox.api.directions.v5.models.BannerText
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.LegStep
+import com.mapbox.api.directions.v5.models.VoiceInstructions
+import com.mapbox.navigator.BannerComponent
+import com.mapbox.navigator.BannerInstruction
+import com.mapbox.navigator.BannerSection
+import com.mapbox.navigator.VoiceInstruction
+
+/**
+ * Converts navigator banner and voice instructions to their Directions API counterparts,
+ * memoizing the conversions for the current route.
+ *
+ * Banner instructions are keyed by leg, step and instruction index, voice instructions by
+ * their announcement. For a known key, only `distanceAlongGeometry` is refreshed on the
+ * cached instance, and the cached instance itself is returned if the distance did not
+ * change either.
+ *
+ * The cache belongs to the thread building the route progress. It is dropped when it is
+ * asked about another route instance, instead of being cleared from the thread setting the route.
+ *
+ * The same class is in `com.mapbox.services.android.navigation.v5.internal.navigation`, the legacy navigation module doesn't depend on the
+ * navigator module. Both copies must stay identical apart from the package, each module runs the
+ * same `RouteInstructionsCacheTest` against its copy.
+ */
+internal class RouteInstructionsCache {
+
+    private var route: DirectionsRoute? = null
+    private val bannerInstructions = HashMap<BannerKey, BannerInstructions>()
+    private val voiceInstructions = HashMap<VoiceKey, VoiceInstructions>()
+
+    fun bannerInstructions(
+        route: DirectionsRoute?,
+        bannerInstruction: BannerInstruction,
+        legIndex: Int,
+        stepIndex: Int,
+        currentStep: LegStep
+    ): BannerInstructions {
+        invalidateFor(route)
+        val key = BannerKey(legIndex, stepIndex, bannerInstruction.index)
+        val distanceAlongGeometry = bannerInstruction.remainingStepDistance.toDouble()
+        val cached = bannerInstructions[key]
+        val instructions = when {
+            cached == null -> bannerInstruction.mapToDirectionsApi(currentStep)
+            cached.distanceAlongGeometry() == distanceAlongGeometry -> return cached
+            else -> cached.toBuilder().distanceAlongGeometry(distanceAlongGeometry).build()
+        }
+        bannerInstructions[key] = instructions
+        return instructions
+    }
+
+    fun voiceInstructions(route: DirectionsRoute?, voiceInstruction: VoiceInstruction): VoiceInstructions {
+        invalidateFor(route)
+        val key = VoiceKey(voiceInstruction.announcement, voiceInstruction.ssmlAnnouncement)
+        val distanceAlongGeometry = voiceInstruction.remainingStepDistance.toDouble()
+        val cached = voiceInstructions[key]
+        val instructions = when {
+            cached == null -> voiceInstruction.mapToDirectionsApi()
+            cached.distanceAlongGeometry() == distanceAlongGeometry -> return cached
+            else -> cached.toBuilder().distanceAlongGeometry(distanceAlongGeometry).build()
+        }
+        voiceInstructions[key] = instructions
+        return instructions
+    }
+
+    private fun invalidateFor(route: DirectionsRoute?) {
+        if (this.route !== route) {
+            this.route = route
+            bannerInstructions.clear()
+            voiceInstructions.clear()
+        }
+    }
+
+    private fun BannerInstruction.mapToDirectionsApi(currentStep: LegStep): BannerInstructions {
+        return BannerInstructions.builder()
+            .distanceAlongGeometry(this.remainingStepDistance.toDouble())
+            .primary(this.primary.mapToDirectionsApi())
+            .secondary(this.secondary?.mapToDirectionsApi())
+            .sub(this.sub?.mapToDirectionsApi())
+            .view(currentStep.bannerInstructions()?.get(this.index)?.view())
+            .build()
+    }
+
+    private fun BannerSection.mapToDirectionsApi(): BannerText {
+        return BannerText.builder()
+            .components(this.components?.mapToDirectionsApi())
+            .degrees(this.degrees?.toDouble())
+            .drivingSide(this.drivingSide)
+            .modifier(this.modifier)
+            .text(this.text)
+            .type(this.type)
+            .build()
+    }
+
+    private fun MutableList<BannerComponent>.mapToDirectionsApi(): MutableList<BannerComponents>? {
+        val components = mutableListOf<BannerComponents>()
+        this.forEach {
+            components.add(
+                BannerComponents.builder()
+                    .abbreviation(it.abbr)
+                    .abbreviationPriority(it.abbrPriority)
+                    .active(it.active)
+                    .directions(it.directions)
+                    .imageBaseUrl(it.imageBaseurl)
+                    .text(it.text)
+                    .type(it.type)
+                    .build()
+            )
+        }
+        return components
+    }
+
+    private fun VoiceInstruction.mapToDirectionsApi(): VoiceInstructions {
+        return VoiceInstructions.builder()
+            .announcement(this.announcement)
+            .distanceAlongGeometry(this.remainingStepDistance.toDouble())
+            .ssmlAnnouncement(this.ssmlAnnouncement)
+            .build()
+    }
+}
+
+private data class BannerKey(val legIndex: Int, val stepIndex: Int, val index: Int)
+
+private data class VoiceKey(val announcement: String?, val ssmlAnnouncement: String?)
@@ -0,0 +1,100 @@
+package com.mapbox.navigation.navigator
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute
+import com.mapbox.api.directions.v5.models.LegStep
+import com.mapbox.api.directions.v5.models.RouteLeg
+import com.mapbox.geojson.Point
+import com.mapbox.geojson.utils.PolylineUtils
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Test
+
+class RouteStepGeometryTest {
+
+    companion object {
+        private const val PRECISION_6 = 6
+    }
+
+    private val legSteps = listOf(
+        listOf(
+            listOf(Point.fromLngLat(13.426579, 52.508068), Point.fromLngLat(13.426688, 52.508022)),
+            listOf(
+                Point.fromLngLat(13.426688, 52.508022),
+                Point.fromLngLat(13.427093, 52.508253),
+                Point.fromLngLat(13.427312, 52.508376)
+            ),
+            listOf(Point.fromLngLat(13.427312, 52.508376))
+        ),
+        listOf(
+            listOf(Point.fromLngLat(13.427312, 52.508376), Point.fromLngLat(-0.123456, -1.654321)),
+            listOf(Point.fromLngLat(-0.123456, -1.654321))
+        )
+    )
+
+    @Test
+    fun stepPoints_matchDecodedStepGeometry() {
+        val stepGeometry = RouteStepGeometry(route(legSteps))
+
+        legSteps.forEachIndexed { legIndex, steps ->
+            steps.forEachIndexed { stepIndex, points ->
+                val expected = PolylineUtils.decode(PolylineUtils.encode(points, PRECISION_6), PRECISION_6)
+
+                assertEquals(expected, stepGeometry.stepPoints(legIndex, stepIndex))
+            }
+        }
+    }
+
+    @Test
+    fun stepPoints_sameSliceReturnedForRepeatedRequests() {
+        val stepGeometry = RouteStepGeometry(route(legSteps))
+
+        val first = stepGeometry.stepPoints(0, 1)
+        stepGeometry.stepPoints(0, 2)
+        val second = stepGeometry.stepPoints(0, 1)
+
+        assertSame(first, second)
+    }
+
+    @Test
+    fun stepPoints_invalidIndicesReturnNull() {
+        val stepGeometry = RouteStepGeometry(route(legSteps))
+
+        assertNull(stepGeometry.stepPoints(0, legSteps[0].size))
+        assertNull(stepGeometry.stepPoints(0, -1))
+        assertNull(stepGeometry.stepPoints(legSteps.size, 0))
+    }
+
+    @Test
+    fun stepPoints_stepWithoutGeometryIsEmpty() {
+        val step: LegStep = mockk {
+            every { geometry() } returns null
+        }
+        val leg: RouteLeg = mockk {
+            every { steps() } returns listOf(step)
+        }
+        val route: DirectionsRoute = mockk {
+            every { legs() } returns listOf(leg)
+        }
+
+        assertEquals(emptyList<Point>(), RouteStepGeometry(route).stepPoints(0, 0))
+    }
+
+    private fun route(legSteps: List<List<List<Point>>>): DirectionsRoute {
+        val legs = legSteps.map { steps ->
+            val stepMocks = steps.map { points ->
+                mockk<LegStep> {
+                    every { geometry() } returns PolylineUtils.encode(points, PRECISION_6)
+                }
+            }
+            mockk<RouteLeg> {
+                every { steps() } returns stepMocks
+            }
+        }
+        return mockk {
+            every { legs() } returns legs
+        }
+    }
+}
@@ -32,15 +32,26 @@ import com.mapbox.navigation.utils.NOTIFICATION_CHANNEL
 import com.mapbox.navigation.utils.NOTIFICATION_ID
 import com.mapbox.navigation.utils.SET_BACKGROUND_COLOR
 import com.mapbox.navigation.utils.extensions.ifNonNull
+import com.mapbox.navigation.utils.thread.JobControl
+import com.mapbox.navigation.utils.thread.ThreadController
 import com.mapbox.navigation.utils.thread.ifChannelException
 import java.util.Calendar
+import java.util.concurrent.TimeUnit
+import kotlinx.coroutines.Job
 import kotlinx.coroutines.channels.Channel
 import kotlinx.coroutines.channels.ClosedReceiveChannelException
 import kotlinx.coroutines.channels.ClosedSendChannelException
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
 
 /**
  * Default implementation of [TripNotification] interface
  *
+ * The notification is only posted again when its content changed. Changes of the distance
+ * or the arrival time are posted at most every [NOTIFICATION_UPDATE_INTERVAL_MILLIS],
+ * a new instruction or maneuver right away. A change held back is posted once the interval
+ * is over, even if no other update comes.
+ *
  * @param applicationContext is [Context]
  * @param navigationOptions is [NavigationOptions] used here to format
  * distance and time
@@ -53,11 +64,26 @@ class MapboxTripNotification constructor(
 
     companion object {
         var notificationActionButtonChannel = Channel<NotificationAction>(1)
+        private const val NOTIFICATION_UPDATE_INTERVAL_MILLIS = 2000L
+        private const val MANEUVER_BITMAP_CACHE_SIZE = 8
     }
 
     private var currentManeuverId = 0
     private var currentInstructionText: String? = null
     private var currentDistanceText: SpannableString? = null
+    private var currentArrivalMinute: Long? = null
+    private var currentArrivalText: String? = null
+    private var hasPendingChanges = false
+    private var hasUrgentChanges = false
+    private var lastNotifyNanos: Long? = null
+    private val updateIntervalNanos = TimeUnit.MILLISECONDS.toNanos(NOTIFICATION_UPDATE_INTERVAL_MILLIS)
+    private val mainJobController: JobControl = ThreadController.getMainScopeAndRootJob()
+    private var pendingChangesJob: Job? = null
+    private val maneuverBitmaps =
+        object : LinkedHashMap<Int, Bitmap>(MANEUVER_BITMAP_CACHE_SIZE, 0.75f, true) {
+            override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Int, Bitmap>?) =
+                size > MANEUVER_BITMAP_CACHE_SIZE
+        }
     private var collapsedNotificationRemoteViews: RemoteViews? = null
     private var expandedNotificationRemoteViews: RemoteViews? = null
     private var pendingOpenIntent: PendingIntent? = null
@@ -95,6 +121,34 @@ class MapboxTripNotification constructor(
 
     override fun updateNotification(routeProgress: RouteProgress) {
         updateNotificationViews(routeProgress)
+        if (!hasPendingChanges) {
+            return
+        }
+        val lastNanos = lastNotifyNanos
+        val waitNanos = if (hasUrgentChanges || lastNanos == null) {
+            0L
+        } else {
+            updateIntervalNanos - (System.nanoTime() - lastNanos)
+        }
+        if (waitNanos <= 0L) {
+            notifyPendingChanges()
+        } else if (pendingChangesJob?.isActive != true) {
+            pendingChangesJob = mainJobController.scope.launch {
+                delay(TimeUnit.NANOSECONDS.toMillis(waitNanos))
+                notifyPendingChanges()
+            }
+        }
+    }
+
+    private fun notifyPendingChanges() {
+        pendingChangesJob?.cancel()
+        pendingChangesJob = null
+        if (!hasPendingChanges) {
+            return
+        }
+        hasPendingChanges = false
+        hasUrgentChanges = false
+        lastNotifyNanos = System.nanoTime()
         notification = navigationNotificationProvider.buildNotification(getNotificationBuilder())
         notificationManager.notify(NOTIFICATION_ID, notification)
     }
@@ -108,6 +162,13 @@ class MapboxTripNotification constructor(
         currentManeuverId = 0
         currentInstructionText = null
         currentDistanceText = null
+        currentArrivalMinute = null
+        currentArrivalText = null
+        hasPendingChanges = false
+        hasUrgentChanges = false
+        lastNotifyNanos = null
+        pendingChangesJob?.cancel()
+        pendingChangesJob = null
 
         unregisterReceiver()
         try {
@@ -219,10 +280,9 @@ class MapboxTripNotification constructor(
     private fun updateNotificationViews(routeProgress: RouteProgress) {
         updateInstructionText(routeProgress.bannerInstructions())
         updateDistanceText(routeProgress)
-        generateArrivalTime(routeProgress, Calendar.getInstance())?.let { formattedTime ->
-            updateViewsWithArrival(formattedTime)
-            val step = routeProgress.currentLegProgress()?.upcomingStep()
-            step?.let { updateManeuverImage(it) }
+        routeProgress.currentLegProgress()?.let { currentLegProgress ->
+            updateArrivalTime(currentLegProgress.durationRemaining())
+            currentLegProgress.upcomingStep()?.let { updateManeuverImage(it) }
         }
     }
 
@@ -237,6 +297,8 @@ class MapboxTripNotification constructor(
                     R.id.notificationInstructionText, primaryText
                 )
                 currentInstructionText = primaryText
+                hasPendingChanges = true
+                hasUrgentChanges = true
             }
         }
     }
@@ -259,24 +321,41 @@ class MapboxTripNotification constructor(
                 R.id.notificationDistanceText,
                 currentDistanceText
             )
+            hasPendingChanges = true
+        }
+    }
+
+    /**
+     * The arrival time is only formatted again once it moved to another minute.
+     */
+    private fun updateArrivalTime(legDurationRemaining: Long) {
+        val arrivalMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(legDurationRemaining)
+        val arrivalMinute = TimeUnit.MILLISECONDS.toMinutes(arrivalMillis)
+        if (arrivalMinute == currentArrivalMinute) {
+            return
+        }
+        currentArrivalMinute = arrivalMinute
+        val arrivalText = generateArrivalTime(legDurationRemaining, Calendar.getInstance())
+        if (arrivalText != currentArrivalText) {
+            currentArrivalText = arrivalText
+            updateViewsWithArrival(arrivalText)
+            hasPendingChanges = true
         }
     }
 
     private fun generateArrivalTime(
-        routeProgress: RouteProgress,
+        legDurationRemaining: Long,
         time: Calendar
-    ): String? =
-        ifNonNull(routeProgress.currentLegProgress()) { currentLegProgress ->
-            val legDurationRemaining = currentLegProgress.durationRemaining()
-            val timeFormatType = navigationOptions.timeFormatType
-            val arrivalTime = formatTime(
-                time,
-                legDurationRemaining.toDouble(),
-                timeFormatType,
-                DateFormat.is24HourFormat(applicationContext)
-            )
-            String.format(etaFormat, arrivalTime)
-        }
+    ): String {
+        val timeFormatType = navigationOptions.timeFormatType
+        val arrivalTime = formatTime(
+            time,
+            legDurationRemaining.toDouble(),
+            timeFormatType,
+            DateFormat.is24HourFormat(applicationContext)
+        )
+        return String.format(etaFormat, arrivalTime)
+    }
 
     private fun updateViewsWithArrival(time: String) {
         collapsedNotificationRemoteViews?.setTextViewText(R.id.notificationArrivalText, time)
@@ -305,6 +384,8 @@ class MapboxTripNotification constructor(
         val maneuverImageId = getManeuverResource(legStep)
         if (maneuverImageId != currentManeuverId) {
             currentManeuverId = maneuverImageId
+            hasPendingChanges = true
+            hasUrgentChanges = true
             when (Build.VERSION.SDK_INT > Build.VERSION_CODES.M) {
                 true -> {
                     collapsedNotificationRemoteViews?.setImageViewResource(
@@ -326,14 +407,22 @@ class MapboxTripNotification constructor(
         }
     }
 
+    /**
+     * Maneuver bitmaps are kept by resource, so a maneuver drawable is only inflated and rasterized once.
+     */
     private fun getManeuverBitmap(maneuverResourceId: Int): Bitmap? =
-            AppCompatResources.getDrawable(applicationContext, maneuverResourceId)?.let { drawable ->
-                val bitmap = Bitmap.createBitmap(drawable.intrinsicWidth, drawable.intrinsicHeight, Bitmap.Config.ARGB_8888)
-                val canvas = Canvas(bitmap)
-                drawable.setBounds(0, 0, canvas.width, canvas.height)
-                drawable.draw(canvas)
-                bitmap
-            }
+            maneuverBitmaps[maneuverResourceId]
+                ?: AppCompatResources.getDrawable(applicationContext, maneuverResourceId)?.let { drawable ->
+                    val bitmap = Bitmap.createBitmap(
+                        drawable.intrinsicWidth,
+                        drawable.intrinsicHeight,
+                        Bitmap.Config.ARGB_8888
+                    )
+                    val canvas = Canvas(bitmap)
+                    drawable.setBounds(0, 0, canvas.width, canvas.height)
+                    drawable.draw(canvas)
+                    bitmap.also { maneuverBitmaps[maneuverResourceId] = it }
+                }
 
     private fun getManeuverResource(step: LegStep): Int {
         val stepManeuver = step.maneuver()
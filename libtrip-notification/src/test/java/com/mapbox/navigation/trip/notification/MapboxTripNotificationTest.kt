@@ -19,6 +19,7 @@ import com.mapbox.navigation.base.formatter.DistanceFormatter
 import com.mapbox.navigation.base.options.NavigationOptions
 import com.mapbox.navigation.base.trip.model.RouteLegProgress
 import com.mapbox.navigation.base.trip.model.RouteProgress
+import com.mapbox.navigation.testing.MainCoroutineRule
 import com.mapbox.navigation.trip.notification.utils.time.TimeFormatter
 import com.mapbox.navigation.utils.NOTIFICATION_ID
 import io.mockk.Runs
@@ -30,15 +31,21 @@ import io.mockk.mockkStatic
 import io.mockk.slot
 import io.mockk.verify
 import java.util.Locale
+import kotlinx.coroutines.ExperimentalCoroutinesApi
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertNotNull
 import org.junit.Before
+import org.junit.Rule
 import org.junit.Test
 
 private const val FORMAT_STRING = "%s 454545 ETA"
 
+@ExperimentalCoroutinesApi
 class MapboxTripNotificationTest {
 
+    @get:Rule
+    var coroutineRule = MainCoroutineRule()
+
     private lateinit var notification: MapboxTripNotification
     private lateinit var mockedContext: Context
     private lateinit var collapsedViews: RemoteViews
@@ -310,6 +317,75 @@ class MapboxTripNotificationTest {
         verify(exactly = 1) { expandedViews.setTextViewText(any(), primaryText()) }
     }
 
+    @Test
+    fun whenUpdateNotificationCalledTwiceWithSameDataThenNotificationIsPostedOnce() {
+        val routeProgress = mockk<RouteProgress>(relaxed = true)
+        mockBannerText(routeProgress, { "Primary Text" })
+        mockUpdateNotificationAndroidInteractions()
+        val notificationManager =
+            mockedContext.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager
+
+        notification.updateNotification(routeProgress)
+        notification.updateNotification(routeProgress)
+
+        verify(exactly = 1) { notificationManager.notify(NOTIFICATION_ID, any()) }
+    }
+
+    @Test
+    fun whenDistanceChangesRightAfterUpdateThenNotificationIsPostedAfterInterval() {
+        val routeProgress = mockk<RouteProgress>(relaxed = true)
+        mockBannerText(routeProgress, { "Primary Text" })
+        mockLegProgress(routeProgress, 30f, 112L)
+        mockUpdateNotificationAndroidInteractions()
+        val notificationManager =
+            mockedContext.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager
+
+        notification.updateNotification(routeProgress)
+        every { distanceFormatter.formatDistance(any()) } returns mockk()
+        notification.updateNotification(routeProgress)
+
+        verify(exactly = 1) { notificationManager.notify(NOTIFICATION_ID, any()) }
+
+        coroutineRule.testDispatcher.advanceTimeBy(2000L)
+
+        verify(exactly = 2) { notificationManager.notify(NOTIFICATION_ID, any()) }
+    }
+
+    @Test
+    fun whenSessionStopsWithHeldChangeThenNotificationIsNotPostedAgain() {
+        val routeProgress = mockk<RouteProgress>(relaxed = true)
+        mockBannerText(routeProgress, { "Primary Text" })
+        mockLegProgress(routeProgress, 30f, 112L)
+        mockUpdateNotificationAndroidInteractions()
+        val notificationManager =
+            mockedContext.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager
+
+        notification.onTripSessionStarted()
+        notification.updateNotification(routeProgress)
+        every { distanceFormatter.formatDistance(any()) } returns mockk()
+        notification.updateNotification(routeProgress)
+        notification.onTripSessionStopped()
+        coroutineRule.testDispatcher.advanceTimeBy(2000L)
+
+        verify(exactly = 1) { notificationManager.notify(NOTIFICATION_ID, any()) }
+    }
+
+    @Test
+    fun whenInstructionChangesRightAfterUpdateThenNotificationIsPostedAgain() {
+        val routeProgress = mockk<RouteProgress>(relaxed = true)
+        var primaryText = "Primary Text"
+        mockBannerText(routeProgress, { primaryText })
+        mockUpdateNotificationAndroidInteractions()
+        val notificationManager =
+            mockedContext.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager
+
+        notification.updateNotification(routeProgress)
+        primaryText = "Changed Primary Text"
+        notification.updateNotification(routeProgress)
+
+        verify(exactly = 2) { notificationManager.notify(NOTIFICATION_ID, any()) }
+    }
+
     private fun mockUpdateNotificationAndroidInteractions() {
         mockkStatic(TextUtils::class)
         val slot = slot<CharSequence>()